@@ -0,0 +1,78 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.repository.RepositoryService;
+
+/**
+ * A {@link List} view onto the result of a {@link Query}, that does not
+ * require all matching instances to be fetched up front.
+ * <p>
+ * The {@link List} methods materialize the full result (once, on first access),
+ * while {@link #count()} and {@link #fetch(QueryRange, String, boolean)}
+ * are pushed down to the persistence layer, such that viewers can render
+ * a <i>page</i> of a large result, optionally ordered by a persistent property.
+ *
+ * @see RepositoryService#allMatchesPageable(Query)
+ * @since 2.x {@index}
+ */
+public interface QueryResultList<T> extends List<T> {
+
+    /**
+     * The {@link Query} this list is backed by.
+     */
+    Query<T> getQuery();
+
+    /**
+     * Whether {@link #count()} and {@link #fetch(QueryRange, String, boolean)} are pushed down
+     * to the persistence layer. If not, both are served from the full (materialized) result.
+     */
+    boolean isPageable();
+
+    /**
+     * Number of instances matching the {@link #getQuery() query},
+     * without fetching them (if {@link #isPageable()}).
+     */
+    long count();
+
+    /**
+     * Whether {@link #fetch(QueryRange, String, boolean)} can order by given property
+     * on the database side, that is, whether the property is persistent.
+     */
+    boolean isOrderableBy(@Nullable String propertyId);
+
+    /**
+     * Fetches only the instances within given {@code range} (relative to this list),
+     * optionally ordered by given persistent property.
+     * <p>
+     * If {@link #isPageable()}, ties (and the natural order) are broken by primary key
+     * where supported, such that consecutive pages are consistent with one another.
+     *
+     * @param range - relative to this list's first element
+     * @param orderByPropertyId - if {@code null} uses the query's natural order,
+     *      otherwise must be {@link #isOrderableBy(String) orderable}
+     * @param ascending - ignored if {@code orderByPropertyId} is {@code null}
+     */
+    List<T> fetch(QueryRange range, @Nullable String orderByPropertyId, boolean ascending);
+
+}
@@ -354,4 +354,26 @@ public Updater updater() {
         return UPDATER;
     }
 
+    /**
+     * <b>NOT API</b>: intended to be called only by the framework.
+     *
+     * <p>
+     *     A copy of this command's current state, as handed over to
+     *     {@link org.apache.causeway.applib.services.publishing.spi.AsyncCapableSubscriber asynchronous subscribers},
+     *     which is not affected by any subsequent updates to this command.
+     *     (The {@link CommandDto} is shared, as it is not modified once set.)
+     * </p>
+     */
+    public Command snapshot() {
+        var snapshot = new Command(interactionId);
+        snapshot.commandDto = commandDto;
+        snapshot.parentInteractionId = parentInteractionId;
+        snapshot.startedAt = startedAt;
+        snapshot.completedAt = completedAt;
+        snapshot.result = result;
+        snapshot.exception = exception;
+        snapshot.publishingPhase = publishingPhase;
+        return snapshot;
+    }
+
 }
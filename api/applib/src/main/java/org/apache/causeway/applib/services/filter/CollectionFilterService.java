@@ -19,13 +19,19 @@
 package org.apache.causeway.applib.services.filter;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.services.i18n.TranslatableString;
 import org.apache.causeway.applib.services.i18n.TranslationContext;
+import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.base._Strings;
 
 import lombok.NonNull;
@@ -50,6 +56,29 @@ public static interface Tokens extends Serializable {
          *      The default implementation already handles the empty searchArg case.
          */
         boolean match(@Nullable String searchArg);
+
+        /**
+         * Optionally the individual (normalized) tokens, based on whether
+         * {@link #match(String)} follows {@link TokenQuery} semantics.
+         * <p>
+         * If present, the framework may build an inverted index over all elements of a table,
+         * such that filtering costs time proportional to the number of matches,
+         * rather than to the number of elements.
+         */
+        default Optional<Set<String>> indexableTokens() {
+            return Optional.empty();
+        }
+
+        /**
+         * Tokens that match a search argument according to {@link TokenQuery} semantics,
+         * hence are {@link #indexableTokens() indexable}.
+         */
+        static Tokens ofPrefixMatching(final @Nullable Collection<String> tokens) {
+            return new _PrefixMatchingTokens(_NullSafe.stream(tokens)
+                    .filter(_Strings::isNotEmpty)
+                    .map(TokenQuery::normalize)
+                    .collect(Collectors.toCollection(TreeSet::new)));
+        }
     }
 
     /**
@@ -90,7 +119,7 @@ <T> Function<T, Tokens> tokenizer(
     default <T> BiPredicate<Tokens, String> tokenFilter(
             final @NonNull Class<T> domainType) {
         return (tokens, searchArg) -> {
-            var sanitized = _Strings.blankToNullOrTrim(searchArg);
+            var sanitized = sanitzeSearchArgument(searchArg);
             return _Strings.isNotEmpty(sanitized)
                 ? tokens!=null
                     ? tokens.match(sanitized)
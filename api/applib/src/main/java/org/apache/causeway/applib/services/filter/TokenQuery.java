@@ -0,0 +1,102 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.filter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Strings;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * Parsed search argument, as matched against
+ * {@link CollectionFilterService.Tokens#ofPrefixMatching(Collection) prefix matching tokens}.
+ * <p>
+ * The search argument is split at {@literal '|'} into alternatives (OR),
+ * each of which is split at whitespace into terms (AND).
+ * A term matches, if it is a (case-insensitive) prefix of any token.
+ * <p>
+ * Eg. {@code "jo sm | ann"} matches elements having tokens
+ * starting with both "jo" and "sm", or having a token starting with "ann".
+ *
+ * @since 2.x {@index}
+ */
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenQuery {
+
+    private static final Pattern OR_SEPARATOR = Pattern.compile("\\|");
+    private static final Pattern AND_SEPARATOR = Pattern.compile("\\s+");
+
+    /**
+     * Alternatives (OR) of terms (AND), all normalized to lower case.
+     */
+    private final @NonNull List<List<String>> alternatives;
+
+    public static TokenQuery parse(final @Nullable String searchArg) {
+        var sanitized = _Strings.blankToNullOrTrim(searchArg);
+        if(sanitized==null) {
+            return new TokenQuery(List.of());
+        }
+        return new TokenQuery(OR_SEPARATOR.splitAsStream(sanitized)
+                .map(alternative->AND_SEPARATOR.splitAsStream(alternative.trim())
+                        .filter(_Strings::isNotEmpty)
+                        .map(TokenQuery::normalize)
+                        .collect(Collectors.toUnmodifiableList()))
+                .filter(terms->!terms.isEmpty())
+                .collect(Collectors.toUnmodifiableList()));
+    }
+
+    /**
+     * Whether there are no terms to match, which means 'unfiltered'.
+     */
+    public boolean isEmpty() {
+        return alternatives.isEmpty();
+    }
+
+    /**
+     * @param normalizedTokens - as {@link #normalize(String) normalized}
+     */
+    public boolean matches(final @NonNull Collection<String> normalizedTokens) {
+        if(isEmpty()) {
+            return true;
+        }
+        return alternatives.stream()
+                .anyMatch(terms->terms.stream()
+                        .allMatch(term->normalizedTokens.stream()
+                                .anyMatch(token->token.startsWith(term))));
+    }
+
+    /**
+     * Canonical (lower case) form of a token or a term.
+     */
+    public static String normalize(final @NonNull String tokenOrTerm) {
+        return tokenOrTerm.toLowerCase(Locale.ROOT);
+    }
+
+}
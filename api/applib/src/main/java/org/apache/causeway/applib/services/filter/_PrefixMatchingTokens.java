@@ -0,0 +1,52 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.filter;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.lang.Nullable;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @see CollectionFilterService.Tokens#ofPrefixMatching(java.util.Collection)
+ */
+@RequiredArgsConstructor
+final class _PrefixMatchingTokens
+implements CollectionFilterService.Tokens {
+
+    private static final long serialVersionUID = 1L;
+
+    private final @NonNull TreeSet<String> tokens;
+
+    @Override
+    public boolean match(final @Nullable String searchArg) {
+        return TokenQuery.parse(searchArg).matches(tokens);
+    }
+
+    @Override
+    public Optional<Set<String>> indexableTokens() {
+        return Optional.of(Collections.unmodifiableSet(tokens));
+    }
+
+}
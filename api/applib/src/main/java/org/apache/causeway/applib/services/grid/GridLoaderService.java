@@ -20,6 +20,7 @@
 
 import java.util.EnumSet;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import org.springframework.lang.Nullable;
 
@@ -65,6 +66,23 @@ public interface GridLoaderService {
      */
     boolean existsFor(Class<?> domainClass, EnumSet<CommonMimeType> supportedFormats);
 
+    /**
+     * Optionally returns the last-modified time (epoch millis) of the layout resource,
+     * that would currently be {@link #load(Class, String, GridMarshallerService) loaded}
+     * for given domain class and layout (if any), with zero indicating that there is none.
+     * <p>
+     * Allows callers that hold on to (normalized) grids, to only reload when the underlying resource has changed.
+     * Empty means unknown, in which case callers should reload, if {@link #supportsReloading() reloading is supported}.
+     * <p>
+     * The default implementation returns empty.
+     */
+    default OptionalLong lastModified(
+            final Class<?> domainClass,
+            final @Nullable String layoutIfAny,
+            final EnumSet<CommonMimeType> supportedFormats) {
+        return OptionalLong.empty();
+    }
+
     /**
      * Optionally returns a new instance of a {@link Grid},
      * based on whether the underlying resource could be found, loaded and parsed.
@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.applib.services.grid;
 
+import java.util.OptionalLong;
+
+import org.springframework.lang.Nullable;
+
 import org.apache.causeway.applib.annotation.ActionLayout;
 import org.apache.causeway.applib.annotation.CollectionLayout;
 import org.apache.causeway.applib.annotation.DomainObjectLayout;
@@ -64,6 +68,19 @@ public interface GridService {
      */
     boolean existsFor(Class<?> domainClass);
 
+    /**
+     * Optionally returns the last-modified time (epoch millis) of the layout resource backing
+     * {@link #load(Class, String)}, with zero indicating that there is none; empty if unknown.
+     *
+     * <p>
+     *     The default implementation returns empty,
+     *     that is, when {@link #supportsReloading() reloading is supported}, layouts are reloaded on every use.
+     * </p>
+     */
+    default OptionalLong lastModified(final Class<?> domainClass, final @Nullable String layout) {
+        return OptionalLong.empty();
+    }
+
     /**
      * Returns a new instance of a {@link Grid} for the specified domain class,
      * for example as loaded from a <code>layout.xml</code> file.
@@ -44,5 +44,11 @@ public ActionInvocation(
         super(interaction, InteractionType.ACTION_INVOCATION, memberId, target);
         this.args = args;
     }
+
+    @Override
+    public ActionInvocation snapshot() {
+        return copyInto(new ActionInvocation(getInteraction(), getLogicalMemberIdentifier(), getTarget(), args));
+    }
+
     // ...
 }
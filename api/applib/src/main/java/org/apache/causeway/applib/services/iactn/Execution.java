@@ -32,6 +32,7 @@
 import org.apache.causeway.applib.services.metrics.MetricsService;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.applib.util.schema.MemberExecutionDtoUtils;
+import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.schema.common.v2.DifferenceDto;
 import org.apache.causeway.schema.common.v2.InteractionType;
@@ -256,6 +257,40 @@ public void setDto(final T executionDto) {
         this.dto = executionDto;
     }
 
+    // -- snapshot
+
+    /**
+     * <b>NOT API</b>: intended to be called only by the framework.
+     *
+     * <p>
+     *     A copy of this execution's current state, as handed over to
+     *     {@link org.apache.causeway.applib.services.publishing.spi.AsyncCapableSubscriber asynchronous subscribers},
+     *     with its {@link #getDto() dto} cloned now, and with snapshots of its {@link #getChildren() children},
+     *     hence not affected by any subsequent updates to this execution.
+     *     (The interaction, the target, any arguments and the returned object are shared.)
+     * </p>
+     */
+    public abstract Execution<T, E> snapshot();
+
+    /**
+     * Copies this execution's state onto given (newly created) snapshot,
+     * with the snapshot becoming the parent of snapshots of this execution's children.
+     */
+    protected <X extends Execution<T, E>> X copyInto(final X snapshot) {
+        snapshot.dto = dto!=null
+                ? _Casts.uncheckedCast(MemberExecutionDtoUtils.dtoMapper(dto.getClass()).clone(dto))
+                : null;
+        snapshot.event = event;
+        snapshot.startedAt = startedAt;
+        snapshot.completedAt = completedAt;
+        snapshot.returned = returned;
+        snapshot.threw = threw;
+        snapshot.numberObjectsLoadedBefore = numberObjectsLoadedBefore;
+        snapshot.numberObjectsDirtiedBefore = numberObjectsDirtiedBefore;
+        children.forEach(child->child.snapshot().setParent(snapshot));
+        return snapshot;
+    }
+
     // -- helpers (syncMetrics)
 
     enum When {
@@ -43,5 +43,10 @@ public PropertyEdit(
         this.newValue = newValue;
     }
 
+    @Override
+    public PropertyEdit snapshot() {
+        return copyInto(new PropertyEdit(getInteraction(), getLogicalMemberIdentifier(), getTarget(), newValue));
+    }
+
     // ...
 }
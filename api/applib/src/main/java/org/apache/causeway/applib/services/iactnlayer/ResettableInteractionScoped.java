@@ -0,0 +1,52 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.iactnlayer;
+
+import org.apache.causeway.applib.annotation.InteractionScope;
+
+/**
+ * Opt-in for {@link InteractionScope interaction scoped} beans,
+ * that can be reset and then reused by the next (top-level) interaction on the same thread,
+ * rather than being destroyed and re-created with each.
+ *
+ * <p>
+ *     Recycling only takes place, if enabled via configuration
+ *     (<code>causeway.core.runtime.interaction-scope.recycle-resettable-beans</code>).
+ * </p>
+ * <p>
+ *     Implementors must not hold any resources that require releasing
+ *     (connections, streams, listener registrations, etc.):
+ *     recycled beans are pooled per thread and never destroyed,
+ *     not even once their thread dies, so no destruction callback
+ *     (such as a <code>@PreDestroy</code> method) would ever release them.
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+public interface ResettableInteractionScoped {
+
+    /**
+     * Resets any interaction specific state, such that this bean can be reused by another interaction.
+     * <p>
+     * Called once the interaction this bean was bound to is about to be closed,
+     * instead of any destruction callbacks.
+     */
+    void resetForNextInteraction();
+
+}
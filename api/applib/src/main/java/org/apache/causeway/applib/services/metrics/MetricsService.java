@@ -87,5 +87,39 @@ default Set<Bookmark> entitiesLoaded() {
     default Set<Bookmark> entitiesDirtied() {
         return Collections.emptySet();
     }
-}
 
+    /**
+     * The number of lookups (since start-up) that were satisfied by the
+     * {@link org.apache.causeway.applib.services.queryresultscache.QueryResultsCacheSharedTier shared tier}
+     * of the {@link org.apache.causeway.applib.services.queryresultscache.QueryResultsCache}, if configured.
+     *
+     * @see #queryResultsCacheSharedTierMissCount()
+     * @see #queryResultsCacheSharedTierEvictionCount()
+     */
+    default long queryResultsCacheSharedTierHitCount() {
+        return 0L;
+    }
+
+    /**
+     * The number of lookups (since start-up) that were not satisfied by the
+     * {@link org.apache.causeway.applib.services.queryresultscache.QueryResultsCacheSharedTier shared tier}
+     * of the {@link org.apache.causeway.applib.services.queryresultscache.QueryResultsCache}, if configured.
+     *
+     * @see #queryResultsCacheSharedTierHitCount()
+     */
+    default long queryResultsCacheSharedTierMissCount() {
+        return 0L;
+    }
+
+    /**
+     * The number of entries (since start-up) evicted from the
+     * {@link org.apache.causeway.applib.services.queryresultscache.QueryResultsCacheSharedTier shared tier}
+     * of the {@link org.apache.causeway.applib.services.queryresultscache.QueryResultsCache},
+     * whether due to size, expiry or invalidation.
+     *
+     * @see #queryResultsCacheSharedTierHitCount()
+     */
+    default long queryResultsCacheSharedTierEvictionCount() {
+        return 0L;
+    }
+}
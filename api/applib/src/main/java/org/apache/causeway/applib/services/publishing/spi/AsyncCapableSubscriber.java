@@ -0,0 +1,49 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.publishing.spi;
+
+/**
+ * Marks an {@link ExecutionSubscriber}, {@link CommandSubscriber} or {@link EntityPropertyChangeSubscriber}
+ * as tolerant of being notified asynchronously, that is decoupled from the request thread.
+ *
+ * <p>
+ *     Only honored if asynchronous publishing is enabled
+ *     (<code>causeway.core.runtime-services.publishing.async.enabled</code>),
+ *     otherwise such subscribers are notified synchronously, like any other.
+ * </p>
+ *
+ * <p>
+ *     When notified asynchronously, the callback runs on a framework thread,
+ *     outside of the originating interaction and transaction, which might have completed (or rolled back) already.
+ *     Hence subscribers that need to participate in the originating transaction must not implement this interface.
+ *     Implementations that require an interaction of their own (eg. to persist entities) have to open one,
+ *     for instance using {@link org.apache.causeway.applib.services.iactnlayer.InteractionService}.
+ * </p>
+ *
+ * <p>
+ *     Any {@link org.apache.causeway.applib.services.command.Command} or
+ *     {@link org.apache.causeway.applib.services.iactn.Execution} passed to such a subscriber
+ *     is a snapshot, taken at the time of publishing.
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+public interface AsyncCapableSubscriber {
+
+}
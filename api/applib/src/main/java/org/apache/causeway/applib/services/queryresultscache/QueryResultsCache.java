@@ -21,6 +21,7 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.Callable;
 
 import javax.annotation.Priority;
@@ -34,6 +35,7 @@
 import org.apache.causeway.applib.CausewayModuleApplib;
 import org.apache.causeway.applib.annotation.InteractionScope;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.ResettableInteractionScoped;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Maps;
@@ -60,6 +62,11 @@
  * algorithm of the business logic can remain easy to understand.
  * </p>
  *
+ * <p>
+ * If a {@link QueryResultsCacheSharedTier} is configured, then on a miss it is consulted
+ * before the callable is invoked, allowing results to be shared across interactions.
+ * </p>
+ *
  * @since 1.x {@index}
  */
 @Component
@@ -68,12 +75,14 @@
 @InteractionScope
 @Qualifier("Default")
 @Log4j2
-public class QueryResultsCache implements DisposableBean {
+public class QueryResultsCache implements DisposableBean, ResettableInteractionScoped {
 
     static final String LOGICAL_TYPE_NAME = CausewayModuleApplib.NAMESPACE + ".QueryResultsCache";
 
     private final Map<Key, Value<?>> cache = _Maps.newHashMap();
 
+    private boolean entityChangesEnlisted;
+
     /**
      * Executes the callable if not already cached for the supplied calling
      * class, method and keys.
@@ -185,9 +194,32 @@ private <T> T executeWithCaching(final Callable<T> callable, final Key cacheKey)
                 return _Casts.uncheckedCast(cacheValue.getResult());
             }
 
+            final boolean isShared = sharedTier != null
+                    && sharedTier.isShared(cacheKey);
+            if(isShared) {
+                final Optional<Object> sharedResult = sharedTier.lookup(cacheKey);
+                if(sharedResult.isPresent()) {
+                    final T result = _Casts.uncheckedCast(sharedResult.get());
+                    put(cacheKey, result);
+                    return result;
+                }
+            }
+
+            // captured before computing, so that a result racing a commit that invalidates it is not shared
+            final long sharedGeneration = isShared
+                    ? sharedTier.currentGeneration()
+                    : 0L;
+
             // cache miss, so get the result...
             T result = callable.call();
 
+            // results that might reflect this transaction's uncommitted changes are not shared
+            if(isShared
+                    && result != null
+                    && !entityChangesEnlisted) {
+                sharedTier.put(cacheKey, result, sharedGeneration);
+            }
+
             // ... and cache
             //
             // (it is possible that the callable just invoked might also have updated the cache, eg if there was
@@ -223,19 +255,52 @@ private static void logHitOrMiss(final Key cacheKey, final Value<?> cacheValue)
      * </p>
      */
     public void onTransactionEnded() {
-        cache.clear();
+        clear();
+    }
+
+    /**
+     * Not API: for framework to call once entity changes have been enlisted within the current transaction.
+     *
+     * <p>
+     * From then on, and until {@link #onTransactionEnded()}, results are no longer handed to the
+     * {@link QueryResultsCacheSharedTier}, as they might reflect changes that are yet to be committed
+     * (or that are rolled back).
+     * </p>
+     */
+    public void onEntityChangesEnlisted() {
+        entityChangesEnlisted = true;
     }
 
     @Override
     public void destroy() throws Exception {
-        cache.clear();
+        clear();
+    }
+
+    /**
+     * Clears both the cached results and any state that decides whether results are handed to the
+     * {@link QueryResultsCacheSharedTier}, such that nothing carries over to the next interaction.
+     */
+    @Override
+    public void resetForNextInteraction() {
+        clear();
     }
 
     // -- HELPER
 
+    /**
+     * Resets all interaction (or transaction) specific state, including that relating to the shared tier.
+     */
+    private void clear() {
+        cache.clear();
+        entityChangesEnlisted = false;
+    }
+
     @Autowired(required = false)
     protected List<QueryResultsCacheControl> cacheControl;
 
+    @Autowired(required = false)
+    protected QueryResultsCacheSharedTier sharedTier;
+
     private boolean isIgnoreCache() {
         return _NullSafe.stream(cacheControl)
                 .anyMatch(c->c.isIgnoreCache());
@@ -0,0 +1,92 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.queryresultscache;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * SPI for an optional second-level tier consulted by {@link QueryResultsCache} on a miss,
+ * whose entries survive across interactions.
+ *
+ * <p>
+ *     Implementations decide which {@link QueryResultsCache.Key calling class and method}
+ *     (a <i>region</i>) participates. They must never hand out entity instances obtained
+ *     within one interaction to another; rather they are expected to retain only
+ *     bookmarks and to re-hydrate on lookup.
+ * </p>
+ *
+ * <p>
+ *     Entries are invalidated at the level of entity types, through
+ *     {@link #onEntityTypesChanged(Set)}, as called by the framework once a transaction
+ *     that modified entities of those types has committed.
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+public interface QueryResultsCacheSharedTier {
+
+    /**
+     * Whether results for the given key are to be shared at all.
+     */
+    boolean isShared(QueryResultsCache.Key key);
+
+    /**
+     * Returns the (re-hydrated) result previously {@link #put(QueryResultsCache.Key, Object) put}
+     * for the given key, if any.
+     *
+     * <p>
+     *     An empty result is treated as a miss; <code>null</code> results are never shared.
+     * </p>
+     */
+    Optional<Object> lookup(QueryResultsCache.Key key);
+
+    /**
+     * The current generation of this tier, as captured by {@link QueryResultsCache} <i>before</i> computing a
+     * result to be {@link #put(QueryResultsCache.Key, Object, long) put}.
+     */
+    long currentGeneration();
+
+    /**
+     * Shares the result computed for the given key, unless any of the entity types it depends upon has
+     * {@link #onEntityTypesChanged(Set) changed} since the given generation (in which case the result
+     * might already be stale and is dropped).
+     *
+     * <p>
+     *     The framework only calls this for results computed within a transaction that has not (yet) enlisted
+     *     any entity changes of its own. Implementations must retain a copy of the result rather than the
+     *     given instance itself.
+     * </p>
+     */
+    void put(QueryResultsCache.Key key, Object result, long generation);
+
+    /**
+     * Evicts any entries whose results depend on any of the given entity logical type names.
+     */
+    void onEntityTypesChanged(Set<String> logicalTypeNames);
+
+    // -- METRICS
+
+    long hitCount();
+
+    long missCount();
+
+    long evictionCount();
+
+}
@@ -27,6 +27,7 @@
 
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.applib.query.QueryResultList;
 
 import lombok.NonNull;
 
@@ -301,6 +302,21 @@ <T> List<T> allMatches(
      */
     <T> List<T> allMatches(Query<T> query);
 
+    /**
+     * Variant of {@link #allMatches(Query)}, that defers fetching until the
+     * returned {@link List} is accessed.
+     *
+     * <p>
+     *     Viewers that recognize a {@link QueryResultList} (eg. as returned by
+     *     an action) can then ask the database to count the matching instances
+     *     and to fetch (and order) only the page that is actually rendered,
+     *     rather than loading all instances into memory.
+     * </p>
+     *
+     * @see #allMatches(Query)
+     */
+    <T> QueryResultList<T> allMatchesPageable(Query<T> query);
+
     /**
      * Finds the only instance of the specified type (including subtypes) that
      * satifies the (client-side) predicate.
@@ -131,6 +131,25 @@ public AsyncControl<R> with(final ExecutorService executorService) {
         // ...
     }
 
+    /**
+     * Upper bound of tasks for the same member (action or property),
+     * that are allowed to execute concurrently; zero means unbounded.
+     * <p>
+     * Only honored by the framework's own executor,
+     * that is, if no custom {@link #with(ExecutorService) executor service} is specified.
+     * Once the bound is reached, further tasks are queued (without blocking the caller),
+     * each starting once a running task of the same member completes.
+     */
+    @Getter
+    private int maxConcurrency = 0;
+
+    public AsyncControl<R> withMaxConcurrency(final int maxConcurrency) {
+        _Assert.assertTrue(maxConcurrency>=0, ()->"maxConcurrency cannot be negative");
+        this.maxConcurrency = maxConcurrency;
+        return this;
+        // ...
+    }
+
     /**
      * Defaults to the system clock, if not overridden
      */
@@ -0,0 +1,144 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Bytes;
+import org.apache.causeway.commons.io.DataSink;
+import org.apache.causeway.commons.io.DataSource;
+import org.apache.causeway.commons.io.DtoMapper;
+
+import lombok.NonNull;
+
+/**
+ * How schema DTOs (such as <code>CommandDto</code>, <code>InteractionDto</code> or <code>ChangesDto</code>)
+ * are encoded when persisted into a (character large object) database column.
+ *
+ * <p>
+ *     Decoding is self-describing: any stored value is read correctly, regardless of the format currently
+ *     configured for writing.  Existing rows (plain XML) therefore remain readable after switching to
+ *     {@link #COMPRESSED_XML}, and are re-encoded in the new format whenever rewritten; use
+ *     {@link #reencode(String)} to migrate existing rows in bulk.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public enum DtoStorageFormat {
+
+    /**
+     * The DTO as (JAXB marshalled) XML.  Readable by all (including older) versions of the framework.
+     */
+    XML,
+
+    /**
+     * The DTO as (JAXB marshalled) XML, then gzip compressed and Base64 encoded, prefixed by
+     * {@link #COMPRESSED_XML_HEADER}.
+     *
+     * <p>
+     *     Typically reduces the stored size by a factor of 5 or more, and avoids the intermediate
+     *     (UTF-16) String representation of the XML on both reads and writes.
+     * </p>
+     */
+    COMPRESSED_XML;
+
+    /**
+     * Prefix of any value stored as {@link #COMPRESSED_XML}; cannot clash with XML,
+     * which always starts with either whitespace or a <code>&lt;</code>.
+     */
+    public static final String COMPRESSED_XML_HEADER = "gzxml:";
+
+    public boolean isXml() { return this == XML; }
+    public boolean isCompressedXml() { return this == COMPRESSED_XML; }
+
+    /**
+     * Encodes given DTO using this format.
+     * @return null if {@code dto} is null
+     */
+    @Nullable
+    public <T> String encode(final @NonNull DtoMapper<T> dtoMapper, final @Nullable T dto) {
+        if(dto==null) return null;
+        switch (this) {
+        case COMPRESSED_XML:
+            var bytesHolder = new ArrayList<byte[]>(1);
+            dtoMapper.write(dto, DataSink.ofByteArrayConsumer(bytesHolder::add, 4096));
+            return compressed(bytesHolder.get(0));
+        case XML:
+        default:
+            return dtoMapper.toString(dto);
+        }
+    }
+
+    /**
+     * Decodes given stored value, whichever format it was encoded with.
+     * @return null if {@code stored} is null
+     */
+    @Nullable
+    public static <T> T decode(final @NonNull DtoMapper<T> dtoMapper, final @Nullable String stored) {
+        if(stored==null) return null;
+        return formatOf(stored).isCompressedXml()
+                ? dtoMapper.read(DataSource.ofBytes(uncompressed(stored)))
+                : dtoMapper.read(stored);
+    }
+
+    /**
+     * Converts given stored value (of any format) into this format, without unmarshalling the DTO;
+     * for migrating existing rows.
+     * @return null if {@code stored} is null
+     */
+    @Nullable
+    public String reencode(final @Nullable String stored) {
+        if(stored==null
+                || formatOf(stored) == this) {
+            return stored;
+        }
+        switch (this) {
+        case COMPRESSED_XML:
+            return compressed(stored.getBytes(StandardCharsets.UTF_8));
+        case XML:
+        default:
+            return new String(uncompressed(stored), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * The format given stored value was encoded with.
+     */
+    public static DtoStorageFormat formatOf(final @NonNull String stored) {
+        return stored.startsWith(COMPRESSED_XML_HEADER)
+                ? COMPRESSED_XML
+                : XML;
+    }
+
+    // -- HELPER
+
+    private static String compressed(final byte[] xmlBytes) {
+        return COMPRESSED_XML_HEADER
+                + new String(_Bytes.asCompressedBase64.apply(xmlBytes), StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] uncompressed(final String stored) {
+        return _Bytes.ofCompressedBase64.apply(
+                stored.substring(COMPRESSED_XML_HEADER.length()).getBytes(StandardCharsets.US_ASCII));
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.queryresultscache;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryResultsCache_SharedTierTest {
+
+    static class A {}
+
+    @Mock QueryResultsCacheSharedTier mockSharedTier;
+
+    QueryResultsCache queryResultsCache;
+
+    @BeforeEach
+    void setUp() {
+        queryResultsCache = new QueryResultsCache();
+        queryResultsCache.sharedTier = mockSharedTier;
+
+        when(mockSharedTier.isShared(any())).thenReturn(true);
+        when(mockSharedTier.lookup(any())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void shares_result_along_with_generation_captured_before_computing() {
+        when(mockSharedTier.currentGeneration()).thenReturn(7L);
+
+        var result = queryResultsCache.execute(()->"result", A.class, "find", "key");
+
+        assertEquals("result", result);
+        verify(mockSharedTier).put(any(), eq("result"), eq(7L));
+    }
+
+    @Test
+    void does_not_share_once_entity_changes_enlisted_until_transaction_ended() {
+        queryResultsCache.onEntityChangesEnlisted();
+
+        queryResultsCache.execute(()->"uncommitted", A.class, "find", "key");
+        verify(mockSharedTier, never()).put(any(), any(), anyLong());
+
+        // eg. rolled back
+        queryResultsCache.onTransactionEnded();
+
+        queryResultsCache.execute(()->"committed", A.class, "find", "key");
+        verify(mockSharedTier).put(any(), eq("committed"), anyLong());
+    }
+
+    @Test
+    void reset_for_next_interaction_resets_shared_tier_state() {
+        when(mockSharedTier.currentGeneration()).thenReturn(7L, 9L);
+
+        // eg. the interaction ended mid-transaction, with changes enlisted
+        queryResultsCache.execute(()->"first", A.class, "find", "key");
+        queryResultsCache.onEntityChangesEnlisted();
+
+        queryResultsCache.resetForNextInteraction();
+
+        // neither served from the previous interaction's results, nor withheld from the shared tier
+        var result = queryResultsCache.execute(()->"next", A.class, "find", "key");
+        assertEquals("next", result);
+        verify(mockSharedTier).put(any(), eq("next"), eq(9L));
+    }
+
+}
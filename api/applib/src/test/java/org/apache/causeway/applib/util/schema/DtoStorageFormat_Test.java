@@ -0,0 +1,84 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+public class DtoStorageFormat_Test {
+
+    CommandDto dto;
+    @BeforeEach
+    public void setUp() throws Exception {
+        dto = new CommandDto();
+        dto.setInteractionId("7b1bbe6b-5c8d-4a5f-9d85-4ec1c5f3f6e1");
+        dto.setUsername("sven");
+        for (int i = 0; i < 20; i++) {
+            CommandDtoUtils.setUserData(dto, "someKey" + i, "someValue" + i);
+        }
+    }
+
+    @Test
+    public void roundtrip_compressed() {
+
+        var stored = DtoStorageFormat.COMPRESSED_XML.encode(CommandDtoUtils.dtoMapper(), dto);
+
+        assertThat(stored, startsWith(DtoStorageFormat.COMPRESSED_XML_HEADER));
+        assertThat(stored.length(), lessThan(CommandDtoUtils.dtoMapper().toString(dto).length()));
+
+        var read = DtoStorageFormat.decode(CommandDtoUtils.dtoMapper(), stored);
+        assertThat(read.getInteractionId(), is(dto.getInteractionId()));
+        assertThat(CommandDtoUtils.getUserData(read, "someKey19"), is("someValue19"));
+    }
+
+    @Test
+    public void existing_xml_still_readable() {
+
+        var stored = CommandDtoUtils.dtoMapper().toString(dto);
+
+        assertThat(DtoStorageFormat.formatOf(stored), is(DtoStorageFormat.XML));
+        assertThat(DtoStorageFormat.decode(CommandDtoUtils.dtoMapper(), stored).getUsername(), is("sven"));
+    }
+
+    @Test
+    public void reencode() {
+
+        var xml = DtoStorageFormat.XML.encode(CommandDtoUtils.dtoMapper(), dto);
+        var compressed = DtoStorageFormat.COMPRESSED_XML.reencode(xml);
+
+        assertThat(DtoStorageFormat.formatOf(compressed), is(DtoStorageFormat.COMPRESSED_XML));
+        assertThat(DtoStorageFormat.XML.reencode(compressed), is(xml));
+        assertThat(DtoStorageFormat.COMPRESSED_XML.reencode(compressed), is(compressed));
+    }
+
+    @Test
+    public void nulls() {
+        assertThat(DtoStorageFormat.COMPRESSED_XML.encode(CommandDtoUtils.dtoMapper(), null), is(nullValue()));
+        assertThat(DtoStorageFormat.decode(CommandDtoUtils.dtoMapper(), null), is(nullValue()));
+        assertThat(DtoStorageFormat.XML.reencode(null), is(nullValue()));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.html;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.hash._Hashes;
+import org.apache.causeway.commons.internal.hash._Hashes.Algorithm;
+
+import lombok.NonNull;
+
+/**
+ * <h1>- internal use only -</h1>
+ * <p>
+ * Bounded, thread-safe cache of rendered HTML, keyed by a (SHA-256) hash of the markup source,
+ * so that equal sources are rendered only once, regardless of how many value instances hold them.
+ * Least recently used entries are evicted first.
+ * <p>
+ * <b>WARNING</b>: Do <b>NOT</b> use any of the classes provided by this package! <br/>
+ * These may be changed or removed without notice!
+ * </p>
+ *
+ * @since 2.0
+ */
+public final class _HtmlRenderCache {
+
+    public static _HtmlRenderCache bounded(final int maxEntries, final @NonNull UnaryOperator<String> renderer) {
+        return new _HtmlRenderCache(maxEntries, renderer);
+    }
+
+    private final UnaryOperator<String> renderer;
+    private final Map<ByteBuffer, String> htmlByHash;
+
+    private _HtmlRenderCache(final int maxEntries, final UnaryOperator<String> renderer) {
+        this.renderer = renderer;
+        this.htmlByHash = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<ByteBuffer, String> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached HTML for given source, rendering it if not cached yet.
+     * @implNote rendering happens outside of any lock, so concurrent requests for the same
+     *      (not yet cached) source might render more than once
+     */
+    public String render(final @Nullable String source) {
+        if(_Strings.isEmpty(source)) {
+            return renderer.apply(source);
+        }
+        var hash = _Hashes.digest(Algorithm.SHA256, source.getBytes(StandardCharsets.UTF_8))
+                .map(ByteBuffer::wrap)
+                .orElse(null);
+        if(hash==null) {
+            return renderer.apply(source); // digest not available
+        }
+        synchronized(htmlByHash) {
+            var html = htmlByHash.get(hash);
+            if(html!=null) {
+                return html;
+            }
+        }
+        var html = renderer.apply(source);
+        synchronized(htmlByHash) {
+            htmlByHash.put(hash, html);
+        }
+        return html;
+    }
+
+    public int size() {
+        synchronized(htmlByHash) {
+            return htmlByHash.size();
+        }
+    }
+
+    public void clear() {
+        synchronized(htmlByHash) {
+            htmlByHash.clear();
+        }
+    }
+
+}
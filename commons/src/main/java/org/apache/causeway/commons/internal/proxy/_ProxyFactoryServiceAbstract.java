@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.commons.internal.proxy;
 
+import java.lang.ref.SoftReference;
 import java.util.Collections;
 import java.util.Map;
 import java.util.WeakHashMap;
@@ -33,16 +34,23 @@
  */
 public abstract class _ProxyFactoryServiceAbstract implements _ProxyFactoryService {
 
+    /**
+     * Values are held softly, as a factory (by way of its proxy class) strongly references its key,
+     * which otherwise would never be cleared.
+     */
     @NonNull
-    private final Map<Class<?>, _ProxyFactory<?>> proxyFactoryByClass =
+    private final Map<Class<?>, SoftReference<_ProxyFactory<?>>> proxyFactoryByClass =
             Collections.synchronizedMap(new WeakHashMap<>());
 
     @Override
     public <T> _ProxyFactory<T> factory(final Class<T> classToBeProxied, final Class<?> additionalClass) {
-        _ProxyFactory<T> proxyFactory = _Casts.uncheckedCast(proxyFactoryByClass.get(classToBeProxied));
+        var proxyFactoryRef = proxyFactoryByClass.get(classToBeProxied);
+        _ProxyFactory<T> proxyFactory = proxyFactoryRef != null
+                ? _Casts.uncheckedCast(proxyFactoryRef.get())
+                : null;
         if(proxyFactory == null) {
             proxyFactory = createFactory(classToBeProxied, additionalClass);
-            proxyFactoryByClass.put(classToBeProxied, proxyFactory);
+            proxyFactoryByClass.put(classToBeProxied, new SoftReference<>(proxyFactory));
         }
         return proxyFactory;
     }
@@ -218,14 +218,15 @@ public Stream<ResolvedMethod> streamDeclaredMethodsHaving(
 
         var classModel = classModel(type);
 
-        synchronized(classModel.declaredMethodsByAttribute) {
-            return classModel.declaredMethodsByAttribute
-            .computeIfAbsent(attributeName, key->classModel
-                    .resolvedMethodsByKey.values().stream()
-                    .filter(filter)
-                    .collect(Can.toCan()))
+        var declaredMethods = classModel.declaredMethodsByAttribute.get(attributeName); // fast path, non-blocking
+        return (declaredMethods!=null
+                ? declaredMethods
+                : classModel.declaredMethodsByAttribute
+                    .computeIfAbsent(attributeName, key->classModel
+                        .resolvedMethodsByKey.values().stream()
+                        .filter(filter)
+                        .collect(Can.toCan())))
             .stream();
-        }
     }
 
     // -- ATTRIBUTES
@@ -248,6 +249,10 @@ public Optional<String> lookupAttribute(
 
     // -- IMPLEMENATION DETAILS
 
+    /**
+     * Fully populated by {@link _ClassCache#inspectType(Class)} before being published (safely) via
+     * {@link _ClassCache#inspectedTypes}, hence the plain {@link HashMap}s are only ever read concurrently.
+     */
     @RequiredArgsConstructor
     private static class ClassModel {
         private final Can<Field> declaredFields;
@@ -261,11 +266,11 @@ private static class ClassModel {
         private final Map<MethodKey, ResolvedMethod> publicMethodsByKey = new HashMap<>();
         private final Map<MethodKey, ResolvedMethod> postConstructMethodsByKey = new HashMap<>();
 
-        private final Map<String, Can<ResolvedMethod>> declaredMethodsByAttribute = new HashMap<>();
+        private final Map<String, Can<ResolvedMethod>> declaredMethodsByAttribute = new ConcurrentHashMap<>();
         private final Map<String, String> attributeMap = new ConcurrentHashMap<>();
     }
 
-    private final Map<Class<?>, ClassModel> inspectedTypes = new HashMap<>();
+    private final Map<Class<?>, ClassModel> inspectedTypes = new ConcurrentHashMap<>();
 
     @AllArgsConstructor(staticName = "of") @EqualsAndHashCode
     private static final class ConstructorKey {
@@ -291,9 +296,7 @@ public static MethodKey of(final Class<?> type, final Method method) {
 
     @Override
     public void close() throws Exception {
-        synchronized(inspectedTypes) {
-            inspectedTypes.clear();
-        }
+        inspectedTypes.clear();
     }
 
     // -- UTILITY
@@ -313,10 +316,15 @@ public static boolean methodIncludeFilter(final Method method) {
 
     // -- HELPER
 
+    /**
+     * Reads of already inspected types never block; a type not yet inspected is inspected exactly once,
+     * concurrent requests for that same type waiting for the outcome.
+     */
     private ClassModel classModel(final Class<?> type) {
-        synchronized(inspectedTypes) {
-            return inspectedTypes.computeIfAbsent(type, this::inspectType);
-        }
+        var model = inspectedTypes.get(type); // fast path, non-blocking
+        return model!=null
+                ? model
+                : inspectedTypes.computeIfAbsent(type, this::inspectType);
     }
 
     /**
@@ -338,7 +346,7 @@ private ClassModel inspectType(final Class<?> _type) {
 
         final Class<?> type = reloadType(_type);
 
-        //TODO[CAUSEWAY-3556] optimization candidate (needs inspectedTypes to be a ConcurrentHashMap)
+        //TODO[CAUSEWAY-3556] optimization candidate (must not recurse into inspectedTypes.computeIfAbsent)
 //                var declaredMethods = _Reflect.streamTypeHierarchy(type, InterfacePolicy.INCLUDE)
 //                    .filter(cls->cls.equals(Object.class))
 //                    .flatMap(cls->{
@@ -0,0 +1,176 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import org.apache.causeway.commons.functional.Try;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+
+/**
+ * <h1>- internal use only -</h1>
+ * <p>
+ * Binds {@link Method}s to {@link MethodHandle}s of uniform type {@code (Object, Object[])Object},
+ * memoized per declaring class, such that repeated invocations avoid the per call access checks
+ * (and toggling of the accessible flag) that {@link _Reflect#invokeMethodOn(Method, Object, Object...)}
+ * involves.
+ * </p>
+ * <p>
+ * Falls back to reflection, where no handle can be created (eg. because of module access rules)
+ * or where given arguments are not strictly compatible with the method's parameter types, so that
+ * the latter case fails exactly the same way as with reflective invocation.
+ * </p>
+ * <p>
+ * <b>WARNING</b>: Do <b>NOT</b> use any of the classes provided by this package! <br/>
+ * These may be changed or removed without notice!
+ * </p>
+ * @since 2.0
+ */
+@UtilityClass
+public final class _MethodHandles {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<Map<Method, Optional<MethodHandle>>> HANDLES_BY_DECLARING_CLASS =
+            new ClassValue<>() {
+                @Override protected Map<Method, Optional<MethodHandle>> computeValue(final Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * Same contract as {@link _Reflect#invokeMethodOn(Method, Object, Object...)}, that is,
+     * any exception thrown by the invoked method is wrapped in an {@link InvocationTargetException}.
+     */
+    public Try<Object> invokeMethodOn(
+            final @NonNull Method method,
+            final @NonNull Object target,
+            final @Nullable Object... args) {
+
+        var handle = spreadHandle(method).orElse(null);
+        if(handle==null
+                || !isInvocable(method, target, args)) {
+            return _Reflect.invokeMethodOn(method, target, args);
+        }
+        var nonNullArgs = args!=null
+                ? args
+                : new Object[0];
+        return Try.call(()->invokeExact(handle, target, nonNullArgs));
+    }
+
+    /**
+     * Returns the (memoized) handle of type {@code (Object, Object[])Object} for given {@link Method},
+     * for static methods ignoring the first (target) argument;
+     * or {@link Optional#empty()} if no such handle can be created.
+     */
+    public Optional<MethodHandle> spreadHandle(final @NonNull Method method) {
+        var handles = HANDLES_BY_DECLARING_CLASS.get(method.getDeclaringClass());
+        var handle = handles.get(method); // fast path, non-blocking
+        return handle!=null
+                ? handle
+                : handles.computeIfAbsent(method, _MethodHandles::createSpreadHandle);
+    }
+
+    // -- HELPER
+
+    private Object invokeExact(
+            final MethodHandle handle,
+            final Object target,
+            final Object[] args) throws InvocationTargetException {
+        try {
+            return (Object) handle.invokeExact(target, args);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private Optional<MethodHandle> createSpreadHandle(final Method method) {
+        return Try.call(()->{
+            var handle = unreflect(method).asFixedArity();
+            var generic = handle.asType(handle.type().generic());
+            var withTarget = Modifier.isStatic(method.getModifiers())
+                    ? MethodHandles.dropArguments(generic, 0, Object.class)
+                    : generic;
+            return withTarget.asSpreader(Object[].class, method.getParameterCount());
+        })
+        .getValue();
+    }
+
+    @SneakyThrows
+    private MethodHandle unreflect(final Method method) {
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            // work on a copy, such that the accessible flag of the shared Method instance is not altered
+            var copy = method.getDeclaringClass()
+                    .getDeclaredMethod(method.getName(), method.getParameterTypes());
+            copy.setAccessible(true);
+            return LOOKUP.unreflect(copy);
+        }
+    }
+
+    /**
+     * Whether given target and arguments satisfy the method's signature without any conversions
+     * (other than unboxing) as {@link Method#invoke(Object, Object...)} would otherwise apply.
+     */
+    private boolean isInvocable(
+            final Method method,
+            final Object target,
+            final @Nullable Object[] args) {
+        if(!Modifier.isStatic(method.getModifiers())
+                && !method.getDeclaringClass().isInstance(target)) {
+            return false;
+        }
+        var paramTypes = method.getParameterTypes();
+        var argCount = args!=null
+                ? args.length
+                : 0;
+        if(paramTypes.length!=argCount) {
+            return false;
+        }
+        for (int i = 0; i < argCount; i++) {
+            var arg = args[i];
+            var paramType = paramTypes[i];
+            if(arg==null) {
+                if(paramType.isPrimitive()) {
+                    return false;
+                }
+                continue;
+            }
+            if(!ClassUtils.resolvePrimitiveIfNecessary(paramType).isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.html;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class _HtmlRenderCacheTest {
+
+    @Test
+    void shouldRenderEqualSourcesOnlyOnce() {
+        var renderCount = new AtomicInteger();
+        var cache = _HtmlRenderCache.bounded(2, source->{
+            renderCount.incrementAndGet();
+            return "<p>" + source + "</p>";
+        });
+
+        assertEquals("<p>a</p>", cache.render("a"));
+        assertEquals("<p>a</p>", cache.render(new String("a")));
+        assertEquals(1, renderCount.get());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        var renderCount = new AtomicInteger();
+        var cache = _HtmlRenderCache.bounded(2, source->{
+            renderCount.incrementAndGet();
+            return source.toUpperCase();
+        });
+
+        cache.render("a");
+        cache.render("b");
+        cache.render("a"); // 'b' is now least recently used
+        cache.render("c"); // evicts 'b'
+        assertEquals(2, cache.size());
+        assertEquals(3, renderCount.get());
+
+        cache.render("a");
+        assertEquals(3, renderCount.get());
+        cache.render("b");
+        assertEquals(4, renderCount.get());
+    }
+
+}
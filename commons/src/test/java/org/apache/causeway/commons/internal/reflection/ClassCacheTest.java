@@ -19,6 +19,10 @@
 package org.apache.causeway.commons.internal.reflection;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -129,6 +133,32 @@ void javaLangObjectPublicMethodsAreIgnored() {
         assertEquals(Can.empty(), javaLangObjectPublicMethods);
     }
 
+    @Test
+    void concurrentFirstLookupInspectsTypeOnlyOnce() throws InterruptedException {
+        final int threadCount = 16;
+        var executor = Executors.newFixedThreadPool(threadCount);
+        var startSignal = new CountDownLatch(1);
+        try {
+            // any type inspected more than once would lose some of the attributes
+            IntStream.range(0, threadCount).forEach(i->
+                executor.execute(()->{
+                    try {
+                        startSignal.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    classCache.setAttribute(Sample.class, "attr" + i, "value" + i);
+                }));
+            startSignal.countDown();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        IntStream.range(0, threadCount).forEach(i->
+            assertEquals("value" + i, classCache.lookupAttribute(Sample.class, "attr" + i).orElse(null)));
+    }
+
     // -- HELPER
 
     @SneakyThrows
@@ -0,0 +1,129 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.reflection;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.SneakyThrows;
+
+class MethodHandlesTest {
+
+    static class Sample {
+        int counter;
+        Method sharedIncrementMethod;
+        Boolean accessibleFlagDuringIncrement;
+        public String echo(final String x) { return x; }
+        public int add(final int a, final int b) { return a + b; }
+        @SuppressWarnings("deprecation") // isAccessible() reports the flag alone, ignoring (nestmate) access rules
+        private void increment() {
+            counter++;
+            if(sharedIncrementMethod!=null) {
+                accessibleFlagDuringIncrement = sharedIncrementMethod.isAccessible();
+            }
+        }
+        static String hello(final String name) { return "hello " + name; }
+        public void fail() { throw new IllegalStateException("fail"); }
+    }
+
+    @Test
+    void publicMethod() {
+        assertEquals("x", invoke("echo", new Class<?>[] {String.class}, new Sample(), "x"));
+        assertNull(invoke("echo", new Class<?>[] {String.class}, new Sample(), (Object) null));
+    }
+
+    @Test
+    void primitives() {
+        assertEquals(5, invoke("add", new Class<?>[] {int.class, int.class}, new Sample(), 2, 3));
+    }
+
+    @Test
+    void nonPublicVoidMethod_doesNotAlterAccessibleFlag() {
+        var sample = new Sample();
+        var method = method("increment", new Class<?>[0]);
+        sample.sharedIncrementMethod = method;
+
+        assertTrue(_MethodHandles.spreadHandle(method).isPresent());
+        assertNull(_MethodHandles.invokeMethodOn(method, sample).valueAsNullableElseFail());
+        assertEquals(1, sample.counter);
+        // reflective invocation would have set the flag for the duration of the call
+        assertFalse(sample.accessibleFlagDuringIncrement);
+    }
+
+    @Test
+    void nonPublicVoidMethod_reflectiveInvocationDoesAlterAccessibleFlag() {
+        var sample = new Sample();
+        var method = method("increment", new Class<?>[0]);
+        sample.sharedIncrementMethod = method;
+
+        assertNull(_Reflect.invokeMethodOn(method, sample).valueAsNullableElseFail());
+        assertEquals(1, sample.counter);
+        // sanity check, that above test would detect the flag being toggled
+        assertTrue(sample.accessibleFlagDuringIncrement);
+    }
+
+    @Test
+    void staticMethod() {
+        assertEquals("hello sven", invoke("hello", new Class<?>[] {String.class}, new Sample(), "sven"));
+    }
+
+    @Test
+    void handlesAreMemoized() {
+        var method = method("echo", new Class<?>[] {String.class});
+        assertSame(
+                _MethodHandles.spreadHandle(method).orElseThrow(),
+                _MethodHandles.spreadHandle(method).orElseThrow());
+    }
+
+    @Test
+    void exceptionsAreWrapped_sameAsReflection() {
+        var failure = _MethodHandles.invokeMethodOn(method("fail", new Class<?>[0]), new Sample())
+                .getFailure().orElseThrow();
+        assertTrue(failure instanceof InvocationTargetException);
+        assertTrue(((InvocationTargetException)failure).getTargetException() instanceof IllegalStateException);
+    }
+
+    @Test
+    void incompatibleArgs_failSameAsReflection() {
+        var failure = _MethodHandles.invokeMethodOn(method("add", new Class<?>[] {int.class, int.class}), new Sample(), 2, null)
+                .getFailure().orElseThrow();
+        assertTrue(failure instanceof IllegalArgumentException);
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static Method method(final String name, final Class<?>[] paramTypes) {
+        return Sample.class.getDeclaredMethod(name, paramTypes);
+    }
+
+    private static Object invoke(final String name, final Class<?>[] paramTypes, final Object target, final Object... args) {
+        return _MethodHandles.invokeMethodOn(method(name, paramTypes), target, args)
+                .valueAsNullableElseFail();
+    }
+
+}
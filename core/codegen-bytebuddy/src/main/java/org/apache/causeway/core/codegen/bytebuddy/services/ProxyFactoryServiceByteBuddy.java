@@ -18,9 +18,10 @@
  */
 package org.apache.causeway.core.codegen.bytebuddy.services;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
-import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
 import org.springframework.objenesis.ObjenesisStd;
@@ -30,19 +31,65 @@
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.context._Context;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.proxy._ProxyFactory;
 import org.apache.causeway.commons.internal.proxy._ProxyFactoryServiceAbstract;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
-import net.bytebuddy.dynamic.DynamicType.Builder.MethodDefinition.ImplementationDefinition;
+import net.bytebuddy.TypeCache;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.InvocationHandlerAdapter;
 import net.bytebuddy.matcher.ElementMatchers;
 
+/**
+ * Generates (and loads) a proxy class only once per (base, interfaces) combination; the {@link InvocationHandler}
+ * is then supplied per instance, held by a field of the generated class (see {@link ProxyHandlerHolder}).
+ * <p>
+ * Generated classes are cached softly, keyed by the base class' {@link ClassLoader} (held weakly), so that neither
+ * they nor the classes they extend are prevented from being unloaded.
+ */
 @Service
 public class ProxyFactoryServiceByteBuddy extends _ProxyFactoryServiceAbstract {
 
+    /**
+     * Implemented by all generated proxy classes, providing access to the per instance {@link InvocationHandler}.
+     * <p>
+     * Not intended to be used by client code.
+     */
+    public static interface ProxyHandlerHolder {
+        InvocationHandler getProxyInvocationHandler();
+    }
+
+    private static final String HANDLER_FIELD_NAME = "$$causewayProxyInvocationHandler";
+
+    /**
+     * Holds the handler of the proxy instance currently being constructed (if any), so that methods called
+     * from within the base class' constructor are dispatched to it, even though the handler field is not
+     * yet set.
+     */
+    private static final ThreadLocal<InvocationHandler> handlerUnderConstruction = new ThreadLocal<>();
+
+    /**
+     * Shared by all generated proxy classes, dispatches to the per instance handler.
+     */
+    private static final InvocationHandler DISPATCHER = (proxy, method, args) -> {
+        var handler = ((ProxyHandlerHolder) proxy).getProxyInvocationHandler();
+        if(handler == null) {
+            handler = handlerUnderConstruction.get();
+        }
+        if(handler == null) {
+            throw _Exceptions.illegalState(
+                    "proxy of type %s has no invocation handler (yet), cannot invoke %s",
+                    proxy.getClass().getSuperclass().getName(), method.getName());
+        }
+        return handler.invoke(proxy, method, args);
+    };
+
     private final ClassLoadingStrategyAdvisor strategyAdvisor = new ClassLoadingStrategyAdvisor();
+    private final ObjenesisStd objenesis = new ObjenesisStd();
+    private final TypeCache<TypeCache.SimpleKey> proxyClassCache = new TypeCache.WithInlineExpunction<>(TypeCache.Sort.SOFT);
 
     @Override
     public <T> _ProxyFactory<T> factory(
@@ -50,15 +97,14 @@ public <T> _ProxyFactory<T> factory(
             final Class<?>[] interfaces,
             final Class<?>[] constructorArgTypes) {
 
-        var objenesis = new ObjenesisStd();
-
-        final Function<InvocationHandler, Class<? extends T>> proxyClassFactory = handler->
-        nextProxyDef(base, interfaces)
-        .intercept(InvocationHandlerAdapter.of(handler))
-        .make()
-        .load(_Context.getDefaultClassLoader(),
-                strategyAdvisor.getSuitableStrategy(base))
-        .getLoaded();
+        final Class<? extends T> proxyClass = _Casts.uncheckedCast(
+                proxyClassCache.findOrInsert(
+                        base.getClassLoader(),
+                        new TypeCache.SimpleKey(base, _NullSafe.stream(interfaces).collect(Collectors.toList())),
+                        ()->nextProxyClass(base, interfaces),
+                        proxyClassCache));
+        // the field is private, so that the handler cannot be replaced via the proxy's public API
+        final Field handlerField = handlerFieldOf(proxyClass);
 
         return new _ProxyFactory<T>() {
 
@@ -98,8 +144,8 @@ public T createInstance(final InvocationHandler handler, final Object[] construc
             // -- HELPER (create w/o initialize)
 
             private Object createNotUsingConstructor(final InvocationHandler invocationHandler) {
-                final Class<? extends T> proxyClass = proxyClassFactory.apply(invocationHandler);
                 final Object object = objenesis.newInstance(proxyClass);
+                setHandler(object, invocationHandler);
                 return object;
             }
 
@@ -107,10 +153,26 @@ private Object createNotUsingConstructor(final InvocationHandler invocationHandl
 
             private Object createUsingConstructor(final InvocationHandler invocationHandler, @Nullable final Object[] constructorArgs)
                     throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
-                final Class<? extends T> proxyClass = proxyClassFactory.apply(invocationHandler);
-                return proxyClass
-                        .getConstructor(constructorArgTypes==null ? _Constants.emptyClasses : constructorArgTypes)
-                        .newInstance(constructorArgs==null ? _Constants.emptyObjects : constructorArgs);
+                // the base constructor might itself create proxies, so restore (rather than just clear) afterwards
+                final InvocationHandler enclosingHandlerUnderConstruction = handlerUnderConstruction.get();
+                handlerUnderConstruction.set(invocationHandler);
+                try {
+                    final Object object = proxyClass
+                            .getConstructor(constructorArgTypes==null ? _Constants.emptyClasses : constructorArgTypes)
+                            .newInstance(constructorArgs==null ? _Constants.emptyObjects : constructorArgs);
+                    setHandler(object, invocationHandler);
+                    return object;
+                } finally {
+                    if(enclosingHandlerUnderConstruction != null) {
+                        handlerUnderConstruction.set(enclosingHandlerUnderConstruction);
+                    } else {
+                        handlerUnderConstruction.remove();
+                    }
+                }
+            }
+
+            private void setHandler(final Object proxy, final InvocationHandler invocationHandler) throws IllegalAccessException {
+                handlerField.set(proxy, invocationHandler);
             }
 
         };
@@ -119,14 +181,32 @@ private Object createUsingConstructor(final InvocationHandler invocationHandler,
 
     // -- HELPER
 
-    private static <T> ImplementationDefinition<T> nextProxyDef(
+    private <T> Class<? extends T> nextProxyClass(
             final Class<T> base,
             final Class<?>[] interfaces) {
         return new ByteBuddy()
                 .with(new NamingStrategy.SuffixingRandom("bb"))
                 .subclass(base)
                 .implement(interfaces)
-                .method(ElementMatchers.any());
+                .method(ElementMatchers.any())
+                .intercept(InvocationHandlerAdapter.of(DISPATCHER))
+                .defineField(HANDLER_FIELD_NAME, InvocationHandler.class, Visibility.PRIVATE)
+                .implement(ProxyHandlerHolder.class)
+                .intercept(FieldAccessor.ofField(HANDLER_FIELD_NAME)) // getter only
+                .make()
+                .load(_Context.getDefaultClassLoader(),
+                        strategyAdvisor.getSuitableStrategy(base))
+                .getLoaded();
+    }
+
+    private static Field handlerFieldOf(final Class<?> proxyClass) {
+        try {
+            final Field handlerField = proxyClass.getDeclaredField(HANDLER_FIELD_NAME);
+            handlerField.setAccessible(true);
+            return handlerField;
+        } catch (NoSuchFieldException e) {
+            throw _Exceptions.unrecoverable(e, "generated proxy class %s lacks its handler field", proxyClass.getName());
+        }
     }
 
     private static void ensureSameSize(final Class<?>[] a, final Object[] b) {
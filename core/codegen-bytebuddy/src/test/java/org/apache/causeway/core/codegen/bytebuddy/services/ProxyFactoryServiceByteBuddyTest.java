@@ -0,0 +1,125 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.codegen.bytebuddy.services;
+
+import java.lang.reflect.InvocationHandler;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.internal.proxy._ProxyFactory;
+
+class ProxyFactoryServiceByteBuddyTest {
+
+    public static class Greeter {
+        final String greetingDuringConstruction;
+        public Greeter() {
+            greetingDuringConstruction = greet();
+        }
+        public String greet() {
+            return "original";
+        }
+    }
+
+    public static class NestingGreeter {
+        final String greetingDuringConstruction;
+        public NestingGreeter() {
+            // creates another proxy from within this constructor
+            nestedGreeterFactory.createInstance(handlerGreeting("nested"), true);
+            greetingDuringConstruction = greet();
+        }
+        public String greet() {
+            return "original";
+        }
+    }
+
+    static _ProxyFactory<Greeter> nestedGreeterFactory;
+
+    private ProxyFactoryServiceByteBuddy proxyFactoryService;
+
+    @BeforeEach
+    void setUp() {
+        proxyFactoryService = new ProxyFactoryServiceByteBuddy();
+        nestedGreeterFactory = proxyFactoryService.factory(Greeter.class, new Class<?>[0], null);
+    }
+
+    @Test
+    void instances_share_their_class_but_not_their_handler() {
+        var factory = proxyFactoryService.factory(Greeter.class, new Class<?>[0], null);
+
+        var first = factory.createInstance(handlerGreeting("first"), false);
+        var second = proxyFactoryService.factory(Greeter.class, new Class<?>[0], null)
+                .createInstance(handlerGreeting("second"), false);
+
+        assertSame(first.getClass(), second.getClass());
+        assertEquals("first", first.greet());
+        assertEquals("second", second.greet());
+    }
+
+    @Test
+    void handler_cannot_be_replaced_through_a_public_setter() {
+        var proxy = proxyFactoryService.factory(Greeter.class, new Class<?>[0], null)
+                .createInstance(handlerGreeting("first"), false);
+
+        assertTrue(proxy instanceof ProxyFactoryServiceByteBuddy.ProxyHandlerHolder);
+        assertFalse(Stream.of(proxy.getClass().getMethods())
+                .anyMatch(method -> method.getParameterCount() == 1
+                        && method.getParameterTypes()[0] == InvocationHandler.class));
+    }
+
+    @Test
+    void methods_called_by_the_base_constructor_are_dispatched_to_the_handler() {
+        var proxy = proxyFactoryService.factory(Greeter.class, new Class<?>[0], null)
+                .createInstance(handlerGreeting("proxied"), true);
+
+        assertEquals("proxied", proxy.greetingDuringConstruction);
+        assertEquals("proxied", proxy.greet());
+    }
+
+    @Test
+    void nested_construction_does_not_clear_the_enclosing_handler() {
+        var proxy = proxyFactoryService.factory(NestingGreeter.class, new Class<?>[0], null)
+                .createInstance(handlerGreeting("enclosing"), true);
+
+        assertEquals("enclosing", proxy.greetingDuringConstruction);
+    }
+
+    @Test
+    void invoking_without_handler_fails_with_illegal_state() {
+        var proxy = proxyFactoryService.factory(Greeter.class, new Class<?>[0], null)
+                .createInstance(null, false);
+
+        var ex = assertThrows(IllegalStateException.class, proxy::greet);
+        assertTrue(ex.getMessage().contains("greet"));
+    }
+
+    // -- HELPER
+
+    private static InvocationHandler handlerGreeting(final String greeting) {
+        return (proxy, method, args) -> greeting;
+    }
+
+}
@@ -86,6 +86,7 @@
 import org.apache.causeway.applib.services.userreg.EmailNotificationService;
 import org.apache.causeway.applib.services.userreg.UserRegistrationService;
 import org.apache.causeway.applib.services.userui.UserMenu;
+import org.apache.causeway.applib.util.schema.DtoStorageFormat;
 import org.apache.causeway.applib.value.semantics.TemporalValueSemantics.TemporalDisplayPattern;
 import org.apache.causeway.applib.value.semantics.TemporalValueSemantics.TemporalEditingPattern;
 import org.apache.causeway.commons.internal.base._NullSafe;
@@ -1625,6 +1626,22 @@ public static class ProgrammingModel {
                 private boolean ignoreDeprecated = false;
             }
 
+            private final Layout layout = new Layout();
+            @Data
+            public static class Layout {
+
+                /**
+                 * Whether to load and normalize the layouts (grids) of all domain object types eagerly,
+                 * once the metamodel was loaded, rather than on first use.
+                 *
+                 * <p>
+                 *     Trades a longer bootstrap for a fast first rendering of each object page,
+                 *     hence intended for production.
+                 * </p>
+                 */
+                private boolean prewarm = false;
+            }
+
             private final Introspector introspector = new Introspector();
             @Data
             public static class Introspector {
@@ -1651,6 +1668,16 @@ public IntrospectionPolicy getPolicy() {
                  */
                 private boolean parallelize = false; //TODO[CAUSEWAY-2382] concurrent spec-loading is experimental
 
+                /**
+                 * Upper bound on the number of worker threads used, when introspection is
+                 * {@link #isParallelize() parallelized}.
+                 *
+                 * <p>
+                 *     A value of zero or less means, to use as many threads as there are available processors.
+                 * </p>
+                 */
+                private int parallelism = 0;
+
                 /**
                  * Whether all known types should be fully introspected as part of the bootstrapping, or should only be
                  * partially introspected initially.
@@ -1819,6 +1846,19 @@ public static class Runtime {
              */
             private String timezone;
 
+            private final InteractionScope interactionScope = new InteractionScope();
+            @Data
+            public static class InteractionScope {
+
+                /**
+                 * Whether {@link org.apache.causeway.applib.annotation.InteractionScope interaction scoped} beans,
+                 * that implement {@link org.apache.causeway.applib.services.iactnlayer.ResettableInteractionScoped},
+                 * are reset and kept for reuse by the next interaction on the same thread,
+                 * rather than being destroyed and re-created with each (top-level) interaction.
+                 */
+                private boolean recycleResettableBeans = false;
+            }
+
         }
 
         private final RuntimeServices runtimeServices = new RuntimeServices();
@@ -2122,6 +2162,97 @@ public static class Bulk {
                     int threshold = 1;
                 }
             }
+
+            private final Publishing publishing = new Publishing();
+            @Data
+            public static class Publishing {
+
+                private final Async async = new Async();
+                @Data
+                public static class Async {
+
+                    public enum OverflowPolicy {
+                        /**
+                         * If the queue is full, the publishing (request) thread waits for free capacity,
+                         * such that notifications are still delivered in order.
+                         */
+                        BLOCK,
+                        /**
+                         * If the queue is full, the notification is dropped (and counted as such).
+                         */
+                        DROP
+                    }
+
+                    /**
+                     * Whether subscribers that implement
+                     * {@link org.apache.causeway.applib.services.publishing.spi.AsyncCapableSubscriber}
+                     * are notified asynchronously, decoupled from the request thread.
+                     *
+                     * <p>
+                     *     All other subscribers (in particular those that need to participate in the originating
+                     *     transaction) are always notified synchronously.
+                     * </p>
+                     */
+                    private boolean enabled = false;
+
+                    /**
+                     * Maximum number of pending notifications held in the (bounded) queue.
+                     */
+                    @Min(1)
+                    private int capacity = 1024;
+
+                    /**
+                     * Maximum number of pending notifications taken from the queue and delivered in one go.
+                     */
+                    @Min(1)
+                    private int batchSize = 64;
+
+                    /**
+                     * What to do with a notification, if the queue is full.
+                     */
+                    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+                    /**
+                     * How long to wait on shutdown for the queue to be drained by the delivery thread,
+                     * before discarding any remaining notifications.
+                     */
+                    private Duration drainTimeout = Duration.ofSeconds(10);
+                }
+            }
+
+            private final WrapperFactory wrapperFactory = new WrapperFactory();
+            @Data
+            public static class WrapperFactory {
+
+                private final Async async = new Async();
+                @Data
+                public static class Async {
+
+                    public enum ExecutorMode {
+                        /**
+                         * A small, fixed-size pool of platform threads (sized by the number of available processors).
+                         */
+                        PLATFORM_THREAD_POOL,
+                        /**
+                         * One virtual thread per task, suitable for fanning out many blocking actions
+                         * (eg. remote calls or file I/O).
+                         * <p>
+                         * Requires a Java runtime that supports virtual threads (Java 21+),
+                         * otherwise falls back to {@link #PLATFORM_THREAD_POOL}.
+                         */
+                        VIRTUAL_THREADS
+                    }
+
+                    /**
+                     * Which kind of threads execute tasks submitted via
+                     * {@link org.apache.causeway.applib.services.wrapper.WrapperFactory#asyncWrap(Object, org.apache.causeway.applib.services.wrapper.control.AsyncControl)}
+                     * or {@link org.apache.causeway.applib.services.wrapper.WrapperFactory#asyncWrapMixin(Class, Object, org.apache.causeway.applib.services.wrapper.control.AsyncControl)},
+                     * unless a custom {@link java.util.concurrent.ExecutorService} is specified by the
+                     * {@link org.apache.causeway.applib.services.wrapper.control.AsyncControl}.
+                     */
+                    private ExecutorMode executorMode = ExecutorMode.PLATFORM_THREAD_POOL;
+                }
+            }
         }
     }
 
@@ -2133,6 +2264,37 @@ public static class Persistence {
         @Data
         public static class Commons {
 
+            private final DtoStorage dtoStorage = new DtoStorage();
+            @Data
+            public static class DtoStorage {
+
+                /**
+                 * How <code>CommandDto</code>s are written to the database (eg by the <i>commandlog</i> extension).
+                 *
+                 * <p>
+                 *     Stored values are self-describing, so rows written using either format can always be read back.
+                 *     Use {@link DtoStorageFormat#COMPRESSED_XML} to substantially reduce column sizes, but only once all
+                 *     readers of the table are running a version of the framework that understands it.
+                 * </p>
+                 */
+                private DtoStorageFormat commandDtoFormat = DtoStorageFormat.XML;
+
+                /**
+                 * How <code>InteractionDto</code>s are written to the database (eg by the <i>executionlog</i> and
+                 * <i>executionoutbox</i> extensions).
+                 *
+                 * @see #getCommandDtoFormat()
+                 */
+                private DtoStorageFormat interactionDtoFormat = DtoStorageFormat.XML;
+
+                /**
+                 * How <code>ChangesDto</code>s are written to the database.
+                 *
+                 * @see #getCommandDtoFormat()
+                 */
+                private DtoStorageFormat changesDtoFormat = DtoStorageFormat.XML;
+            }
+
             private final RepositoryService repositoryService = new RepositoryService();
             @Data
             public static class RepositoryService {
@@ -2654,6 +2816,36 @@ public enum ApiScope {
              */
             private ApiScope apiScope = ApiScope.ALL;
 
+            /**
+             * How the execution of a GraphQL operation maps onto interactions (and hence transactions).
+             *
+             * @since 2.x {@index}
+             */
+            public enum InteractionMode {
+
+                /**
+                 * Each field is resolved within its own interaction.
+                 */
+                PER_FIELD,
+                /**
+                 * A single interaction is opened for the entire operation, and is shared by all fields that are
+                 * resolved on the request's thread.
+                 *
+                 * <p>
+                 *     Any fields resolved asynchronously (on another thread) fall back to using their own
+                 *     interaction, still on behalf of the same user.
+                 * </p>
+                 */
+                PER_OPERATION,
+                ;
+            }
+
+            /**
+             * Whether to open an interaction per resolved field (the default), or a single one for the entire
+             * GraphQL operation.
+             */
+            private InteractionMode interactionMode = InteractionMode.PER_FIELD;
+
             private final MetaData metaData = new MetaData();
             @Data
             public static class MetaData {
@@ -2800,6 +2992,26 @@ public static class Authentication {
                 private String strategyClassName = "org.apache.causeway.viewer.restfulobjects.viewer.webmodule.auth.AuthenticationStrategyBasicAuth";
             }
 
+            /**
+             * Whether GET requests for domain objects (and for their properties) emit a strong
+             * <code>ETag</code> header, and respond with <code>304 Not Modified</code> if the request's
+             * <code>If-None-Match</code> header matches it.
+             *
+             * <p>
+             *     Only objects (and properties of objects) that are entities with a version are tagged.  The tag is
+             *     derived from that version along with the request's variant (the requested resource and its query
+             *     parameters, such as <code>x-ro-follow-links</code>, the current user, their locale and time zone,
+             *     and the <code>Accept</code> and <code>Accept-Language</code> headers), so that a <code>304</code>
+             *     can be returned without rendering the representation at all.
+             * </p>
+             *
+             * <p>
+             *     Note that the tag does not change if only the titles of referenced objects change, which is why
+             *     this is disabled by default.
+             * </p>
+             */
+            private boolean emitEntityTags = false;
+
             /**
              * Whether to enable the <code>x-ro-follow-links</code> support, to minimize round trips.
              *
@@ -2829,6 +3041,24 @@ public static class Authentication {
              */
             private boolean objectPropertyValuesOnly = false;
 
+            /**
+             * If set, then lists returned by actions and the elements of standalone collections are rendered
+             * lazily, element by element, and written straight to the response (rather than first building up the
+             * entire representation in memory).
+             *
+             * <p>
+             *     This keeps memory usage per request roughly constant for large results, and lets the first bytes
+             *     of the response go out early.  Note however that any failure while rendering an element can then
+             *     no longer be reported with an error status code, because the response will already have been
+             *     committed.
+             * </p>
+             *
+             * <p>
+             *     This is disabled by default.  The representations returned are the same either way.
+             * </p>
+             */
+            private boolean streamCollections = false;
+
             /**
              * If set, then any unrecognised <code>Accept</code> headers will result in an HTTP <i>Not Acceptable</i>
              * response code (406).
@@ -3984,6 +4214,41 @@ public enum OnFailurePolicy {
                  * If there is an exception executing one of the commands, what should be done?
                  */
                 private OnFailurePolicy onFailurePolicy = OnFailurePolicy.STOP_THE_LINE;
+
+                /**
+                 * The number of worker threads that the <code>RunBackgroundCommandsJob</code> uses to execute
+                 * the commands of a batch concurrently.
+                 *
+                 * <p>
+                 *     Commands with the same target are always executed in the order submitted; only commands
+                 *     with different targets run concurrently.  The default of 1 executes all commands serially
+                 *     on the job's own thread.
+                 * </p>
+                 */
+                @Min(1)
+                private int parallelism = 1;
+
+                /**
+                 * The maximum number of per-target groups of commands waiting for a free worker thread (if
+                 * {@link #getParallelism() parallelism} is greater than 1); once full, the job's own thread
+                 * executes the next group itself, so throttling the submission of further work.
+                 */
+                @Min(1)
+                private int queueCapacity = 100;
+
+                /**
+                 * How long a background command claimed by the <code>RunBackgroundCommandsJob</code> (of any node)
+                 * may remain not completed, before it is considered abandoned (for example, because the node
+                 * crashed) and can be claimed again.
+                 *
+                 * <p>
+                 *     A claim is not extended while its command executes, so this must comfortably exceed the longest
+                 *     time any background command takes to execute (including the time it waits for its turn within
+                 *     its batch), as otherwise a command still executing is claimed and executed a second time.
+                 * </p>
+                 */
+                @Min(1)
+                private int claimTimeoutInMinutes = 60;
             }
         }
 
@@ -4215,6 +4480,15 @@ public static class RestApi {
                 @Min(value = 1)
                 @Max(value = 1000)
                 private int maxPending = 100;
+
+                /**
+                 * The maximum number of interactions that will be returned when the REST API is polled using a
+                 * cursor (that is, by the <code>pendingAfter</code> action), intended for consumers that drain
+                 * the outbox in bulk.
+                 */
+                @Min(value = 1)
+                @Max(value = 10000)
+                private int maxBatch = 1000;
             }
 
             /**
@@ -4233,10 +4507,22 @@ public enum PersistPolicy {
                 /**
                  * Do <i>NOT</i> persist to the outbox.
                  */
-                DISABLED;
+                DISABLED,
+                /**
+                 * Persist to the outbox, but buffer the entries of each transaction and only insert them
+                 * (all at once, followed by a single flush) just before that transaction commits.
+                 *
+                 * <p>
+                 *     Combine with the ORM's JDBC batching (<code>eclipselink.jdbc.batch-writing</code> for JPA,
+                 *     <code>datanucleus.rdbms.statementBatchLimit</code> for JDO) so that these are sent as
+                 *     batched inserts.
+                 * </p>
+                 */
+                BATCHED;
 
-                public boolean isEnabled() { return this == ENABLED; }
+                public boolean isEnabled() { return this != DISABLED; }
                 public boolean isDisabled() { return this == DISABLED; }
+                public boolean isBatched() { return this == BATCHED; }
             }
 
             /**
@@ -4514,6 +4800,24 @@ public enum PermissionsEvaluationPolicy {
              */
             private PermissionsEvaluationPolicy permissionsEvaluationPolicy = PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
 
+            private final PermissionSetCache permissionSetCache = new PermissionSetCache();
+            @Data
+            public static class PermissionSetCache {
+
+                /**
+                 * How long (in minutes) a user's permission set, once loaded, is shared across interactions.
+                 *
+                 * <p>
+                 *     Entries are invalidated early whenever secman changes a user's roles, or a role's permissions
+                 *     (on this node).  Defaults to <code>0</code>, caching only for the duration of a single
+                 *     interaction; only enable if secman's tables are not also modified by other nodes or by other
+                 *     means.
+                 * </p>
+                 */
+                @Min(0)
+                private int expiryDurationInMinutes = 0;
+            }
+
             private final UserRegistration userRegistration = new UserRegistration();
             @Data
             public static class UserRegistration {
@@ -4549,6 +4853,104 @@ public enum UserMenuMeActionPolicy {
             private UserMenuMeActionPolicy userMenuMeActionPolicy = UserMenuMeActionPolicy.HIDE;
         }
 
+        private final QueryResultsCache queryResultsCache = new QueryResultsCache();
+        @Data
+        public static class QueryResultsCache {
+
+            private final Caffeine caffeine = new Caffeine();
+            @Data
+            public static class Caffeine {
+
+                /**
+                 * Default duration that entries remain in the shared (cross-interaction) tier of the
+                 * <code>QueryResultsCache</code> (for a given region), in minutes.
+                 *
+                 * <p>
+                 *     Default is 10 mins.
+                 * </p>
+                 */
+                private int expiryDurationInMinutes = 10;
+
+                /**
+                 * Default maximum number of entries in the shared (cross-interaction) tier of the
+                 * <code>QueryResultsCache</code> (for a given region).
+                 *
+                 * <p>
+                 *     Default is 1000
+                 * </p>
+                 */
+                private int maxSizeInEntries = 1000;
+
+                /**
+                 * The regions whose results are shared across interactions, keyed by the fully qualified
+                 * name of the calling class and the method name, separated by a '#'
+                 * (for example <code>regions[com.mycompany.CustomerRepository#findByName].max-size-in-entries=500</code>).
+                 *
+                 * <p>
+                 *     Only results of configured regions participate in the shared tier.
+                 * </p>
+                 *
+                 * <p>
+                 *     By default, a region's results are shared across <i>all</i> users: only configure regions
+                 *     whose results do not depend on who is asking, or else scope them using
+                 *     <code>shared-with</code>.
+                 * </p>
+                 */
+                private final Map<String, Region> regions = new LinkedHashMap<>();
+
+                @Data
+                public static class Region {
+
+                    /**
+                     * Overrides the default expiry duration for this region, in minutes.
+                     */
+                    private Integer expiryDurationInMinutes;
+
+                    /**
+                     * Overrides the default maximum number of entries for this region.
+                     */
+                    private Integer maxSizeInEntries;
+
+                    /**
+                     * Logical type names of entities whose committed changes invalidate this region,
+                     * in addition to the types of the entities held as results.
+                     *
+                     * <p>
+                     *     If empty and the region's results hold no entities (for example a count),
+                     *     then the region is invalidated by a committed change to any entity.
+                     * </p>
+                     */
+                    private List<String> invalidatedBy = new ArrayList<>();
+
+                    /**
+                     * With whom this region's results are shared.
+                     *
+                     * <p>
+                     *     The default is to share results across all users, which is only appropriate for
+                     *     queries whose results do not depend on the current user (nor on their roles).
+                     * </p>
+                     */
+                    private SharedWith sharedWith = SharedWith.ALL_USERS;
+
+                    public enum SharedWith {
+                        /**
+                         * Results are shared across all users.
+                         */
+                        ALL_USERS,
+                        /**
+                         * Results are shared only with interactions of the same user.
+                         */
+                        SAME_USER,
+                        /**
+                         * Results are shared only with interactions of the same user having the same roles.
+                         */
+                        SAME_USER_AND_ROLES,
+                        ;
+                    }
+                }
+            }
+        }
+
         private final SessionLog sessionLog = new SessionLog();
         @Data
         public static class SessionLog {
@@ -18,8 +18,10 @@
  */
 package org.apache.causeway.core.interaction.scope;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
@@ -29,9 +31,11 @@
 import org.springframework.beans.factory.config.Scope;
 
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.iactnlayer.ResettableInteractionScoped;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.debug._Probe;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration;
 
 import lombok.Data;
 import lombok.extern.log4j.Log4j2;
@@ -56,14 +60,44 @@ private static class ScopedObject {
         final String name;
         Object instance;
         Runnable destructionCallback;
+        /**
+         * Whether bound to the current top-level interaction;
+         * otherwise pooled for reuse by the next one (see {@link #tryRecycle()}).
+         */
+        boolean active;
         void preDestroy() {
             log.debug("destroy causeway-interaction scoped {}", name);
             if(destructionCallback!=null) {
                 destructionCallback.run();
             }
         }
+        /**
+         * @return whether the instance was reset and can be reused by the next interaction
+         */
+        boolean tryRecycle() {
+            if(!(instance instanceof ResettableInteractionScoped)) {
+                return false;
+            }
+            try {
+                ((ResettableInteractionScoped) instance).resetForNextInteraction();
+            } catch (Exception e) {
+                log.warn("failed to reset causeway-interaction scoped {}, destroying instead", name, e);
+                return false;
+            }
+            log.debug("recycle causeway-interaction scoped {}", name);
+            active = false;
+            return true;
+        }
     }
 
+    /**
+     * Bean name to slot index, shared by all threads,
+     * such that per thread lookups are plain array accesses.
+     * (The set of interaction scoped bean names is bounded by the application's bean definitions.)
+     */
+    private final Map<String, Integer> slotIndexByName = _Maps.newConcurrentHashMap();
+    private final AtomicInteger slotCount = new AtomicInteger();
+
     /**
      * An alternative design would be to store the ScopedObjects in the top-level
      * {@link org.apache.causeway.applib.services.iactn.Interaction}'s
@@ -74,7 +108,13 @@ void preDestroy() {
      * {@link InteractionScopeLifecycleHandler#onTopLevelInteractionPreDestroy()}), not any of the stacked.
      * </p>
      */
-    private ThreadLocal<Map<String, ScopedObject>> scopedObjects = ThreadLocal.withInitial(_Maps::newHashMap);
+    private final ThreadLocal<ScopedObject[]> scopedObjects = ThreadLocal.withInitial(()->new ScopedObject[8]);
+
+    /**
+     * Lazily resolved, as this scope is instantiated by a bean factory post processor,
+     * that is, before the configuration bean is available.
+     */
+    private Boolean recycleResettableBeans;
 
     /**
     * @return an instance of the single bean matching the required type (InteractionService)
@@ -86,6 +126,15 @@ private InteractionService interactionService() {
         return beanFactory.getBean(InteractionService.class);
     }
 
+    private boolean isRecycleResettableBeans() {
+        var recycle = recycleResettableBeans;
+        if(recycle==null) {
+            recycle = recycleResettableBeans = beanFactory.getBean(CausewayConfiguration.class)
+                    .getCore().getRuntime().getInteractionScope().isRecycleResettableBeans();
+        }
+        return recycle;
+    }
+
     @Override
     public Object get(final String name, final ObjectFactory<?> objectFactory) {
 
@@ -106,21 +155,27 @@ public Object get(final String name, final ObjectFactory<?> objectFactory) {
                     + "... @Inject Provider<MyScopedBean> provider ...", name, _Probe.currentThreadId());
         }
 
-        var existingScopedObject = scopedObjects.get().get(name);
+        final int slotIndex = slotIndexOf(name);
+        final ScopedObject[] slots = slotsFor(slotIndex);
+
+        var existingScopedObject = slots[slotIndex];
         if(existingScopedObject!=null) {
 
             if(log.isDebugEnabled()) {
-                log.debug("INTERACTION_SCOPE [{}:{}] reuse existing {}",
+                log.debug("INTERACTION_SCOPE [{}:{}] {} existing {}",
                         _Probe.currentThreadId(),
                         getConversationId(),
+                        existingScopedObject.isActive() ? "reuse" : "reactivate",
                         Integer.toHexString(existingScopedObject.hashCode()));
             }
 
+            existingScopedObject.setActive(true);
             return existingScopedObject.getInstance();
         }
 
         var newScopedObject = ScopedObject.of(name);
-        scopedObjects.get().put(name, newScopedObject); // just set a stub with a name only
+        newScopedObject.setActive(true);
+        slots[slotIndex] = newScopedObject; // just set a stub with a name only
 
         log.debug("create new causeway-interaction scoped {}", name);
         newScopedObject.setInstance(objectFactory.getObject()); // triggers call to registerDestructionCallback
@@ -142,7 +197,12 @@ public Object remove(final String name) {
 
     @Override
     public void registerDestructionCallback(final String name, final Runnable callback) {
-        var scopedObject = scopedObjects.get().get(name);
+        var slotIndex = slotIndexByName.get(name);
+        var slots = scopedObjects.get();
+        var scopedObject = slotIndex!=null
+                && slotIndex < slots.length
+                    ? slots[slotIndex]
+                    : null;
         if(scopedObject!=null) {
             scopedObject.setDestructionCallback(callback);
         }
@@ -172,20 +232,53 @@ public void onTopLevelInteractionOpened() {
     @Override
     public void onTopLevelInteractionPreDestroy() {
         log.debug("INTERACTION_SCOPE pre-destroy");
-        scopedObjects.get().values()
-        .forEach(scopedObject->{
+        final boolean recycle = isRecycleResettableBeans();
+        final ScopedObject[] slots = scopedObjects.get();
+        for (int i = 0; i < slots.length; i++) {
+            var scopedObject = slots[i];
+            if(scopedObject==null
+                    || !scopedObject.isActive()) {
+                continue;
+            }
+            if(recycle
+                    && scopedObject.tryRecycle()) {
+                continue;
+            }
+            slots[i] = null;
             try {
                 scopedObject.preDestroy();
             } catch (Exception e) {
                 log.error(e);
             }
-        });
+        }
     }
 
     @Override
     public void onTopLevelInteractionClosed() {
         log.debug("INTERACTION_SCOPE closed");
-        scopedObjects.remove();
+        if(!isRecycleResettableBeans()) {
+            scopedObjects.remove();
+        }
+        // otherwise keep the (reset) pooled instances for the next interaction on this thread
+    }
+
+    // -- HELPER
+
+    private int slotIndexOf(final String name) {
+        return slotIndexByName.computeIfAbsent(name, __->slotCount.getAndIncrement());
+    }
+
+    /**
+     * @return the current thread's slots, grown if required to hold given slot index
+     */
+    private ScopedObject[] slotsFor(final int slotIndex) {
+        var slots = scopedObjects.get();
+        if(slotIndex < slots.length) {
+            return slots;
+        }
+        var grown = Arrays.copyOf(slots, Math.max(slotIndex + 1, slots.length * 2));
+        scopedObjects.set(grown);
+        return grown;
     }
 
 }
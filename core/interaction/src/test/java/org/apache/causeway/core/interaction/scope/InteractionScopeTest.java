@@ -0,0 +1,194 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.interaction.scope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.iactnlayer.ResettableInteractionScoped;
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+class InteractionScopeTest {
+
+    private CausewayConfiguration configuration;
+    private InteractionScope scope;
+    private List<String> destroyed;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new CausewayConfiguration(null, Optional.empty());
+        configuration.getCore().getRuntime().getInteractionScope().setRecycleResettableBeans(true);
+
+        var interactionService = mock(InteractionService.class);
+        when(interactionService.isInInteraction()).thenReturn(true);
+        when(interactionService.getInteractionId()).thenReturn(Optional.empty());
+
+        var beanFactory = mock(BeanFactory.class);
+        when(beanFactory.getBean(InteractionService.class)).thenReturn(interactionService);
+        when(beanFactory.getBean(CausewayConfiguration.class)).thenReturn(configuration);
+
+        scope = new InteractionScope(beanFactory);
+        destroyed = new ArrayList<>();
+    }
+
+    @Test
+    void shouldGrowSlots_beyondInitialCapacity() {
+        scope.onTopLevelInteractionOpened();
+        var beans = new ArrayList<Object>();
+        for(int i=0; i<20; ++i) {
+            beans.add(scope.get("bean" + i, factoryOf("bean" + i, Object::new)));
+        }
+        for(int i=0; i<20; ++i) {
+            assertSame(beans.get(i), scope.get("bean" + i, factoryOf("bean" + i, Object::new)));
+        }
+        closeInteraction();
+
+        assertEquals(20, destroyed.size());
+    }
+
+    @Test
+    void shouldReuseWithinInteraction_andReactivateResettableInNext() {
+        scope.onTopLevelInteractionOpened();
+        var first = (ResettableBean) scope.get("resettable", factoryOf("resettable", ResettableBean::new));
+        assertSame(first, scope.get("resettable", factoryOf("resettable", ResettableBean::new)));
+        closeInteraction();
+
+        assertEquals(1, first.resetCount);
+        assertEquals(List.of(), destroyed);
+
+        scope.onTopLevelInteractionOpened();
+        assertSame(first, scope.get("resettable", factoryOf("resettable", ResettableBean::new)));
+        closeInteraction();
+
+        assertEquals(2, first.resetCount);
+        assertEquals(List.of(), destroyed);
+    }
+
+    @Test
+    void shouldDestroyNonResettable_andRecreateInNext() {
+        scope.onTopLevelInteractionOpened();
+        var first = scope.get("plain", factoryOf("plain", Object::new));
+        closeInteraction();
+
+        assertEquals(List.of("plain"), destroyed);
+
+        scope.onTopLevelInteractionOpened();
+        assertNotSame(first, scope.get("plain", factoryOf("plain", Object::new)));
+        closeInteraction();
+
+        assertEquals(List.of("plain", "plain"), destroyed);
+    }
+
+    @Test
+    void shouldDestroyResettable_whenRecyclingDisabled() {
+        configuration.getCore().getRuntime().getInteractionScope().setRecycleResettableBeans(false);
+
+        scope.onTopLevelInteractionOpened();
+        var first = (ResettableBean) scope.get("resettable", factoryOf("resettable", ResettableBean::new));
+        closeInteraction();
+
+        assertEquals(0, first.resetCount);
+        assertEquals(List.of("resettable"), destroyed);
+    }
+
+    @Test
+    void shouldFallbackToDestruction_whenResetFails() {
+        scope.onTopLevelInteractionOpened();
+        var first = scope.get("failing", factoryOf("failing", FailingResettableBean::new));
+        closeInteraction();
+
+        assertEquals(List.of("failing"), destroyed);
+
+        scope.onTopLevelInteractionOpened();
+        assertNotSame(first, scope.get("failing", factoryOf("failing", FailingResettableBean::new)));
+        closeInteraction();
+    }
+
+    @Test
+    void shouldIgnoreDestructionCallback_forNameWithoutSlot() throws Exception {
+        // never seen name
+        scope.registerDestructionCallback("unknown", ()->destroyed.add("unknown"));
+
+        // name known (by another thread), its slot index beyond this thread's slots
+        var other = Executors.newSingleThreadExecutor();
+        try {
+            other.submit(()->{
+                for(int i=0; i<20; ++i) {
+                    scope.get("bean" + i, factoryOf("bean" + i, Object::new));
+                }
+            }).get(10, TimeUnit.SECONDS);
+        } finally {
+            other.shutdownNow();
+        }
+        scope.registerDestructionCallback("bean19", ()->destroyed.add("bean19"));
+
+        scope.onTopLevelInteractionOpened();
+        closeInteraction();
+
+        assertEquals(List.of(), destroyed);
+    }
+
+    // -- HELPER
+
+    private void closeInteraction() {
+        scope.onTopLevelInteractionPreDestroy();
+        scope.onTopLevelInteractionClosed();
+    }
+
+    /**
+     * Mimics Spring, which registers the destruction callback while creating the bean.
+     */
+    private ObjectFactory<Object> factoryOf(final String name, final Supplier<Object> constructor) {
+        return ()->{
+            var bean = constructor.get();
+            scope.registerDestructionCallback(name, ()->destroyed.add(name));
+            return bean;
+        };
+    }
+
+    static class ResettableBean implements ResettableInteractionScoped {
+        int resetCount;
+        @Override public void resetForNextInteraction() {
+            ++resetCount;
+        }
+    }
+
+    static class FailingResettableBean implements ResettableInteractionScoped {
+        @Override public void resetForNextInteraction() {
+            throw new IllegalStateException("cannot reset");
+        }
+    }
+
+}
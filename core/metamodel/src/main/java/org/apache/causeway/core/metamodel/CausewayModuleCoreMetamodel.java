@@ -58,6 +58,7 @@
 import org.apache.causeway.core.metamodel.services.events.MetamodelEventService;
 import org.apache.causeway.core.metamodel.services.exceprecog.ExceptionRecognizerForRecoverableException;
 import org.apache.causeway.core.metamodel.services.grid.GridLoaderServiceDefault;
+import org.apache.causeway.core.metamodel.services.grid.GridPrewarmer;
 import org.apache.causeway.core.metamodel.services.grid.GridServiceDefault;
 import org.apache.causeway.core.metamodel.services.grid.bootstrap.GridMarshallerServiceBootstrap;
 import org.apache.causeway.core.metamodel.services.grid.bootstrap.GridSystemServiceBootstrap;
@@ -184,6 +185,7 @@
         ExceptionRecognizerForRecoverableException.class,
         GridLoaderServiceDefault.class,
         GridMarshallerServiceBootstrap.class,
+        GridPrewarmer.class,
         GridServiceDefault.class,
         GridSystemServiceBootstrap.class,
         IdStringifierLookupService.class,
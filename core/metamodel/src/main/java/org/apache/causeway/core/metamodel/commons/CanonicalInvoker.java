@@ -29,6 +29,7 @@
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Arrays;
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
+import org.apache.causeway.commons.internal.reflection._MethodHandles;
 import org.apache.causeway.commons.internal.reflection._Reflect;
 
 import lombok.NonNull;
@@ -42,6 +43,9 @@
  * <p>
  * We do this for collection parameter types List, Set, SortedSet, Collection, Can, Arrays
  * missing arguments and primitives that are not initialized.
+ * <p>
+ * Methods are invoked through memoized {@link java.lang.invoke.MethodHandle}s (see {@link _MethodHandles}),
+ * falling back to reflection where no handle is available or arguments are not strictly compatible.
  */
 @UtilityClass
 public class CanonicalInvoker {
@@ -78,7 +82,7 @@ public Object invoke(
             final Object targetPojo,
             final @Nullable Object ... executionParameters) {
         var convertedExecutionParameters = ParameterConverters.DEFAULT.convertAll(method, executionParameters);
-        return _Reflect.invokeMethodOn(method, targetPojo, convertedExecutionParameters)
+        return _MethodHandles.invokeMethodOn(method, targetPojo, convertedExecutionParameters)
             .mapFailure(ex->toVerboseException(ex,
                     method,
                     convertedExecutionParameters))
@@ -89,7 +93,7 @@ public Object invokeWithConvertedArgs(
             final Method method,
             final Object targetPojo,
             final @Nullable Object ... convertedExecutionParameters) {
-        return _Reflect.invokeMethodOn(method, targetPojo, convertedExecutionParameters)
+        return _MethodHandles.invokeMethodOn(method, targetPojo, convertedExecutionParameters)
             .mapFailure(ex->toVerboseException(ex,
                     method,
                     convertedExecutionParameters))
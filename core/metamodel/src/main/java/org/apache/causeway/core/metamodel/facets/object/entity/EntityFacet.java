@@ -19,6 +19,8 @@
 package org.apache.causeway.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -26,6 +28,7 @@
 import org.springframework.util.ClassUtils;
 
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.IdStringifier;
 import org.apache.causeway.applib.services.repository.EntityState;
@@ -141,8 +144,85 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * Batch variant of {@link #fetchByBookmark(Bookmark)}, that allows implementations
+     * to fetch multiple entities (of this facet's entity type) with a single round trip.
+     * <p>
+     * Bookmarks that cannot be resolved have no entry in the resulting map.
+     * The default implementation fetches one by one.
+     */
+    default Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        var pojoByBookmark = new LinkedHashMap<Bookmark, Object>(bookmarks.size());
+        bookmarks.forEach(bookmark->
+            fetchByBookmark(bookmark)
+                .ifPresent(pojo->pojoByBookmark.put(bookmark, pojo)));
+        return pojoByBookmark;
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
+    /**
+     * Variant of {@link #fetchByQuery(Query)}, that orders the result by given member
+     * on the database side, then by primary key (where supported), such that consecutive
+     * pages neither overlap nor miss any instances, even if the member's values are not unique.
+     * <p>
+     * If {@code orderByMemberId} is {@code null}, the query's natural order is
+     * complemented by the primary key order (where supported).
+     * <p>
+     * Ordering by a member is only supported if {@link #isOrderableBy(Query, String)}.
+     * The default implementation supports no ordering.
+     */
+    default Can<ManagedObject> fetchByQuery(
+            final Query<?> query,
+            final @Nullable String orderByMemberId,
+            final boolean ascending) {
+        if(orderByMemberId==null) {
+            return fetchByQuery(query);
+        }
+        throw _Exceptions.unsupportedOperation(
+                "ordering by member '%s' not supported for query %s",
+                orderByMemberId,
+                query.getDescription());
+    }
+
+    /**
+     * Whether {@link #fetchByQuery(Query, String, boolean)} can order
+     * given query by given (persistent) member.
+     * The default implementation supports no ordering.
+     */
+    default boolean isOrderableBy(final Query<?> query, final @Nullable String memberId) {
+        return false;
+    }
+
+    /**
+     * Whether {@link #countByQuery(Query)} is served by a count query on the database side,
+     * rather than by fetching all matching entities.
+     * The default implementation supports no count queries.
+     */
+    default boolean isCountable(final Query<?> query) {
+        return false;
+    }
+
+    /**
+     * Number of entities matching given query, ignoring the query's range.
+     * <p>
+     * The default implementation fetches all matching entities,
+     * implementations are encouraged to issue a count query instead
+     * (and to report so via {@link #isCountable(Query)}).
+     */
+    default long countByQuery(final Query<?> query) {
+        return fetchByQuery(query.withRange(QueryRange.unconstrained())).size();
+    }
+
+    /**
+     * Whether given member maps to a persistent column of this entity.
+     */
+    default boolean isPersistentMember(final @Nullable String memberId) {
+        return memberId!=null
+                && getOrmMetadata().columns().stream()
+                    .anyMatch(column->memberId.equals(column.memberId()));
+    }
+
     void persist(Object pojo);
 
     void refresh(Object pojo);
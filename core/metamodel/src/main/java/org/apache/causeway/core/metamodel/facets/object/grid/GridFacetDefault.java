@@ -20,6 +20,7 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.lang.Nullable;
@@ -38,6 +39,7 @@
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.NonNull;
+import lombok.Value;
 
 public class GridFacetDefault
 extends FacetAbstract
@@ -58,7 +60,14 @@ public static GridFacet create(
     private final _Lazy<LayoutFacet> layoutFacetLazy = _Lazy.threadSafe(()->
         getFacetHolder().getFacet(LayoutFacet.class));
 
-    private final Map<String, Grid> gridByLayoutName = new ConcurrentHashMap<>();
+    @Value
+    private static class CachedGrid {
+        private final @NonNull Grid grid;
+        /** last-modified time of the layout resource the grid was loaded from, as reported by the GridService */
+        private final @NonNull OptionalLong lastModified;
+    }
+
+    private final Map<String, CachedGrid> gridByLayoutName = new ConcurrentHashMap<>();
 
     private GridFacetDefault(
             final FacetHolder facetHolder,
@@ -72,14 +81,16 @@ public Grid getGrid(final @Nullable ManagedObject objectAdapter) {
 
         guardAgainstObjectOfDifferentType(objectAdapter);
 
-        // gridByLayoutName is used as cache, unless gridService.supportsReloading() returns true
+        // gridByLayoutName is used as cache; if gridService.supportsReloading() returns true,
+        // cached grids are reused only as long as their layout resource's last-modified time is unchanged
         return gridByLayoutName.compute(layoutNameFor(objectAdapter),
-                (layoutName, cachedLayout)->
-                    (cachedLayout==null
-                            || gridService.supportsReloading())
+                (layoutName, cachedGrid)->
+                    (cachedGrid==null
+                            || isStale(layoutName, cachedGrid))
                     ? this.load(layoutName)
-                    : cachedLayout
-        );
+                    : cachedGrid
+        )
+        .getGrid();
 
     }
 
@@ -114,16 +125,31 @@ private boolean hasLayoutFacet() {
         return layoutFacetLazy.get()!=null;
     }
 
-    private Grid load(final @NonNull String layoutName) {
+    private boolean isStale(final @NonNull String layoutName, final @NonNull CachedGrid cachedGrid) {
+        if(!gridService.supportsReloading()) {
+            return false;
+        }
+        var domainClass = getSpecification().getCorrespondingClass();
+        var lastModified = gridService.lastModified(domainClass, _Strings.emptyToNull(layoutName));
+        return lastModified.isEmpty()
+                || !lastModified.equals(cachedGrid.getLastModified());
+    }
+
+    private CachedGrid load(final @NonNull String layoutName) {
 
         var domainClass = getSpecification().getCorrespondingClass();
 
+        // query before loading, so any change in between is picked up by the next staleness check
+        var lastModified = gridService.supportsReloading()
+                ? gridService.lastModified(domainClass, _Strings.emptyToNull(layoutName))
+                : OptionalLong.empty();
+
         var grid = Optional.ofNullable(
                 // loads from object's XML if available
                 gridService.load(domainClass, _Strings.emptyToNull(layoutName)))
                 // loads from default-XML if available
                 .orElseGet(()->gridService.defaultGridFor(domainClass));
-        return gridService.normalize(grid);
+        return new CachedGrid(gridService.normalize(grid), lastModified);
     }
 
     private ObjectSpecification getSpecification() {
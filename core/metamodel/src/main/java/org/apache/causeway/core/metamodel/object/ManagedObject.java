@@ -20,11 +20,13 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.fa.FontAwesomeLayers;
+import org.apache.causeway.applib.query.QueryResultList;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.commons.collections.Can;
@@ -534,6 +536,19 @@ static PackedManagedObject packed(
             final @Nullable Can<ManagedObject> nonScalar) {
         return new _ManagedObjectPacked(elementSpec, nonScalar);
     }
+    /**
+     * PACKED, backed by a {@link QueryResultList}, that is only unpacked on demand
+     * @param elementSpec - required
+     * @param pageableSource - required
+     * @param elementAdapter - adapts each element, once unpacked
+     * @see #packed(ObjectSpecification, Can)
+     */
+    static PackedManagedObject packedPageable(
+            final @NonNull ObjectSpecification elementSpec,
+            final @NonNull QueryResultList<?> pageableSource,
+            final @NonNull Function<Object, ManagedObject> elementAdapter) {
+        return new _ManagedObjectPacked(elementSpec, pageableSource, elementAdapter);
+    }
 
     /**
      * For cases, when the pojo's specification is not available and needs to be looked up.
@@ -63,7 +63,10 @@ public boolean isNullOrUnspecifiedOrEmpty(final @Nullable ManagedObject adapter)
             return true;
         }
         if(adapter instanceof PackedManagedObject) {
-            return ((PackedManagedObject)adapter).unpack().isEmpty();
+            var packed = (PackedManagedObject)adapter;
+            return packed.getPageableSource()
+                    .map(pageableSource->pageableSource.count()==0L)
+                    .orElseGet(()->packed.unpack().isEmpty());
         }
         return adapter.getPojo()==null;
     }
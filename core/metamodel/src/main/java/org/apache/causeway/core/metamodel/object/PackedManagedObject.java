@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.core.metamodel.object;
 
+import java.util.Optional;
+
+import org.apache.causeway.applib.query.QueryResultList;
 import org.apache.causeway.commons.collections.Can;
 
 /**
@@ -29,4 +32,13 @@
 
     Can<ManagedObject> unpack();
 
+    /**
+     * Optionally the {@link QueryResultList} this packed object was adapted from,
+     * allowing consumers to count and fetch pages without
+     * {@link #unpack() unpacking} all elements.
+     */
+    default Optional<QueryResultList<?>> getPageableSource() {
+        return Optional.empty();
+    }
+
 }
@@ -19,11 +19,16 @@
 package org.apache.causeway.core.metamodel.object;
 
 import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
 
+import org.apache.causeway.applib.query.QueryResultList;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.NonNull;
@@ -38,20 +43,37 @@
     Bookmarkable.NoBookmark,
     PackedManagedObject {
 
-    private final @NonNull Can<ManagedObject> nonScalar;
+    private final @NonNull Supplier<Can<ManagedObject>> nonScalar;
+    private final @Nullable QueryResultList<?> pageableSource;
 
     _ManagedObjectPacked(
             final ObjectSpecification elementSpec,
             final @Nullable Can<ManagedObject> nonScalar) {
         super(Specialization.PACKED, elementSpec);
-        this.nonScalar = nonScalar!=null
+        var elements = nonScalar!=null
                 ? nonScalar
-                : Can.empty();
+                : Can.<ManagedObject>empty();
+        this.nonScalar = ()->elements;
+        this.pageableSource = null;
+    }
+
+    /**
+     * Defers unpacking (that is, fetching all elements) until actually required.
+     */
+    _ManagedObjectPacked(
+            final ObjectSpecification elementSpec,
+            final @NonNull QueryResultList<?> pageableSource,
+            final @NonNull Function<Object, ManagedObject> elementAdapter) {
+        super(Specialization.PACKED, elementSpec);
+        this.nonScalar = _Lazy.threadSafe(()->pageableSource.stream()
+                .map(elementAdapter)
+                .collect(Can.toCan()));
+        this.pageableSource = pageableSource;
     }
 
     @Override
     public String getTitle() {
-        return nonScalar.stream()
+        return unpack().stream()
                     .map(ManagedObject::getTitle)
                     .collect(Collectors.joining(","));
     }
@@ -60,14 +82,19 @@ public String getTitle() {
     public Object getPojo() {
         // this algorithm preserves null pojos ...
         return Collections.unmodifiableList(
-                nonScalar.stream()
+                unpack().stream()
                 .map(ManagedObject::getPojo)
                 .collect(Collectors.toList()));
     }
 
     @Override
     public Can<ManagedObject> unpack(){
-        return nonScalar;
+        return nonScalar.get();
+    }
+
+    @Override
+    public Optional<QueryResultList<?>> getPageableSource() {
+        return Optional.ofNullable(pageableSource);
     }
 
 }
@@ -24,6 +24,7 @@
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.exceptions.unrecoverable.BookmarkNotFoundException;
+import org.apache.causeway.applib.query.QueryResultList;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
@@ -206,6 +207,15 @@ public default ManagedObject adapt(
             // yet ignoring any bookmarking policy, assuming this is not required here
             return (ManagedObject) pojo;
         }
+        if(pojo instanceof QueryResultList) {
+            // don't fetch all elements yet, consumers might only need a count or a page
+            var queryResultList = (QueryResultList<?>) pojo;
+            return ManagedObject.packedPageable(
+                    specForType(queryResultList.getQuery().getResultType())
+                        .orElseGet(fallbackElementType),
+                    queryResultList,
+                    element->adapt(element));
+        }
         // could be any pojo, even of a type, that is vetoed for introspection (spec==null)
         var spec = specForType(pojo.getClass()).orElse(null);
         if(spec==null) {
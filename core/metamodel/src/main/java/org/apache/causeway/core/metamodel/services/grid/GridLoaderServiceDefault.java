@@ -23,6 +23,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -92,25 +93,60 @@ static class LayoutKey {
         private final @Nullable String layoutIfAny; // layout suffix
     }
 
+    @Value
+    static class ResourceKey {
+        private final @NonNull LayoutKey layoutKey;
+        private final @NonNull EnumSet<CommonMimeType> supportedFormats;
+    }
+
+    /**
+     * Outcome of locating the layout resource for a {@link ResourceKey}.
+     */
+    @Value
+    static class LocatedResource {
+        /** the type (from the domain class' hierarchy) the resource was found for, or null if none was found */
+        private final @Nullable Class<?> type;
+        private final @Nullable LayoutResourceLoader loader;
+        private final @Nullable LayoutResource layoutResource;
+        /** zero if none was found, empty if unknown */
+        private final @NonNull OptionalLong lastModified;
+        static LocatedResource none() {
+            return new LocatedResource(null, null, null, OptionalLong.of(0L));
+        }
+        OptionalLong lookupLastModified() {
+            return layoutResource != null
+                    ? loader.lookupLastModified(type, layoutResource.getResourceName())
+                    : OptionalLong.empty();
+        }
+    }
+
     // for better logging messages (used only in prototyping mode)
-    private final Map<LayoutKey, String> badContentByKey = _Maps.newHashMap();
-    // cache (used only in prototyping mode)
-    private final Map<LayoutKey, Grid> gridCache = _Maps.newHashMap();
+    private final Map<LayoutKey, String> badContentByKey = _Maps.newConcurrentHashMap();
+    // caches the outcome of locating layout resources, including misses;
+    // in production these are never invalidated, while prototyping these are validated against last-modified times
+    private final Map<ResourceKey, LocatedResource> resourceCache = _Maps.newConcurrentHashMap();
 
     @Override
     public void remove(final Class<?> domainClass) {
-        if(!supportsReloading()) {
-            return;
-        }
-        final String layoutIfAny = null;
-        var layoutKey = new LayoutKey(domainClass, layoutIfAny);
-        badContentByKey.remove(layoutKey);
-        gridCache.remove(layoutKey);
+        badContentByKey.keySet()
+            .removeIf(layoutKey->layoutKey.getDomainClass().equals(domainClass));
+        resourceCache.keySet()
+            .removeIf(resourceKey->resourceKey.getLayoutKey().getDomainClass().equals(domainClass));
     }
 
     @Override
     public boolean existsFor(final Class<?> domainClass, final EnumSet<CommonMimeType> supportedFormats) {
-        return loadLayoutResource(new LayoutKey(domainClass, null), supportedFormats).isPresent();
+        return locateLayoutResource(new LayoutKey(domainClass, null), supportedFormats)
+                .getLayoutResource() != null;
+    }
+
+    @Override
+    public OptionalLong lastModified(
+            final Class<?> domainClass,
+            final @Nullable String layoutIfAny,
+            final EnumSet<CommonMimeType> supportedFormats) {
+        return locateLayoutResource(new LayoutKey(domainClass, layoutIfAny), supportedFormats)
+                .getLastModified();
     }
 
     @Override
@@ -122,7 +158,7 @@ public <T extends Grid> Optional<T> load(
         var supportedFormats = marshaller.supportedFormats();
 
         var layoutKey = new LayoutKey(domainClass, layoutIfAny);
-        var layoutResource = loadLayoutResource(layoutKey, supportedFormats).orElse(null);
+        var layoutResource = locateLayoutResource(layoutKey, supportedFormats).getLayoutResource();
         if(layoutResource == null) {
             log.debug(
                     "Failed to locate or load layout resource for class {}, "
@@ -144,13 +180,6 @@ public <T extends Grid> Optional<T> load(
                     badContentByKey.remove(layoutKey);
                 }
             }
-        } else {
-            // if cached, serve from cache - otherwise fall through
-            @SuppressWarnings("unchecked")
-            final T grid = (T)gridCache.get(layoutKey);
-            if(grid != null) {
-                return Optional.of(grid);
-            }
         }
 
         try {
@@ -158,9 +187,6 @@ public <T extends Grid> Optional<T> load(
                     .unmarshal(layoutResource.getContent(), layoutResource.getFormat())
                     .getValue().orElseThrow();
             grid.setDomainClass(domainClass);
-            if(supportsReloading()) {
-                gridCache.put(layoutKey, grid);
-            }
             return Optional.of(grid);
         } catch(Exception ex) {
 
@@ -184,21 +210,39 @@ public <T extends Grid> Optional<T> load(
 
     // -- HELPER
 
-    Optional<LayoutResource> loadLayoutResource(
+    /**
+     * Serves from {@link #resourceCache}, unless while prototyping the resource's last-modified time
+     * changed or cannot be determined, in which case the resource is located (and read) afresh.
+     */
+    LocatedResource locateLayoutResource(
             final LayoutKey layoutKey,
             final EnumSet<CommonMimeType> supportedFormats) {
-        return _Reflect.streamTypeHierarchy(layoutKey.getDomainClass(), InterfacePolicy.EXCLUDE)
-            .flatMap(type->loadContent(type, layoutKey.getLayoutIfAny(), supportedFormats).stream())
-            .findFirst();
+
+        var resourceKey = new ResourceKey(layoutKey, supportedFormats);
+        var cached = resourceCache.get(resourceKey);
+        if(cached != null) {
+            if(!supportsReloading()) {
+                return cached;
+            }
+            if(cached.getLayoutResource() != null
+                    && cached.getLastModified().isPresent()
+                    && cached.getLastModified().equals(cached.lookupLastModified())) {
+                return cached;
+            }
+        }
+        var located = _Reflect.streamTypeHierarchy(layoutKey.getDomainClass(), InterfacePolicy.EXCLUDE)
+            .flatMap(type->locateContent(type, layoutKey.getLayoutIfAny(), supportedFormats).stream())
+            .findFirst()
+            .orElseGet(LocatedResource::none);
+        resourceCache.put(resourceKey, located);
+        return located;
     }
 
-    private Optional<LayoutResource> loadContent(
-            final @NonNull Class<?> domainClass,
-            final @Nullable String layoutIfAny,
+    Optional<LayoutResource> loadLayoutResource(
+            final LayoutKey layoutKey,
             final EnumSet<CommonMimeType> supportedFormats) {
-        return streamResourceNameCandidatesFor(domainClass, layoutIfAny, supportedFormats)
-            .flatMap(candidateResourceName->lookupLayoutResourceUsingLoaders(domainClass, candidateResourceName).stream())
-            .findFirst();
+        return Optional.ofNullable(
+                locateLayoutResource(layoutKey, supportedFormats).getLayoutResource());
     }
 
     private Stream<String> streamResourceNameCandidatesFor(
@@ -234,12 +278,21 @@ private Stream<String> streamResourceNameCandidatesFor(
                         String.format("%s.layout.fallback.%s", typeSimpleName,fileExtension));
     }
 
-    private Optional<LayoutResource> lookupLayoutResourceUsingLoaders(
+    private Optional<LocatedResource> locateContent(
             final @NonNull Class<?> type,
-            final @NonNull String candidateResourceName) {
-
-        return layoutResourceLoaders.stream()
-            .flatMap(loader->loader.lookupLayoutResource(type, candidateResourceName).stream())
+            final @Nullable String layoutIfAny,
+            final EnumSet<CommonMimeType> supportedFormats) {
+        return streamResourceNameCandidatesFor(type, layoutIfAny, supportedFormats)
+            .flatMap(candidateResourceName->layoutResourceLoaders.stream()
+                    .flatMap(loader->loader.lookupLayoutResource(type, candidateResourceName).stream()
+                            .map(layoutResource->new LocatedResource(
+                                    type,
+                                    loader,
+                                    layoutResource,
+                                    // query the last-modified time only while prototyping
+                                    supportsReloading()
+                                        ? loader.lookupLastModified(type, candidateResourceName)
+                                        : OptionalLong.empty()))))
             .findFirst();
     }
 
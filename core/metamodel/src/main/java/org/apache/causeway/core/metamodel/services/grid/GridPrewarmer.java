@@ -0,0 +1,82 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.grid;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.metamodel.MetamodelListener;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
+import org.apache.causeway.core.metamodel.facets.object.grid.GridFacet;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Loads and normalizes the layouts (grids) of all domain object types, once the metamodel was loaded,
+ * if {@link CausewayConfiguration.Core.MetaModel.Layout#isPrewarm() enabled}.
+ * <p>
+ * Grids are held by each type's {@link GridFacet}, so subsequent page renderings are served from there.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreMetamodel.NAMESPACE + ".GridPrewarmer")
+@Priority(PriorityPrecedence.LATE)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class GridPrewarmer implements MetamodelListener {
+
+    private final CausewayConfiguration configuration;
+    private final SpecificationLoader specificationLoader;
+    private final InteractionService interactionService;
+
+    @Override
+    public void onMetamodelLoaded() {
+        if(!configuration.getCore().getMetaModel().getLayout().isPrewarm()) {
+            return;
+        }
+        interactionService.runAnonymous(()->{
+            var count = specificationLoader.snapshotSpecifications().stream()
+                .filter(spec->spec.isEntityOrViewModel())
+                .filter(spec->spec.lookupFacet(GridFacet.class)
+                        .map(gridFacet->{
+                            try {
+                                return gridFacet.getGrid(null) != null;
+                            } catch (Exception e) {
+                                log.warn("failed to prewarm layout for {}", spec.getLogicalTypeName(), e);
+                                return false;
+                            }
+                        })
+                        .orElse(false))
+                .count();
+            log.info("prewarmed {} layouts", count);
+        });
+    }
+
+}
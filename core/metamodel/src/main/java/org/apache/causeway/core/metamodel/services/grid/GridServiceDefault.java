@@ -20,6 +20,7 @@
 
 import java.util.Collection;
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.stream.Collectors;
 
 import javax.annotation.Priority;
@@ -84,6 +85,11 @@ public boolean existsFor(final Class<?> domainClass) {
         return gridLoaderService.existsFor(domainClass, marshaller.supportedFormats());
     }
 
+    @Override
+    public OptionalLong lastModified(final Class<?> domainClass, final String layout) {
+        return gridLoaderService.lastModified(domainClass, layout, marshaller.supportedFormats());
+    }
+
     @Override
     public Grid load(final Class<?> domainClass) {
         return gridLoaderService.load(domainClass, marshaller).orElse(null);
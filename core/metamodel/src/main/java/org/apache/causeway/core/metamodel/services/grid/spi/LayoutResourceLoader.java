@@ -19,6 +19,7 @@
 package org.apache.causeway.core.metamodel.services.grid.spi;
 
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.commons.functional.Try;
@@ -56,4 +57,18 @@ default Optional<LayoutResource> lookupLayoutResource(
                 .getValue();
     }
 
+    /**
+     * Optionally returns the last-modified time (epoch millis) of the resource identified by type and name,
+     * based on whether it can be determined without reading the resource (eg. for files in the file system).
+     * <p>
+     * Used while prototyping, to detect layout changes without re-reading resources on every request.
+     * The default implementation returns empty, meaning unknown.
+     */
+    @Programmatic
+    default OptionalLong lookupLastModified(
+            final @NonNull Class<?> type,
+            final @NonNull String candidateResourceName) {
+        return OptionalLong.empty();
+    }
+
 }
@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.core.metamodel.services.grid.spi;
 
+import java.io.File;
+import java.util.OptionalLong;
+
 import javax.annotation.Priority;
 import javax.inject.Named;
 
@@ -59,4 +62,24 @@ public Try<LayoutResource> tryLoadLayoutResource(
                         fileContent));
     }
 
+    /**
+     * Supported only for resources, that reside in the file system (as is typically the case while prototyping),
+     * but not for those packaged within archives.
+     */
+    @Override
+    public OptionalLong lookupLastModified(
+            final @NonNull Class<?> type,
+            final @NonNull String candidateResourceName) {
+
+        var url = type.getResource(candidateResourceName);
+        if(url == null
+                || !"file".equals(url.getProtocol())) {
+            return OptionalLong.empty();
+        }
+        return Try.call(()->new File(url.toURI()).lastModified())
+                .getValue()
+                .map(OptionalLong::of)
+                .orElseGet(OptionalLong::empty);
+    }
+
 }
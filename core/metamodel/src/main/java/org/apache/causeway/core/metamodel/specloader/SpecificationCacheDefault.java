@@ -20,36 +20,45 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.commons.collections.Can;
-import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.collections.snapshot._VersionedList;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.NonNull;
 
+/**
+ * Reads are lock-free, while modifications are serialized.
+ * (Allows for concurrent introspection, where specifications are looked up way more often
+ * than they are added.)
+ */
 class SpecificationCacheDefault<T extends ObjectSpecification> implements SpecificationCache<T> {
 
-    private final Map<Class<?>, T> specByClass = _Maps.newHashMap();
+    private final Map<Class<?>, T> specByClass = new ConcurrentHashMap<>();
 
     // optimization: specialized list to keep track of any additions to the cache fast
     private final _VersionedList<T> vList = new _VersionedList<>();
 
     @Override
     public Optional<T> lookup(final Class<?> cls) {
-        synchronized(this) {
-            return Optional.ofNullable(specByClass.get(cls));
-        }
+        return Optional.ofNullable(specByClass.get(cls));
     }
 
     @Override
     public T computeIfAbsent(
             final Class<?> cls,
             final Function<Class<?>, T> mappingFunction) {
+        // fast path, not requiring the lock
+        final T existing = specByClass.get(cls);
+        if(existing!=null) {
+            return existing;
+        }
+        // not using ConcurrentHashMap.computeIfAbsent, as the mappingFunction might recursively update this cache
         synchronized(this) {
             T spec = specByClass.get(cls);
             if(spec==null) {
@@ -76,9 +85,7 @@ public void clear() {
 
     @Override
     public Can<T> snapshotSpecs() {
-        synchronized(this) {
-            return Can.ofCollection(specByClass.values());
-        }
+        return Can.ofCollection(specByClass.values());
     }
 
     @Override
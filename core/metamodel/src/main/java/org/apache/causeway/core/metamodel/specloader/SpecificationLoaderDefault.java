@@ -131,6 +131,12 @@
 
     private FacetProcessor facetProcessor;
 
+    /**
+     * Only available while {@link #createMetaModel()} is in progress and
+     * introspection is configured to run in parallel.
+     */
+    private _ParallelIntrospector parallelIntrospector;
+
     private final SpecificationCache<ObjectSpecification> cache = new SpecificationCacheDefault<>();
     private final LogicalTypeResolver logicalTypeResolver = new LogicalTypeResolverDefault();
 
@@ -284,39 +290,55 @@ public void createMetaModel() {
         });
 
         //XXX[CAUSEWAY-2382] when parallel introspecting, make sure we have the mixins before their holders
-        // (observation by experiment, no real understanding as to why)
+        // (observation by experiment, no real understanding as to why);
+        // within each phase, types are further ordered by their type hierarchy (super-types first)
 
         _LogUtil.logBefore(log, cache, knownSpecs);
 
-        log.info(" - introspecting {} type hierarchies", knownSpecs.size());
-        introspect(Can.ofCollection(knownSpecs), IntrospectionState.TYPE_INTROSPECTED);
+        var introspector = causewayConfiguration.getCore().getMetaModel().getIntrospector();
+        parallelIntrospector = introspector.isParallelize()
+                ? new _ParallelIntrospector(introspector.getParallelism())
+                : null;
+        if(parallelIntrospector!=null) {
+            log.info(" - introspecting in parallel (parallelism={})", parallelIntrospector.getParallelism());
+        }
 
-        log.info(" - introspecting {} value types", valueTypeSpecs.size());
-        introspect(Can.ofCollection(valueTypeSpecs.values()), IntrospectionState.FULLY_INTROSPECTED);
+        try {
+            log.info(" - introspecting {} type hierarchies", knownSpecs.size());
+            introspect("type hierarchies", Can.ofCollection(knownSpecs), IntrospectionState.TYPE_INTROSPECTED);
 
-        log.info(" - introspecting {} mixins", causewayBeanTypeRegistry.getMixinTypes().size());
-        introspect(Can.ofCollection(mixinSpecs), IntrospectionState.FULLY_INTROSPECTED);
+            log.info(" - introspecting {} value types", valueTypeSpecs.size());
+            introspect("value types", Can.ofCollection(valueTypeSpecs.values()), IntrospectionState.FULLY_INTROSPECTED);
 
-        log.info(" - introspecting {} managed beans contributing (domain services)",
-                causewayBeanTypeRegistry.getManagedBeansContributing().size());
+            log.info(" - introspecting {} mixins", causewayBeanTypeRegistry.getMixinTypes().size());
+            introspect("mixins", Can.ofCollection(mixinSpecs), IntrospectionState.FULLY_INTROSPECTED);
 
-        log.info(" - introspecting {} entities ({})",
-                causewayBeanTypeRegistry.getEntityTypes().size(),
-                causewayBeanTypeRegistry.determineCurrentPersistenceStack().name());
+            log.info(" - introspecting {} managed beans contributing (domain services)",
+                    causewayBeanTypeRegistry.getManagedBeansContributing().size());
 
-        log.info(" - introspecting {} view models", causewayBeanTypeRegistry.getViewModelTypes().size());
+            log.info(" - introspecting {} entities ({})",
+                    causewayBeanTypeRegistry.getEntityTypes().size(),
+                    causewayBeanTypeRegistry.determineCurrentPersistenceStack().name());
 
-        serviceRegistry.lookupServiceElseFail(MenuBarsService.class).menuBars();
+            log.info(" - introspecting {} view models", causewayBeanTypeRegistry.getViewModelTypes().size());
 
-        introspect(Can.ofCollection(domainObjectSpecs), IntrospectionState.FULLY_INTROSPECTED);
+            serviceRegistry.lookupServiceElseFail(MenuBarsService.class).menuBars();
 
-        _LogUtil.logAfter(log, cache, knownSpecs);
+            introspect("domain objects", Can.ofCollection(domainObjectSpecs), IntrospectionState.FULLY_INTROSPECTED);
 
-        if(isFullIntrospect()) {
-            var snapshot = cache.snapshotSpecs();
-            log.info(" - introspecting all {} types eagerly (FullIntrospect=true)", snapshot.size());
-            introspect(snapshot.filter(x->x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
-            introspect(snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
+            _LogUtil.logAfter(log, cache, knownSpecs);
+
+            if(isFullIntrospect()) {
+                var snapshot = cache.snapshotSpecs();
+                log.info(" - introspecting all {} types eagerly (FullIntrospect=true)", snapshot.size());
+                introspect("remaining mixins", snapshot.filter(x->x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
+                introspect("remaining types", snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
+            }
+        } finally {
+            if(parallelIntrospector!=null) {
+                parallelIntrospector.close();
+                parallelIntrospector = null;
+            }
         }
 
         log.info(" - running remaining validators");
@@ -646,28 +668,28 @@ private void introspectSequential(
         }
     }
 
-    private void introspectParallel(
-            final Can<ObjectSpecification> specs,
-            final IntrospectionState upTo) {
-        specs.parallelStream()
-        .forEach(spec -> {
-            try {
-                spec.introspectUpTo(upTo);
-            } catch (Throwable ex) {
-                log.error(ex);
-                throw ex;
-            }
-        });
-    }
-
+    /**
+     * Introspects given {@code specs}, reporting the time taken for the named phase.
+     * <p>
+     * Runs on the {@link _ParallelIntrospector} if one is active (only while {@link #createMetaModel()}),
+     * otherwise sequentially.
+     */
     private void introspect(
+            final String phase,
             final Can<ObjectSpecification> specs,
             final IntrospectionState upTo) {
-        var isConcurrentFromConfig = causewayConfiguration.getCore().getMetaModel().getIntrospector().isParallelize();
-        if(isConcurrentFromConfig) {
-            introspectParallel(specs, upTo);
+        var stopWatch = _Timing.now();
+        var introspector = parallelIntrospector;
+        if(introspector!=null) {
+            var levelCount = introspector.introspect(specs, upTo);
+            stopWatch.stop();
+            log.info("   ... {} ({} types in {} dependency levels) took {} ms",
+                    phase, specs.size(), levelCount, stopWatch.getMillis());
         } else {
             introspectSequential(specs, upTo);
+            stopWatch.stop();
+            log.info("   ... {} ({} types) took {} ms",
+                    phase, specs.size(), stopWatch.getMillis());
         }
     }
 
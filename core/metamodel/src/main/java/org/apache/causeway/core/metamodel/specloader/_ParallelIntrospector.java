@@ -0,0 +1,196 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.graph.GraphUtils.GraphKernel;
+import org.apache.causeway.commons.graph.GraphUtils.GraphKernel.GraphCharacteristic;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.metamodel.spec.IntrospectionState;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Introspects a batch of {@link ObjectSpecification}s on a bounded {@link ForkJoinPool}.
+ * <p>
+ * Within a batch, specifications are ordered by their type hierarchy dependencies:
+ * a specification is only scheduled, after all its super-types (that are part of the same batch)
+ * have been introspected. Specifications of the same dependency level are introspected concurrently.
+ *
+ * @since 2.0
+ */
+@Log4j2
+final class _ParallelIntrospector implements AutoCloseable {
+
+    private final ForkJoinPool pool;
+
+    _ParallelIntrospector(final int parallelism) {
+        var classLoader = Thread.currentThread().getContextClassLoader();
+        this.pool = new ForkJoinPool(
+                parallelism>0
+                    ? parallelism
+                    : Runtime.getRuntime().availableProcessors(),
+                forkJoinPool->{
+                    var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                    // worker threads would otherwise use the system class-loader
+                    thread.setContextClassLoader(classLoader);
+                    thread.setName("causeway-introspector-" + thread.getPoolIndex());
+                    return thread;
+                },
+                null,
+                false);
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Introspects given {@code specs} up to given {@code upTo} state,
+     * blocking until all are done.
+     * @return the number of dependency levels, that were processed in sequence
+     */
+    public int introspect(
+            final @NonNull Can<ObjectSpecification> specs,
+            final @NonNull IntrospectionState upTo) {
+
+        var levels = dependencyLevels(specs);
+        for(var level : levels) {
+            var tasks = new ArrayList<Callable<Void>>(level.size());
+            level.forEach(spec->tasks.add(()->{
+                spec.introspectUpTo(upTo);
+                return null;
+            }));
+            awaitAll(pool.invokeAll(tasks));
+        }
+        return levels.size();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    // -- HELPER
+
+    /**
+     * Partitions given {@code specs} into levels, such that any spec's (transitive) super-types
+     * (if contained in {@code specs}) are on a lower level than the spec itself.
+     */
+    static List<List<ObjectSpecification>> dependencyLevels(final Can<ObjectSpecification> specs) {
+        final int n = specs.size();
+
+        var indexByClass = new HashMap<Class<?>, Integer>(n * 2);
+        for (int i = 0; i < n; i++) {
+            indexByClass.put(specs.getElseFail(i).getCorrespondingClass(), i);
+        }
+
+        // edge u -> v, means u depends on v
+        var kernel = new GraphKernel(n, GraphCharacteristic.directed());
+        for (int u = 0; u < n; u++) {
+            var superTypes = new HashSet<Class<?>>();
+            // all of them, as intermediate super-types might not be part of the batch
+            collectSuperTypes(specs.getElseFail(u).getCorrespondingClass(), superTypes);
+            for(var superType : superTypes) {
+                var v = indexByClass.get(superType);
+                if(v!=null
+                        && v!=u) {
+                    kernel.addEdge(u, v);
+                }
+            }
+        }
+
+        var levelByNode = new int[n];
+        Arrays.fill(levelByNode, -1);
+        int maxLevel = 0;
+        for (int u = 0; u < n; u++) {
+            maxLevel = Math.max(maxLevel, levelOf(kernel, u, levelByNode, 0));
+        }
+
+        var levels = new ArrayList<List<ObjectSpecification>>(maxLevel + 1);
+        for (int i = 0; i <= maxLevel; i++) {
+            levels.add(new ArrayList<>());
+        }
+        for (int u = 0; u < n; u++) {
+            levels.get(levelByNode[u]).add(specs.getElseFail(u));
+        }
+        levels.removeIf(List::isEmpty);
+        return levels;
+    }
+
+    private static void collectSuperTypes(final Class<?> cls, final Set<Class<?>> superTypes) {
+        var superclass = cls.getSuperclass();
+        if(superclass!=null
+                && superTypes.add(superclass)) {
+            collectSuperTypes(superclass, superTypes);
+        }
+        for(var iface : cls.getInterfaces()) {
+            if(superTypes.add(iface)) {
+                collectSuperTypes(iface, superTypes);
+            }
+        }
+    }
+
+    private static int levelOf(
+            final GraphKernel kernel,
+            final int u,
+            final int[] levelByNode,
+            final int depth) {
+        if(levelByNode[u]>=0) {
+            return levelByNode[u];
+        }
+        if(depth>kernel.nodeCount()) {
+            throw _Exceptions.illegalState("cyclic type dependency detected during introspection");
+        }
+        int level = kernel.streamNeighbors(u)
+                .map(v->levelOf(kernel, v, levelByNode, depth + 1) + 1)
+                .max()
+                .orElse(0);
+        levelByNode[u] = level;
+        return level;
+    }
+
+    private static void awaitAll(final List<Future<Void>> futures) {
+        for(var future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw _Exceptions.unrecoverable(e, "introspection was interrupted");
+            } catch (ExecutionException e) {
+                log.error("failure during parallel introspection", e.getCause());
+                throw _Exceptions.unrecoverable(e.getCause());
+            }
+        }
+    }
+
+}
@@ -70,14 +70,18 @@
 
     /**
      * Class<FacetFactory> => FacetFactory
+     * <p>
+     * Concurrent, as type introspection might run in parallel.
      */
-    private final Map<Class<? extends FacetFactory>, FacetFactory> factoryByFactoryType = _Maps.newHashMap();
+    private final Map<Class<? extends FacetFactory>, FacetFactory> factoryByFactoryType = _Maps.newConcurrentHashMap();
 
     /**
      * {@link FacetFactory Facet factories}, in order they were
      * {@link #registerFactory(FacetFactory) registered}.
+     * <p>
+     * Only written to during {@link #init()}, but read concurrently, when type introspection runs in parallel.
      */
-    private final List<FacetFactory> factories = _Lists.newArrayList();
+    private final List<FacetFactory> factories = _Lists.newConcurrentList();
 
     /**
      * All method prefixes to check in {@link #recognizes(Method)}.
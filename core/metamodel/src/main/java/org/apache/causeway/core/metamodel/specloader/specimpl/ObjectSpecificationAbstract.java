@@ -48,7 +48,6 @@
 import org.apache.causeway.commons.internal.collections._Multimaps.ListMultimap;
 import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.commons.internal.collections._Streams;
-import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedMethod;
 import org.apache.causeway.core.config.beans.CausewayBeanTypeRegistry;
 import org.apache.causeway.core.metamodel.consent.Consent;
@@ -194,7 +193,10 @@ public Can<ObjectSpecification> snapshot() {
     private AliasedFacet aliasedFacet;
     private CssClassFacet cssClassFacet;
 
-    private IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
+    // volatile, as specs might be introspected concurrently (see SpecificationLoaderDefault)
+    private volatile IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
+    private final _IntrospectionLock typeIntrospectionLock = new _IntrospectionLock();
+    private final _IntrospectionLock memberIntrospectionLock = new _IntrospectionLock();
 
     // -- Constructor
     protected ObjectSpecificationAbstract(
@@ -260,45 +262,24 @@ public void introspectUpTo(final IntrospectionState upTo) {
             log.debug("introspectingUpTo: {}, {}", getFullIdentifier(), upTo);
         }
 
-        boolean revalidate = false;
-
-        switch (introspectionState) {
-        case NOT_INTROSPECTED:
-            if(isLessThan(upTo)) {
-                introspectType();
-            }
-            if(isLessThan(upTo)) {
-                introspectFully();
-                revalidate = true;
-            }
-            // set to avoid infinite loops
-            break;
-
-        case TYPE_BEING_INTROSPECTED:
-            // nothing to do (interim state during introspectType)
-            break;
-
-        case TYPE_INTROSPECTED:
-            if(isLessThan(upTo)) {
-                introspectFully();
-                revalidate = true;
-            }
-            break;
-
-        case MEMBERS_BEING_INTROSPECTED:
-            // nothing to do (interim state during introspectully)
-            break;
-
-        case FULLY_INTROSPECTED:
-            // nothing to do ... all done
-            break;
-
-        default:
-            throw _Exceptions.unexpectedCodeReach();
+        // each phase runs exactly once, even if specs are introspected concurrently;
+        // a phase found in progress on the current thread (or on a thread that waits for us)
+        // is treated as an interim state, nothing to do (avoids infinite loops)
+        if(isLessThan(upTo)
+                && isLessThan(IntrospectionState.TYPE_INTROSPECTED)
+                && !typeIntrospectionLock.runExclusively(
+                        ()->isLessThan(IntrospectionState.TYPE_INTROSPECTED),
+                        this::introspectType)) {
+            return;
         }
 
-        if(revalidate) {
-            getSpecificationLoader().validateLater(this);
+        if(isLessThan(upTo)) {
+            memberIntrospectionLock.runExclusively(
+                    ()->isLessThan(IntrospectionState.FULLY_INTROSPECTED),
+                    ()->{
+                        introspectFully();
+                        getSpecificationLoader().validateLater(this);
+                    });
         }
     }
 
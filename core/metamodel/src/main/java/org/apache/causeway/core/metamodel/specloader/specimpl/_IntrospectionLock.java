@@ -0,0 +1,121 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader.specimpl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+/**
+ * Guards a single introspection phase of an {@link ObjectSpecificationAbstract},
+ * such that the phase runs exactly once, even if specs are introspected concurrently
+ * (see {@link org.apache.causeway.core.metamodel.specloader.SpecificationLoaderDefault}).
+ * <p>
+ * Re-entrance by the owning thread, or waiting on a lock that (transitively) waits on the
+ * current thread, does not block. Instead the phase is reported as being in progress,
+ * the same way serial introspection treats cyclic dependencies between specs.
+ * <p>
+ * package private utility
+ */
+final class _IntrospectionLock {
+
+    private static final long CYCLE_CHECK_INTERVAL_MILLIS = 10;
+
+    /** the lock each thread is currently waiting for, to detect cyclic waits */
+    private static final Map<Thread, _IntrospectionLock> waitingFor = new ConcurrentHashMap<>();
+
+    private volatile Thread owner;
+
+    /**
+     * Runs given {@code phase} exclusively, unless no longer pending once the lock is acquired.
+     * @return {@code false}, if the phase is in progress on the current thread
+     *      or waiting for it would deadlock; {@code true} otherwise, the phase then being complete
+     */
+    boolean runExclusively(final BooleanSupplier isPending, final Runnable phase) {
+        var current = Thread.currentThread();
+        if(owner==current
+                || !acquire(current)) {
+            return false;
+        }
+        try {
+            if(isPending.getAsBoolean()) {
+                phase.run();
+            }
+            return true;
+        } finally {
+            release();
+        }
+    }
+
+    // -- HELPER
+
+    private synchronized boolean acquire(final Thread current) {
+        if(owner==null) {
+            owner = current;
+            return true;
+        }
+        waitingFor.put(current, this);
+        try {
+            while(owner!=null) {
+                if(isWaitCyclic(current)) {
+                    return false;
+                }
+                wait(CYCLE_CHECK_INTERVAL_MILLIS);
+            }
+            owner = current;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw _Exceptions.unrecoverable(e, "interrupted while waiting for introspection");
+        } finally {
+            waitingFor.remove(current);
+        }
+    }
+
+    private synchronized void release() {
+        owner = null;
+        notifyAll();
+    }
+
+    /**
+     * Whether following the owner of this lock, the lock that owner waits for, and so on,
+     * leads back to given thread.
+     */
+    private boolean isWaitCyclic(final Thread current) {
+        var lock = this;
+        // bounded, as the chain might as well run into a cycle not involving the current thread
+        for(int hops = waitingFor.size(); hops>=0; --hops) {
+            var lockOwner = lock.owner;
+            if(lockOwner==null) {
+                return false;
+            }
+            if(lockOwner==current) {
+                return true;
+            }
+            lock = waitingFor.get(lockOwner);
+            if(lock==null) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+}
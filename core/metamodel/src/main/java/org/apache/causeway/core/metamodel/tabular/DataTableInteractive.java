@@ -20,6 +20,7 @@
 
 import java.io.Serializable;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.IntStream;
@@ -78,6 +79,18 @@ public Optional<Comparator<ManagedObject>> asComparator(final Can<? extends Data
             return Optional.ofNullable(sortProperty)
                     .map(prop->MmSortUtils.orderingBy(sortProperty, sortDirection));
         }
+        /**
+         * Optionally the id of the property to be sorted by,
+         * based on whether the column to sort represents a property.
+         */
+        public Optional<String> lookupSortPropertyId(final Can<? extends DataColumn> columns) {
+            return columns.get(columnIndex)
+                    .flatMap(column->column.getAssociationMetaModel().getSpecialization().left())
+                    .map(ObjectMember::getId);
+        }
+        public boolean isAscending() {
+            return sortDirection == MmSortUtils.SortDirection.ASCENDING;
+        }
     }
 
     // -- TITLE, ROWS AND COLUMNS
@@ -87,6 +100,17 @@ public Optional<Comparator<ManagedObject>> asComparator(final Can<? extends Data
     Observable<Can<ManagedObject>> getDataElements();
     Observable<Can<DataRow>> getDataRowsFilteredAndSorted();
 
+    /**
+     * Iterates over a <i>page</i> of {@link #getDataRowsFilteredAndSorted()}.
+     * <p>
+     * Implementations may fetch only the requested page from the persistence layer,
+     * if the table's elements originate from a pageable query.
+     */
+    default Iterator<DataRow> iterateDataRowsFilteredAndSorted(final int skip, final int limit) {
+        return getDataRowsFilteredAndSorted().getValue()
+                .iterator(skip, limit);
+    }
+
     // -- META DATA
 
     ObjectMember getMetaModel();
@@ -18,23 +18,38 @@
  */
 package org.apache.causeway.core.metamodel.tabular.internal;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.TableDecorator;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.AllInstancesQuery;
+import org.apache.causeway.applib.query.NamedQuery;
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.applib.query.QueryResultList;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.filter.CollectionFilterService;
 import org.apache.causeway.commons.binding.Bindable;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.functional.IndexedFunction;
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.binding._BindableAbstract;
 import org.apache.causeway.commons.internal.binding._Bindables;
 import org.apache.causeway.commons.internal.binding._Observables;
@@ -90,10 +105,15 @@ public static DataTableInternal forAction(
             throw _Exceptions.unexpectedCodeReach();
         }
 
-        var elements = ((PackedManagedObject)actionResult).unpack();
-        elements.forEach(ManagedObject::getBookmark);
+        var packedActionResult = (PackedManagedObject)actionResult;
 
-        return new DataTableInternal(managedAction, managedAction.getWhere(), elements);
+        return new DataTableInternal(managedAction, managedAction.getWhere(),
+                ()->{
+                    var elements = packedActionResult.unpack();
+                    elements.forEach(ManagedObject::getBookmark);
+                    return elements;
+                },
+                packedActionResult.getPageableSource().orElse(null));
     }
 
     // -- CONSTRUCTION
@@ -115,6 +135,27 @@ public static DataTableInternal forAction(
     @Getter private final @NonNull LazyObservable<String> title;
 
     private final Optional<FilterHandler> filterHandler;
+    /**
+     * Built on first use, if all rows have indexable filter tokens.
+     */
+    private final _Lazy<Optional<_TokenIndex>> tokenIndex;
+
+    /**
+     * If present, allows to count and fetch pages on the database side,
+     * as long as no search argument is set and sorting (if any) is by a persistent property.
+     */
+    private final @Nullable QueryResultList<?> pageableSource;
+    private final _Lazy<Long> pageableCount;
+    /**
+     * Rows fetched page by page (when {@link #isPageable()}), keyed by their index
+     * in the current (database-side) order.
+     */
+    private final Map<Integer, DataRowInternal> pagedRows = new HashMap<>();
+    /**
+     * Bookmarks of rows to be selected once fetched (when {@link #isPageable()}),
+     * as restored from a {@link Memento}.
+     */
+    private final Set<Bookmark> selectedBookmarksNotFetched = new HashSet<>();
 
     /**
      * On data row selection changes (originating from UI),
@@ -128,6 +169,15 @@ private DataTableInternal(
             final ManagedMember managedMember,
             final Where where,
             final Can<ManagedObject> elements) {
+        this(managedMember, where, ()->elements, null);
+    }
+
+    private DataTableInternal(
+            // we need access to the owner in support of imperative title and referenced column detection
+            final ManagedMember managedMember,
+            final Where where,
+            final Supplier<Can<ManagedObject>> elements,
+            final @Nullable QueryResultList<?> pageableSource) {
 
         var elementType = managedMember.getElementType();
         //var mmc = elementType.getMetaModelContext();
@@ -135,11 +185,13 @@ private DataTableInternal(
         this.managedMember = managedMember;
         this.where = where;
         this.filterHandler = _FilterUtils.createFilterHandler(elementType);
+        this.pageableSource = pageableSource;
+        this.pageableCount = _Lazy.threadSafe(()->pageableSource.count());
 
         this.searchArgument = _Bindables.forValue("");
         this.columnSort = _Bindables.forValue(null);
 
-        this.dataElements = _Observables.lazy(()->elements
+        this.dataElements = _Observables.lazy(()->elements.get()
                 //.map(mmc::injectServicesInto) // I believe is redundant, has major performance impact
                 //.filter(this::ignoreHidden) // I believe is redundant, has major performance impact
                 );
@@ -149,15 +201,21 @@ private DataTableInternal(
                 .map(IndexedFunction.zeroBased((rowIndex, element)->new DataRowInternal(rowIndex, this, element, tokens(element))))
                 .collect(Can.toCan()));
 
+        this.tokenIndex = _Lazy.threadSafe(()->filterHandler.map(handler->handler.indexable).orElse(false)
+                ? _TokenIndex.create(dataRows.getValue())
+                : Optional.empty());
+        this.dataRows.addListener((e,o,n)->{
+            tokenIndex.clear();
+        });
+
         this.dataRowsFilteredAndSorted = _Observables.lazy(()->
-            dataRows.getValue().stream()
-                .filter(adaptSearchPredicate())
+            streamDataRowsFiltered()
                 .sorted(sortingComparator()
                         .orElseGet(()->(a, b)->0)) // else don't sort (no-op comparator for streams)
                 .collect(Can.toCan()));
 
         this.dataRowsSelected = _Observables.lazy(()->
-            dataRows.getValue().stream()
+            streamRowsForSelection(/*includeUnfetched*/false)
                 .filter(dataRow->dataRow.getSelectToggle().getValue().booleanValue())
                 .collect(Can.toCan()));
 
@@ -168,16 +226,20 @@ private DataTableInternal(
             if(isClearToggleAllEvent.get()) return;
 
             doProgrammaticToggle(()->{
-                dataRows.getValue().forEach(dataRow->dataRow.getSelectToggle().setValue(isAllOn));
+                selectedBookmarksNotFetched.clear();
+                streamRowsForSelection(/*includeUnfetched*/true)
+                    .forEach(dataRow->dataRow.getSelectToggle().setValue(isAllOn));
             });
         });
 
         this.searchArgument.addListener((e,o,n)->{
             dataRowsFilteredAndSorted.invalidate();
+            invalidatePagedRows();
         });
 
         this.columnSort.addListener((e,o,n)->{
             dataRowsFilteredAndSorted.invalidate();
+            invalidatePagedRows();
         });
 
         this.dataColumns = _Observables.lazy(()->
@@ -220,7 +282,9 @@ public int getVisibleElementCount() {
      */
     @Override
     public int getFilteredElementCount() {
-        return dataRowsFilteredAndSorted.getValue().size();
+        return isPageable()
+                ? Math.toIntExact(pageableCount.get())
+                : dataRowsFilteredAndSorted.getValue().size();
     }
 
     @Override
@@ -234,10 +298,98 @@ public ObjectSpecification getElementType() {
 
     @Override
     public Optional<DataRow> lookupDataRow(final int rowIndex) {
+        if(isPageable()) {
+            var pagedRow = pagedRows.get(rowIndex);
+            if(pagedRow!=null) {
+                return Optional.of(pagedRow);
+            }
+            var iterator = iterateDataRowsFilteredAndSorted(rowIndex, 1);
+            return iterator.hasNext()
+                    ? Optional.of(iterator.next())
+                    : Optional.empty();
+        }
         return getDataRows().getValue().get(rowIndex)
                 .map(DataRow.class::cast);
     }
 
+    // -- PAGING
+
+    @Override
+    public Iterator<DataRow> iterateDataRowsFilteredAndSorted(final int skip, final int limit) {
+        if(!isPageable()) {
+            return DataTableInteractive.super.iterateDataRowsFilteredAndSorted(skip, limit);
+        }
+        var sort = columnSort.getValue();
+        var page = pageableSource.fetch(
+                QueryRange.of(skip, limit),
+                sort!=null
+                    ? sort.lookupSortPropertyId(dataColumns.getValue()).orElse(null)
+                    : null,
+                sort==null
+                    || sort.isAscending());
+        var objectManager = managedMember.getOwner().getObjectManager();
+        var rows = new ArrayList<DataRow>(page.size());
+        var rowsToSelect = new ArrayList<DataRow>();
+        for (int i = 0; i < page.size(); i++) {
+            var rowIndex = skip + i;
+            var row = pagedRows.get(rowIndex);
+            if(row==null) {
+                var element = objectManager.adapt(page.get(i));
+                row = new DataRowInternal(rowIndex, this, element, tokens(element));
+                pagedRows.put(rowIndex, row);
+                if(!selectedBookmarksNotFetched.isEmpty()
+                        && element.getBookmark().map(selectedBookmarksNotFetched::remove).orElse(false)) {
+                    rowsToSelect.add(row);
+                }
+            }
+            rows.add(row);
+        }
+        if(!rowsToSelect.isEmpty()) {
+            doProgrammaticToggle(()->
+                rowsToSelect.forEach(dataRow->dataRow.getSelectToggle().setValue(true)));
+        }
+        return rows.iterator();
+    }
+
+    /**
+     * Whether counting and paging can be delegated to the {@link #pageableSource},
+     * that is, if present, no search argument is set and sorting (if any) maps to an
+     * ORDER BY on a persistent property.
+     */
+    private boolean isPageable() {
+        if(pageableSource==null
+                || !pageableSource.isPageable()) {
+            return false;
+        }
+        if(filterHandler.isPresent()
+                && _Strings.isNotEmpty(searchArgument.getValue())) {
+            return false;
+        }
+        var sort = columnSort.getValue();
+        if(sort==null) {
+            // an element comparator requires all elements to be sorted in memory
+            return managedMember.getMetaModel().getElementComparator().isEmpty();
+        }
+        return sort.lookupSortPropertyId(dataColumns.getValue())
+                .map(pageableSource::isOrderableBy)
+                .orElse(false);
+    }
+
+    /**
+     * Paged rows are indexed by their position in the current order,
+     * hence are discarded (including their selection state) once sorting or filtering changes.
+     */
+    private void invalidatePagedRows() {
+        if(pageableSource==null
+                || (pagedRows.isEmpty()
+                        && selectedBookmarksNotFetched.isEmpty())) {
+            return;
+        }
+        pagedRows.clear();
+        selectedBookmarksNotFetched.clear();
+        invalidateSelectionThenNotifyListeners();
+    }
+
     // -- FILTER
 
     @Override
@@ -253,6 +405,31 @@ private Predicate<DataRow> adaptSearchPredicate() {
                     .test(dataRow, searchArgument.getValue());
     }
 
+    /**
+     * Uses the {@link _TokenIndex} (if available) to only visit candidate rows,
+     * which are then still tested against the actual filter.
+     * The index is only consulted, when the filter is the default one,
+     * as otherwise candidates might not cover all matches.
+     */
+    private Stream<DataRow> streamDataRowsFiltered() {
+        var searchArg = searchArgument.getValue();
+        if(filterHandler.isEmpty()
+                || _Strings.isEmpty(searchArg)) {
+            return dataRows.getValue().stream()
+                    .filter(adaptSearchPredicate());
+        }
+        var indexQuery = filterHandler.get().indexQuery(searchArg);
+        return tokenIndex.get()
+                .filter(__->indexQuery.isPresent())
+                .map(index->{
+                    var rows = dataRows.getValue();
+                    return index.lookup(indexQuery.get()).stream()
+                            .mapToObj(rows::getElseFail);
+                })
+                .orElseGet(()->dataRows.getValue().stream())
+                .filter(adaptSearchPredicate());
+    }
+
     @Nullable
     private CollectionFilterService.Tokens tokens(final ManagedObject element){
         return filterHandler.isEmpty()
@@ -311,14 +488,35 @@ private void invalidateSelectionThenNotifyListeners() {
     @Override
     public void selectRangeOfRowsByIndex(final IntStream range, final boolean select) {
         doProgrammaticToggle(()->{
-            dataRowsFilteredAndSorted.getValue()
-                .pickByIndex(range)
-                .forEach(dataRow->{
+            var rows = isPageable()
+                    ? range.mapToObj(this::lookupDataRow)
+                        .flatMap(Optional::stream)
+                        .collect(Can.toCan())
+                    : dataRowsFilteredAndSorted.getValue()
+                        .pickByIndex(range);
+            rows.forEach(dataRow->{
                     dataRow.getSelectToggle().setValue(select);
                 });
         });
     }
 
+    /**
+     * When {@link #isPageable()}, selection is tracked on the rows fetched so far,
+     * unless {@code includeUnfetched}, in which case all remaining rows are fetched as well.
+     */
+    private Stream<DataRow> streamRowsForSelection(final boolean includeUnfetched) {
+        if(!isPageable()) {
+            return dataRows.getValue().stream();
+        }
+        if(includeUnfetched) {
+            iterateDataRowsFilteredAndSorted(0, getFilteredElementCount())
+                .forEachRemaining(__->{});
+        }
+        return pagedRows.values().stream()
+                .map(DataRow.class::cast)
+                .sorted(Comparator.comparingInt(DataRow::getRowIndex));
+    }
+
 //    // -- DATA ROW VISIBILITY
 //
 //    private boolean ignoreHidden(final ManagedObject adapter) {
@@ -336,10 +534,34 @@ public void selectRangeOfRowsByIndex(final IntStream range, final boolean select
 
     // -- ASSOCIATED ACTION WITH MULTI SELECT
 
+    /**
+     * Includes the elements of rows selected, but not fetched yet (when {@link #isPageable()}).
+     */
     @Override
     public Can<ManagedObject> getSelected() {
-        return dataRowsSelected.getValue()
+        var selected = dataRowsSelected.getValue()
             .map(DataRow::getRowElement);
+        if(selectedBookmarksNotFetched.isEmpty()) {
+            return selected;
+        }
+        var objectManager = managedMember.getOwner().getObjectManager();
+        return selected.addAll(selectedBookmarksNotFetched.stream()
+                .map(objectManager::loadObject)
+                .flatMap(Optional::stream)
+                .collect(Can.toCan()));
+    }
+
+    /**
+     * Bookmarks of all selected rows, including those not fetched yet (when {@link #isPageable()}).
+     */
+    Set<Bookmark> getSelectedBookmarks() {
+        var bookmarks = dataRowsSelected.getValue().stream()
+                .map(DataRow::getRowElement)
+                .map(ManagedObject::getBookmark)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toCollection(HashSet::new));
+        bookmarks.addAll(selectedBookmarksNotFetched);
+        return bookmarks;
     }
 
     @Override
@@ -411,21 +633,34 @@ public static class Memento implements DataTableMemento {
         static Memento create(
                 final @NonNull DataTableInternal tableInteractive) {
 
+            var pageableQuery = Optional.ofNullable(tableInteractive.pageableSource)
+                    .<Query<?>>map(QueryResultList::getQuery)
+                    .filter(Memento::isSerializable)
+                    .orElse(null);
+
             return new Memento(
                     tableInteractive.managedMember.getIdentifier(),
                     tableInteractive.where,
-                    tableInteractive.exportAll(),
+                    pageableQuery==null
+                        ? tableInteractive.exportAll()
+                        : null,
+                    pageableQuery,
                     tableInteractive.searchArgument.getValue(),
-                    tableInteractive.getSelectedRowIndexes(),
+                    tableInteractive.getSelectedBookmarks(),
                     tableInteractive.getColumnSort().getValue());
         }
 
         private final @NonNull Identifier featureId;
         private final @NonNull Where where;
-        private final @NonNull DataTable dataTable;
+        /** either the data table or the pageable query is set */
+        private final @Nullable DataTable dataTable;
+        private final @Nullable Query<?> pageableQuery;
 
         private @Nullable String searchArgument;
-        private @NonNull Set<Integer> selectedRowIndexes;
+        /**
+         * Rather than row indexes, which would no longer match, once rows are added or removed meanwhile.
+         */
+        private @NonNull Set<Bookmark> selectedBookmarks;
         private @Nullable DataTableInteractive.ColumnSort columnSort;
 
         @Override
@@ -444,7 +679,9 @@ public DataTableInternal getDataTableModel(final ManagedObject owner) {
                     : ActionInteraction.start(owner, memberId, where)
                         .getManagedActionElseFail();
 
-            var dataTableInteractive = new DataTableInternal(managedMember, where,
+            var dataTableInteractive = pageableQuery!=null
+                ? forPageableQuery(managedMember, where, pageableQuery)
+                : new DataTableInternal(managedMember, where,
                     dataTable.streamDataElements()
                     .peek(obj->{
                         if(obj.getSpecialization().isViewmodel()) {
@@ -459,20 +696,61 @@ public DataTableInternal getDataTableModel(final ManagedObject owner) {
             }
             dataTableInteractive.searchArgument.setValue(searchArgument);
             dataTableInteractive.doProgrammaticToggle(()->{
+                if(dataTableInteractive.isPageable()) {
+                    // rows are selected once fetched
+                    dataTableInteractive.selectedBookmarksNotFetched.addAll(selectedBookmarks);
+                    return;
+                }
                 dataTableInteractive.dataRows.getValue().stream()
-                    .filter(dataRow->selectedRowIndexes.contains(dataRow.getRowIndex()))
+                    .filter(dataRow->dataRow.getRowElement().getBookmark()
+                            .map(selectedBookmarks::contains)
+                            .orElse(false))
                     .forEach(dataRow->dataRow.getSelectToggle().setValue(true));
             });
             return dataTableInteractive;
         }
 
+        private static DataTableInternal forPageableQuery(
+                final ManagedMember managedMember,
+                final Where where,
+                final Query<?> pageableQuery) {
+            var queryResult = managedMember.getOwner().getRepositoryService()
+                    .allMatchesPageable(pageableQuery);
+            var packed = (PackedManagedObject) managedMember.getOwner().getObjectManager()
+                    .adapt(queryResult);
+            return new DataTableInternal(managedMember, where, packed::unpack, queryResult);
+        }
+
+        /**
+         * Whether given query can be held by this memento instead of all its elements,
+         * that is, whether any query parameters are plain (serializable) values rather than
+         * eg. entities.
+         */
+        private static boolean isSerializable(final Query<?> query) {
+            if(query instanceof AllInstancesQuery) {
+                return true;
+            }
+            if(query instanceof NamedQuery) {
+                return ((NamedQuery<?>) query).getParametersByName().values().stream()
+                        .allMatch(paramValue->paramValue==null
+                            || paramValue instanceof String
+                            || paramValue instanceof Number
+                            || paramValue instanceof Boolean
+                            || paramValue instanceof Character
+                            || paramValue instanceof Enum
+                            || paramValue instanceof java.time.temporal.Temporal
+                            || paramValue instanceof java.util.UUID);
+            }
+            return false;
+        }
+
         @Override
         public void setupBindings(final DataTableInteractive tableInteractive) {
             tableInteractive.getSearchArgument().addListener((e, o, searchArg)->{
                 this.searchArgument = searchArg;
             });
             ((DataTableInternal)tableInteractive).selectionChanges.addListener((e, o, n)->{
-                this.selectedRowIndexes = tableInteractive.getSelectedRowIndexes();
+                this.selectedBookmarks = ((DataTableInternal)tableInteractive).getSelectedBookmarks();
             });
         }
 
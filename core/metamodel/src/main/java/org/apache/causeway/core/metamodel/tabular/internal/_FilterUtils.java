@@ -22,10 +22,13 @@
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 
+import org.springframework.util.ClassUtils;
+
 import org.apache.causeway.applib.services.filter.CollectionFilterService;
 import org.apache.causeway.applib.services.filter.CollectionFilterService.Tokens;
 import org.apache.causeway.applib.services.i18n.TranslationContext;
 import org.apache.causeway.applib.services.i18n.TranslationService;
+import org.apache.causeway.applib.services.filter.TokenQuery;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.tabular.DataRow;
@@ -42,12 +45,30 @@ static class FilterHandler {
 
         @NonNull final Function<Object, Tokens> tokenizer;
         @NonNull final BiPredicate<Tokens, String> tokenFilter;
+        @NonNull final Function<String, String> searchArgSanitizer;
         @NonNull final String searchPromptPlaceholderText;
+        /**
+         * Whether the {@link #tokenFilter} is the framework's default,
+         * that is, matches according to {@link TokenQuery} semantics,
+         * such that a {@link _TokenIndex} lookup yields a superset of all matches.
+         */
+        final boolean indexable;
 
         @NonNull final BiPredicate<DataRow, String> getDataRowFilter() {
             return (dataRow, searchArg) ->
                 tokenFilter.test(dataRow.getFilterTokens().orElse(null), searchArg);
         }
+
+        /**
+         * The {@link TokenQuery} to look up candidate rows with,
+         * sanitized the same way the default {@link #tokenFilter} does;
+         * empty if not {@link #indexable}.
+         */
+        Optional<TokenQuery> indexQuery(final String searchArg) {
+            return indexable
+                    ? Optional.of(TokenQuery.parse(searchArgSanitizer.apply(searchArg)))
+                    : Optional.empty();
+        }
     }
 
     Optional<FilterHandler> createFilterHandler(final @NonNull ObjectSpecification elementType) {
@@ -84,7 +105,24 @@ Optional<FilterHandler> createFilterHandler(final @NonNull ObjectSpecification e
         return Optional.of(new FilterHandler(
                 _Casts.uncheckedCast(tokenizer),
                 tokenFilter,
-                searchPromptPlaceholderText));
+                collectionFilterService::sanitzeSearchArgument,
+                searchPromptPlaceholderText,
+                isDefaultTokenFilter(collectionFilterService)));
+    }
+
+    // -- HELPER
+
+    /**
+     * Whether given service does not override {@link CollectionFilterService#tokenFilter(Class)}.
+     */
+    boolean isDefaultTokenFilter(final CollectionFilterService collectionFilterService) {
+        try {
+            return ClassUtils.getUserClass(collectionFilterService)
+                    .getMethod("tokenFilter", Class.class)
+                    .getDeclaringClass() == CollectionFilterService.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
     }
 
 }
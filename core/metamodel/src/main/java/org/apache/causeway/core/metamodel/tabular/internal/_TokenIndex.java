@@ -0,0 +1,130 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.internal;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.apache.causeway.applib.services.filter.TokenQuery;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.tabular.DataRow;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Inverted index, mapping each (normalized) filter token to the set of row indexes
+ * having that token, in support of {@link TokenQuery}s (prefix terms combined with AND/OR).
+ * <p>
+ * Built once per table model, such that evaluating a search argument costs time
+ * proportional to the number of matching tokens and rows, rather than to the number of rows.
+ */
+@RequiredArgsConstructor
+final class _TokenIndex {
+
+    private static final int PREFIX_CACHE_SIZE = 64;
+
+    private final int rowCount;
+    private final NavigableMap<String, BitSet> rowIndexesByToken = new TreeMap<>();
+
+    /**
+     * Memoizes row indexes per prefix term, as terms are typically re-evaluated
+     * with every keystroke, while the user extends the search argument.
+     */
+    @SuppressWarnings("serial")
+    private final Map<String, BitSet> rowIndexesByPrefix = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(final Map.Entry<String, BitSet> eldest) {
+            return size() > PREFIX_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Optionally an index over given rows, based on whether the tokens of all rows are
+     * {@link org.apache.causeway.applib.services.filter.CollectionFilterService.Tokens#indexableTokens() indexable}.
+     * Rows without any tokens are not indexed, hence cannot be found by any search.
+     */
+    static Optional<_TokenIndex> create(final @NonNull Can<DataRow> dataRows) {
+        var tokenIndex = new _TokenIndex(dataRows.size());
+        for(var dataRow : dataRows) {
+            var tokens = dataRow.getFilterTokens().orElse(null);
+            if(tokens==null) {
+                continue;
+            }
+            var indexableTokens = tokens.indexableTokens().orElse(null);
+            if(indexableTokens==null) {
+                return Optional.empty();
+            }
+            var rowIndex = dataRow.getRowIndex();
+            indexableTokens.forEach(token->
+                tokenIndex.rowIndexesByToken.computeIfAbsent(token, __->new BitSet())
+                    .set(rowIndex));
+        }
+        return Optional.of(tokenIndex);
+    }
+
+    /**
+     * Row indexes matching given query.
+     * @return a new {@link BitSet}, safe to be modified by the caller
+     */
+    synchronized BitSet lookup(final @NonNull TokenQuery tokenQuery) {
+        var matching = new BitSet(rowCount);
+        if(tokenQuery.isEmpty()) {
+            matching.set(0, rowCount);
+            return matching;
+        }
+        for(var terms : tokenQuery.getAlternatives()) {
+            BitSet conjunction = null;
+            for(var term : terms) {
+                var termMatches = lookupPrefix(term);
+                if(conjunction==null) {
+                    conjunction = (BitSet) termMatches.clone();
+                } else {
+                    conjunction.and(termMatches);
+                }
+                if(conjunction.isEmpty()) {
+                    break;
+                }
+            }
+            if(conjunction!=null) {
+                matching.or(conjunction);
+            }
+        }
+        return matching;
+    }
+
+    // -- HELPER
+
+    private BitSet lookupPrefix(final String prefix) {
+        return rowIndexesByPrefix.computeIfAbsent(prefix, __->{
+            var rowIndexes = new BitSet(rowCount);
+            for(var entry : rowIndexesByToken.tailMap(prefix, true).entrySet()) {
+                if(!entry.getKey().startsWith(prefix)) {
+                    break;
+                }
+                rowIndexes.or(entry.getValue());
+            }
+            return rowIndexes;
+        });
+    }
+
+}
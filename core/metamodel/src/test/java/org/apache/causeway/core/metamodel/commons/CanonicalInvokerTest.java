@@ -0,0 +1,77 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.SneakyThrows;
+
+class CanonicalInvokerTest {
+
+    static class Sample {
+        Method sharedMethod;
+        Boolean accessibleFlagDuringCall;
+        public String echo(final String x) { return x; }
+        public void fail() { throw new UnsupportedOperationException("fail"); }
+        @SuppressWarnings("deprecation") // isAccessible() reports the flag alone, ignoring (nestmate) access rules
+        private String secret() {
+            accessibleFlagDuringCall = sharedMethod.isAccessible();
+            return "secret";
+        }
+    }
+
+    @Test
+    void nonPublicMethod_isInvokedViaMethodHandle() {
+        var sample = new Sample();
+        sample.sharedMethod = method("secret");
+
+        assertEquals("secret", CanonicalInvoker.invoke(sample.sharedMethod, sample));
+        // reflective invocation would have set the flag for the duration of the call
+        assertFalse(sample.accessibleFlagDuringCall);
+    }
+
+    @Test
+    void incompatibleArgs_failVerbosely() {
+        var ex = assertThrows(IllegalArgumentException.class, ()->
+            CanonicalInvoker.invokeWithConvertedArgs(method("echo", String.class), new Sample(), 42));
+        assertTrue(ex.getMessage().contains("expected param type mismatch"));
+    }
+
+    @Test
+    void exceptionThrownByMethod_isPropagated() {
+        var ex = assertThrows(UnsupportedOperationException.class, ()->
+            CanonicalInvoker.invoke(method("fail"), new Sample()));
+        assertEquals("fail", ex.getMessage());
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static Method method(final String name, final Class<?>... paramTypes) {
+        return Sample.class.getDeclaredMethod(name, paramTypes);
+    }
+
+}
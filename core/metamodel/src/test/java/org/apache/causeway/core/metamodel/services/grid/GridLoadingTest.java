@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.metamodel.services.grid;
 
+import java.io.File;
 import java.util.EnumSet;
 
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,7 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.causeway.applib.services.grid.GridLoaderService;
 import org.apache.causeway.applib.services.layout.LayoutExportStyle;
@@ -60,7 +62,7 @@ void blueprint() {
     }
 
     @Test
-    void customNamed() {
+    void customNamed() throws Exception {
 
         var customNamed = "Hello";
 
@@ -78,10 +80,15 @@ void customNamed() {
         assertNotNull(objectAction);
         assertEquals(customNamed, objectAction.getStaticFriendlyName().orElse(null));
 
+        // layout.xml unchanged, so expected to be served from cache
+        assertSame(grid, gridFacet.getGrid(ManagedObject.adaptSingular(barSpec, new Bar())));
+
         // trigger a layout.xml reload, which installs more facets while purging old ones
         // verify however, that the number of facets stays constant
 
-        // triggers grid to be re-loaded
+        // triggers grid to be re-loaded, by updating the layout.xml file's last-modified time
+        var layoutFile = new File(Bar.class.getResource("Bar.layout.xml").toURI());
+        assertTrue(layoutFile.setLastModified(layoutFile.lastModified() + 2000L));
         var grid2 = gridFacet.getGrid(ManagedObject.adaptSingular(barSpec, new Bar()));
         assertNotSame(grid, grid2); // verify that we actually got a new grid, indicative of a reload having taken place
 
@@ -0,0 +1,94 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+class _ParallelIntrospectorTest {
+
+    interface Named {}
+    static class Base implements Named {}
+    static class Sub extends Base {}
+    static class SubSub extends Sub {}
+    static class Unrelated {}
+
+    @Test
+    void superTypes_shouldBeOnLowerLevels() {
+
+        var named = specFor(Named.class);
+        var base = specFor(Base.class);
+        var sub = specFor(Sub.class);
+        var subSub = specFor(SubSub.class);
+        var unrelated = specFor(Unrelated.class);
+
+        var levels = _ParallelIntrospector.dependencyLevels(
+                Can.of(subSub, unrelated, sub, base, named));
+
+        assertEquals(4, levels.size());
+        assertTrue(levels.get(0).containsAll(List.of(named, unrelated)));
+        assertEquals(List.of(base), levels.get(1));
+        assertEquals(List.of(sub), levels.get(2));
+        assertEquals(List.of(subSub), levels.get(3));
+    }
+
+    @Test
+    void missingSuperTypes_shouldBeSkipped() {
+
+        var base = specFor(Base.class);
+        var subSub = specFor(SubSub.class);
+
+        var levels = _ParallelIntrospector.dependencyLevels(Can.of(subSub, base));
+
+        assertEquals(2, levels.size());
+        assertEquals(List.of(base), levels.get(0));
+        assertEquals(List.of(subSub), levels.get(1));
+    }
+
+    @Test
+    void interfacesOfMissingSuperTypes_shouldBeOnLowerLevels() {
+
+        var named = specFor(Named.class);
+        var subSub = specFor(SubSub.class);
+
+        var levels = _ParallelIntrospector.dependencyLevels(Can.of(subSub, named));
+
+        assertEquals(2, levels.size());
+        assertEquals(List.of(named), levels.get(0));
+        assertEquals(List.of(subSub), levels.get(1));
+    }
+
+    // -- HELPER
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static ObjectSpecification specFor(final Class<?> cls) {
+        var spec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(spec.getCorrespondingClass()).thenReturn((Class)cls);
+        return spec;
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader.specimpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class _IntrospectionLockTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void phase_shouldRunOnce_andBeCompleteForAllRacingCallers() throws Exception {
+        var lock = new _IntrospectionLock();
+        var runs = new AtomicInteger();
+        var done = new AtomicBoolean();
+        var start = new CountDownLatch(1);
+
+        var tasks = new ArrayList<Callable<Boolean>>();
+        for(int i = 0; i < 8; i++) {
+            tasks.add(()->{
+                start.await();
+                var completed = lock.runExclusively(()->!done.get(), ()->{
+                    runs.incrementAndGet();
+                    sleep(50);
+                    done.set(true);
+                });
+                // no caller may return, before the phase is complete
+                return completed && done.get();
+            });
+        }
+        var futures = new ArrayList<Future<Boolean>>();
+        tasks.forEach(task->futures.add(executor.submit(task)));
+        start.countDown();
+
+        for(var future : futures) {
+            assertTrue(future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void phase_shouldBeReportedInProgress_whenReentered() {
+        var lock = new _IntrospectionLock();
+        var reentered = new AtomicBoolean(true);
+
+        assertTrue(lock.runExclusively(()->true, ()->
+            reentered.set(lock.runExclusively(()->true, ()->{}))));
+        assertFalse(reentered.get());
+    }
+
+    @Test
+    void cyclicWait_shouldNotDeadlock() throws Exception {
+        var x = new _IntrospectionLock();
+        var y = new _IntrospectionLock();
+        var barrier = new CyclicBarrier(2);
+        var nested = new ArrayList<Boolean>();
+
+        // each thread holds one lock, then waits for the other one
+        var futures = List.of(
+                executor.submit(()->x.runExclusively(()->true, ()->{
+                    await(barrier);
+                    record(nested, y.runExclusively(()->true, ()->{}));
+                })),
+                executor.submit(()->y.runExclusively(()->true, ()->{
+                    await(barrier);
+                    record(nested, x.runExclusively(()->true, ()->{}));
+                })));
+
+        for(var future : futures) {
+            assertTrue(future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(2, nested.size());
+        // at least one of them must have backed off
+        assertTrue(nested.contains(false));
+    }
+
+    // -- HELPER
+
+    private static void record(final List<Boolean> results, final boolean result) {
+        synchronized(results) {
+            results.add(result);
+        }
+    }
+
+    private static void await(final CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.internal;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.filter.CollectionFilterService;
+import org.apache.causeway.applib.services.filter.CollectionFilterService.Tokens;
+import org.apache.causeway.applib.services.filter.TokenQuery;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.tabular.DataRow;
+
+class TokenIndexTest {
+
+    private final List<Tokens> tokensPerRow = List.of(
+            Tokens.ofPrefixMatching(List.of("John", "Smith", "London")),
+            Tokens.ofPrefixMatching(List.of("Jane", "Smithers", "Leeds")),
+            Tokens.ofPrefixMatching(List.of("Ann", "Jones", "London")),
+            Tokens.ofPrefixMatching(List.of()));
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "jo", "SMI", "smith lon", "ann | jane", "jo lon | lee", "x", "smith x | x"})
+    void shouldAgreeWithTokenMatching(final String searchArg) {
+        var tokenIndex = _TokenIndex.create(dataRows(tokensPerRow)).orElseThrow();
+
+        var expected = IntStream.range(0, tokensPerRow.size())
+                .filter(rowIndex->tokensPerRow.get(rowIndex).match(searchArg))
+                .boxed()
+                .collect(Collectors.toList());
+        var actual = tokenIndex.lookup(TokenQuery.parse(searchArg)).stream()
+                .boxed()
+                .collect(Collectors.toList());
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shouldNotIndex_whenAnyRowHasOpaqueTokens() {
+        Tokens opaque = searchArg->true;
+        assertTrue(_TokenIndex.create(dataRows(List.of(tokensPerRow.get(0), opaque))).isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"#jo", "#smith #lon", "#ann | #jane"})
+    void shouldAgreeWithDefaultTokenFilter_whenSearchArgSanitized(final String searchArg) {
+        var filterService = new HashStrippingFilterService();
+        var tokenFilter = filterService.tokenFilter(Object.class);
+        var filterHandler = new _FilterUtils.FilterHandler(
+                __->null, tokenFilter, filterService::sanitzeSearchArgument, "",
+                _FilterUtils.isDefaultTokenFilter(filterService));
+        var tokenIndex = _TokenIndex.create(dataRows(tokensPerRow)).orElseThrow();
+
+        var expected = IntStream.range(0, tokensPerRow.size())
+                .filter(rowIndex->tokenFilter.test(tokensPerRow.get(rowIndex), searchArg))
+                .boxed()
+                .collect(Collectors.toList());
+        var actual = tokenIndex.lookup(filterHandler.indexQuery(searchArg).orElseThrow()).stream()
+                .boxed()
+                .collect(Collectors.toList());
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shouldOnlyIndex_whenTokenFilterIsDefault() {
+        assertTrue(_FilterUtils.isDefaultTokenFilter(new HashStrippingFilterService()));
+        assertFalse(_FilterUtils.isDefaultTokenFilter(new HashStrippingFilterService() {
+            @Override public <T> BiPredicate<Tokens, String> tokenFilter(final Class<T> domainType) {
+                return (tokens, searchArg)->true;
+            }
+        }));
+    }
+
+    // -- HELPER
+
+    static class HashStrippingFilterService implements CollectionFilterService {
+        @Override public boolean handles(final Class<?> domainType) {
+            return true;
+        }
+        @Override public <T> Function<T, Tokens> tokenizer(final Class<T> domainType) {
+            return __->null;
+        }
+        @Override public String sanitzeSearchArgument(final String searchArg) {
+            return CollectionFilterService.super.sanitzeSearchArgument(
+                    searchArg!=null ? searchArg.replace("#", "") : null);
+        }
+    }
+
+    private static Can<DataRow> dataRows(final List<Tokens> tokensPerRow) {
+        return IntStream.range(0, tokensPerRow.size())
+                .mapToObj(rowIndex->{
+                    var dataRow = mock(DataRow.class);
+                    when(dataRow.getRowIndex()).thenReturn(rowIndex);
+                    when(dataRow.getFilterTokens()).thenReturn(Optional.of(tokensPerRow.get(rowIndex)));
+                    return dataRow;
+                })
+                .collect(Can.toCan());
+    }
+
+}
@@ -49,6 +49,7 @@
 import org.apache.causeway.core.runtimeservices.menubars.bootstrap.MenuBarsServiceBootstrap;
 import org.apache.causeway.core.runtimeservices.message.MessageServiceDefault;
 import org.apache.causeway.core.runtimeservices.placeholder.PlaceholderRenderServiceDefault;
+import org.apache.causeway.core.runtimeservices.publish.AsyncPublishingPipeline;
 import org.apache.causeway.core.runtimeservices.publish.CommandPublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.EntityChangesPublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.EntityPropertyChangePublisherDefault;
@@ -80,6 +81,7 @@
         CausewayModuleCoreCodegenByteBuddy.class,
 
         // @Service's
+        AsyncPublishingPipeline.class,
         BookmarkServiceDefault.class,
         CommandDtoFactoryDefault.class,
         CommandExecutorServiceDefault.class,
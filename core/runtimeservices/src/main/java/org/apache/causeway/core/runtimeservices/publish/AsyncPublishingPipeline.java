@@ -0,0 +1,323 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.publishing.spi.AsyncCapableSubscriber;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.Publishing.Async.OverflowPolicy;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Decouples the notification of {@link AsyncCapableSubscriber}s from the request thread,
+ * for the execution, command and entity property change publishers.
+ * <p>
+ * Notifications are queued in a bounded buffer and delivered in batches,
+ * strictly in order of submission, by a single dedicated thread.
+ * Hence no notification is ever delivered on any other thread, not even if the buffer is full
+ * (the submitter then waits, or the notification is dropped) or on shutdown.
+ * <p>
+ * Once shut down, the delivery thread drains any still pending notifications (within the configured drain timeout),
+ * before the application context closes. Notifications submitted after that are rejected.
+ *
+ * @since 2.x {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".AsyncPublishingPipeline")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class AsyncPublishingPipeline {
+
+    @Value
+    public static class Snapshot {
+        /** number of notifications, currently pending in the queue */
+        int queueDepth;
+        /** number of notifications, that were queued */
+        long enqueued;
+        /** number of notifications, that were delivered */
+        long delivered;
+        /** number of batches, taken from the queue */
+        long batches;
+        /** number of notifications, where the subscriber threw an exception */
+        long failed;
+        /** number of notifications, whose submitter had to wait for free capacity, because the queue was full */
+        long blocked;
+        /** number of notifications, discarded because the queue was full, not drained in time on shutdown,
+         * or submitted once shut down */
+        long dropped;
+    }
+
+    /**
+     * Whether {@link AsyncCapableSubscriber}s are notified asynchronously.
+     */
+    @Getter private final boolean enabled;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration drainTimeout;
+    /** free slots of the (otherwise unbounded) queue */
+    private final Semaphore capacity;
+    private final BlockingQueue<Pending> queue;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Object $LOCK = new Object[0]; //see https://projectlombok.org/features/Synchronized
+
+    private Thread deliveryThread;
+    private volatile boolean shutdown;
+    /**
+     * Cleared by the delivery thread, once it terminates,
+     * such that no notification can be queued that would never be delivered.
+     * Only modified while holding the {@link #$LOCK}.
+     */
+    private volatile boolean accepting = true;
+
+    @Inject
+    public AsyncPublishingPipeline(final CausewayConfiguration causewayConfiguration) {
+        var config = causewayConfiguration.getCore().getRuntimeServices().getPublishing().getAsync();
+        this.enabled = config.isEnabled();
+        this.batchSize = config.getBatchSize();
+        this.overflowPolicy = config.getOverflowPolicy();
+        this.drainTimeout = config.getDrainTimeout();
+        this.capacity = enabled
+                ? new Semaphore(config.getCapacity())
+                : null;
+        this.queue = enabled
+                ? new LinkedBlockingQueue<>()
+                : null;
+    }
+
+    @PostConstruct
+    public void init() {
+        if(!enabled) {
+            return;
+        }
+        deliveryThread = new Thread(this::deliverBatches, "causeway-async-publishing");
+        deliveryThread.setDaemon(true);
+        deliveryThread.start();
+    }
+
+    /**
+     * Waits up to the configured drain timeout for the delivery thread to deliver all pending notifications.
+     * If not drained in time, the delivery thread is interrupted and any left over are discarded (counted as dropped),
+     * rather than delivered on the calling thread, which would race the delivery thread.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if(!enabled
+                || shutdown) {
+            return;
+        }
+        shutdown = true;
+        deliveryThread.join(drainTimeout.toMillis());
+        if(deliveryThread.isAlive()) {
+            log.warn("async publishing not drained within {}, discarding {} pending notification(s)",
+                    drainTimeout, queue.size());
+            deliveryThread.interrupt();
+        }
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(
+                queue!=null ? queue.size() : 0,
+                enqueued.get(),
+                delivered.get(),
+                batches.get(),
+                failed.get(),
+                blocked.get(),
+                dropped.get());
+    }
+
+    /**
+     * Those of given subscribers, that are to be notified synchronously, on the publishing thread.
+     */
+    public <T> Can<T> synchronousSubscribers(final @NonNull Can<T> subscribers) {
+        return enabled
+                ? subscribers.filter(subscriber->!(subscriber instanceof AsyncCapableSubscriber))
+                : subscribers;
+    }
+
+    /**
+     * Those of given subscribers, that are to be notified via {@link #submit(Runnable)}.
+     */
+    public <T> Can<T> asynchronousSubscribers(final @NonNull Can<T> subscribers) {
+        return enabled
+                ? subscribers.filter(AsyncCapableSubscriber.class::isInstance)
+                : Can.empty();
+    }
+
+    /**
+     * Queues given notification for asynchronous delivery.
+     * <p>
+     * If the queue is full, the notification is handled according to the configured {@link OverflowPolicy}.
+     * Exceptions thrown by the notification are logged, not propagated.
+     * <p>
+     * Once shut down and drained, any further notifications are logged and dropped (counted as such),
+     * rather than failing the submitting (request) thread.
+     */
+    public void submit(final @NonNull Runnable notification) {
+        if(!enabled) {
+            deliver(notification);
+            return;
+        }
+        // a subscriber that in turn publishes must not wait for itself
+        var holdsPermit = Thread.currentThread()!=deliveryThread;
+        if(holdsPermit
+                && !capacity.tryAcquire()) {
+            if(overflowPolicy==OverflowPolicy.DROP) {
+                dropped.incrementAndGet();
+                log.warn("async publishing queue full, dropping notification");
+                return;
+            }
+            blocked.incrementAndGet();
+            if(!awaitCapacity()) {
+                dropShutDown();
+                return;
+            }
+        }
+        synchronized($LOCK) {
+            if(accepting) {
+                queue.add(new Pending(notification, holdsPermit));
+                enqueued.incrementAndGet();
+                return;
+            }
+        }
+        if(holdsPermit) {
+            capacity.release();
+        }
+        dropShutDown();
+    }
+
+    // -- HELPER
+
+    @RequiredArgsConstructor
+    private static class Pending {
+        final Runnable notification;
+        final boolean holdsPermit;
+    }
+
+    /**
+     * @return whether a permit was acquired, that is, {@code false} if shut down while waiting
+     */
+    private boolean awaitCapacity() {
+        try {
+            while(!capacity.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                if(!accepting) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw _Exceptions.unrecoverable(e);
+        }
+    }
+
+    private void dropShutDown() {
+        dropped.incrementAndGet();
+        log.warn("async publishing already shut down, dropping notification");
+    }
+
+    private void deliverBatches() {
+        var batch = new ArrayList<Pending>(batchSize);
+        try {
+            while(true) {
+                var first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if(first==null) {
+                    if(shutdown
+                            && stopAcceptingIfDrained()) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                capacity.release((int) batch.stream().filter(pending->pending.holdsPermit).count());
+                batches.incrementAndGet();
+                batch.forEach(pending->deliver(pending.notification));
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            discardPending();
+        }
+    }
+
+    private boolean stopAcceptingIfDrained() {
+        synchronized($LOCK) {
+            if(!queue.isEmpty()) {
+                return false;
+            }
+            accepting = false;
+            return true;
+        }
+    }
+
+    private void discardPending() {
+        final int discarded;
+        synchronized($LOCK) {
+            accepting = false;
+            discarded = queue.size();
+            queue.clear();
+        }
+        dropped.addAndGet(discarded);
+    }
+
+    private void deliver(final Runnable notification) {
+        try {
+            notification.run();
+            delivered.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.error("failed to notify async capable subscriber", e);
+        }
+    }
+
+}
@@ -19,6 +19,7 @@
 package org.apache.causeway.core.runtimeservices.publish;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -56,17 +57,25 @@ public class CommandPublisherDefault implements CommandPublisher {
     final List<CommandSubscriber> subscribers;
     final Provider<InteractionLayerTracker> interactionServiceProvider;
 
+    final AsyncPublishingPipeline asyncPublishingPipeline;
+
     final Can<CommandSubscriber> enabledSubscribers;
+    final Can<CommandSubscriber> synchronousSubscribers;
+    final Can<CommandSubscriber> asynchronousSubscribers;
 
     @Inject
     public CommandPublisherDefault(
             final List<CommandSubscriber> subscribers,
-            final Provider<InteractionLayerTracker> interactionServiceProvider) {
+            final Provider<InteractionLayerTracker> interactionServiceProvider,
+            final AsyncPublishingPipeline asyncPublishingPipeline) {
         this.subscribers = subscribers;
         this.interactionServiceProvider = interactionServiceProvider;
+        this.asyncPublishingPipeline = asyncPublishingPipeline;
 
         enabledSubscribers = Can.ofCollection(subscribers)
                 .filter(HasEnabling::isEnabled);
+        synchronousSubscribers = asyncPublishingPipeline.synchronousSubscribers(enabledSubscribers);
+        asynchronousSubscribers = asyncPublishingPipeline.asynchronousSubscribers(enabledSubscribers);
     }
 
     @Override
@@ -80,7 +89,7 @@ public void ready(@NonNull final Command command) {
 
         if(canPublish(command) && command.getPublishingPhase().isReady()) {
             log.debug("about to PUBLISH command {}: {} to {}", "ready", command, enabledSubscribers);
-            enabledSubscribers.forEach(subscriber -> subscriber.onReady(command));
+            notifySubscribers(command, CommandSubscriber::onReady);
         }
 
         _Xray.exitPublishing(handle);
@@ -97,7 +106,7 @@ public void start(@NonNull final Command command) {
 
         if(canPublish(command) && command.getPublishingPhase().isStarted()) {
             log.debug("about to PUBLISH command {}: {} to {}", "started", command, enabledSubscribers);
-            enabledSubscribers.forEach(subscriber -> subscriber.onStarted(command));
+            notifySubscribers(command, CommandSubscriber::onStarted);
         }
 
         _Xray.exitPublishing(handle);
@@ -114,7 +123,7 @@ public void complete(final @NonNull Command command) {
 
         if(canPublish(command) && command.getPublishingPhase().isCompleted()) {
             log.debug("about to PUBLISH command {}: {} to {}", "completed", command, enabledSubscribers);
-            enabledSubscribers.forEach(subscriber -> subscriber.onCompleted(command));
+            notifySubscribers(command, CommandSubscriber::onCompleted);
         }
 
         _Xray.exitPublishing(handle);
@@ -122,6 +131,18 @@ public void complete(final @NonNull Command command) {
 
     // -- HELPER
 
+    private void notifySubscribers(
+            final Command command,
+            final BiConsumer<CommandSubscriber, Command> callback) {
+        synchronousSubscribers.forEach(subscriber -> callback.accept(subscriber, command));
+        if(asynchronousSubscribers.isNotEmpty()) {
+            // the command is updated as it progresses, so async subscribers get the state as of now
+            var snapshot = command.snapshot();
+            asynchronousSubscribers.forEach(subscriber ->
+                asyncPublishingPipeline.submit(() -> callback.accept(subscriber, snapshot)));
+        }
+    }
+
     private boolean canPublish(final Command command) {
         return enabledSubscribers.isNotEmpty()
                 && command.getLogicalMemberIdentifier() != null; // eg null when seed fixtures
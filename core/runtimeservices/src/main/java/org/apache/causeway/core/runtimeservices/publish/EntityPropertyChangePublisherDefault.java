@@ -71,13 +71,18 @@ public class EntityPropertyChangePublisherDefault implements EntityPropertyChang
     private final InteractionLayerTracker iaTracker;
     private final Provider<HasEnlistedEntityPropertyChanges> hasEnlistedEntityPropertyChangesProvider;
     private final CausewayConfiguration causewayConfiguration;
+    private final AsyncPublishingPipeline asyncPublishingPipeline;
 
     private Can<EntityPropertyChangeSubscriber> enabledSubscribers = Can.empty();
+    private Can<EntityPropertyChangeSubscriber> synchronousSubscribers = Can.empty();
+    private Can<EntityPropertyChangeSubscriber> asynchronousSubscribers = Can.empty();
 
     @PostConstruct
     public void init() {
         enabledSubscribers = Can.ofCollection(subscribers)
                 .filter(HasEnabling::isEnabled);
+        synchronousSubscribers = asyncPublishingPipeline.synchronousSubscribers(enabledSubscribers);
+        asynchronousSubscribers = asyncPublishingPipeline.asynchronousSubscribers(enabledSubscribers);
     }
 
     private HasEnlistedEntityPropertyChanges hasEnlistedEntityPropertyChanges() {
@@ -119,17 +124,24 @@ public void publishChangedProperties() {
                     () -> getCannotPublishReason(uniquePropertyChanges)
             );
 
-            if (uniquePropertyChanges.size() <= causewayConfiguration.getCore().getRuntimeServices().getEntityPropertyChangePublisher().getBulk().getThreshold()) {
+            var bulk = uniquePropertyChanges.size() > causewayConfiguration.getCore().getRuntimeServices().getEntityPropertyChangePublisher().getBulk().getThreshold();
+            if (!bulk) {
                 uniquePropertyChanges.forEach(propertyChange -> {
-                    for (var subscriber : enabledSubscribers) {
+                    for (var subscriber : synchronousSubscribers) {
                         subscriber.onChanging(propertyChange);
                     }
                 });
             } else {
-                for (var subscriber : enabledSubscribers) {
+                for (var subscriber : synchronousSubscribers) {
                     subscriber.onChanging(uniquePropertyChanges);
                 }
             }
+            // property changes are immutable, hence can be handed over as is
+            for (var subscriber : asynchronousSubscribers) {
+                asyncPublishingPipeline.submit(bulk
+                        ? () -> subscriber.onChanging(uniquePropertyChanges)
+                        : () -> uniquePropertyChanges.forEach(subscriber::onChanging));
+            }
         } finally {
             _Xray.exitPublishing(xrayHandle);
         }
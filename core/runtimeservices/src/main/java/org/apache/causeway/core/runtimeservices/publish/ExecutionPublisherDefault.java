@@ -35,6 +35,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.applib.services.iactnlayer.ResettableInteractionScoped;
 import org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.having.HasEnabling;
@@ -55,12 +56,15 @@
 @InteractionScope
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
 public class ExecutionPublisherDefault
-implements ExecutionPublisher {
+implements ExecutionPublisher, ResettableInteractionScoped {
 
     private final List<ExecutionSubscriber> subscribers;
     private final InteractionLayerTracker iaTracker;
+    private final AsyncPublishingPipeline asyncPublishingPipeline;
 
     private Can<ExecutionSubscriber> enabledSubscribers = Can.empty();
+    private Can<ExecutionSubscriber> synchronousSubscribers = Can.empty();
+    private Can<ExecutionSubscriber> asynchronousSubscribers = Can.empty();
     /**
      * this is the reason that this service is @InteractionScope'd
      */
@@ -70,6 +74,8 @@
     public void init() {
         enabledSubscribers = Can.ofCollection(subscribers)
                 .filter(HasEnabling::isEnabled);
+        synchronousSubscribers = asyncPublishingPipeline.synchronousSubscribers(enabledSubscribers);
+        asynchronousSubscribers = asyncPublishingPipeline.asynchronousSubscribers(enabledSubscribers);
     }
 
     @Override
@@ -77,6 +83,11 @@ public void destroy() throws Exception {
         suppressionRequestCounter.reset();
     }
 
+    @Override
+    public void resetForNextInteraction() {
+        suppressionRequestCounter.reset();
+    }
+
     @Override
     public void publishActionInvocation(final Execution<?,?> execution) {
         notifySubscribers(execution);
@@ -108,9 +119,16 @@ private void notifySubscribers(final Execution<?,?> execution) {
                 this::getCannotPublishReason);
 
         if(canPublish()) {
-            for (var subscriber : enabledSubscribers) {
+            for (var subscriber : synchronousSubscribers) {
                 subscriber.onExecution(execution);
             }
+            if(asynchronousSubscribers.isNotEmpty()) {
+                // the execution graph is live, so async subscribers get the state (and dto) as of now
+                var snapshot = execution.snapshot();
+                for (var subscriber : asynchronousSubscribers) {
+                    asyncPublishingPipeline.submit(()->subscriber.onExecution(snapshot));
+                }
+            }
         }
 
         _Xray.exitPublishing(handle);
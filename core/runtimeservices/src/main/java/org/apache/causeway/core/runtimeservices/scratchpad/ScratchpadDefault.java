@@ -28,6 +28,7 @@
 
 import org.apache.causeway.applib.annotation.InteractionScope;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.ResettableInteractionScoped;
 import org.apache.causeway.applib.services.scratchpad.Scratchpad;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
@@ -47,7 +48,7 @@
 @Qualifier("Default")
 @InteractionScope
 //@Log4j2
-public class ScratchpadDefault implements Scratchpad {
+public class ScratchpadDefault implements Scratchpad, ResettableInteractionScoped {
 
     /**
      * Provides a mechanism for each object being acted upon to pass
@@ -78,4 +79,9 @@ public void put(Object key, Object value) {
     public void destroy() throws Exception {
         userData.clear();
     }
+
+    @Override
+    public void resetForNextInteraction() {
+        userData.clear();
+    }
 }
@@ -21,7 +21,6 @@
 import java.io.File;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Stack;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 
@@ -91,7 +90,7 @@
     // TODO: reading the javadoc for TransactionSynchronizationManager and looking at the implementations
     //  of TransactionSynchronization (in particular SpringSessionSynchronization), I suspect that this
     //  ThreadLocal would be considered bad practice and instead should be managed using the TransactionSynchronization mechanism.
-    final ThreadLocal<Stack<InteractionLayer>> interactionLayerStack = ThreadLocal.withInitial(Stack::new);
+    final ThreadLocal<_InteractionLayerStack> interactionLayerStack = ThreadLocal.withInitial(_InteractionLayerStack::new);
 
     final MetamodelEventService runtimeEventService;
     final SpecificationLoader specificationLoader;
@@ -180,23 +179,21 @@ public InteractionLayer openInteraction() {
     public InteractionLayer openInteraction(
             final @NonNull InteractionContext interactionContextToUse) {
 
-        var causewayInteraction = getOrCreateCausewayInteraction();
+        var stack = interactionLayerStack.get();
 
         // check whether we should reuse any current interactionLayer,
         // that is, if current authentication and authToUse are equal
 
-        var reuseCurrentLayer = currentInteractionContext()
-                .map(currentInteractionContext -> Objects.equals(currentInteractionContext, interactionContextToUse))
-                .orElse(false);
-
-        if(reuseCurrentLayer) {
+        var reusableLayer = reusableInteractionLayer(stack, interactionContextToUse);
+        if(reusableLayer!=null) {
             // we are done, just return the stack's top
-            return interactionLayerStack.get().peek();
+            return reusableLayer;
         }
 
+        var causewayInteraction = getOrCreateCausewayInteraction(stack);
         var interactionLayer = new InteractionLayer(causewayInteraction, interactionContextToUse);
 
-        interactionLayerStack.get().push(interactionLayer);
+        stack.push(interactionLayer);
 
         if(isAtTopLevel()) {
             transactionServiceSpring.onOpen(causewayInteraction);
@@ -206,31 +203,44 @@ public InteractionLayer openInteraction(
         if(log.isDebugEnabled()) {
             log.debug("new interaction layer created (interactionId={}, total-layers-on-stack={}, {})",
                     currentInteraction().map(Interaction::getInteractionId).orElse(null),
-                    interactionLayerStack.get().size(),
+                    stack.size(),
                     _Probe.currentThreadId());
         }
 
         if(XrayUi.isXrayEnabled()) {
-            _Xray.newInteractionLayer(interactionLayerStack.get());
+            _Xray.newInteractionLayer(stack);
         }
 
         return interactionLayer;
     }
 
-    private CausewayInteraction getOrCreateCausewayInteraction() {
+    /**
+     * Returns the stack's top, if its {@link InteractionContext} equals given one, otherwise {@code null}.
+     */
+    private static InteractionLayer reusableInteractionLayer(
+            final _InteractionLayerStack stack,
+            final InteractionContext interactionContextToUse) {
+        var topLayer = stack.peek();
+        return topLayer!=null
+                && Objects.equals(topLayer.getInteractionContext(), interactionContextToUse)
+                ? topLayer
+                : null;
+    }
 
-        final Stack<InteractionLayer> interactionLayers = interactionLayerStack.get();
+    private CausewayInteraction getOrCreateCausewayInteraction(final _InteractionLayerStack interactionLayers) {
         return interactionLayers.isEmpty()
     			? new CausewayInteraction(interactionIdGenerator.interactionId())
-				: _Casts.uncheckedCast(interactionLayers.firstElement().getInteraction());
+				: _Casts.uncheckedCast(interactionLayers.first().getInteraction());
     }
 
     @Override
     public void closeInteractionLayers() {
-        log.debug("about to close the interaction stack (interactionId={}, total-layers-on-stack={}, {})",
-                currentInteraction().map(Interaction::getInteractionId).orElse(null),
-                interactionLayerStack.get().size(),
-                _Probe.currentThreadId());
+        if(log.isDebugEnabled()) {
+            log.debug("about to close the interaction stack (interactionId={}, total-layers-on-stack={}, {})",
+                    currentInteraction().map(Interaction::getInteractionId).orElse(null),
+                    interactionLayerStack.get().size(),
+                    _Probe.currentThreadId());
+        }
 
         //
         // TODO: Be aware that this method could theoretically throw an exception, if the flush fails in
@@ -241,10 +251,7 @@ public void closeInteractionLayers() {
 
 	@Override
     public Optional<InteractionLayer> currentInteractionLayer() {
-    	var stack = interactionLayerStack.get();
-    	return stack.isEmpty()
-    	        ? Optional.empty()
-                : Optional.of(stack.lastElement());
+    	return Optional.ofNullable(interactionLayerStack.get().peek());
     }
 
     @Override
@@ -260,7 +267,14 @@ public <R> R call(
             final @NonNull InteractionContext interactionContext,
             final @NonNull Callable<R> callable) {
 
-        final int stackSizeWhenEntering = interactionLayerStack.get().size();
+        var stack = interactionLayerStack.get();
+        if(reusableInteractionLayer(stack, interactionContext)!=null) {
+            // nested call with unchanged context: participate in the current layer,
+            // there is nothing to open or close
+            return callInternal(callable);
+        }
+
+        final int stackSizeWhenEntering = stack.size();
         openInteraction(interactionContext);
         try {
             return callInternal(callable);
@@ -281,7 +295,15 @@ public void run(
             final @NonNull InteractionContext interactionContext,
             final @NonNull ThrowingRunnable runnable) {
 
-        final int stackSizeWhenEntering = interactionLayerStack.get().size();
+        var stack = interactionLayerStack.get();
+        if(reusableInteractionLayer(stack, interactionContext)!=null) {
+            // nested run with unchanged context: participate in the current layer,
+            // there is nothing to open or close
+            runInternal(runnable);
+            return;
+        }
+
+        final int stackSizeWhenEntering = stack.size();
         openInteraction(interactionContext);
         try {
             runInternal(runnable);
@@ -363,7 +385,7 @@ private void requestRollback(final Throwable cause) {
                     cause.getMessage());
             return;
         }
-        var interaction = _Casts.<CausewayInteraction>uncheckedCast(stack.get(0).getInteraction());
+        var interaction = _Casts.<CausewayInteraction>uncheckedCast(stack.first().getInteraction());
         transactionServiceSpring.requestRollback(interaction);
     }
 
@@ -434,21 +456,26 @@ private void preInteractionClosed(final CausewayInteraction interaction) {
 
     private void closeInteractionLayerStackDownToStackSize(final int downToStackSize) {
 
-        log.debug("about to close interaction stack down to size {} (interactionId={}, total-layers-on-stack={}, {})",
-                downToStackSize,
-                currentInteraction().map(Interaction::getInteractionId).orElse(null),
-                interactionLayerStack.get().size(),
-                _Probe.currentThreadId());
-
         var stack = interactionLayerStack.get();
+
+        if(log.isDebugEnabled()) {
+            log.debug("about to close interaction stack down to size {} (interactionId={}, total-layers-on-stack={}, {})",
+                    downToStackSize,
+                    currentInteraction().map(Interaction::getInteractionId).orElse(null),
+                    stack.size(),
+                    _Probe.currentThreadId());
+        }
+
         try {
             while(stack.size()>downToStackSize) {
-                if(isAtTopLevel()) {
+                if(stack.size()==1) {
                     // keep the stack unmodified yet, to allow for callbacks to properly operate
 
                     preInteractionClosed(_Casts.uncheckedCast(stack.peek().getInteraction()));
                 }
-                _Xray.closeInteractionLayer(stack);
+                if(XrayUi.isXrayEnabled()) {
+                    _Xray.closeInteractionLayer(stack);
+                }
                 stack.pop();
             }
         } finally {
@@ -0,0 +1,288 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.wrapper;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongBinaryOperator;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.collections._Maps;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * Queue depth, wait time and run time of asynchronous executions,
+ * per logical member identifier, as submitted through the {@link WrapperFactoryDefault}'s
+ * own executor.
+ * <p>
+ * Also enforces the {@link org.apache.causeway.applib.services.wrapper.control.AsyncControl#getMaxConcurrency()
+ * maximum concurrency} per member.
+ *
+ * @since 2.x {@index}
+ */
+public class AsyncExecutionMetrics {
+
+    @Value
+    public static class Snapshot {
+        /** number of tasks submitted, but not yet running */
+        int queueDepth;
+        /** number of tasks currently running */
+        int running;
+        /** number of tasks completed (either successfully or not) */
+        long completed;
+        Duration totalWaitTime;
+        Duration maxWaitTime;
+        Duration totalRunTime;
+        Duration maxRunTime;
+    }
+
+    private final Map<String, MemberMetrics> metricsByMember = _Maps.newConcurrentHashMap();
+    private final Map<String, ConcurrencyLimit> limitsByMember = _Maps.newConcurrentHashMap();
+
+    /**
+     * Current metrics, keyed and sorted by logical member identifier.
+     */
+    public Map<String, Snapshot> snapshot() {
+        var snapshots = new TreeMap<String, Snapshot>();
+        metricsByMember.forEach((memberId, metrics)->snapshots.put(memberId, metrics.snapshot()));
+        return snapshots;
+    }
+
+    // -- SUBMISSION
+
+    /**
+     * Submits given task to given executor, such that its wait and run time get recorded,
+     * and such that at most {@code maxConcurrency} tasks of the same member run concurrently.
+     * <p>
+     * Never blocks: once the bound is reached, further tasks of the same member are queued (in order),
+     * each being handed to the executor once a running task of that member completes.
+     * Hence neither the caller nor any pool thread waits for a task of the same member to complete.
+     * @param maxConcurrency - zero means unbounded
+     * @throws java.util.concurrent.RejectedExecutionException if rejected by the executor right away
+     */
+    <R> Future<R> submit(
+            final @NonNull ExecutorService executorService,
+            final @NonNull String memberId,
+            final int maxConcurrency,
+            final @NonNull Callable<R> task) {
+
+        var metrics = metricsByMember.computeIfAbsent(memberId, __->new MemberMetrics());
+        var limit = maxConcurrency>0
+                ? limitsByMember.computeIfAbsent(memberId + "#" + maxConcurrency,
+                        __->new ConcurrencyLimit(maxConcurrency))
+                : null;
+
+        var submission = new Submission<R>(executorService, metrics, limit, task);
+        metrics.queueDepth.incrementAndGet();
+        if(limit!=null) {
+            limit.submit(submission);
+        } else {
+            submission.executeElseAbandon();
+        }
+        return submission;
+    }
+
+    // -- HELPER
+
+    /**
+     * A task, that records its wait and run time, and (if limited) passes on its slot once done.
+     */
+    private static final class Submission<R> extends FutureTask<R> {
+
+        private final ExecutorService executorService;
+        private final MemberMetrics metrics;
+        private final @Nullable ConcurrencyLimit limit;
+        private final AtomicBoolean started;
+
+        Submission(
+                final ExecutorService executorService,
+                final MemberMetrics metrics,
+                final @Nullable ConcurrencyLimit limit,
+                final Callable<R> task) {
+            this(executorService, metrics, limit, task, new AtomicBoolean(), System.nanoTime());
+        }
+
+        private Submission(
+                final ExecutorService executorService,
+                final MemberMetrics metrics,
+                final @Nullable ConcurrencyLimit limit,
+                final Callable<R> task,
+                final AtomicBoolean started,
+                final long submittedAt) {
+            super(()->{
+                started.set(true);
+                metrics.queueDepth.decrementAndGet();
+                final long startedAt = System.nanoTime();
+                metrics.recordWait(startedAt - submittedAt);
+                metrics.running.incrementAndGet();
+                try {
+                    return task.call();
+                } finally {
+                    metrics.running.decrementAndGet();
+                    metrics.recordRun(System.nanoTime() - startedAt);
+                }
+            });
+            this.executorService = executorService;
+            this.metrics = metrics;
+            this.limit = limit;
+            this.started = started;
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                if(!started.get()) {
+                    // cancelled before it started
+                    metrics.queueDepth.decrementAndGet();
+                }
+                if(limit!=null) {
+                    limit.release();
+                }
+            }
+        }
+
+        /**
+         * Hands this submission to its executor,
+         * or (if rejected, hence never going to run) rethrows the rejection.
+         */
+        void executeElseAbandon() {
+            try {
+                executorService.execute(this);
+            } catch (RuntimeException e) {
+                metrics.queueDepth.decrementAndGet();
+                throw e;
+            }
+        }
+
+        /**
+         * Hands this queued submission to its executor,
+         * or (if rejected, hence never going to run) fails it with the rejection.
+         * @return whether handed over
+         */
+        boolean executeElseFail() {
+            try {
+                executorService.execute(this);
+                return true;
+            } catch (RuntimeException e) {
+                metrics.queueDepth.decrementAndGet();
+                setException(e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Bounds the number of submissions of the same member, that are handed to the executor at any time,
+     * queueing any excess ones instead of blocking.
+     */
+    @RequiredArgsConstructor
+    private static final class ConcurrencyLimit {
+
+        private final int maxConcurrency;
+        private final Queue<Submission<?>> excess = new ArrayDeque<>();
+        private int active;
+
+        void submit(final Submission<?> submission) {
+            synchronized(this) {
+                if(active>=maxConcurrency) {
+                    excess.add(submission);
+                    return;
+                }
+                ++active;
+            }
+            try {
+                submission.executeElseAbandon();
+            } catch (RuntimeException e) {
+                release();
+                throw e;
+            }
+        }
+
+        /**
+         * Passes the slot of a completed (or rejected) submission on to the next queued one, if any.
+         */
+        void release() {
+            while(true) {
+                final Submission<?> next;
+                synchronized(this) {
+                    next = excess.poll();
+                    if(next==null) {
+                        --active;
+                        return;
+                    }
+                }
+                if(next.executeElseFail()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static class MemberMetrics {
+
+        private static final LongBinaryOperator MAX = Math::max;
+
+        final AtomicInteger queueDepth = new AtomicInteger();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicLong completed = new AtomicLong();
+        final AtomicLong totalWaitNanos = new AtomicLong();
+        final AtomicLong maxWaitNanos = new AtomicLong();
+        final AtomicLong totalRunNanos = new AtomicLong();
+        final AtomicLong maxRunNanos = new AtomicLong();
+
+        void recordWait(final long nanos) {
+            totalWaitNanos.addAndGet(nanos);
+            maxWaitNanos.accumulateAndGet(nanos, MAX);
+        }
+
+        void recordRun(final long nanos) {
+            completed.incrementAndGet();
+            totalRunNanos.addAndGet(nanos);
+            maxRunNanos.accumulateAndGet(nanos, MAX);
+        }
+
+        Snapshot snapshot() {
+            return new Snapshot(
+                    queueDepth.get(),
+                    running.get(),
+                    completed.get(),
+                    Duration.ofNanos(totalWaitNanos.get()),
+                    Duration.ofNanos(maxWaitNanos.get()),
+                    Duration.ofNanos(totalRunNanos.get()),
+                    Duration.ofNanos(maxRunNanos.get()));
+        }
+    }
+
+}
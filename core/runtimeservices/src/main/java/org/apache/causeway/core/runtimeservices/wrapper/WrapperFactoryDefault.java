@@ -85,6 +85,7 @@
 import org.apache.causeway.commons.internal.proxy._ProxyFactoryService;
 import org.apache.causeway.commons.internal.reflection._GenericResolver;
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedMethod;
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.WrapperFactory.Async.ExecutorMode;
 import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants.MixinConstructor;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
@@ -111,6 +112,7 @@
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * Default implementation of {@link WrapperFactory}.
@@ -121,6 +123,7 @@
 @Named(WrapperFactoryDefault.LOGICAL_TYPE_NAME)
 @Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Default")
+@Log4j2
 public class WrapperFactoryDefault
 implements WrapperFactory, HasMetaModelContext {
 
@@ -146,10 +149,16 @@
 
     private ExecutorService commonExecutorService;
 
+    /**
+     * Metrics of tasks executed by the {@link #commonExecutorService}.
+     */
+    @Getter private final AsyncExecutionMetrics asyncExecutionMetrics = new AsyncExecutionMetrics();
+
     @PostConstruct
     public void init() {
 
-        this.commonExecutorService = newCommonExecutorService();
+        this.commonExecutorService = newCommonExecutorService(
+                getConfiguration().getCore().getRuntimeServices().getWrapperFactory().getAsync().getExecutorMode());
 
         var proxyCreator = new ProxyCreator(proxyFactoryService);
         proxyContextHandler = new ProxyContextHandler(proxyCreator);
@@ -417,8 +426,6 @@ private <R> Object submitAsync(
         asyncControl.setMethod(method);
         asyncControl.setBookmark(Bookmark.forOidDto(oidDto));
 
-        var executorService = Optional.ofNullable(asyncControl.getExecutorService())
-                .orElse(commonExecutorService);
         var asyncTask = getServiceInjector().injectServicesInto(new AsyncTask<R>(
             asyncInteractionContext,
             Propagation.REQUIRES_NEW,
@@ -426,7 +433,14 @@ private <R> Object submitAsync(
             asyncControl.getReturnType(),
             parentInteractionId)); // this command becomes the parent of child command
 
-        var future = executorService.submit(asyncTask);
+        // a custom executor service receives the (serializable) task as is
+        var future = asyncControl.getExecutorService()!=null
+                ? asyncControl.getExecutorService().submit(asyncTask)
+                : asyncExecutionMetrics.submit(
+                        commonExecutorService,
+                        childCommandDto.getMember().getLogicalMemberIdentifier(),
+                        asyncControl.getMaxConcurrency(),
+                        asyncTask);
         asyncControl.setFuture(future);
 
         return null;
@@ -684,7 +698,15 @@ private <R> R updateDomainObject(final AsyncCallable<R> asyncCallable) {
 
     private final static int MIN_POOL_SIZE = 2; // at least 2
     private final static int MAX_POOL_SIZE = 4; // max 4
-    private ExecutorService newCommonExecutorService() {
+    private ExecutorService newCommonExecutorService(final ExecutorMode executorMode) {
+        if(executorMode == ExecutorMode.VIRTUAL_THREADS) {
+            var virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+            if(virtualThreadExecutor.isPresent()) {
+                return virtualThreadExecutor.get();
+            }
+            log.warn("virtual threads not supported by this Java runtime, "
+                    + "falling back to a pool of platform threads for async execution");
+        }
         final int poolSize = Math.min(
                 MAX_POOL_SIZE,
                 Math.max(
@@ -693,4 +715,18 @@ private ExecutorService newCommonExecutorService() {
         return Executors.newFixedThreadPool(poolSize);
     }
 
+    /**
+     * Optionally {@code Executors.newVirtualThreadPerTaskExecutor()}, based on whether
+     * the Java runtime supports virtual threads (Java 21+);
+     * looked up reflectively, as we still compile against Java 11.
+     */
+    private static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            var factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) factoryMethod.invoke(null));
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
 }
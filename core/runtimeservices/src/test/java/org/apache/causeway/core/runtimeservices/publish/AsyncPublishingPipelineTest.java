@@ -0,0 +1,167 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.causeway.applib.services.publishing.spi.AsyncCapableSubscriber;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.Publishing.Async.OverflowPolicy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncPublishingPipelineTest {
+
+    @Test
+    void shouldDeliverInOrderAndDrainOnShutdown() throws Exception {
+        var pipeline = pipeline(1024, OverflowPolicy.BLOCK);
+        var delivered = Collections.synchronizedList(new ArrayList<Integer>());
+
+        IntStream.range(0, 100)
+            .forEach(i->pipeline.submit(()->delivered.add(i)));
+        pipeline.shutdown();
+
+        assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), delivered);
+        var snapshot = pipeline.snapshot();
+        assertEquals(0, snapshot.getQueueDepth());
+        assertEquals(100L, snapshot.getDelivered());
+        assertEquals(0L, snapshot.getDropped());
+    }
+
+    @Test
+    void shouldCountDroppedAndFailedNotifications() throws Exception {
+        var pipeline = pipeline(1, OverflowPolicy.DROP);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        pipeline.submit(()->{
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        pipeline.submit(()->{ throw new IllegalStateException("subscriber failure"); }); // queued
+        pipeline.submit(()->{}); // queue full, dropped
+        release.countDown();
+        pipeline.shutdown();
+
+        var snapshot = pipeline.snapshot();
+        assertEquals(2L, snapshot.getEnqueued());
+        assertEquals(1L, snapshot.getDelivered());
+        assertEquals(1L, snapshot.getFailed());
+        assertEquals(1L, snapshot.getDropped());
+    }
+
+    @Test
+    void shouldBlockRatherThanJumpTheQueue_whenFull() throws Exception {
+        var pipeline = pipeline(2, OverflowPolicy.BLOCK);
+        var delivered = Collections.synchronizedList(new ArrayList<Integer>());
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var submitter = Executors.newSingleThreadExecutor();
+        try {
+            pipeline.submit(()->{
+                started.countDown();
+                await(release);
+                delivered.add(0);
+            });
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            pipeline.submit(()->delivered.add(1));
+            pipeline.submit(()->delivered.add(2)); // queue now full
+            var blockedSubmission = submitter.submit(()->pipeline.submit(()->delivered.add(3)));
+
+            Thread.sleep(100);
+            assertFalse(blockedSubmission.isDone());
+            assertEquals(List.of(), delivered);
+
+            release.countDown();
+            blockedSubmission.get(10, TimeUnit.SECONDS);
+            pipeline.shutdown();
+        } finally {
+            submitter.shutdownNow();
+        }
+
+        assertEquals(List.of(0, 1, 2, 3), delivered);
+        assertEquals(1L, pipeline.snapshot().getBlocked());
+        assertEquals(0L, pipeline.snapshot().getDropped());
+    }
+
+    @Test
+    void shouldDropSubmissions_whenShutDown() throws Exception {
+        var pipeline = pipeline(16, OverflowPolicy.BLOCK);
+        pipeline.shutdown();
+
+        var delivered = new CountDownLatch(1);
+        // more than the capacity, so any permit not given back would make submitters block
+        for(int i=0; i<20; ++i) {
+            pipeline.submit(delivered::countDown);
+        }
+
+        var snapshot = pipeline.snapshot();
+        assertEquals(0L, snapshot.getEnqueued());
+        assertEquals(0L, snapshot.getBlocked());
+        assertEquals(20L, snapshot.getDropped());
+        assertEquals(1L, delivered.getCount());
+    }
+
+    @Test
+    void shouldPartitionSubscribers() {
+        var pipeline = pipeline(16, OverflowPolicy.BLOCK);
+        var sync = new Object();
+        var async = new AsyncCapableSubscriber() {};
+        var subscribers = Can.<Object>of(sync, async);
+
+        assertEquals(List.of(sync), pipeline.synchronousSubscribers(subscribers).toList());
+        assertEquals(List.of(async), pipeline.asynchronousSubscribers(subscribers).toList());
+    }
+
+    // -- HELPER
+
+    static AsyncPublishingPipeline pipeline(final int capacity, final OverflowPolicy overflowPolicy) {
+        var configuration = new CausewayConfiguration(null, Optional.empty());
+        var async = configuration.getCore().getRuntimeServices().getPublishing().getAsync();
+        async.setEnabled(true);
+        async.setCapacity(capacity);
+        async.setOverflowPolicy(overflowPolicy);
+        var pipeline = new AsyncPublishingPipeline(configuration);
+        pipeline.init();
+        return pipeline;
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
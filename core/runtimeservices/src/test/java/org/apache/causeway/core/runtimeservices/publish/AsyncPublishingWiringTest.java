@@ -0,0 +1,209 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.clock.VirtualClock;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.command.Command;
+import org.apache.causeway.applib.services.command.Command.CommandPublishingPhase;
+import org.apache.causeway.applib.services.iactn.ActionInvocation;
+import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.applib.services.iactn.Interaction;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.applib.services.publishing.spi.AsyncCapableSubscriber;
+import org.apache.causeway.applib.services.publishing.spi.CommandSubscriber;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber;
+import org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.causeway.applib.services.user.UserService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.Publishing.Async.OverflowPolicy;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
+import org.apache.causeway.schema.cmd.v2.ActionDto;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
+
+/**
+ * Verifies, that the execution, command and entity property change publishers
+ * notify synchronous subscribers on the publishing thread,
+ * but hand over to the {@link AsyncPublishingPipeline} for {@link AsyncCapableSubscriber}s.
+ */
+class AsyncPublishingWiringTest {
+
+    private static final String ASYNC_THREAD_NAME = "causeway-async-publishing";
+
+    private AsyncPublishingPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = AsyncPublishingPipelineTest.pipeline(16, OverflowPolicy.BLOCK);
+    }
+
+    @Test
+    void executionPublisher_shouldHandOverSnapshot() throws Exception {
+        var sync = new RecordingExecutionSubscriber();
+        var async = new AsyncRecordingExecutionSubscriber();
+        var publisher = new ExecutionPublisherDefault(List.of(sync, async), mock(InteractionLayerTracker.class), pipeline);
+        publisher.init();
+
+        var execution = new ActionInvocation(
+                mock(Interaction.class),
+                Identifier.actionIdentifier(LogicalType.fqcn(Customer.class), "placeOrder"),
+                new Customer(),
+                List.of());
+        var dto = new ActionInvocationDto();
+        dto.setUsername("sven");
+        execution.setDto(dto);
+
+        publisher.publishActionInvocation(execution);
+        dto.setUsername("changed after publishing");
+        pipeline.shutdown();
+
+        assertSame(execution, sync.received.get(0));
+        assertEquals(Thread.currentThread().getName(), sync.threadNames.get(0));
+
+        var published = async.received.get(0);
+        assertNotSame(execution, published);
+        assertEquals("sven", published.getDto().getUsername());
+        assertSame(execution.getTarget(), published.getTarget());
+        assertEquals(ASYNC_THREAD_NAME, async.threadNames.get(0));
+    }
+
+    @Test
+    void commandPublisher_shouldHandOverSnapshot() throws Exception {
+        var sync = new RecordingCommandSubscriber();
+        var async = new AsyncRecordingCommandSubscriber();
+        var publisher = new CommandPublisherDefault(
+                List.of(sync, async), ()->mock(InteractionLayerTracker.class), pipeline);
+
+        var command = new Command(UUID.randomUUID());
+        var commandDto = new CommandDto();
+        commandDto.setInteractionId(command.getInteractionId().toString());
+        var member = new ActionDto();
+        member.setLogicalMemberIdentifier("demo.Customer#placeOrder");
+        commandDto.setMember(member);
+        command.updater().setCommandDtoAndIdentifier(commandDto);
+        command.updater().setPublishingPhase(CommandPublishingPhase.READY);
+
+        publisher.ready(command);
+        command.updater().setPublishingPhase(CommandPublishingPhase.STARTED);
+        pipeline.shutdown();
+
+        assertSame(command, sync.received.get(0));
+        assertEquals(Thread.currentThread().getName(), sync.threadNames.get(0));
+
+        var published = async.received.get(0);
+        assertNotSame(command, published);
+        assertEquals(CommandPublishingPhase.READY, published.getPublishingPhase());
+        assertEquals(command.getInteractionId(), published.getInteractionId());
+        assertEquals(ASYNC_THREAD_NAME, async.threadNames.get(0));
+    }
+
+    @Test
+    void entityPropertyChangePublisher_shouldHandOverChanges() throws Exception {
+        var sync = new RecordingEntityPropertyChangeSubscriber();
+        var async = new AsyncRecordingEntityPropertyChangeSubscriber();
+
+        var change = EntityPropertyChange.of(UUID.randomUUID(), 0,
+                Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "1"),
+                "demo.Customer#name", "name", "Sven", "Svenja", "sven",
+                new Timestamp(System.currentTimeMillis()));
+        var enlisted = mock(HasEnlistedEntityPropertyChanges.class);
+        when(enlisted.getPropertyChanges(any(), any(), any())).thenReturn(Can.of(change));
+        var clockService = mock(ClockService.class);
+        when(clockService.getClock()).thenReturn(VirtualClock.system());
+        var userService = mock(UserService.class);
+        when(userService.currentUserNameElseNobody()).thenReturn("sven");
+        var transactionService = mock(TransactionService.class);
+        when(transactionService.currentTransactionId()).thenReturn(Optional.empty());
+
+        var publisher = new EntityPropertyChangePublisherDefault(
+                List.of(sync, async), userService, clockService, transactionService,
+                mock(InteractionLayerTracker.class), ()->enlisted,
+                new CausewayConfiguration(null, Optional.empty()), pipeline);
+        publisher.init();
+
+        publisher.publishChangedProperties();
+        pipeline.shutdown();
+
+        assertEquals(List.of(change), sync.received);
+        assertEquals(Thread.currentThread().getName(), sync.threadNames.get(0));
+        assertEquals(List.of(change), async.received);
+        assertEquals(ASYNC_THREAD_NAME, async.threadNames.get(0));
+    }
+
+    // -- HELPER
+
+    static class Customer {
+    }
+
+    static class Recording<T> {
+        final List<T> received = new CopyOnWriteArrayList<>();
+        final List<String> threadNames = new CopyOnWriteArrayList<>();
+        void record(final T value) {
+            received.add(value);
+            threadNames.add(Thread.currentThread().getName());
+        }
+    }
+
+    static class RecordingExecutionSubscriber extends Recording<Execution<?, ?>> implements ExecutionSubscriber {
+        @Override public void onExecution(final Execution<?, ?> execution) { record(execution); }
+    }
+
+    static class AsyncRecordingExecutionSubscriber extends RecordingExecutionSubscriber implements AsyncCapableSubscriber {
+    }
+
+    static class RecordingCommandSubscriber extends Recording<Command> implements CommandSubscriber {
+        @Override public void onReady(final Command command) { record(command); }
+        @Override public void onStarted(final Command command) { record(command); }
+        @Override public void onCompleted(final Command command) { record(command); }
+    }
+
+    static class AsyncRecordingCommandSubscriber extends RecordingCommandSubscriber implements AsyncCapableSubscriber {
+    }
+
+    static class RecordingEntityPropertyChangeSubscriber extends Recording<EntityPropertyChange> implements EntityPropertyChangeSubscriber {
+        @Override public void onChanging(final EntityPropertyChange entityPropertyChange) { record(entityPropertyChange); }
+    }
+
+    static class AsyncRecordingEntityPropertyChangeSubscriber extends RecordingEntityPropertyChangeSubscriber implements AsyncCapableSubscriber {
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.session;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InteractionIdGeneratorDefaultTest {
+
+    @Test
+    void shouldGenerateVersion7Uuids() {
+        var uuid = new InteractionIdGeneratorDefault().interactionId();
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void shouldBeOrderedByCreationTime() {
+        var earlier = InteractionIdGeneratorDefault.timeOrderedUuid(1_700_000_000_000L);
+        var later = InteractionIdGeneratorDefault.timeOrderedUuid(1_700_000_000_001L);
+        assertTrue(Long.compareUnsigned(
+                earlier.getMostSignificantBits(),
+                later.getMostSignificantBits()) < 0);
+        assertEquals(1_700_000_000_000L, earlier.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void shouldBeUniqueWithinSameMillisecond() {
+        assertNotEquals(
+                InteractionIdGeneratorDefault.timeOrderedUuid(1_700_000_000_000L),
+                InteractionIdGeneratorDefault.timeOrderedUuid(1_700_000_000_000L));
+    }
+
+}
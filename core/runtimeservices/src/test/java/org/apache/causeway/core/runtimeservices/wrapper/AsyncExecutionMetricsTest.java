@@ -0,0 +1,128 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.wrapper;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncExecutionMetricsTest {
+
+    @Test
+    void shouldBoundConcurrencyPerMemberAndRecordCompletions() throws Exception {
+        var metrics = new AsyncExecutionMetrics();
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var running = new AtomicInteger();
+            var maxObserved = new AtomicInteger();
+            Callable<Integer> task = ()->{
+                maxObserved.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(10);
+                running.decrementAndGet();
+                return 1;
+            };
+
+            var futures = new ArrayList<Future<Integer>>();
+            for(int i=0; i<16; ++i) {
+                futures.add(metrics.submit(executor, "demo.Customer#placeOrder", 2, task));
+            }
+            for(var future : futures) {
+                assertEquals(1, future.get(10, TimeUnit.SECONDS));
+            }
+
+            assertTrue(maxObserved.get()<=2);
+
+            var snapshot = metrics.snapshot().get("demo.Customer#placeOrder");
+            assertEquals(0, snapshot.getQueueDepth());
+            assertEquals(0, snapshot.getRunning());
+            assertEquals(16L, snapshot.getCompleted());
+            assertTrue(snapshot.getMaxRunTime().toMillis()>=10);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldQueueExcessTasks_withoutBlockingTheSubmitter() throws Exception {
+        var metrics = new AsyncExecutionMetrics();
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            var first = metrics.submit(executor, "demo.Customer#placeOrder", 1, ()->{
+                started.countDown();
+                release.await();
+                return 1;
+            });
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            // returns right away, the task being queued until the first one completes
+            var second = metrics.submit(executor, "demo.Customer#placeOrder", 1, ()->2);
+
+            // the other pool thread is still available to other members
+            var other = metrics.submit(executor, "demo.Customer#cancelOrder", 1, ()->3);
+            assertEquals(3, other.get(10, TimeUnit.SECONDS));
+            assertFalse(first.isDone());
+            assertFalse(second.isDone());
+            var snapshot = metrics.snapshot().get("demo.Customer#placeOrder");
+            assertEquals(1, snapshot.getRunning());
+            assertEquals(1, snapshot.getQueueDepth());
+
+            release.countDown();
+            assertEquals(1, first.get(10, TimeUnit.SECONDS));
+            assertEquals(2, second.get(10, TimeUnit.SECONDS));
+            assertEquals(0, metrics.snapshot().get("demo.Customer#placeOrder").getQueueDepth());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFailQueuedTask_whenRejectedByExecutor() throws Exception {
+        var metrics = new AsyncExecutionMetrics();
+        var executor = Executors.newSingleThreadExecutor();
+        var release = new CountDownLatch(1);
+        var first = metrics.submit(executor, "demo.Customer#placeOrder", 1, ()->{
+            release.await();
+            return 1;
+        });
+        var second = metrics.submit(executor, "demo.Customer#placeOrder", 1, ()->2);
+
+        executor.shutdown();
+        release.countDown();
+        assertEquals(1, first.get(10, TimeUnit.SECONDS));
+
+        var ex = assertThrows(ExecutionException.class, ()->second.get(10, TimeUnit.SECONDS));
+        assertTrue(ex.getCause() instanceof RejectedExecutionException);
+        assertEquals(0, metrics.snapshot().get("demo.Customer#placeOrder").getQueueDepth());
+    }
+
+}
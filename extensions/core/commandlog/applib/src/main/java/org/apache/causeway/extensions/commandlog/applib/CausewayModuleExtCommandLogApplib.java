@@ -34,6 +34,7 @@
 import org.apache.causeway.extensions.commandlog.applib.dom.mixins.CommandLogEntry_openResultObject;
 import org.apache.causeway.extensions.commandlog.applib.dom.mixins.CommandLogEntry_siblingCommands;
 import org.apache.causeway.extensions.commandlog.applib.fakescheduler.FakeScheduler;
+import org.apache.causeway.extensions.commandlog.applib.job.BackgroundCommandsExecutor;
 import org.apache.causeway.extensions.commandlog.applib.job.BackgroundCommandsJobControl;
 import org.apache.causeway.extensions.commandlog.applib.job.RunBackgroundCommandsJob;
 import org.apache.causeway.extensions.commandlog.applib.subscriber.CommandSubscriberForCommandLog;
@@ -60,6 +61,7 @@
         CommandLogEntry.TableColumnOrderDefault.class,
 
         BackgroundCommandsJobControl.class,
+        BackgroundCommandsExecutor.class,
 
         BackgroundService.class,
         BackgroundService.PersistCommandExecutorService.class,
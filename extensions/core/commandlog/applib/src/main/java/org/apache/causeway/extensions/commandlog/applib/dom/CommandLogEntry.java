@@ -150,6 +150,23 @@ public static class Nq {
         public static final String FIND_BY_REPLAY_STATE                 = LOGICAL_TYPE_NAME + ".findNotYetReplayed";
         public static final String FIND_BACKGROUND_AND_NOT_YET_STARTED  = LOGICAL_TYPE_NAME + ".findBackgroundAndNotYetStarted";
         public static final String FIND_RECENT_BACKGROUND_BY_TARGET     = LOGICAL_TYPE_NAME + ".findRecentBackgroundByTarget";
+        /**
+         * Background commands that can be claimed: those not yet started, plus those claimed (started) before
+         * <code>staleBefore</code> but never completed, for example because the node that claimed them crashed.
+         */
+        public static final String FIND_BACKGROUND_CLAIMABLE            = LOGICAL_TYPE_NAME + ".findBackgroundClaimable";
+        /**
+         * Background commands (not yet completed) whose <code>claimToken</code> is the given <code>claimToken</code>,
+         * that is, those claimed by the caller that generated the token.
+         */
+        public static final String FIND_BACKGROUND_CLAIMED_BY           = LOGICAL_TYPE_NAME + ".findBackgroundClaimedBy";
+        /**
+         * Bulk update that sets <code>startedAt</code> to <code>claimedAt</code> and <code>claimToken</code> to the
+         * caller's (unique) <code>claimToken</code> for those of the background commands with given
+         * <code>interactionIds</code> that can (still) be claimed, as per {@link #FIND_BACKGROUND_CLAIMABLE};
+         * the number of rows affected says how many the caller claimed.
+         */
+        public static final String CLAIM_BACKGROUND                     = LOGICAL_TYPE_NAME + ".claimBackground";
     }
 
     @Programmatic
@@ -338,6 +355,15 @@ class DomainEvent extends PropertyDomainEvent<org.apache.causeway.extensions.com
     public abstract UUID getParentInteractionId();
     public abstract void setParentInteractionId(UUID parentInteractionId);
 
+    /**
+     * Identifies the (most recent) claim of a background command, unique per call to
+     * {@link CommandLogEntryRepository#claimBackground(int, java.sql.Timestamp, java.sql.Timestamp)}, so that
+     * each caller can tell which commands it claimed, even if several callers claim at the very same time.
+     */
+    @Domain.Exclude
+    public abstract UUID getClaimToken();
+    public abstract void setClaimToken(UUID claimToken);
+
     @Property(
             domainEvent = Parent.DomainEvent.class,
             optionality = Optionality.OPTIONAL
@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.dom;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -126,6 +127,28 @@ List<CommandLogEntry> findByTargetAndFromAndTo(
      */
     List<CommandLogEntry> findBackgroundAndNotYetStarted();
 
+    /**
+     * Claims up to {@code limit} background commands (oldest first), by setting their
+     * {@link CommandLogEntry#getStartedAt() startedAt} to {@code claimedAt} (and their
+     * {@link CommandLogEntry#getClaimToken() claimToken} to a token unique to this call) using a single conditional
+     * bulk update, and returns those that were claimed.
+     *
+     * <p>
+     * Commands can be claimed if not yet started, or if claimed before {@code reclaimIfClaimedBefore} but never
+     * completed (for example, because the node that claimed them crashed); the latter acts as a lease, that is not
+     * extended while the command executes.
+     * </p>
+     *
+     * <p>
+     * A command claimed concurrently by some other caller (another worker or another node) is skipped, so is never
+     * executed twice.  The claim is only durable once the enclosing transaction commits.
+     * </p>
+     */
+    List<CommandLogEntry> claimBackground(
+            final int limit,
+            final Timestamp claimedAt,
+            final Timestamp reclaimIfClaimedBefore);
+
     List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target);
 
     /**
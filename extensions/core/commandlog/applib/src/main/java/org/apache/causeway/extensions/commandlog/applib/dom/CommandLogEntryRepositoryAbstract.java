@@ -27,6 +27,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -289,6 +290,74 @@ public List<CommandLogEntry> findBackgroundAndNotYetStarted() {
                     Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)));
     }
 
+    @Override
+    public List<CommandLogEntry> claimBackground(
+            final int limit,
+            final Timestamp claimedAt,
+            final Timestamp reclaimIfClaimedBefore) {
+
+        final List<C> claimable = repositoryService().allMatches(
+                Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_CLAIMABLE)
+                        .withParameter("staleBefore", reclaimIfClaimedBefore)
+                        .withLimit(limit));
+        if(claimable.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        var interactionIds = claimable.stream()
+                .map(CommandLogEntry::getInteractionId)
+                .collect(Collectors.toList());
+        // unique to this call, as claimedAt might well coincide with that of a concurrent caller
+        var claimToken = UUID.randomUUID();
+        var claimedCount = claim(interactionIds, claimedAt, claimToken, reclaimIfClaimedBefore);
+        if(claimedCount == claimable.size()) {
+            return _Casts.uncheckedCast(claimable);
+        }
+
+        // some were claimed concurrently by another caller, so keep (in order) only those claimed by this call
+        var claimedInteractionIds = repositoryService().allMatches(
+                Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_CLAIMED_BY)
+                        .withParameter("claimToken", claimToken))
+                .stream()
+                .map(CommandLogEntry::getInteractionId)
+                .collect(Collectors.toSet());
+        return claimable.stream()
+                .filter(commandLogEntry -> claimedInteractionIds.contains(commandLogEntry.getInteractionId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sets the {@link CommandLogEntry#getStartedAt() startedAt} and {@link CommandLogEntry#getClaimToken() claimToken}
+     * of those of the background commands with given interactionIds that can (still) be claimed, returning how many
+     * were.
+     *
+     * <p>
+     * This default implementation updates each entry in turn and so is not atomic across transactions; the JPA and
+     * JDO implementations override it with a single conditional bulk update
+     * ({@link CommandLogEntry.Nq#CLAIM_BACKGROUND}).
+     * </p>
+     */
+    protected int claim(
+            final List<UUID> interactionIds,
+            final Timestamp claimedAt,
+            final UUID claimToken,
+            final Timestamp reclaimIfClaimedBefore) {
+        var claimedCount = 0;
+        for (var interactionId : interactionIds) {
+            var commandLogEntry = findByInteractionIdElseNull(interactionId);
+            if(commandLogEntry == null
+                    || commandLogEntry.getCompletedAt() != null
+                    || (commandLogEntry.getStartedAt() != null
+                            && !commandLogEntry.getStartedAt().before(reclaimIfClaimedBefore))) {
+                continue;
+            }
+            commandLogEntry.setStartedAt(claimedAt);
+            commandLogEntry.setClaimToken(claimToken);
+            claimedCount++;
+        }
+        return claimedCount;
+    }
+
     public List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target) {
         return _Casts.uncheckedCast(
                 repositoryService().allMatches(
@@ -0,0 +1,207 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.job;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.inject.Inject;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.Programmatic;
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Provides the bounded pool of worker threads used by {@link RunBackgroundCommandsJob} to execute commands
+ * concurrently (if so {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#getParallelism()
+ * configured}), and keeps per-command latency metrics.
+ *
+ * <p>
+ *     Unlike the job itself, this service is a singleton, so the pool and the metrics survive between runs.
+ * </p>
+ *
+ * @see RunBackgroundCommandsJob
+ */
+@Service
+@Log4j2
+public class BackgroundCommandsExecutor implements DisposableBean {
+
+    /**
+     * How long {@link #destroy()} waits for the commands being executed to complete, before interrupting them.
+     */
+    static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands config;
+
+    private final _Lazy<ThreadPoolExecutor> threadPool = _Lazy.threadSafe(this::newThreadPool);
+
+    private final LongAdder executedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder totalLatencyMillis = new LongAdder();
+    private final LongAccumulator maxLatencyMillis = new LongAccumulator(Math::max, 0L);
+
+    @Inject
+    public BackgroundCommandsExecutor(final CausewayConfiguration causewayConfiguration) {
+        this.config = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+    }
+
+    @Programmatic
+    public boolean isParallel() {
+        return config.getParallelism() > 1;
+    }
+
+    /**
+     * Runs the given task on a worker thread; if all are busy and the queue is full, runs it on the calling
+     * thread instead (so applying backpressure).
+     *
+     * <p>
+     *     The returned future always completes: exceptionally if the task fails, or if it is rejected because this
+     *     executor is being shut down.
+     * </p>
+     */
+    @Programmatic
+    public CompletableFuture<Void> submit(final Runnable task) {
+        var future = new CompletableFuture<Void>();
+        try {
+            threadPool.get().execute(() -> {
+                try {
+                    task.run();
+                    future.complete(null);
+                } catch (Throwable ex) {
+                    future.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    @Programmatic
+    public void recordLatency(final long latencyMillis, final boolean success) {
+        executedCount.increment();
+        if(!success) {
+            failedCount.increment();
+        }
+        totalLatencyMillis.add(latencyMillis);
+        maxLatencyMillis.accumulate(latencyMillis);
+    }
+
+    // -- METRICS
+
+    /**
+     * The number of commands executed (successfully or not) since start-up.
+     */
+    @Programmatic
+    public long getExecutedCount() {
+        return executedCount.longValue();
+    }
+
+    /**
+     * The number of commands whose execution failed since start-up.
+     */
+    @Programmatic
+    public long getFailedCount() {
+        return failedCount.longValue();
+    }
+
+    @Programmatic
+    public long getMaxLatencyMillis() {
+        return maxLatencyMillis.get();
+    }
+
+    @Programmatic
+    public double getMeanLatencyMillis() {
+        var count = executedCount.longValue();
+        return count > 0
+                ? (double) totalLatencyMillis.longValue() / count
+                : 0d;
+    }
+
+    /**
+     * The number of per-target groups of commands currently waiting for a worker thread.
+     */
+    @Programmatic
+    public int getQueueSize() {
+        return threadPool.isMemoized()
+                ? threadPool.get().getQueue().size()
+                : 0;
+    }
+
+    // -- LIFECYCLE
+
+    @Override
+    public void destroy() {
+        if(!threadPool.isMemoized()) {
+            return;
+        }
+        var executor = threadPool.get();
+        executor.shutdown();
+        try {
+            if(!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("background commands still executing after {}s, interrupting", SHUTDOWN_TIMEOUT_SECONDS);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // -- HELPER
+
+    private ThreadPoolExecutor newThreadPool() {
+        var threadCount = new AtomicInteger();
+        var parallelism = config.getParallelism();
+        log.info("starting {} worker threads for background commands", parallelism);
+        return new ThreadPoolExecutor(
+                parallelism, parallelism,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                runnable -> {
+                    var thread = new Thread(runnable, "causeway-background-command-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                BackgroundCommandsExecutor::runOnCallerUnlessShutdown);
+    }
+
+    /**
+     * As per {@link ThreadPoolExecutor.CallerRunsPolicy}, except that once shut down, the task is rejected rather
+     * than silently discarded (which would leave its future incomplete forever).
+     */
+    private static void runOnCallerUnlessShutdown(final Runnable runnable, final ThreadPoolExecutor executor) {
+        if(executor.isShutdown()) {
+            throw new RejectedExecutionException("background commands executor has been shut down");
+        }
+        runnable.run();
+    }
+
+}
@@ -19,9 +19,15 @@
 package org.apache.causeway.extensions.commandlog.applib.job;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -35,6 +41,7 @@
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.applib.services.command.CommandExecutorService;
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
@@ -61,6 +68,21 @@
  * executes them.
  *
  * <p>
+ *     Each batch of commands is claimed (by setting their <code>startedAt</code> and a claim token unique to the
+ *     claiming run) within its own transaction before being executed, so that several nodes can safely drain the
+ *     same queue.  Commands claimed but not completed within the configured claim timeout (for example, because
+ *     the claiming node crashed) are claimed again.  Within a node, the commands of a batch are executed
+ *     concurrently (per target) if so configured, see {@link BackgroundCommandsExecutor}.
+ * </p>
+ *
+ * <p>
+ *     A claim is a lease that is not extended while its command executes: the claim timeout
+ *     (<code>causeway.extensions.command-log.run-background-commands.claim-timeout-in-minutes</code>) must exceed
+ *     the time it takes to execute the longest running background command (plus the time it waits for its turn
+ *     within its batch), as otherwise it is claimed and executed once more by another run.
+ * </p>
+ *
+ * <p>
  *     Note that although this is a component, a new instance is created for each run.  It is for this reason that
  *     the control is managed through the injected {@link BackgroundCommandsJobControl}
  * </p>
@@ -84,6 +106,7 @@ public class RunBackgroundCommandsJob implements Job {
     @Inject CommandLogEntryRepository commandLogEntryRepository;
     @Inject CommandExecutorService commandExecutorService;
     @Inject BackgroundCommandsJobControl backgroundCommandsJobControl;
+    @Inject BackgroundCommandsExecutor backgroundCommandsExecutor;
     @Inject DeadlockRecognizer deadlockRecognizer;
 
     @Inject List<RunBackgroundCommandsJobListener> listeners;
@@ -105,18 +128,9 @@ public void execute(final JobExecutionContext quartzContext) {
 
         // for each command, we execute within its own transaction.  Failure of one should not impact the next.
         commandDtosIfAny.ifPresent(commandDtos -> {
-            List<CommandAndResult> commandResults = new ArrayList<>();
-            for (CommandDto dto : commandDtos) {
-                Try<?> attempt = executeCommandWithinTransaction(dto, interactionContext);
-                if(attempt.isFailure()) {
-                    var onFailurePolicy = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getOnFailurePolicy();
-                    if (onFailurePolicy == CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.OnFailurePolicy.STOP_THE_LINE) {
-                        break;
-                    }
-                }
-                CommandAndResult apply = CommandAndResult.of(dto, attempt);
-                commandResults.add(apply);
-            }
+            List<CommandAndResult> commandResults = backgroundCommandsExecutor.isParallel()
+                    ? executeConcurrentlyPerTarget(commandDtos, interactionContext)
+                    : executeSerially(commandDtos, interactionContext);
 
             // an enhancement for the listener interface would be to say whether each interaction succeeded or not
             // whether his is relevant depends on the onFailurePolicy (if it's set to STOP_THE_LINE, then everything passed on will have succeeded)
@@ -131,6 +145,108 @@ public void execute(final JobExecutionContext quartzContext) {
         });
     }
 
+    private List<CommandAndResult> executeSerially(
+            final List<CommandDto> commandDtos,
+            final InteractionContext interactionContext) {
+        List<CommandAndResult> commandResults = new ArrayList<>();
+        for (CommandDto dto : commandDtos) {
+            Try<?> attempt = executeCommandAndRecordLatency(dto, interactionContext);
+            if(attempt.isFailure() && isStopTheLine()) {
+                // the failed command and any not yet attempted were claimed, so release them to be retried
+                releaseClaims(commandDtos.subList(commandDtos.indexOf(dto), commandDtos.size()), interactionContext);
+                break;
+            }
+            CommandAndResult apply = CommandAndResult.of(dto, attempt);
+            commandResults.add(apply);
+        }
+        return commandResults;
+    }
+
+    /**
+     * Commands are grouped by their (first) target; each group is executed serially in the order submitted, while
+     * different groups are executed concurrently by the {@link BackgroundCommandsExecutor}.
+     *
+     * <p>
+     *     With {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.OnFailurePolicy#STOP_THE_LINE},
+     *     a failure prevents any further command (of any group) from being started; those not attempted are released
+     *     to be retried, while those already running in other groups are allowed to complete.
+     * </p>
+     */
+    private List<CommandAndResult> executeConcurrentlyPerTarget(
+            final List<CommandDto> commandDtos,
+            final InteractionContext interactionContext) {
+
+        var commandDtosByTarget = commandDtos.stream()
+                .collect(Collectors.groupingBy(
+                        RunBackgroundCommandsJob::targetOf, LinkedHashMap::new, Collectors.toList()));
+
+        var lineStopped = new AtomicBoolean();
+        var resultsByInteractionId = new ConcurrentHashMap<String, CommandAndResult>();
+
+        var futures = commandDtosByTarget.values().stream()
+                .map(commandDtosForTarget -> backgroundCommandsExecutor.submit(() -> {
+                    for (int i = 0; i < commandDtosForTarget.size(); i++) {
+                        var dto = commandDtosForTarget.get(i);
+                        if(lineStopped.get()) {
+                            releaseClaims(commandDtosForTarget.subList(i, commandDtosForTarget.size()), interactionContext);
+                            return;
+                        }
+                        Try<?> attempt = executeCommandAndRecordLatency(dto, interactionContext);
+                        if(attempt.isFailure() && isStopTheLine()) {
+                            lineStopped.set(true);
+                            releaseClaims(commandDtosForTarget.subList(i, commandDtosForTarget.size()), interactionContext);
+                            return;
+                        }
+                        resultsByInteractionId.put(dto.getInteractionId(), CommandAndResult.of(dto, attempt));
+                    }
+                })
+                .exceptionally(throwable -> {
+                    // eg. rejected as shutting down; those not executed were claimed, so release them to be retried
+                    log.warn("Failed to execute background commands for target {}", targetOf(commandDtosForTarget.get(0)), throwable);
+                    releaseClaims(
+                            commandDtosForTarget.stream()
+                                .filter(dto -> !resultsByInteractionId.containsKey(dto.getInteractionId()))
+                                .collect(Collectors.toList()),
+                            interactionContext);
+                    return null;
+                }))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures).join();
+
+        // in the order submitted
+        return commandDtos.stream()
+                .map(dto -> resultsByInteractionId.get(dto.getInteractionId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static String targetOf(final CommandDto commandDto) {
+        var targets = commandDto.getTargets();
+        return targets != null && !targets.getOid().isEmpty()
+                ? Bookmark.forOidDto(targets.getOid().get(0)).stringify()
+                : commandDto.getInteractionId(); // no target, so unrelated to any other command
+    }
+
+    private boolean isStopTheLine() {
+        var onFailurePolicy = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getOnFailurePolicy();
+        return onFailurePolicy == CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.OnFailurePolicy.STOP_THE_LINE;
+    }
+
+    private Try<?> executeCommandAndRecordLatency(
+            final CommandDto commandDto,
+            final InteractionContext interactionContext) {
+        var startedAtNanos = System.nanoTime();
+        var attempt = executeCommandWithinTransaction(commandDto, interactionContext);
+        var latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+        backgroundCommandsExecutor.recordLatency(latencyMillis, attempt.isSuccess());
+        if(log.isDebugEnabled()) {
+            log.debug("executed command {} in {}ms ({})",
+                    commandDto.getInteractionId(), latencyMillis, attempt.isSuccess() ? "success" : "failure");
+        }
+        return attempt;
+    }
+
     @Getter
     @RequiredArgsConstructor(staticName = "of")
     static class CommandAndResult {
@@ -139,12 +255,17 @@ static class CommandAndResult {
     }
 
     private Optional<List<CommandDto>> pendingCommandDtos(final InteractionContext interactionContext) {
+        var config = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+        var claimedAt = clockService.getClock().nowAsJavaSqlTimestamp();
+        var reclaimIfClaimedBefore = new java.sql.Timestamp(
+                claimedAt.getTime() - TimeUnit.MINUTES.toMillis(config.getClaimTimeoutInMinutes()));
         return interactionService.callAndCatch(interactionContext, () ->
             transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
-                commandLogEntryRepository.findBackgroundAndNotYetStarted()
+                // the page is fetched and claimed by the database in bulk, so that concurrent runs (eg on other
+                // nodes) never pick up the same command
+                commandLogEntryRepository.claimBackground(config.getBatchSize(), claimedAt, reclaimIfClaimedBefore)
                         .stream()
                         .map(CommandLogEntry::getCommandDto)
-                        .limit(causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getBatchSize())
                         .collect(Collectors.toList())
                 )
                 .ifFailureFail()
@@ -173,6 +294,10 @@ private Try<?> executeCommandWithinTransaction(
                 }
 
                 var commandLogEntry = commandLogEntryIfAny.get();
+                if(commandLogEntry.getCompletedAt() != null) {
+                    // completed meanwhile by a previous claimant, whose claim had timed out
+                    return Try.empty();
+                }
                 return commandExecutorService.executeCommand(
                             CommandExecutorService.InteractionContextPolicy.NO_SWITCH, commandDto)
                         .ifSuccess(
@@ -258,6 +383,23 @@ private void captureFailure(final Throwable throwable, final CommandDto commandD
         });
     }
 
+    /**
+     * Reverts the claim made by {@link #pendingCommandDtos(InteractionContext)}, for those commands that did not
+     * complete, so that they are picked up again.
+     */
+    private void releaseClaims(final List<CommandDto> commandDtos, final InteractionContext interactionContext) {
+        interactionService.runAndCatch(interactionContext, () -> {
+            commandDtos.forEach(commandDto ->
+                commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()))
+                    .filter(commandLogEntry -> commandLogEntry.getCompletedAt() == null)
+                    .ifPresent(commandLogEntry -> {
+                        commandLogEntry.setStartedAt(null);
+                        commandLogEntry.setClaimToken(null);
+                    }));
+        })
+        .ifFailure(throwable -> log.error("Failed to release claims on background commands", throwable));
+    }
+
     private void invokeListenerCallbackWithinTransaction(
             final RunBackgroundCommandsJobListener listener,
             final List<String> interactionIds,
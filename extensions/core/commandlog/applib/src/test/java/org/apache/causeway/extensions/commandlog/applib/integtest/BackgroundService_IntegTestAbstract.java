@@ -18,7 +18,16 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.integtest;
 
+import java.sql.Timestamp;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 
@@ -209,6 +218,144 @@ void using_background_service() {
 
     }
 
+    @Test
+    void concurrent_claimers_never_claim_the_same_command() throws Exception {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        givenBackgroundCommands(6);
+
+        var claimedAt1 = new Timestamp(System.currentTimeMillis());
+        var claimedAt2 = new Timestamp(claimedAt1.getTime() + 1);
+        var reclaimIfClaimedBefore = new Timestamp(claimedAt1.getTime() - TimeUnit.HOURS.toMillis(1));
+
+        // when
+        var startLine = new CyclicBarrier(2);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var claimed1 = executor.submit(() -> claimInOwnInteraction(startLine, claimedAt1, reclaimIfClaimedBefore));
+            var claimed2 = executor.submit(() -> claimInOwnInteraction(startLine, claimedAt2, reclaimIfClaimedBefore));
+            var interactionIds1 = claimed1.get(30, TimeUnit.SECONDS);
+            var interactionIds2 = claimed2.get(30, TimeUnit.SECONDS);
+
+            // then
+            assertThat(interactionIds1).doesNotContainAnyElementsOf(interactionIds2);
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                commandLogEntryRepository.findAll().forEach(commandLogEntry -> {
+                    if(interactionIds1.contains(commandLogEntry.getInteractionId())) {
+                        assertThat(commandLogEntry.getStartedAt()).isEqualTo(claimedAt1);
+                    } else if(interactionIds2.contains(commandLogEntry.getInteractionId())) {
+                        assertThat(commandLogEntry.getStartedAt()).isEqualTo(claimedAt2);
+                    } else {
+                        assertThat(commandLogEntry.getStartedAt()).isNull();
+                    }
+                });
+            }).ifFailureFail();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrent_claimers_at_the_same_time_return_exactly_what_they_claimed() throws Exception {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        givenBackgroundCommands(6);
+
+        var claimedAt = new Timestamp(System.currentTimeMillis());
+        var reclaimIfClaimedBefore = new Timestamp(claimedAt.getTime() - TimeUnit.HOURS.toMillis(1));
+
+        // when
+        var startLine = new CyclicBarrier(2);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var claimed1 = executor.submit(() -> claimInOwnInteraction(startLine, claimedAt, reclaimIfClaimedBefore));
+            var claimed2 = executor.submit(() -> claimInOwnInteraction(startLine, claimedAt, reclaimIfClaimedBefore));
+            var interactionIds1 = claimed1.get(30, TimeUnit.SECONDS);
+            var interactionIds2 = claimed2.get(30, TimeUnit.SECONDS);
+
+            // then
+            assertThat(interactionIds1).doesNotContainAnyElementsOf(interactionIds2);
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                // commands claimed by the same call share its claim token, whatever their claimedAt
+                var interactionIdsByClaimToken = commandLogEntryRepository.findAll().stream()
+                        .filter(commandLogEntry -> commandLogEntry.getClaimToken() != null)
+                        .collect(Collectors.groupingBy(CommandLogEntry::getClaimToken,
+                                Collectors.mapping(CommandLogEntry::getInteractionId, Collectors.toSet())));
+                var claimedByEither = Stream.of(interactionIds1, interactionIds2)
+                        .filter(interactionIds -> !interactionIds.isEmpty())
+                        .map(Set::copyOf)
+                        .collect(Collectors.toList());
+                assertThat(interactionIdsByClaimToken.values()).containsExactlyInAnyOrderElementsOf(claimedByEither);
+            }).ifFailureFail();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void commands_of_crashed_claimer_are_claimed_again_once_claim_timed_out() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        givenBackgroundCommands(1);
+
+        var now = System.currentTimeMillis();
+        var twoHoursAgo = new Timestamp(now - TimeUnit.HOURS.toMillis(2));
+
+        // a claimer that then crashed, never completing the command
+        assertThat(claimInTransaction(twoHoursAgo, new Timestamp(now - TimeUnit.HOURS.toMillis(3)))).hasSize(1);
+
+        // when, then not claimed again while its claim has not yet timed out
+        assertThat(claimInTransaction(new Timestamp(now), new Timestamp(now - TimeUnit.HOURS.toMillis(3)))).isEmpty();
+
+        // when, then claimed again once it has
+        assertThat(claimInTransaction(new Timestamp(now), new Timestamp(now - TimeUnit.HOURS.toMillis(1)))).hasSize(1);
+    }
+
+    @SneakyThrows
+    private void givenBackgroundCommands(final int number) {
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            for (int i = 0; i < number; i++) {
+                backgroundService.execute(counter).bumpUsingDeclaredAction();
+            }
+        }).ifFailureFail();
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findAll()).hasSize(number);
+        }).ifFailureFail();
+    }
+
+    private List<UUID> claimInTransaction(final Timestamp claimedAt, final Timestamp reclaimIfClaimedBefore) {
+        return transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackground(10, claimedAt, reclaimIfClaimedBefore)
+                    .stream()
+                    .map(CommandLogEntry::getInteractionId)
+                    .collect(Collectors.toList()))
+            .ifFailureFail()
+            .getValue()
+            .orElseThrow();
+    }
+
+    private List<UUID> claimInOwnInteraction(
+            final CyclicBarrier startLine,
+            final Timestamp claimedAt,
+            final Timestamp reclaimIfClaimedBefore) {
+        return interactionService.callAnonymous(() -> {
+            startLine.await();
+            // a claimer giving up (eg on a lock timeout) claims nothing
+            return transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                    commandLogEntryRepository.claimBackground(10, claimedAt, reclaimIfClaimedBefore)
+                        .stream()
+                        .map(CommandLogEntry::getInteractionId)
+                        .collect(Collectors.toList()))
+                .getValue()
+                .orElse(Collections.emptyList());
+        });
+    }
+
     private void removeAllCommandLogEntriesAndCounters() {
         transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
             commandLogEntryRepository.removeAll();
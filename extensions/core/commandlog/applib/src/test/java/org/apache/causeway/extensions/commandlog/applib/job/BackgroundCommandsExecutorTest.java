@@ -0,0 +1,100 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.job;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+class BackgroundCommandsExecutorTest {
+
+    BackgroundCommandsExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        var causewayConfiguration = new CausewayConfiguration(null, Optional.empty());
+        causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().setParallelism(2);
+        executor = new BackgroundCommandsExecutor(causewayConfiguration);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    void destroy_waits_for_running_commands_to_complete() throws Exception {
+        var started = new CountDownLatch(1);
+        var completed = new AtomicBoolean();
+
+        var future = executor.submit(() -> {
+            started.countDown();
+            sleep(200);
+            completed.set(true);
+        });
+        started.await(5, TimeUnit.SECONDS);
+
+        executor.destroy();
+
+        assertThat(completed).isTrue();
+        assertThat(future).isCompleted();
+    }
+
+    @Test
+    void submit_after_destroy_completes_exceptionally_rather_than_never() throws Exception {
+        executor.submit(() -> {}).get(5, TimeUnit.SECONDS); // starts the pool
+        executor.destroy();
+
+        var future = executor.submit(() -> {});
+
+        assertThat(future).isCompletedExceptionally();
+        assertThatThrownBy(future::get)
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void failing_command_completes_future_exceptionally() {
+        var future = executor.submit(() -> { throw new IllegalStateException("boom"); });
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
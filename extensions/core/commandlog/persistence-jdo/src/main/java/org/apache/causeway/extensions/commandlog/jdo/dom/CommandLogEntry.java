@@ -22,6 +22,7 @@
 
 import javax.inject.Named;
 import javax.jdo.annotations.Column;
+import javax.jdo.annotations.Extension;
 import javax.jdo.annotations.IdentityType;
 import javax.jdo.annotations.Index;
 import javax.jdo.annotations.Indices;
@@ -187,6 +188,32 @@
                     + " WHERE executeIn == 'BACKGROUND' "
                     + "    && target    == :target "
                     + " ORDER BY timestamp DESC"),
+    @Query(
+            name  = Nq.FIND_BACKGROUND_CLAIMABLE,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE executeIn == 'BACKGROUND' "
+                  + "    && completedAt == null "
+                  + "    && (startedAt == null || startedAt < :staleBefore) "
+                  + " ORDER BY timestamp ASC "),
+    @Query(
+            name  = Nq.FIND_BACKGROUND_CLAIMED_BY,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE executeIn == 'BACKGROUND' "
+                  + "    && completedAt == null "
+                  + "    && claimToken == :claimToken "),
+    @Query(
+            name  = Nq.CLAIM_BACKGROUND,
+            value = "UPDATE " + CommandLogEntry.FQCN + " "
+                  + "   SET startedAt = :claimedAt, claimToken = :claimToken "
+                  + " WHERE :interactionIds.contains(interactionId) "
+                  + "    && completedAt == null "
+                  + "    && (startedAt == null || startedAt < :staleBefore) ",
+            extensions = {
+                    // JDOQL bulk updates must be enabled explicitly
+                    @Extension(vendorName = "datanucleus", key = "datanucleus.query.jdoql.allowAll", value = "true")
+            }),
     @Query(
             name  = Nq.FIND_MOST_RECENT_REPLAYED,
             value = "SELECT "
@@ -271,6 +298,11 @@ public CommandLogEntry(
     @Getter @Setter
     private UUID parentInteractionId;
 
+    @Column(allowsNull = "true", length = InteractionId.MAX_LENGTH)
+    @Domain.Exclude
+    @Getter @Setter
+    private UUID claimToken;
+
     @Column(allowsNull = LogicalMemberIdentifier.ALLOWS_NULL, length = LogicalMemberIdentifier.MAX_LENGTH)
     @LogicalMemberIdentifier
     @Getter @Setter
@@ -18,6 +18,12 @@
  */
 package org.apache.causeway.extensions.commandlog.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -26,6 +32,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jdo.CausewayModuleExtCommandLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -40,10 +47,36 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJdo.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JdoSupportService jdoSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    /**
+     * Uses a single conditional bulk update, so that of several concurrent callers (possibly on different nodes)
+     * only one will claim any given command.
+     */
+    @Override
+    protected int claim(
+            final List<UUID> interactionIds,
+            final Timestamp claimedAt,
+            final UUID claimToken,
+            final Timestamp reclaimIfClaimedBefore) {
+        var query = jdoSupportService.getPersistenceManager()
+                .newNamedQuery(CommandLogEntry.class, CommandLogEntry.Nq.CLAIM_BACKGROUND);
+        try {
+            var updated = (Number) query.executeWithMap(Map.of(
+                    "claimedAt", claimedAt,
+                    "claimToken", claimToken,
+                    "interactionIds", interactionIds,
+                    "staleBefore", reclaimIfClaimedBefore));
+            return updated.intValue();
+        } finally {
+            query.closeAll();
+        }
+    }
+
     /**
      * The DN annotation processor (from artifact {@literal org.datanucleus:datanucleus-jdo-query})
      * should  generate Q classes under 'target/generated-sources/annotations'.
@@ -194,6 +194,28 @@
                   + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
                   + "   AND cl.target    = :target "
                   + " ORDER BY cl.timestamp DESC"),
+    @NamedQuery(
+            name  = Nq.FIND_BACKGROUND_CLAIMABLE,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.completedAt is null "
+                  + "   AND (cl.startedAt is null OR cl.startedAt < :staleBefore) "
+                  + " ORDER BY cl.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.FIND_BACKGROUND_CLAIMED_BY,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.completedAt is null "
+                  + "   AND cl.claimToken = :claimToken"),
+    @NamedQuery(
+            name  = Nq.CLAIM_BACKGROUND,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.startedAt = :claimedAt, cl.claimToken = :claimToken "
+                  + " WHERE cl.pk.interactionId IN :interactionIds "
+                  + "   AND cl.completedAt is null "
+                  + "   AND (cl.startedAt is null OR cl.startedAt < :staleBefore)"),
     @NamedQuery(
             name  = Nq.FIND_MOST_RECENT_REPLAYED,
             query = "SELECT cl "
@@ -281,6 +303,12 @@ public void setInteractionId(final UUID interactionId) {
     @Getter @Setter
     private UUID parentInteractionId;
 
+    @Convert(converter = JavaUtilUuidConverter.class)
+    @Domain.Exclude
+    @Column(nullable = true, length = InteractionId.MAX_LENGTH)
+    @Getter @Setter
+    private UUID claimToken;
+
     @Column(nullable = LogicalMemberIdentifier.NULLABLE, length = LogicalMemberIdentifier.MAX_LENGTH)
     @LogicalMemberIdentifier
     @Getter @Setter
@@ -18,6 +18,11 @@
  */
 package org.apache.causeway.extensions.commandlog.jpa.dom;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -26,6 +31,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jpa.CausewayModuleExtCommandLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -40,8 +46,29 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJpa.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JpaSupportService jpaSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    /**
+     * Uses a single conditional bulk update, so that of several concurrent callers (possibly on different nodes)
+     * only one will claim any given command.
+     */
+    @Override
+    protected int claim(
+            final List<UUID> interactionIds,
+            final Timestamp claimedAt,
+            final UUID claimToken,
+            final Timestamp reclaimIfClaimedBefore) {
+        return jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNamedQuery(CommandLogEntry.Nq.CLAIM_BACKGROUND)
+                .setParameter("claimedAt", claimedAt)
+                .setParameter("claimToken", claimToken)
+                .setParameter("interactionIds", interactionIds)
+                .setParameter("staleBefore", reclaimIfClaimedBefore)
+                .executeUpdate();
+    }
+
 }
@@ -109,6 +109,9 @@ public static abstract class ActionDomainEvent extends CausewayModuleExtExecutio
     public static class Nq {
         public static final String FIND_BY_INTERACTION_ID_AND_SEQUENCE = LOGICAL_TYPE_NAME + ".findByInteractionIdAndSequence";
         public static final String FIND_OLDEST = LOGICAL_TYPE_NAME + ".findOldest";
+        public static final String FIND_OLDEST_AFTER = LOGICAL_TYPE_NAME + ".findOldestAfter";
+        public static final String FIND_AT_TIMESTAMP = LOGICAL_TYPE_NAME + ".findAtTimestamp";
+        public static final String DELETE_BY_INTERACTION_IDS_AND_SEQUENCE = LOGICAL_TYPE_NAME + ".deleteByInteractionIdsAndSequence";
     }
 
     @UtilityClass
@@ -24,6 +24,7 @@
 import java.util.UUID;
 
 import org.apache.causeway.applib.exceptions.RecoverableException;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
@@ -53,10 +54,27 @@ public NotFoundException(final UUID interactionId) {
 
     ExecutionOutboxEntry createEntryAndPersist(final Execution execution);
 
+    /**
+     * Creates and persists an entry for each of the provided executions, flushing only once all have been
+     * persisted (allowing the ORM to use JDBC batch inserts, if so configured).
+     */
+    List<ExecutionOutboxEntry> createEntriesAndPersist(final List<? extends Execution<?, ?>> executions);
+
     Optional<ExecutionOutboxEntry> findByInteractionIdAndSequence(final UUID interactionId, final int sequence);
 
     List<ExecutionOutboxEntry> findOldest();
 
+    /**
+     * Returns (up to the configured <code>maxBatch</code>) entries that follow the entry identified by the
+     * provided cursor, in the same order as {@link #findOldest()}.
+     *
+     * <p>
+     *     If the cursor entry no longer exists (eg has already been deleted), then the oldest entries are
+     *     returned instead; entries are therefore never skipped.
+     * </p>
+     */
+    List<ExecutionOutboxEntry> findOldestAfter(final UUID interactionId, final int sequence);
+
     ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -79,6 +97,14 @@ ExecutionOutboxEntry upsert(
 
     boolean deleteByInteractionIdAndSequence(final UUID interactionId, final int sequence);
 
+    /**
+     * Deletes the entries with the provided keys, using a bulk delete (per distinct sequence) where supported by
+     * the persistence mechanism.
+     *
+     * @return the number of entries actually deleted
+     */
+    int deleteByInteractionIdsAndSequences(final List<? extends HasInteractionIdAndSequence> keys);
+
     /**
      * for testing purposes only
      */
@@ -19,15 +19,20 @@
 package org.apache.causeway.extensions.executionoutbox.applib.dom;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.exceptions.RecoverableException;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.factory.FactoryService;
@@ -94,6 +99,12 @@ public E createEntryAndPersist(final Execution execution) {
         return e;
     }
 
+    public List<ExecutionOutboxEntry> createEntriesAndPersist(final List<? extends Execution<?, ?>> executions) {
+        return repositoryService().execInBulk(() -> executions.stream()
+                .<ExecutionOutboxEntry>map(this::createEntryAndPersist)
+                .collect(Collectors.toList()));
+    }
+
     public Optional<ExecutionOutboxEntry> findByInteractionIdAndSequence(final UUID interactionId, final int sequence) {
         return _Casts.uncheckedCast(
                 repositoryService().firstMatch(
@@ -113,6 +124,52 @@ public List<ExecutionOutboxEntry> findOldest() {
         );
     }
 
+    public List<ExecutionOutboxEntry> findOldestAfter(final UUID interactionId, final int sequence) {
+        var maxBatch = causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxBatch();
+        return findByInteractionIdAndSequence(interactionId, sequence)
+                .map(cursor -> findOldestAfter(cursor, maxBatch))
+                // the cursor entry has already been deleted, so restart from the oldest (never skips an entry)
+                .orElseGet(() -> _Casts.uncheckedCast(
+                        repositoryService().allMatches(
+                        Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_OLDEST)
+                                .withLimit(maxBatch)
+                        )
+                ));
+    }
+
+    /**
+     * The keyset is the cursor's timestamp only; entries sharing that timestamp are returned by the database in the
+     * same order as {@link #findOldest()}, and those up to (and including) the cursor are skipped by their key, so
+     * that no relational comparison on the (database specific) representation of the interactionId is needed.
+     */
+    private List<ExecutionOutboxEntry> findOldestAfter(final ExecutionOutboxEntry cursor, final int maxBatch) {
+        final List<ExecutionOutboxEntry> atTimestamp = _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_AT_TIMESTAMP)
+                        .withParameter("timestamp", cursor.getTimestamp())
+                ));
+        var cursorIndex = IntStream.range(0, atTimestamp.size())
+                .filter(i -> isSameKey(atTimestamp.get(i), cursor))
+                .findFirst()
+                .orElse(-1);
+        var batch = new ArrayList<ExecutionOutboxEntry>(
+                atTimestamp.subList(cursorIndex + 1, Math.min(atTimestamp.size(), cursorIndex + 1 + maxBatch)));
+        if(batch.size() < maxBatch) {
+            batch.addAll(_Casts.uncheckedCast(
+                    repositoryService().allMatches(
+                    Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_OLDEST_AFTER)
+                            .withParameter("timestamp", cursor.getTimestamp())
+                            .withLimit(maxBatch - batch.size())
+                    )));
+        }
+        return batch;
+    }
+
+    private static boolean isSameKey(final HasInteractionIdAndSequence a, final HasInteractionIdAndSequence b) {
+        return a.getInteractionId().equals(b.getInteractionId())
+                && a.getSequence() == b.getSequence();
+    }
+
     public ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -171,6 +228,44 @@ public boolean deleteByInteractionIdAndSequence(final UUID interactionId, final
         }
     }
 
+    @Programmatic
+    public int deleteByInteractionIdsAndSequences(final List<? extends HasInteractionIdAndSequence> keys) {
+        // nearly always a single group, as most interactions consist of a single (top-level) execution
+        var interactionIdsBySequence = keys.stream()
+                .collect(Collectors.groupingBy(
+                        HasInteractionIdAndSequence::getSequence,
+                        TreeMap::new,
+                        Collectors.mapping(HasInteractionIdAndSequence::getInteractionId, Collectors.toList())));
+        var deleted = 0;
+        for (var entry : interactionIdsBySequence.entrySet()) {
+            deleted += deleteByInteractionIdsAndSequence(entry.getValue(), entry.getKey());
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes those of the entries with the given interactionIds that have the given sequence, returning how many
+     * were.
+     *
+     * <p>
+     * This default implementation looks up and removes each entry in turn; the JPA and JDO implementations override
+     * it with a single bulk delete ({@link ExecutionOutboxEntry.Nq#DELETE_BY_INTERACTION_IDS_AND_SEQUENCE}).
+     * </p>
+     */
+    protected int deleteByInteractionIdsAndSequence(final List<UUID> interactionIds, final int sequence) {
+        return repositoryService().execInBulk(() -> {
+            var deleted = 0;
+            for (var interactionId : interactionIds) {
+                var outboxEventIfAny = findByInteractionIdAndSequence(interactionId, sequence);
+                if(outboxEventIfAny.isPresent()) {
+                    repositoryService().remove(outboxEventIfAny.get());
+                    deleted++;
+                }
+            }
+            return deleted;
+        });
+    }
+
     private void persist(final E commandLogEntry) {
         repositoryService().persist(commandLogEntry);
     }
@@ -20,6 +20,7 @@
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -28,6 +29,7 @@
 import org.apache.causeway.applib.annotation.DomainService;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.SemanticsOf;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
@@ -36,6 +38,7 @@
 import org.apache.causeway.extensions.executionoutbox.applib.spiimpl.ContentMappingServiceForOutboxEvents;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 
 /**
  * Provides a server-side REST API for the <i>outbox rest client</i> to call, to first obtain {@link #pending() pending}
@@ -73,6 +76,28 @@ public OutboxEvents pending() {
         return outboxEvents;
     }
 
+    /**
+     * As {@link #pending()}, but returns (up to <code>maxBatch</code>) entries that follow the entry identified
+     * by the provided cursor, typically the last entry returned by a previous call.
+     *
+     * <p>
+     *     This allows consumers to drain the outbox in bulk, reading ahead of their deletes.  If the cursor entry
+     *     no longer exists, then the oldest pending entries are returned instead.
+     * </p>
+     */
+    @Action(
+            semantics = SemanticsOf.SAFE,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public OutboxEvents pendingAfter(final String interactionId, final int sequence) {
+        var outboxEvents = factoryService.viewModel(new OutboxEvents());
+        List<? extends ExecutionOutboxEntry> entries =
+                executionOutboxEntryRepository.findOldestAfter(UUID.fromString(interactionId), sequence);
+        outboxEvents.getExecutions().addAll(entries);
+        return outboxEvents;
+    }
+
     @Action(
             semantics = SemanticsOf.IDEMPOTENT,
             executionPublishing = Publishing.DISABLED,
@@ -89,14 +114,20 @@ public void delete(final String interactionId, final int sequence) {
     )
     public void deleteMany(final String interactionsDtoXml) {
         var interactionsDto = InteractionsDtoUtils.dtoMapper().read(interactionsDtoXml);
-        interactionsDto.getInteractionDto().
-                forEach(interactionType -> {
-                    var interactionId = interactionType.getInteractionId();
-                    var sequence = interactionType.getExecution().getSequence();
-                    executionOutboxEntryRepository.deleteByInteractionIdAndSequence(UUID.fromString(interactionId), sequence);
-                });
+        var keys = interactionsDto.getInteractionDto().stream()
+                .map(interactionType -> OutboxEntryKey.of(
+                        UUID.fromString(interactionType.getInteractionId()),
+                        interactionType.getExecution().getSequence()))
+                .collect(Collectors.toList());
+        executionOutboxEntryRepository.deleteByInteractionIdsAndSequences(keys);
     }
 
     @Inject FactoryService factoryService;
 
+    @Value(staticConstructor = "of")
+    static class OutboxEntryKey implements HasInteractionIdAndSequence {
+        UUID interactionId;
+        int sequence;
+    }
+
 }
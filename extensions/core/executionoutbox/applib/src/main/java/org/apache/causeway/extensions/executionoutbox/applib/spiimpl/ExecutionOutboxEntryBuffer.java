@@ -0,0 +1,94 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionoutbox.applib.spiimpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.annotation.TransactionScope;
+import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Buffers the {@link Execution}s published within the current transaction, and persists them as outbox entries
+ * all at once just before that transaction commits.
+ *
+ * <p>
+ * Used by {@link ExecutionSubscriberForExecutionOutbox} if the outbox is configured to persist in
+ * {@link org.apache.causeway.core.config.CausewayConfiguration.Extensions.ExecutionOutbox.PersistPolicy#BATCHED batched}
+ * mode.
+ * </p>
+ *
+ * <p>
+ * The service is {@link TransactionScope transaction-scope}d and implements Spring's {@link TransactionSynchronization}
+ * interface, meaning that Spring will call the {@link #beforeCommit(boolean)} callback.  If the transaction is
+ * rolled back instead, then the buffered executions are simply discarded along with this bean.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@TransactionScope
+@Named(ExecutionOutboxEntryBuffer.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class ExecutionOutboxEntryBuffer implements TransactionSynchronization, Ordered {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".ExecutionOutboxEntryBuffer";
+
+    final ExecutionOutboxEntryRepository executionOutboxEntryRepository;
+
+    private final List<Execution<?, ?>> executions = new ArrayList<>();
+
+    @Override
+    public int getOrder() {
+        return PriorityPrecedence.MIDPOINT;
+    }
+
+    public void add(final Execution<?, ?> execution) {
+        executions.add(execution);
+    }
+
+    @Override
+    public void beforeCommit(final boolean readOnly) {
+        if(executions.isEmpty()) {
+            return;
+        }
+        if(log.isDebugEnabled()) {
+            log.debug("persisting {} buffered outbox entries", executions.size());
+        }
+        executionOutboxEntryRepository.createEntriesAndPersist(executions);
+        executions.clear();
+    }
+
+}
@@ -24,6 +24,7 @@
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.iactn.Execution;
@@ -49,6 +50,7 @@ public class ExecutionSubscriberForExecutionOutbox implements ExecutionSubscribe
     static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".ExecutionSubscriberForExecutionOutbox";
 
     final ExecutionOutboxEntryRepository executionOutboxEntryRepository;
+    final ExecutionOutboxEntryBuffer executionOutboxEntryBuffer;
     final CausewayConfiguration causewayConfiguration;
 
     @Override
@@ -62,6 +64,13 @@ public void onExecution(Execution<?, ?> execution) {
             return;
         }
 
+        if(causewayConfiguration.getExtensions().getExecutionOutbox().getPersist().isBatched()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            // persisted in one go just before the transaction commits
+            executionOutboxEntryBuffer.add(execution);
+            return;
+        }
+
         executionOutboxEntryRepository.createEntryAndPersist(execution);
     }
 
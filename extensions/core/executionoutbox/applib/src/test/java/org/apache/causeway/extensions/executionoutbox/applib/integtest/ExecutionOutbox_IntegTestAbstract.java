@@ -18,15 +18,18 @@
  */
 package org.apache.causeway.extensions.executionoutbox.applib.integtest;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Propagation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -39,9 +42,11 @@
 import org.apache.causeway.applib.services.sudo.SudoService;
 import org.apache.causeway.applib.services.user.UserMemento;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.core.config.presets.CausewayPresets;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryType;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.CounterRepository;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter_bumpUsingMixin;
@@ -276,6 +281,110 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void findOldestAfter_pages_through_entries_sharing_a_timestamp_without_skipping_any() {
+
+        // given
+        var sameTimestamp = Timestamp.valueOf("2026-01-01 10:00:00");
+        var interactionId1 = UUID.randomUUID();
+        var interactionId2 = UUID.randomUUID();
+        var interactionId3 = UUID.randomUUID();
+        givenEntries(() -> {
+            upsert(interactionId1, 0, sameTimestamp);
+            upsert(interactionId1, 1, sameTimestamp);
+            upsert(interactionId2, 0, sameTimestamp);
+            upsert(interactionId3, 0, Timestamp.valueOf("2026-01-01 10:00:01"));
+        });
+
+        // when
+        var oldest = transactionService.callTransactional(Propagation.REQUIRES_NEW,
+                () -> keysOf(executionOutboxEntryRepository.findOldest()))
+                .valueAsNonNullElseFail();
+
+        // then
+        assertThat(oldest).hasSize(4);
+        assertThat(oldest.get(3)).isEqualTo(interactionId3 + "_0");
+
+        for (int i = 0; i < oldest.size(); i++) {
+            var cursor = oldest.get(i);
+            var cursorInteractionId = UUID.fromString(cursor.substring(0, cursor.indexOf("_")));
+            var cursorSequence = Integer.parseInt(cursor.substring(cursor.indexOf("_") + 1));
+
+            // when
+            var after = transactionService.callTransactional(Propagation.REQUIRES_NEW,
+                    () -> keysOf(executionOutboxEntryRepository.findOldestAfter(cursorInteractionId, cursorSequence)))
+                    .valueAsNonNullElseFail();
+
+            // then
+            assertThat(after).containsExactlyElementsOf(oldest.subList(i + 1, oldest.size()));
+        }
+    }
+
+    @Test
+    void deleteByInteractionIdsAndSequences_deletes_only_the_given_keys() {
+
+        // given
+        var timestamp = Timestamp.valueOf("2026-01-01 10:00:00");
+        var interactionId1 = UUID.randomUUID();
+        var interactionId2 = UUID.randomUUID();
+        var interactionId3 = UUID.randomUUID();
+        givenEntries(() -> {
+            upsert(interactionId1, 0, timestamp);
+            upsert(interactionId1, 1, timestamp);
+            upsert(interactionId2, 0, timestamp);
+            upsert(interactionId3, 0, timestamp);
+        });
+
+        // when
+        var deleted = transactionService.callTransactional(Propagation.REQUIRES_NEW, () -> {
+            var toDelete = executionOutboxEntryRepository.findOldest().stream()
+                    .filter(entry -> entry.getSequence() == 1 || entry.getInteractionId().equals(interactionId2))
+                    .collect(Collectors.toList());
+            assertThat(toDelete).hasSize(2);
+            return executionOutboxEntryRepository.deleteByInteractionIdsAndSequences(toDelete);
+        }).valueAsNonNullElseFail();
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        var remaining = transactionService.callTransactional(Propagation.REQUIRES_NEW,
+                () -> keysOf(executionOutboxEntryRepository.findOldest()))
+                .valueAsNonNullElseFail();
+        assertThat(remaining).containsExactlyInAnyOrder(interactionId1 + "_0", interactionId3 + "_0");
+
+        // when deleting again, and deleting nothing at all
+        var deletedAgain = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                executionOutboxEntryRepository.deleteByInteractionIdsAndSequences(List.of())
+                + executionOutboxEntryRepository.deleteByInteractionIdsAndSequences(
+                        executionOutboxEntryRepository.findOldest().stream()
+                                .filter(entry -> entry.getInteractionId().equals(interactionId3))
+                                .collect(Collectors.toList())))
+                .valueAsNonNullElseFail();
+
+        // then
+        assertThat(deletedAgain).isEqualTo(1);
+    }
+
+    private void givenEntries(final Runnable runnable) {
+        interactionService.closeInteractionLayers();
+        interactionService.openInteraction();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, runnable::run).ifFailureFail();
+    }
+
+    private void upsert(final UUID interactionId, final int sequence, final Timestamp timestamp) {
+        var interactionDto = new InteractionDto();
+        interactionDto.setInteractionId(interactionId.toString());
+        executionOutboxEntryRepository.upsert(
+                interactionId, sequence, ExecutionOutboxEntryType.ACTION_INVOCATION, timestamp, "user-1",
+                bookmarkService.bookmarkForElseFail(counterRepository.findByName("counter-1")),
+                "executionoutbox.test.Counter#bumpUsingDeclaredAction", interactionDto);
+    }
+
+    private static List<String> keysOf(final List<? extends ExecutionOutboxEntry> entries) {
+        return entries.stream()
+                .map(entry -> entry.getInteractionId() + "_" + entry.getSequence())
+                .collect(Collectors.toList());
+    }
+
     @Inject ExecutionOutboxEntryRepository executionOutboxEntryRepository;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
@@ -283,5 +392,6 @@ void test_all_the_repository_methods() {
     @Inject CounterRepository counterRepository;
     @Inject WrapperFactory wrapperFactory;
     @Inject BookmarkService bookmarkService;
+    @Inject TransactionService transactionService;
 
 }
@@ -22,6 +22,7 @@
 
 import javax.inject.Named;
 import javax.jdo.annotations.Column;
+import javax.jdo.annotations.Extension;
 import javax.jdo.annotations.IdentityType;
 import javax.jdo.annotations.Index;
 import javax.jdo.annotations.Indices;
@@ -67,6 +68,27 @@
                   + "  FROM " + ExecutionOutboxEntry.FQCN + " "
                   + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"
                     + " RANGE 0,100"),
+    @Query(
+            name = Nq.FIND_OLDEST_AFTER,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE timestamp > :timestamp "
+                  + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"),  // programmatic range
+    @Query(
+            name = Nq.FIND_AT_TIMESTAMP,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE timestamp == :timestamp "
+                  + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"),
+    @Query(
+            name = Nq.DELETE_BY_INTERACTION_IDS_AND_SEQUENCE,
+            value = "DELETE FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE :interactionIds.contains(interactionId) "
+                  + "    && sequence == :sequence ",
+            extensions = {
+                    // JDOQL bulk deletes must be enabled explicitly
+                    @Extension(vendorName = "datanucleus", key = "datanucleus.query.jdoql.allowAll", value = "true")
+            }),
 })
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
@@ -18,6 +18,11 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jdo.dom;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -28,6 +33,7 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 import lombok.Builder;
 
@@ -38,6 +44,8 @@
 public class ExecutionOutboxEntryRepository
 extends ExecutionOutboxEntryRepositoryAbstract<ExecutionOutboxEntry> {
 
+    @Inject JdoSupportService jdoSupportService;
+
     public ExecutionOutboxEntryRepository() {
         super(ExecutionOutboxEntry.class);
     }
@@ -53,6 +61,26 @@ public ExecutionOutboxEntryRepository() {
         super(executionLogEntryClass, repositoryServiceProvider, factoryService);
     }
 
+    /**
+     * Uses a single bulk delete, rather than looking up and removing each entry in turn.
+     */
+    @Override
+    protected int deleteByInteractionIdsAndSequence(final List<UUID> interactionIds, final int sequence) {
+        if(interactionIds.isEmpty()) {
+            return 0;
+        }
+        var query = jdoSupportService.getPersistenceManager()
+                .newNamedQuery(ExecutionOutboxEntry.class, ExecutionOutboxEntry.Nq.DELETE_BY_INTERACTION_IDS_AND_SEQUENCE);
+        try {
+            var deleted = (Number) query.executeWithMap(Map.of(
+                    "interactionIds", interactionIds,
+                    "sequence", sequence));
+            return deleted.intValue();
+        } finally {
+            query.closeAll();
+        }
+    }
+
     @Override
     protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
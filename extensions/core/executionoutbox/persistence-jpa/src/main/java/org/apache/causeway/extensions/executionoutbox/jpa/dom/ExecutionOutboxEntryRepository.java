@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jpa.dom;
 
+import java.util.List;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -28,6 +32,7 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 import lombok.Builder;
 
@@ -38,6 +43,8 @@
 public class ExecutionOutboxEntryRepository
 extends ExecutionOutboxEntryRepositoryAbstract<ExecutionOutboxEntry> {
 
+    @Inject JpaSupportService jpaSupportService;
+
     public ExecutionOutboxEntryRepository() {
         super(ExecutionOutboxEntry.class);
     }
@@ -53,6 +60,21 @@ public ExecutionOutboxEntryRepository() {
         super(executionLogEntryClass, repositoryServiceProvider, factoryService);
     }
 
+    /**
+     * Uses a single bulk delete, rather than looking up and removing each entry in turn.
+     */
+    @Override
+    protected int deleteByInteractionIdsAndSequence(final List<UUID> interactionIds, final int sequence) {
+        if(interactionIds.isEmpty()) {
+            return 0;
+        }
+        return jpaSupportService.getEntityManagerElseFail(ExecutionOutboxEntry.class)
+                .createNamedQuery(ExecutionOutboxEntry.Nq.DELETE_BY_INTERACTION_IDS_AND_SEQUENCE)
+                .setParameter("interactionIds", interactionIds)
+                .setParameter("sequence", sequence)
+                .executeUpdate();
+    }
+
     @Override
     protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
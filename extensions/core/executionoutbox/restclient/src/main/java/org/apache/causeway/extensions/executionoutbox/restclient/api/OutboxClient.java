@@ -30,6 +30,7 @@
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
 import org.apache.causeway.commons.functional.Try;
 import org.apache.causeway.commons.io.JsonUtils;
+import org.apache.causeway.commons.io.UrlUtils;
 import org.apache.causeway.extensions.executionoutbox.restclient.api.delete.DeleteMessage;
 import org.apache.causeway.extensions.executionoutbox.restclient.api.deleteMany.DeleteManyMessage;
 import org.apache.causeway.schema.common.v2.InteractionType;
@@ -117,17 +118,21 @@ public OutboxClient withReadTimeoutInSecs(int readTimeoutInSecs) {
     }
 
     public List<InteractionDto> pending() {
+        return pending(outboxClientConfig.getPendingUri());
+    }
 
-        Invocation.Builder invocationBuilder = client.request(outboxClientConfig.getPendingUri())
-                .accept(RestfulClientMediaType.RO_XML.mediaTypeFor(InteractionsDto.class));
-        var response = invocationBuilder.get();
-
-        final Try<InteractionsDto> digest = client.digest(response, InteractionsDto.class);
+    /**
+     * Returns the pending entries that follow the provided one (typically the last entry returned by a previous
+     * call), allowing the outbox to be drained in bulk by reading ahead of any deletes.
+     */
+    public List<InteractionDto> pendingAfter(final InteractionDto after) {
+        return pendingAfter(after.getInteractionId(), after.getExecution().getSequence());
+    }
 
-        digest.ifFailureFail();
-        return digest.getValue()
-                .map(InteractionsDto::getInteractionDto)
-                .orElseGet(Collections::emptyList);
+    public List<InteractionDto> pendingAfter(final String interactionId, final int sequence) {
+        return pending(outboxClientConfig.getPendingAfterUri()
+                + "?interactionId=" + UrlUtils.urlEncodeUtf8(interactionId)
+                + "&sequence=" + sequence);
     }
 
     public void delete(final String interactionId, final int sequence) {
@@ -146,6 +151,20 @@ public void deleteMany(final List<InteractionDto> interactionDtos) {
 
     // -- HELPER
 
+    private List<InteractionDto> pending(final String path) {
+
+        Invocation.Builder invocationBuilder = client.request(path)
+                .accept(RestfulClientMediaType.RO_XML.mediaTypeFor(InteractionsDto.class));
+        var response = invocationBuilder.get();
+
+        final Try<InteractionsDto> digest = client.digest(response, InteractionsDto.class);
+
+        digest.ifFailureFail();
+        return digest.getValue()
+                .map(InteractionsDto::getInteractionDto)
+                .orElseGet(Collections::emptyList);
+    }
+
     private void addTo(final InteractionsDto interactionsDto, final InteractionDto orig) {
         var copy = new InteractionDto();
         copy.setInteractionId(orig.getInteractionId());
@@ -41,6 +41,9 @@ public class OutboxClientConfig {
     @XmlElement(name="pendingUri")
     private String pendingUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/pending/invoke";
 
+    @XmlElement(name="pendingAfterUri")
+    private String pendingAfterUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/pendingAfter/invoke";
+
     @XmlElement(name="deleteUri")
     private String deleteUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/delete/invoke";
 
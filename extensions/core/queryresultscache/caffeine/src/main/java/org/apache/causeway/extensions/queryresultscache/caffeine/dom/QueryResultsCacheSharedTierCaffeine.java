@@ -0,0 +1,451 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.queryresultscache.caffeine.dom;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCacheSharedTier;
+import org.apache.causeway.applib.services.user.RoleMemento;
+import org.apache.causeway.applib.services.user.UserService;
+import org.apache.causeway.applib.value.semantics.ValueDecomposition;
+import org.apache.causeway.applib.value.semantics.ValueSemanticsProvider;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.QueryResultsCache.Caffeine.Region.SharedWith;
+import org.apache.causeway.core.metamodel.facets.object.value.ValueFacet;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.extensions.queryresultscache.caffeine.CausewayModuleExtQueryResultsCacheCaffeine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Holds a Caffeine cache for each configured region (calling class and method) of the {@link QueryResultsCache}.
+ *
+ * <p>
+ *     Entities (either as the result itself or as elements of a {@link List} result, or as the keys) are held only
+ *     as {@link Bookmark}s and are re-hydrated on lookup, so no entity instance leaks from one interaction to
+ *     another. Values of immutable types are held as is, any other values are held decomposed and are composed
+ *     afresh on each lookup. Results (or keys) involving any other kind of domain object are not shared.
+ * </p>
+ *
+ * <p>
+ *     Unless the region is configured to be
+ *     {@link org.apache.causeway.core.config.CausewayConfiguration.Extensions.QueryResultsCache.Caffeine.Region#getSharedWith() shared with}
+ *     the same user (and roles) only, results are shared across all users.
+ * </p>
+ *
+ * <p>
+ *     A region is invalidated as a whole when a transaction commits that changed an entity of any of the types
+ *     it depends upon, namely those configured through
+ *     {@link org.apache.causeway.core.config.CausewayConfiguration.Extensions.QueryResultsCache.Caffeine.Region#getInvalidatedBy()}
+ *     plus those of the entities held. Invalidation is local to this JVM; the expiry duration bounds staleness
+ *     otherwise.
+ * </p>
+ *
+ * <p>
+ *     Each entry also records the generation at which its result started to be computed. An entry depending on
+ *     a type that has changed since is stale: it is not put in the first place, nor handed out should it have
+ *     been put concurrently with the invalidation.
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+@Service
+@Named(QueryResultsCacheSharedTierCaffeine.LOGICAL_TYPE_NAME)
+@javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Caffeine")
+@Log4j2
+public class QueryResultsCacheSharedTierCaffeine implements QueryResultsCacheSharedTier {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtQueryResultsCacheCaffeine.NAMESPACE + ".QueryResultsCacheSharedTierCaffeine";
+
+    private final BookmarkService bookmarkService;
+    private final SpecificationLoader specificationLoader;
+    private final UserService userService;
+    private final CausewayConfiguration.Extensions.QueryResultsCache.Caffeine config;
+
+    private final Map<String, Region> regionByName = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, Long> generationByLogicalTypeName = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    @Inject
+    public QueryResultsCacheSharedTierCaffeine(
+            final BookmarkService bookmarkService,
+            final SpecificationLoader specificationLoader,
+            final UserService userService,
+            final CausewayConfiguration causewayConfiguration) {
+        this.bookmarkService = bookmarkService;
+        this.specificationLoader = specificationLoader;
+        this.userService = userService;
+        this.config = causewayConfiguration.getExtensions().getQueryResultsCache().getCaffeine();
+    }
+
+    @Override
+    public boolean isShared(final QueryResultsCache.Key key) {
+        return config.getRegions().containsKey(regionNameFor(key));
+    }
+
+    @Override
+    public Optional<Object> lookup(final QueryResultsCache.Key key) {
+        var region = regionFor(key);
+        var sharedKey = sharedKeyFor(region, key).orElse(null);
+        var entry = sharedKey != null
+                ? region.cache.getIfPresent(sharedKey)
+                : null;
+        var result = entry != null
+                && !isStale(entry)
+                ? rehydrate(entry.memento)
+                : Optional.empty();
+        if(result.isPresent()) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+            if(entry != null) {
+                // either stale or at least one of the entities held no longer exists
+                region.cache.invalidate(sharedKey);
+            }
+        }
+        if(log.isDebugEnabled()) {
+            log.debug("{}: {}", (result.isPresent() ? "SHARED HIT" : "SHARED MISS"), key);
+        }
+        return result;
+    }
+
+    @Override
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    @Override
+    public void put(final QueryResultsCache.Key key, final Object result, final long generation) {
+        var region = regionFor(key);
+        var sharedKey = sharedKeyFor(region, key).orElse(null);
+        if(sharedKey == null) {
+            return;
+        }
+        dehydrate(result)
+            .ifPresent(memento->{
+                var dependsOn = Stream.concat(
+                            region.configuredLogicalTypeNames.stream(),
+                            memento.streamLogicalTypeNames())
+                        .collect(Collectors.toUnmodifiableSet());
+                var entry = new Entry(memento, dependsOn, generation);
+                if(isStale(entry)) {
+                    if(log.isDebugEnabled()) {
+                        log.debug("not sharing (stale) result for {}", key);
+                    }
+                    return;
+                }
+                memento.streamLogicalTypeNames().forEach(region.observedLogicalTypeNames::add);
+                region.cache.put(sharedKey, entry);
+            });
+    }
+
+    @Override
+    public void onEntityTypesChanged(final Set<String> logicalTypeNames) {
+        // advance the generation before invalidating, so that any concurrent put is recognized as stale
+        var newGeneration = generation.incrementAndGet();
+        logicalTypeNames.forEach(logicalTypeName->
+            generationByLogicalTypeName.merge(logicalTypeName, newGeneration, Math::max));
+
+        regionByName.values().stream()
+            .filter(region->region.isInvalidatedByAnyOf(logicalTypeNames))
+            .forEach(region->{
+                if(log.isDebugEnabled()) {
+                    log.debug("invalidating region {} due to changes of {}", region.name, logicalTypeNames);
+                }
+                region.cache.invalidateAll();
+                region.observedLogicalTypeNames.clear();
+            });
+    }
+
+    // -- METRICS
+
+    @Override
+    public long hitCount() {
+        return hitCount.longValue();
+    }
+
+    @Override
+    public long missCount() {
+        return missCount.longValue();
+    }
+
+    @Override
+    public long evictionCount() {
+        return evictionCount.longValue();
+    }
+
+    // -- REGION
+
+    @RequiredArgsConstructor
+    private static class Region {
+        private final String name;
+        private final Cache<List<Object>, Entry> cache;
+        private final Set<String> configuredLogicalTypeNames;
+        private final SharedWith sharedWith;
+        private final Set<String> observedLogicalTypeNames = ConcurrentHashMap.newKeySet();
+
+        boolean isInvalidatedByAnyOf(final Set<String> logicalTypeNames) {
+            if(configuredLogicalTypeNames.isEmpty()
+                    && observedLogicalTypeNames.isEmpty()) {
+                // don't know what the results depend on, so any change invalidates (unless nothing cached)
+                return cache.estimatedSize() > 0;
+            }
+            return logicalTypeNames.stream()
+                    .anyMatch(ltn->configuredLogicalTypeNames.contains(ltn)
+                            || observedLogicalTypeNames.contains(ltn));
+        }
+    }
+
+    private static String regionNameFor(final QueryResultsCache.Key key) {
+        return key.getCallingClass().getName() + "#" + key.getMethodName();
+    }
+
+    private Region regionFor(final QueryResultsCache.Key key) {
+        return regionByName.computeIfAbsent(regionNameFor(key), this::newRegion);
+    }
+
+    private Region newRegion(final String regionName) {
+        var regionConfig = config.getRegions().get(regionName);
+        var expiryDurationInMinutes = Optional.ofNullable(regionConfig.getExpiryDurationInMinutes())
+                .orElse(config.getExpiryDurationInMinutes());
+        var maxSizeInEntries = Optional.ofNullable(regionConfig.getMaxSizeInEntries())
+                .orElse(config.getMaxSizeInEntries());
+        Cache<List<Object>, Entry> cache = Caffeine.newBuilder()
+                .expireAfterWrite(expiryDurationInMinutes, TimeUnit.MINUTES)
+                .maximumSize(maxSizeInEntries)
+                .removalListener((final List<Object> k, final Entry v, final RemovalCause cause)->{
+                    if(cause != RemovalCause.REPLACED) {
+                        evictionCount.increment();
+                    }
+                })
+                .build();
+        return new Region(regionName, cache, Set.copyOf(regionConfig.getInvalidatedBy()), regionConfig.getSharedWith());
+    }
+
+    // -- DEHYDRATION
+
+    /**
+     * The key within a region; any entities are replaced by their bookmarks, and (depending on the region)
+     * prefixed by the current user (and their roles).
+     */
+    private Optional<List<Object>> sharedKeyFor(final Region region, final QueryResultsCache.Key key) {
+        var keys = key.getKeys();
+        var sharedKey = new ArrayList<Object>(keys.length + 1);
+        if(region.sharedWith != SharedWith.ALL_USERS) {
+            var user = userService.currentUser().orElse(null);
+            if(user == null) {
+                return Optional.empty(); // no one to share with
+            }
+            sharedKey.add(region.sharedWith == SharedWith.SAME_USER_AND_ROLES
+                    ? List.of(user.getName(), user.getRoles().stream()
+                            .map(RoleMemento::getName)
+                            .sorted()
+                            .collect(Collectors.toUnmodifiableList()))
+                    : user.getName());
+        }
+        for (Object keyPart : keys) {
+            var sharedPart = dehydrateScalar(keyPart).orElse(null);
+            if(sharedPart == null
+                    || sharedPart.semantics != null) {
+                return Optional.empty(); // decomposed values don't make for keys
+            }
+            sharedKey.add(sharedPart.pojoOrBookmark);
+        }
+        return Optional.of(Collections.unmodifiableList(sharedKey));
+    }
+
+    private Optional<Memento> dehydrate(final Object result) {
+        if(result instanceof List) {
+            var elements = new ArrayList<Scalar>(((List<?>) result).size());
+            for (Object element : (List<?>) result) {
+                var scalar = dehydrateScalar(element).orElse(null);
+                if(scalar == null) {
+                    return Optional.empty();
+                }
+                elements.add(scalar);
+            }
+            return Optional.of(new Memento(null, List.copyOf(elements)));
+        }
+        if(result instanceof Collection) {
+            return Optional.empty(); // not attempting to reproduce the collection type
+        }
+        return dehydrateScalar(result)
+                .map(scalar->new Memento(scalar, null));
+    }
+
+    private Optional<Scalar> dehydrateScalar(final @Nullable Object pojo) {
+        if(pojo == null) {
+            return Optional.of(Scalar.NULL);
+        }
+        var spec = specificationLoader.specForType(pojo.getClass()).orElse(null);
+        if(spec == null) {
+            return Optional.empty();
+        }
+        if(spec.isValue()) {
+            return isImmutable(pojo)
+                    ? Optional.of(new Scalar(pojo, false, null))
+                    : decompose(spec, pojo);
+        }
+        if(spec.isEntity()) {
+            return bookmarkService.bookmarkFor(pojo)
+                    .map(bookmark->new Scalar(bookmark, true, null));
+        }
+        return Optional.empty();
+    }
+
+    private static final Set<Class<?>> IMMUTABLE_VALUE_TYPES = Set.of(
+            String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            java.math.BigInteger.class, java.math.BigDecimal.class, UUID.class);
+
+    private static boolean isImmutable(final Object pojo) {
+        var type = pojo.getClass();
+        return IMMUTABLE_VALUE_TYPES.contains(type)
+                || pojo instanceof Enum
+                || type.getPackageName().equals("java.time");
+    }
+
+    /**
+     * Holds (possibly mutable) values decomposed, so that each lookup composes a copy of its own.
+     */
+    @SuppressWarnings("unchecked")
+    private static Optional<Scalar> decompose(final ObjectSpecification spec, final Object pojo) {
+        var valueFacet = (ValueFacet<Object>) spec.valueFacet().orElse(null);
+        if(valueFacet == null) {
+            return Optional.empty();
+        }
+        return valueFacet.selectDefaultSemantics()
+                .map(semantics->new Scalar(semantics.decompose(pojo), false, semantics));
+    }
+
+    // -- STALENESS
+
+    private boolean isStale(final Entry entry) {
+        if(entry.dependsOn.isEmpty()) {
+            // don't know what the result depends on, so any change renders it stale
+            return generation.get() > entry.generation;
+        }
+        return entry.dependsOn.stream()
+                .anyMatch(logicalTypeName->
+                    generationByLogicalTypeName.getOrDefault(logicalTypeName, 0L) > entry.generation);
+    }
+
+    // -- REHYDRATION
+
+    private Optional<Object> rehydrate(final Memento memento) {
+        if(memento.scalar != null) {
+            return rehydrateScalar(memento.scalar);
+        }
+        var list = new ArrayList<Object>(memento.elements.size());
+        for (Scalar element : memento.elements) {
+            if(element == Scalar.NULL) {
+                list.add(null);
+                continue;
+            }
+            var pojo = rehydrateScalar(element).orElse(null);
+            if(pojo == null) {
+                return Optional.empty();
+            }
+            list.add(pojo);
+        }
+        return Optional.of(Collections.unmodifiableList(list));
+    }
+
+    /**
+     * Returns empty if the entity no longer exists.
+     */
+    private Optional<Object> rehydrateScalar(final Scalar scalar) {
+        if(scalar.isBookmark) {
+            return bookmarkService.lookup((Bookmark) scalar.pojoOrBookmark);
+        }
+        return scalar.semantics != null
+                ? Optional.ofNullable(scalar.semantics.compose((ValueDecomposition) scalar.pojoOrBookmark))
+                : Optional.of(scalar.pojoOrBookmark);
+    }
+
+    @Value
+    private static class Scalar {
+        /** stands in for <code>null</code> keys or list elements */
+        static final Scalar NULL = new Scalar(Scalar.class, false, null);
+        /** an immutable value, a bookmark, or the {@link ValueDecomposition} of any other value */
+        private final Object pojoOrBookmark;
+        private final boolean isBookmark;
+        /** if set, composes the value from its decomposition */
+        private final @Nullable ValueSemanticsProvider<Object> semantics;
+    }
+
+    @Value
+    private static class Entry {
+        private final Memento memento;
+        /** logical type names of the entities this entry depends upon; if empty, then on any */
+        private final Set<String> dependsOn;
+        /** generation at which the result started to be computed */
+        private final long generation;
+    }
+
+    @Value
+    private static class Memento {
+        private final @Nullable Scalar scalar;
+        private final @Nullable List<Scalar> elements;
+
+        Stream<String> streamLogicalTypeNames() {
+            return (scalar != null ? Stream.of(scalar) : elements.stream())
+                    .filter(Scalar::isBookmark)
+                    .map(s->((Bookmark) s.pojoOrBookmark).getLogicalTypeName());
+        }
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.queryresultscache.caffeine.dom;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.applib.services.user.UserService;
+import org.apache.causeway.applib.value.semantics.ValueDecomposition;
+import org.apache.causeway.applib.value.semantics.ValueSemanticsProvider;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.QueryResultsCache.Caffeine.Region;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.QueryResultsCache.Caffeine.Region.SharedWith;
+import org.apache.causeway.core.metamodel.facets.object.value.ValueFacet;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.schema.common.v2.ValueWithTypeDto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryResultsCacheSharedTierCaffeineTest {
+
+    static class CustomerRepository {}
+
+    /** a value type, that is mutable */
+    static class Address {
+        String street;
+    }
+
+    @Mock BookmarkService mockBookmarkService;
+    @Mock SpecificationLoader mockSpecificationLoader;
+    @Mock UserService mockUserService;
+    @Mock ObjectSpecification mockValueSpec;
+
+    CausewayConfiguration.Extensions.QueryResultsCache.Caffeine config;
+    QueryResultsCacheSharedTierCaffeine sharedTier;
+    QueryResultsCache.Key key;
+
+    @BeforeEach
+    void setUp() {
+        when(mockSpecificationLoader.specForType(String.class)).thenReturn(Optional.of(mockValueSpec));
+        when(mockValueSpec.isValue()).thenReturn(true);
+
+        var causewayConfiguration = new CausewayConfiguration(null, Optional.empty());
+        var region = new CausewayConfiguration.Extensions.QueryResultsCache.Caffeine.Region();
+        region.getInvalidatedBy().add("simple.Customer");
+        config = causewayConfiguration.getExtensions().getQueryResultsCache().getCaffeine();
+        config.getRegions().put(CustomerRepository.class.getName() + "#findNames", region);
+
+        sharedTier = new QueryResultsCacheSharedTierCaffeine(
+                mockBookmarkService, mockSpecificationLoader, mockUserService, causewayConfiguration);
+        key = new QueryResultsCache.Key(CustomerRepository.class, "findNames", "Smith");
+    }
+
+    @Test
+    void shares_result_as_unmodifiable_copy() {
+        sharedTier.put(key, List.of("Fred Smith"), sharedTier.currentGeneration());
+
+        var result = sharedTier.lookup(key);
+
+        assertEquals(Optional.of(List.of("Fred Smith")), result);
+        assertThrows(UnsupportedOperationException.class, ()->((List<?>)result.get()).add("Joe Smith"));
+    }
+
+    @Test
+    void drops_result_computed_before_racing_commit() {
+        // result starts to be computed ...
+        var generation = sharedTier.currentGeneration();
+
+        // ... meanwhile, another transaction commits a change that invalidates it ...
+        sharedTier.onEntityTypesChanged(Set.of("simple.Customer"));
+
+        // ... and only then is the result put
+        sharedTier.put(key, List.of("Fred Smith"), generation);
+
+        assertTrue(sharedTier.lookup(key).isEmpty());
+    }
+
+    @Test
+    void keeps_result_when_unrelated_types_change() {
+        var generation = sharedTier.currentGeneration();
+        sharedTier.onEntityTypesChanged(Set.of("simple.Order"));
+        sharedTier.put(key, List.of("Fred Smith"), generation);
+
+        assertTrue(sharedTier.lookup(key).isPresent());
+    }
+
+    @Test
+    void invalidates_result_on_commit() {
+        sharedTier.put(key, List.of("Fred Smith"), sharedTier.currentGeneration());
+
+        sharedTier.onEntityTypesChanged(Set.of("simple.Customer"));
+
+        assertTrue(sharedTier.lookup(key).isEmpty());
+    }
+
+    @Test
+    void shares_result_with_same_user_only_when_configured() {
+        config.getRegions().put(CustomerRepository.class.getName() + "#findMine", new Region());
+        config.getRegions().get(CustomerRepository.class.getName() + "#findMine").setSharedWith(SharedWith.SAME_USER);
+        var key = new QueryResultsCache.Key(CustomerRepository.class, "findMine", "Smith");
+
+        when(mockUserService.currentUser()).thenReturn(Optional.of(UserMemento.ofName("fred")));
+        sharedTier.put(key, List.of("Fred Smith"), sharedTier.currentGeneration());
+        assertTrue(sharedTier.lookup(key).isPresent());
+
+        when(mockUserService.currentUser()).thenReturn(Optional.of(UserMemento.ofName("joe")));
+        assertTrue(sharedTier.lookup(key).isEmpty());
+    }
+
+    @Test
+    void shares_result_with_same_user_and_roles_only_when_configured() {
+        config.getRegions().put(CustomerRepository.class.getName() + "#findMine", new Region());
+        config.getRegions().get(CustomerRepository.class.getName() + "#findMine").setSharedWith(SharedWith.SAME_USER_AND_ROLES);
+        var key = new QueryResultsCache.Key(CustomerRepository.class, "findMine", "Smith");
+
+        when(mockUserService.currentUser()).thenReturn(Optional.of(UserMemento.ofNameAndRoleNames("fred", "admin", "user")));
+        sharedTier.put(key, List.of("Fred Smith"), sharedTier.currentGeneration());
+
+        when(mockUserService.currentUser()).thenReturn(Optional.of(UserMemento.ofNameAndRoleNames("fred", "user", "admin")));
+        assertTrue(sharedTier.lookup(key).isPresent());
+
+        when(mockUserService.currentUser()).thenReturn(Optional.of(UserMemento.ofNameAndRoleNames("fred", "user")));
+        assertTrue(sharedTier.lookup(key).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void shares_mutable_values_as_copies() {
+        var mockAddressSpec = mock(ObjectSpecification.class);
+        var mockValueFacet = mock(ValueFacet.class);
+        var mockSemantics = mock(ValueSemanticsProvider.class);
+        when(mockSpecificationLoader.specForType(Address.class)).thenReturn(Optional.of(mockAddressSpec));
+        when(mockAddressSpec.isValue()).thenReturn(true);
+        when(mockAddressSpec.valueFacet()).thenReturn(Optional.of(mockValueFacet));
+        when(mockValueFacet.selectDefaultSemantics()).thenReturn(Optional.of(mockSemantics));
+        when(mockSemantics.decompose(any())).thenReturn(ValueDecomposition.ofFundamental(new ValueWithTypeDto()));
+        when(mockSemantics.compose(any())).thenAnswer(invocation->new Address());
+
+        var address = new Address();
+        sharedTier.put(key, address, sharedTier.currentGeneration());
+
+        var copy = sharedTier.lookup(key).orElseThrow();
+        assertTrue(copy instanceof Address);
+        assertNotSame(address, copy);
+        assertNotSame(copy, sharedTier.lookup(key).orElseThrow());
+    }
+
+}
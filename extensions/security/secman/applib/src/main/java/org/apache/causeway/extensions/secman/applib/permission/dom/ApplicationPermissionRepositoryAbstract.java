@@ -31,6 +31,7 @@
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureRepository;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureSort;
+import org.apache.causeway.applib.services.eventbus.EventBusService;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.message.MessageService;
 import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
@@ -43,6 +44,7 @@
 import org.apache.causeway.commons.internal.collections._Multimaps;
 import org.apache.causeway.commons.internal.collections._Multimaps.ListMultimap;
 import org.apache.causeway.commons.internal.collections._Sets;
+import org.apache.causeway.extensions.secman.applib.permission.events.PermissionsChangedEvent;
 import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
 
@@ -59,6 +61,7 @@
     @Inject private ApplicationFeatureRepository featureRepository;
     @Inject private FactoryService factory;
     @Inject private MessageService messages;
+    @Inject private EventBusService eventBusService;
 
     @Inject private Provider<QueryResultsCache> queryResultsCacheProvider;
 
@@ -277,6 +280,7 @@ public ApplicationPermission newPermissionNoCheck(
         permission.setFeatureSort(featureSort);
         permission.setFeatureFqn(featureFqn);
         repository.persist(permission);
+        eventBusService.post(PermissionsChangedEvent.of(permission));
         return permission;
     }
 
@@ -317,6 +321,7 @@ public ApplicationPermission newPermission(
         permission.setFeatureSort(featureSort);
         permission.setFeatureFqn(featureFqn);
         repository.persist(permission);
+        eventBusService.post(PermissionsChangedEvent.of(permission));
 
         return permission;
     }
@@ -21,10 +21,12 @@
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.causeway.commons.internal.collections._Lists;
+import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.collections._Multimaps;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
 import org.apache.causeway.extensions.secman.applib.permission.spi.PermissionsEvaluationService;
@@ -94,6 +96,18 @@ public static abstract class ActionDomainEvent extends CausewayModuleExtSecmanAp
      */
     private PermissionsEvaluationService permissionsEvaluationService;
 
+    /**
+     * Memoised {@link Evaluation}s, one map per {@link ApplicationPermissionMode}.
+     *
+     * <p>
+     *     Since this set is immutable, the outcome for any given feature and mode never changes, so
+     *     (typically) thousands of visibility and usability checks per page collapse into a
+     *     single lookup each.  Not serialized, but recreated lazily.
+     * </p>
+     */
+    private transient Map<ApplicationFeatureId, Evaluation> viewingDecisions;
+    private transient Map<ApplicationFeatureId, Evaluation> changingDecisions;
+
     // -- constructor
 
     public ApplicationPermissionValueSet(
@@ -106,6 +120,8 @@ public ApplicationPermissionValueSet(
             permissionsByFeature.putElement(featureId, permissionValue);
         }
         this.permissionsEvaluationService = permissionsEvaluationService;
+        this.viewingDecisions = _Maps.newConcurrentHashMap();
+        this.changingDecisions = _Maps.newConcurrentHashMap();
     }
 
     // -- grants, evaluate
@@ -137,6 +153,20 @@ public boolean grants(final ApplicationFeatureId featureId, final ApplicationPer
     public Evaluation evaluate(
             final ApplicationFeatureId featureId,
             final ApplicationPermissionMode mode) {
+        return decisionsFor(mode)
+                .computeIfAbsent(featureId, __->evaluateUncached(featureId, mode));
+    }
+
+    // -- HELPER
+
+    /**
+     * Walks the feature's path from the most specific id (member) up to the top-level namespace,
+     * so the cost is proportional to the depth of the feature hierarchy, rather than to the
+     * overall number of permissions.
+     */
+    private Evaluation evaluateUncached(
+            final ApplicationFeatureId featureId,
+            final ApplicationPermissionMode mode) {
 
         for (var pathId : featureId.getPathIds()) {
             var permissionValues = permissionsByFeature.get(pathId);
@@ -148,6 +178,20 @@ public Evaluation evaluate(
         return new Evaluation(null, false);
     }
 
+    private Map<ApplicationFeatureId, Evaluation> decisionsFor(final ApplicationPermissionMode mode) {
+        // benign race: at worst an empty map is created twice after deserialization
+        if(mode == ApplicationPermissionMode.CHANGING) {
+            var decisions = changingDecisions;
+            return decisions != null
+                    ? decisions
+                    : (changingDecisions = _Maps.newConcurrentHashMap());
+        }
+        var decisions = viewingDecisions;
+        return decisions != null
+                ? decisions
+                : (viewingDecisions = _Maps.newConcurrentHashMap());
+    }
+
     // -- equals, hashCode, toString
     @Override
     public boolean equals(final Object o) {
@@ -25,10 +25,12 @@
 import org.apache.causeway.applib.annotation.MemberSupport;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.SemanticsOf;
+import org.apache.causeway.applib.services.eventbus.EventBusService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
 import org.apache.causeway.extensions.secman.applib.permission.dom.mixins.ApplicationPermission_delete.DomainEvent;
+import org.apache.causeway.extensions.secman.applib.permission.events.PermissionsChangedEvent;
 import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
 
 import lombok.RequiredArgsConstructor;
@@ -55,12 +57,14 @@ public class ApplicationPermission_delete {
             extends CausewayModuleExtSecmanApplib.ActionDomainEvent<ApplicationPermission_delete> {}
 
     @Inject private RepositoryService repository;
+    @Inject private EventBusService eventBusService;
 
     private final ApplicationPermission target;
 
     @MemberSupport public ApplicationRole act() {
         var owningRole = target.getRole();
         repository.remove(target);
+        eventBusService.post(PermissionsChangedEvent.of(target));
         return owningRole;
     }
 
@@ -18,15 +18,19 @@
  */
 package org.apache.causeway.extensions.secman.applib.permission.dom.mixins;
 
+import javax.inject.Inject;
+
 import org.apache.causeway.applib.annotation.Action;
 import org.apache.causeway.applib.annotation.ActionLayout;
 import org.apache.causeway.applib.annotation.MemberSupport;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.SemanticsOf;
+import org.apache.causeway.applib.services.eventbus.EventBusService;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule;
 import org.apache.causeway.extensions.secman.applib.permission.dom.mixins.ApplicationPermission_veto.DomainEvent;
+import org.apache.causeway.extensions.secman.applib.permission.events.PermissionsChangedEvent;
 
 import lombok.RequiredArgsConstructor;
 
@@ -52,8 +56,11 @@ public class ApplicationPermission_veto {
 
     private final ApplicationPermission target;
 
+    @Inject private EventBusService eventBusService;
+
     @MemberSupport public ApplicationPermission act() {
         target.setRule(ApplicationPermissionRule.VETO);
+        eventBusService.post(PermissionsChangedEvent.of(target));
         return target;
     }
 
@@ -0,0 +1,41 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.applib.permission.events;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * SecMan fires this event whenever a change to a user, role or permission (might) change the permissions
+ * granted to a user, for example when a role is added to (or removed from) a user, or a permission is
+ * added, changed or removed.
+ * <p>
+ * In particular, any caches of users' permissions should subscribe to this event, to discard their entries.
+ *
+ * @since 2.0 {@index}
+ */
+@Value(staticConstructor="of")
+public class PermissionsChangedEvent {
+
+    /**
+     * The user, role or permission that was changed.
+     */
+    @NonNull private Object source;
+
+}
@@ -30,6 +30,7 @@
 import org.springframework.stereotype.Repository;
 
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.services.eventbus.EventBusService;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
 import org.apache.causeway.applib.services.repository.RepositoryService;
@@ -38,6 +39,7 @@
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
 import org.apache.causeway.extensions.secman.applib.permission.dom.mixins.ApplicationPermission_delete;
+import org.apache.causeway.extensions.secman.applib.permission.events.PermissionsChangedEvent;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
 import org.apache.causeway.extensions.secman.applib.util.RegexReplacer;
 
@@ -52,6 +54,7 @@
 
     @Inject private FactoryService factoryService;
     @Inject private RepositoryService repository;
+    @Inject private EventBusService eventBusService;
     @Inject private CausewayConfiguration config;
     @Inject private RegexReplacer regexReplacer;
     @Inject private Provider<QueryResultsCache> queryResultsCacheProvider;
@@ -142,6 +145,7 @@ public void addRoleToUser(
         role.getUsers().add(user);
 
         repository.persistAndFlush(user, role);
+        eventBusService.post(PermissionsChangedEvent.of(user));
     }
 
     @Override
@@ -153,6 +157,7 @@ public void removeRoleFromUser(
         role.getUsers().remove(user);
 
         repository.persistAndFlush(user, role);
+        eventBusService.post(PermissionsChangedEvent.of(user));
     }
 
     @Override
@@ -172,6 +177,7 @@ public void deleteRole(final ApplicationRole role) {
             deleteMixin.act();
         }
         repository.removeAndFlush(role);
+        eventBusService.post(PermissionsChangedEvent.of(role));
     }
 
     @Override
@@ -41,6 +41,7 @@
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.secman.applib.permission.events.PermissionsChangedEvent;
 import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
 import org.apache.causeway.extensions.secman.applib.tenancy.dom.ApplicationTenancy;
 import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_lock;
@@ -222,6 +223,8 @@ public ApplicationUser newUser(
         }
         repository.persistAndFlush(user);
         eventBusService.post(UserCreatedEvent.of(user));
+        // a lookup of this user name might have previously found no user
+        eventBusService.post(PermissionsChangedEvent.of(user));
         return user;
     }
 
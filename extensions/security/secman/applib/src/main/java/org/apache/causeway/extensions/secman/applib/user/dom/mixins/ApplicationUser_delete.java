@@ -27,8 +27,10 @@
 import org.apache.causeway.applib.annotation.MemberSupport;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.SemanticsOf;
+import org.apache.causeway.applib.services.eventbus.EventBusService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.permission.events.PermissionsChangedEvent;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUserRepository;
 import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_delete.DomainEvent;
@@ -58,11 +60,13 @@ public class ApplicationUser_delete {
 
     @Inject private ApplicationUserRepository applicationUserRepository;
     @Inject private RepositoryService repository;
+    @Inject private EventBusService eventBusService;
 
     private final ApplicationUser target;
 
     @MemberSupport public Collection<ApplicationUser> act() {
         repository.removeAndFlush(target);
+        eventBusService.post(PermissionsChangedEvent.of(target));
         return applicationUserRepository.allUsers();
     }
 
@@ -18,13 +18,17 @@
  */
 package org.apache.causeway.extensions.secman.applib.user.dom.mixins;
 
+import javax.inject.Inject;
+
 import org.apache.causeway.applib.annotation.Action;
 import org.apache.causeway.applib.annotation.ActionLayout;
 import org.apache.causeway.applib.annotation.MemberSupport;
 import org.apache.causeway.applib.annotation.PromptStyle;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.SemanticsOf;
+import org.apache.causeway.applib.services.eventbus.EventBusService;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.permission.events.PermissionsChangedEvent;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
 import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_updateUsername.DomainEvent;
 
@@ -53,10 +57,13 @@ public class ApplicationUser_updateUsername {
 
     private final ApplicationUser target;
 
+    @Inject private EventBusService eventBusService;
+
     @MemberSupport public ApplicationUser act(
             @ApplicationUser.Username
             final String username) {
         target.setUsername(username);
+        eventBusService.post(PermissionsChangedEvent.of(target));
         return target;
     }
 
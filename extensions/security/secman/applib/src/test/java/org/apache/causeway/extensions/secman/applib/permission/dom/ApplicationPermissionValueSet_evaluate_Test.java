@@ -0,0 +1,74 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.applib.permission.dom;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
+import org.apache.causeway.extensions.secman.applib.permission.spi.PermissionsEvaluationService;
+
+class ApplicationPermissionValueSet_evaluate_Test {
+
+    @Test
+    void memoises_decisions_per_feature_and_mode() {
+
+        var namespaceId = ApplicationFeatureId.newNamespace("customer");
+        var memberId = ApplicationFeatureId.newMember("customer.Customer#lastName");
+        var allowViewing = new ApplicationPermissionValue(
+                namespaceId, ApplicationPermissionRule.ALLOW, ApplicationPermissionMode.VIEWING);
+
+        var permissionsEvaluationService = mock(PermissionsEvaluationService.class);
+        when(permissionsEvaluationService.evaluate(eq(memberId), eq(ApplicationPermissionMode.VIEWING), any()))
+            .thenAnswer(invocation->{
+                var permissionValues = invocation.<Collection<ApplicationPermissionValue>>getArgument(2);
+                return permissionValues.contains(allowViewing)
+                        ? new ApplicationPermissionValueSet.Evaluation(allowViewing, true)
+                        : null;
+            });
+
+        var permissionSet = new ApplicationPermissionValueSet(List.of(allowViewing), permissionsEvaluationService);
+
+        // when
+        var first = permissionSet.evaluate(memberId, ApplicationPermissionMode.VIEWING);
+        var second = permissionSet.evaluate(memberId, ApplicationPermissionMode.VIEWING);
+
+        // then
+        assertTrue(first.isGranted());
+        assertSame(first, second);
+        verify(permissionsEvaluationService, times(memberId.getPathIds().size()))
+            .evaluate(eq(memberId), eq(ApplicationPermissionMode.VIEWING), any());
+
+        // and the other mode is evaluated independently
+        assertFalse(permissionSet.grants(memberId, ApplicationPermissionMode.CHANGING));
+    }
+
+}
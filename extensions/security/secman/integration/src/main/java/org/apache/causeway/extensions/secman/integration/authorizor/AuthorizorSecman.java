@@ -20,6 +20,8 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import javax.inject.Inject;
@@ -28,26 +30,39 @@
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.InteractionScope;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.lifecycle.AbstractLifecycleEvent;
+import org.apache.causeway.applib.events.lifecycle.ObjectPersistedEvent;
+import org.apache.causeway.applib.events.lifecycle.ObjectRemovingEvent;
+import org.apache.causeway.applib.events.lifecycle.ObjectUpdatedEvent;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
 import org.apache.causeway.applib.services.metamodel.MetaModelService;
+import org.apache.causeway.applib.services.user.UserService;
 import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.security.authentication.logout.LogoutMenu;
 import org.apache.causeway.core.security.authorization.Authorizor;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.permission.events.PermissionsChangedEvent;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUserRepository;
 
 import lombok.NonNull;
+import lombok.Value;
 
 /**
  * <p>
@@ -71,7 +86,9 @@ public class AuthorizorSecman implements Authorizor {
 
     @Inject ApplicationUserRepository applicationUserRepository;
     @Inject Provider<PermissionCache> cache;
+    @Inject SharedPermissionCache sharedCache;
     @Inject MetaModelService metaModelService;
+    @Inject UserService userService;
 
     private _Lazy<Identifier> logoutIdentifier = _Lazy.threadSafe(this::logoutIdentifier);
 
@@ -105,9 +122,10 @@ private boolean grants(
         var userName = authentication.getUser().getName();
         var permissionSetIfAny = cache.get()
                 .computeIfAbsent(userName, ()->
-                applicationUserRepository
-                .findByUsername(userName)
-                .map(ApplicationUser::getPermissionSet));
+                // when impersonating, permissions derive from the impersonated roles, so never shared
+                userService.isImpersonating()
+                    ? lookupPermissionSet(userName)
+                    : sharedCache.computeIfAbsent(userName, ()->lookupPermissionSet(userName)));
 
         return permissionSetIfAny
         .map(permissionSet->permissionSet.grants(
@@ -116,6 +134,12 @@ private boolean grants(
         .orElse(false);
     }
 
+    private Optional<ApplicationPermissionValueSet> lookupPermissionSet(final String userName) {
+        return applicationUserRepository
+                .findByUsername(userName)
+                .map(ApplicationUser::getPermissionSet);
+    }
+
     @Component
     @Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthorizorSecman.PermissionCache")
     @InteractionScope
@@ -137,4 +161,102 @@ Optional<ApplicationPermissionValueSet> computeIfAbsent(
 
     }
 
+    /**
+     * Shares each user's (immutable, and internally memoising) {@link ApplicationPermissionValueSet}
+     * across interactions, so that it is loaded and compiled only once per change of that user's
+     * roles or permissions, rather than once per request.
+     *
+     * <p>
+     *     Disabled unless <code>causeway.extensions.secman.permission-set-cache.expiry-duration-in-minutes</code>
+     *     is set, after which entries expire.
+     * </p>
+     *
+     * <p>
+     *     Any {@link PermissionsChangedEvent} (as posted by secman's repositories and mixins whenever they change
+     *     users' roles or permissions), and as a fallback any lifecycle event on an {@link ApplicationUser},
+     *     {@link ApplicationRole} or {@link ApplicationPermission}, bumps a generation counter, both immediately
+     *     and again once the surrounding transaction has completed, which discards all entries loaded previously.
+     * </p>
+     */
+    @Component
+    @Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthorizorSecman.SharedPermissionCache")
+    static class SharedPermissionCache {
+
+        private final Map<String, Entry> entriesByUsername = _Maps.newConcurrentHashMap();
+        private final AtomicLong generation = new AtomicLong();
+        private final long expiryNanos;
+
+        @Inject
+        SharedPermissionCache(final CausewayConfiguration causewayConfiguration) {
+            this.expiryNanos = TimeUnit.MINUTES.toNanos(
+                    causewayConfiguration.getExtensions().getSecman().getPermissionSetCache()
+                    .getExpiryDurationInMinutes());
+        }
+
+        Optional<ApplicationPermissionValueSet> computeIfAbsent(
+                final @NonNull String userName,
+                final Supplier<Optional<ApplicationPermissionValueSet>> lookup) {
+
+            if(expiryNanos <= 0) {
+                return lookup.get();
+            }
+            final long now = System.nanoTime();
+            final long currentGeneration = generation.get();
+            var entry = entriesByUsername.get(userName);
+            if(entry != null
+                    && entry.getGeneration() == currentGeneration
+                    && now - entry.getLoadedAtNanos() < expiryNanos) {
+                return entry.getPermissionSet();
+            }
+            var permissionSet = lookup.get();
+            // don't cache if invalidated meanwhile, the lookup might have seen stale data;
+            // checked within compute, so that an invalidation cannot slip in between the check and the put
+            entriesByUsername.compute(userName, (__, existing)->
+                    generation.get() == currentGeneration
+                        ? new Entry(currentGeneration, now, permissionSet)
+                        : existing);
+            return permissionSet;
+        }
+
+        @EventListener(PermissionsChangedEvent.class)
+        public void onPermissionsChanged(final PermissionsChangedEvent event) {
+            invalidateNowAndOnCompletion();
+        }
+
+        @EventListener({ObjectPersistedEvent.class, ObjectUpdatedEvent.class, ObjectRemovingEvent.class})
+        public void onSecmanEntityChanged(final AbstractLifecycleEvent<?> event) {
+            var source = event.getSource();
+            if(!(source instanceof ApplicationUser
+                    || source instanceof ApplicationRole
+                    || source instanceof ApplicationPermission)) {
+                return;
+            }
+            invalidateNowAndOnCompletion();
+        }
+
+        private void invalidateNowAndOnCompletion() {
+            invalidateAll();
+            if(TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override public void afterCompletion(final int status) {
+                        invalidateAll();
+                    }
+                });
+            }
+        }
+
+        void invalidateAll() {
+            generation.incrementAndGet();
+            entriesByUsername.clear();
+        }
+
+        @Value
+        private static class Entry {
+            long generation;
+            long loadedAtNanos;
+            Optional<ApplicationPermissionValueSet> permissionSet;
+        }
+
+    }
+
 }
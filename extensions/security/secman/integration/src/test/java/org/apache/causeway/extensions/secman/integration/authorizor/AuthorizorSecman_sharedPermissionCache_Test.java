@@ -0,0 +1,165 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.metamodel.MetaModelService;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.applib.services.user.UserService;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.Secman.PermissionsEvaluationPolicy;
+import org.apache.causeway.core.security.authentication.logout.LogoutMenu;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValue;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.permission.events.PermissionsChangedEvent;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUserRepository;
+import org.apache.causeway.extensions.secman.integration.permissions.ApplicationFeatureIdTransformerIdentity;
+import org.apache.causeway.extensions.secman.integration.permissions.PermissionsEvaluationServiceForSecman;
+import org.apache.causeway.extensions.secman.integration.permissions.exampledomain.Customer;
+
+class AuthorizorSecman_sharedPermissionCache_Test {
+
+    private final Identifier lastName = Identifier.propertyIdentifier(
+            LogicalType.eager(Customer.class, "customer.Customer"), "lastName");
+    private final InteractionContext sven = InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName("sven"));
+
+    private final PermissionsEvaluationServiceForSecman permissionsEvaluationService =
+            PermissionsEvaluationServiceForSecman.builder()
+                .applicationFeatureIdTransformer(new ApplicationFeatureIdTransformerIdentity())
+                .policy(PermissionsEvaluationPolicy.ALLOW_BEATS_VETO)
+                .build();
+
+    private ApplicationUserRepository applicationUserRepository;
+    private ApplicationUser user;
+    private AuthorizorSecman.PermissionCache interactionScopedCache;
+
+    @BeforeEach
+    void setUp() {
+        user = mock(ApplicationUser.class);
+        applicationUserRepository = mock(ApplicationUserRepository.class);
+        when(applicationUserRepository.findByUsername("sven")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void revoked_permission_is_denied_immediately() {
+
+        // given
+        var authorizor = authorizorWithSharedCacheExpiringAfterMinutes(5);
+        when(user.getPermissionSet()).thenReturn(permissionSet(
+                new ApplicationPermissionValue(ApplicationFeatureId.newNamespace("customer"),
+                        ApplicationPermissionRule.ALLOW, ApplicationPermissionMode.VIEWING)));
+        assertThat(authorizor.isVisible(sven, lastName)).isTrue();
+
+        // when the permission is revoked (in some other interaction)
+        when(user.getPermissionSet()).thenReturn(permissionSet());
+        authorizor.sharedCache.onPermissionsChanged(PermissionsChangedEvent.of(mock(ApplicationPermission.class)));
+
+        // then
+        nextInteraction();
+        assertThat(authorizor.isVisible(sven, lastName)).isFalse();
+    }
+
+    @Test
+    void permission_set_is_shared_across_interactions_if_enabled() {
+
+        // given
+        var authorizor = authorizorWithSharedCacheExpiringAfterMinutes(5);
+        when(user.getPermissionSet()).thenReturn(permissionSet(
+                new ApplicationPermissionValue(ApplicationFeatureId.newNamespace("customer"),
+                        ApplicationPermissionRule.ALLOW, ApplicationPermissionMode.VIEWING)));
+
+        // when
+        assertThat(authorizor.isVisible(sven, lastName)).isTrue();
+        nextInteraction();
+        assertThat(authorizor.isVisible(sven, lastName)).isTrue();
+
+        // then
+        verify(applicationUserRepository, times(1)).findByUsername("sven");
+    }
+
+    @Test
+    void permission_set_is_not_shared_across_interactions_by_default() {
+
+        // given
+        var authorizor = authorizorWithSharedCacheExpiringAfterMinutes(
+                new CausewayConfiguration.Extensions.Secman.PermissionSetCache().getExpiryDurationInMinutes());
+        when(user.getPermissionSet()).thenReturn(permissionSet(
+                new ApplicationPermissionValue(ApplicationFeatureId.newNamespace("customer"),
+                        ApplicationPermissionRule.ALLOW, ApplicationPermissionMode.VIEWING)));
+
+        // when
+        assertThat(authorizor.isVisible(sven, lastName)).isTrue();
+        assertThat(authorizor.isVisible(sven, lastName)).isTrue();
+        nextInteraction();
+        assertThat(authorizor.isVisible(sven, lastName)).isTrue();
+
+        // then
+        verify(applicationUserRepository, times(2)).findByUsername("sven");
+    }
+
+    // -- HELPER
+
+    private AuthorizorSecman authorizorWithSharedCacheExpiringAfterMinutes(final int expiryDurationInMinutes) {
+        var causewayConfiguration = new CausewayConfiguration(null, Optional.empty());
+        causewayConfiguration.getExtensions().getSecman().getPermissionSetCache()
+            .setExpiryDurationInMinutes(expiryDurationInMinutes);
+
+        var metaModelService = mock(MetaModelService.class);
+        when(metaModelService.lookupLogicalTypeByClass(LogoutMenu.class))
+            .thenReturn(Optional.of(LogicalType.eager(LogoutMenu.class, "causeway.security.LogoutMenu")));
+
+        var authorizor = new AuthorizorSecman();
+        authorizor.applicationUserRepository = applicationUserRepository;
+        authorizor.cache = ()->interactionScopedCache;
+        authorizor.sharedCache = new AuthorizorSecman.SharedPermissionCache(causewayConfiguration);
+        authorizor.metaModelService = metaModelService;
+        authorizor.userService = mock(UserService.class);
+
+        nextInteraction();
+        return authorizor;
+    }
+
+    private void nextInteraction() {
+        interactionScopedCache = new AuthorizorSecman.PermissionCache();
+    }
+
+    private ApplicationPermissionValueSet permissionSet(final ApplicationPermissionValue... permissionValues) {
+        return new ApplicationPermissionValueSet(List.of(permissionValues), permissionsEvaluationService);
+    }
+
+}
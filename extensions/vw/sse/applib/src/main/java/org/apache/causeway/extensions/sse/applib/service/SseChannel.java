@@ -43,4 +43,31 @@ public interface SseChannel {
 
     void awaitClose() throws InterruptedException;
 
+    /**
+     * Registers a callback, to be run once this channel is closed,
+     * or immediately, if already closed.
+     * <p>
+     * Allows listeners to clean up, without blocking a thread on {@link #awaitClose()}.
+     * <p>
+     * Implementations that predate this method do not support it and throw,
+     * hence must override it (along with {@link #removeOnClose(Runnable)}),
+     * to be usable with the {@code ServerSentEventsServlet}.
+     *
+     * @throws UnsupportedOperationException unless overridden
+     */
+    default void onClose(final Runnable callback) {
+        throw new UnsupportedOperationException(String.format(
+                "%s does not support close callbacks, it must override SseChannel#onClose(Runnable)",
+                getClass().getName()));
+    }
+
+    /**
+     * Unregisters given callback, if still pending,
+     * eg. when the listener went away before this channel closed.
+     * <p>
+     * Does nothing unless overridden.
+     */
+    default void removeOnClose(final Runnable callback) {
+    }
+
 }
@@ -23,6 +23,7 @@
 
 import org.apache.causeway.extensions.sse.metamodel.CausewayModuleExtSseMetaModel;
 import org.apache.causeway.extensions.sse.wicket.markup.ListeningMarkupPanelFactoriesForWicket;
+import org.apache.causeway.extensions.sse.wicket.services.SseClientMetrics;
 import org.apache.causeway.extensions.sse.wicket.services.SseServiceDefault;
 import org.apache.causeway.extensions.sse.wicket.webmodule.WebModuleServerSentEvents;
 
@@ -39,6 +40,7 @@
         ListeningMarkupPanelFactoriesForWicket.Standalone.class,
 
         // @Service's
+        SseClientMetrics.class,
         SseServiceDefault.class,
         WebModuleServerSentEvents.class
 })
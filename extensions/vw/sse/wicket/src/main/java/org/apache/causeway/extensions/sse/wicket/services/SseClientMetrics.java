@@ -0,0 +1,117 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.sse.wicket.services;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Priority;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.extensions.sse.wicket.CausewayModuleExtSseWicket;
+
+import lombok.Value;
+
+/**
+ * Connection and lag metrics of server-sent event clients.
+ * <p>
+ * Lag is the time an event spends queued for a client, until written to its response.
+ *
+ * @since 2.x {@index}
+ */
+@Service
+@Named(SseClientMetrics.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+public class SseClientMetrics {
+
+    public static final String LOGICAL_TYPE_NAME = CausewayModuleExtSseWicket.NAMESPACE + ".SseClientMetrics";
+
+    @Value
+    public static class Snapshot {
+        /** number of currently connected clients */
+        int openConnections;
+        /** number of clients that ever connected */
+        long totalConnections;
+        /** number of events, currently queued for any client */
+        int queuedEvents;
+        /** number of events written to clients */
+        long writtenEvents;
+        /** number of queued events, that were superseded by newer ones before being written */
+        long coalescedEvents;
+        Duration totalLag;
+        Duration maxLag;
+    }
+
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicLong totalConnections = new AtomicLong();
+    private final AtomicInteger queuedEvents = new AtomicInteger();
+    private final AtomicLong writtenEvents = new AtomicLong();
+    private final AtomicLong coalescedEvents = new AtomicLong();
+    private final AtomicLong totalLagNanos = new AtomicLong();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+
+    public Snapshot snapshot() {
+        return new Snapshot(
+                openConnections.get(),
+                totalConnections.get(),
+                queuedEvents.get(),
+                writtenEvents.get(),
+                coalescedEvents.get(),
+                Duration.ofNanos(totalLagNanos.get()),
+                Duration.ofNanos(maxLagNanos.get()));
+    }
+
+    // -- RECORDING
+
+    public void onConnectionOpened() {
+        openConnections.incrementAndGet();
+        totalConnections.incrementAndGet();
+    }
+
+    /**
+     * @param discardedEvents - number of events, that were still queued when the connection closed
+     */
+    public void onConnectionClosed(final int discardedEvents) {
+        openConnections.decrementAndGet();
+        queuedEvents.addAndGet(-discardedEvents);
+    }
+
+    public void onEventQueued() {
+        queuedEvents.incrementAndGet();
+    }
+
+    public void onEventCoalesced() {
+        queuedEvents.decrementAndGet();
+        coalescedEvents.incrementAndGet();
+    }
+
+    public void onEventWritten(final long lagNanos) {
+        queuedEvents.decrementAndGet();
+        writtenEvents.incrementAndGet();
+        totalLagNanos.addAndGet(lagNanos);
+        maxLagNanos.accumulateAndGet(lagNanos, Math::max);
+    }
+
+}
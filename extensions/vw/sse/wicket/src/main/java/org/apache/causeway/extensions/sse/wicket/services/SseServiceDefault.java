@@ -22,15 +22,18 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
+import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -74,6 +77,17 @@ public class SseServiceDefault implements SseService {
 
     private final EventStreamPool eventStreamPool = new EventStreamPool();
 
+    /**
+     * Runs the {@link SseSource} tasks, which are potentially long running,
+     * hence we don't want these to occupy the common fork-join pool.
+     */
+    private final ExecutorService executor = Executors.newCachedThreadPool(new SourceTaskThreadFactory());
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
     @Override
     public Optional<SseChannel> lookupByType(Class<?> sourceType) {
         return eventStreamPool.lookupByType(sourceType);
@@ -85,8 +99,6 @@ public void submit(SseSource task, ExecutionBehavior executionBehavior) {
         Objects.requireNonNull(task);
         Objects.requireNonNull(executionBehavior);
 
-        var executor = ForkJoinPool.commonPool();
-
         switch(executionBehavior) {
         case SIMPLE:
             CompletableFuture.runAsync(()->run(task), executor);
@@ -134,6 +146,16 @@ private void run(SseSource task) {
         }
     }
 
+    private static class SourceTaskThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            var thread = new Thread(runnable, "causeway-sse-source-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
     private static class EventStreamPool {
 
         private final Map<Class<?>,  EventStreamLifecycle> eventStreamsByType = new ConcurrentHashMap<>();
@@ -200,36 +222,36 @@ private static class EventStreamDefault implements SseChannel {
         @Getter final Class<?> sourceType;
 
         private final CountDownLatch latch = new CountDownLatch(1);
-        private final Queue<Predicate<SseSource>> listeners = new ConcurrentLinkedQueue<>();
-
+        // copy-on-write: firing is frequent, while listeners come and go rarely;
+        // iteration is over a snapshot, hence firing requires no locking
+        private final List<Predicate<SseSource>> listeners = new CopyOnWriteArrayList<>();
+        private final List<Runnable> closeCallbacks = _Lists.newArrayList();
+
+        /**
+         * Listeners are expected not to block, eg. to just enqueue the event for the client connection.
+         */
         @Override
         public void fire(SseSource source) {
 
-            final List<Predicate<SseSource>> defensiveCopyOfListeners;
-
-            synchronized ($LOCK) {
-                if(!isActive()) {
-                    return;
-                }
-                defensiveCopyOfListeners = _Lists.newArrayList(listeners);
-
+            if(!isActive()) {
+                return;
             }
 
-            log.debug("about to fire events to {} listeners", ()->defensiveCopyOfListeners.size());
+            log.debug("about to fire events to {} listeners", ()->listeners.size());
 
-            final List<Predicate<SseSource>> markedForRemoval = _Lists.newArrayList();
+            List<Predicate<SseSource>> markedForRemoval = null;
 
-            defensiveCopyOfListeners.forEach(listener->{
+            for(var listener : listeners) {
                 var retain = listener.test(source);
                 if(!retain) {
+                    if(markedForRemoval==null) {
+                        markedForRemoval = _Lists.newArrayList();
+                    }
                     markedForRemoval.add(listener);
                 }
-            });
+            }
 
-            synchronized ($LOCK) {
-                if(!isActive()) {
-                    return;
-                }
+            if(markedForRemoval!=null) {
                 listeners.removeAll(markedForRemoval);
             }
 
@@ -246,9 +268,31 @@ public void listenWhile(Predicate<SseSource> listener) {
 
         @Override
         public void close() {
+            final List<Runnable> callbacks;
             synchronized ($LOCK) {
                 listeners.clear();
                 latch.countDown();
+                callbacks = _Lists.newArrayList(closeCallbacks);
+                closeCallbacks.clear();
+            }
+            callbacks.forEach(Runnable::run);
+        }
+
+        @Override
+        public void onClose(final Runnable callback) {
+            synchronized ($LOCK) {
+                if(isActive()) {
+                    closeCallbacks.add(callback);
+                    return;
+                }
+            }
+            callback.run();
+        }
+
+        @Override
+        public void removeOnClose(final Runnable callback) {
+            synchronized ($LOCK) {
+                closeCallbacks.remove(callback);
             }
         }
 
@@ -21,7 +21,6 @@
 import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ForkJoinPool;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.ServletException;
@@ -36,11 +35,15 @@
 import org.apache.causeway.commons.internal.context._Context;
 import org.apache.causeway.extensions.sse.applib.service.SseChannel;
 import org.apache.causeway.extensions.sse.applib.service.SseService;
+import org.apache.causeway.extensions.sse.wicket.services.SseClientMetrics;
 
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Server-sent events.
+ * <p>
+ * Keeps no thread per connected client: the request is put into asynchronous mode and events are written
+ * using non-blocking IO, see {@link SseClientConnection}.
  *
  * @see <a href="https://www.w3schools.com/html/html5_serversentevents.asp">www.w3schools.com</a>
  *
@@ -53,11 +56,13 @@ public class ServerSentEventsServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
 
     @Autowired private SseService sseService;
+    @Autowired private SseClientMetrics sseClientMetrics;
 
     @Override
     public void init() throws ServletException {
         super.init();
         Objects.requireNonNull(sseService, "sseService");
+        Objects.requireNonNull(sseClientMetrics, "sseClientMetrics");
     }
 
     @Override
@@ -85,14 +90,8 @@ protected void doGet(final HttpServletRequest request, final HttpServletResponse
         }
 
         asyncContext(request)
-        .ifPresent(asyncContext->{
-
-            // javac explicitly requires curly-braces here (to tell it we want a Runnable)
-            ForkJoinPool.commonPool().submit(()->{
-                fork(asyncContext, eventStream);
-            });
-
-        });
+        .flatMap(asyncContext->SseClientConnection.open(asyncContext, sseClientMetrics))
+        .ifPresent(connection->listen(connection, eventStream));
 
     }
 
@@ -117,54 +116,26 @@ private boolean flushBuffer(final HttpServletResponse response) {
         return false;
     }
 
-    private void fork(final AsyncContext asyncContext, final SseChannel eventStream) {
+    private void listen(final SseClientConnection connection, final SseChannel eventStream) {
 
-        var response = asyncContext.getResponse();
         var marshaller = new Markup.JaxbToStringAdapter();
 
         eventStream.listenWhile(source->{
-
-            if(ForkJoinPool.commonPool().isShutdown()) {
-                return false; // stop listening
-            }
-
             try {
-
-                var writer = response.getWriter(); // don't close the writer, its likely to be reused
-                if(writer==null) {
-                    return false; // stop listening
-                }
-
                 var payload = marshaller.marshal(Markup.valueOf(source.getPayload()));
-
-                writer
-                .append("data: ")
-                .append(payload)
-                .append("\n\n")
-                .flush();
-
-                return true; // continue listening
-
+                return connection.offer(payload); // continue listening while connected
             } catch (Exception e) {
-                log.warn("failed to run the fork task", e);
+                log.warn("failed to marshal the event payload", e);
+                connection.close();
                 return false; // stop listening
             }
-
         });
 
-        // now we wait until the eventStream closes
-        try {
-            eventStream.awaitClose();
-        } catch (InterruptedException e) {
-            log.warn("Interrupted!", e);
-            // Restore interrupted state...
-            Thread.currentThread().interrupt();
-        }
-
-        // Completes the asynchronous operation that was started on the request
-        // that was used to initialize this AsyncContext.
-        asyncContext.complete();
-
+        // completes the asynchronous operation, once the eventStream closes;
+        // unregistered once the client goes away, as the eventStream may well outlive it
+        Runnable closeConnection = connection::close;
+        eventStream.onClose(closeConnection);
+        connection.onClosed(()->eventStream.removeOnClose(closeConnection));
     }
 
     private Optional<Class<?>> parseEventStreamType(final HttpServletRequest request) {
@@ -0,0 +1,221 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.sse.wicket.webmodule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+import org.apache.causeway.extensions.sse.wicket.services.SseClientMetrics;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * A single server-sent events client, writing to its (asynchronous) response
+ * using non-blocking IO, hence not occupying any thread while idle or while the client is slow.
+ * <p>
+ * Events are queued per client, bounded by {@link #MAX_QUEUED_EVENTS}.
+ * Since any event's payload reflects the latest state of its source,
+ * the oldest queued event is superseded (coalesced), when the queue is full.
+ *
+ * @since 2.x
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Log4j2
+final class SseClientConnection implements WriteListener, AsyncListener {
+
+    static final int MAX_QUEUED_EVENTS = 16;
+
+    static Optional<SseClientConnection> open(
+            final @NonNull AsyncContext asyncContext,
+            final @NonNull SseClientMetrics metrics) {
+        try {
+            var connection = new SseClientConnection(asyncContext, asyncContext.getResponse().getOutputStream(), metrics);
+            metrics.onConnectionOpened();
+            asyncContext.addListener(connection);
+            connection.out.setWriteListener(connection);
+            return Optional.of(connection);
+        } catch (IOException | IllegalStateException e) {
+            log.warn("failed to open server-sent events connection", e);
+            asyncContext.complete();
+            return Optional.empty();
+        }
+    }
+
+    @Value
+    private static class QueuedEvent {
+        byte[] bytes;
+        long queuedAt;
+    }
+
+    private final AsyncContext asyncContext;
+    private final ServletOutputStream out;
+    private final SseClientMetrics metrics;
+
+    private final Deque<QueuedEvent> queue = new ArrayDeque<>();
+    private boolean closed;
+    private Runnable closedCallback;
+
+    /**
+     * Queues given payload for writing and triggers a write, if the response is ready for it.
+     * Does not block.
+     * @return whether this connection is still open
+     */
+    boolean offer(final @NonNull String payload) {
+        var event = new QueuedEvent(
+                ("data: " + payload + "\n\n").getBytes(StandardCharsets.UTF_8),
+                System.nanoTime());
+        synchronized(this) {
+            if(closed) {
+                return false;
+            }
+            if(queue.size() >= MAX_QUEUED_EVENTS) {
+                queue.pollFirst();
+                metrics.onEventCoalesced();
+            }
+            queue.addLast(event);
+            metrics.onEventQueued();
+        }
+        drain();
+        return true;
+    }
+
+    /**
+     * Idempotent.
+     */
+    void close() {
+        if(markClosed()) {
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException e) {
+                // already completed
+            }
+        }
+    }
+
+    /**
+     * Sets the callback, to be run once this connection is closed (for whatever reason),
+     * or immediately, if already closed.
+     */
+    void onClosed(final @NonNull Runnable callback) {
+        synchronized(this) {
+            if(!closed) {
+                this.closedCallback = callback;
+                return;
+            }
+        }
+        callback.run();
+    }
+
+    // -- WRITE LISTENER
+
+    @Override
+    public void onWritePossible() throws IOException {
+        drain();
+    }
+
+    @Override
+    public void onError(final Throwable cause) {
+        log.debug("server-sent events connection failed", cause);
+        close();
+    }
+
+    // -- ASYNC LISTENER
+
+    @Override
+    public void onComplete(final AsyncEvent event) {
+        markClosed();
+    }
+
+    @Override
+    public void onTimeout(final AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onError(final AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onStartAsync(final AsyncEvent event) {
+    }
+
+    // -- HELPER
+
+    /**
+     * Writes queued events, as long as the response does accept them without blocking;
+     * otherwise the container calls {@link #onWritePossible()}, once it does again.
+     */
+    private synchronized void drain() {
+        try {
+            while(!closed
+                    && out.isReady()) {
+                var event = queue.pollFirst();
+                if(event == null) {
+                    return;
+                }
+                out.write(event.getBytes());
+                metrics.onEventWritten(System.nanoTime() - event.getQueuedAt());
+                if(queue.isEmpty()
+                        && out.isReady()) {
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            log.debug("failed to write to server-sent events connection", e);
+            close();
+        }
+    }
+
+    /**
+     * @return whether this call actually closed the connection
+     */
+    private boolean markClosed() {
+        final Runnable callback;
+        synchronized(this) {
+            if(closed) {
+                return false;
+            }
+            closed = true;
+            metrics.onConnectionClosed(queue.size());
+            queue.clear();
+            callback = closedCallback;
+            closedCallback = null;
+        }
+        // outside the lock, as the callback might acquire the channel's lock
+        if(callback!=null) {
+            callback.run();
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.sse.wicket.webmodule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.extensions.sse.wicket.services.SseClientMetrics;
+
+class SseClientConnectionTest {
+
+    private FakeOutputStream out;
+    private AsyncContext asyncContext;
+    private SseClientMetrics metrics;
+    private SseClientConnection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        out = new FakeOutputStream();
+        var response = mock(ServletResponse.class);
+        when(response.getOutputStream()).thenReturn(out);
+        asyncContext = mock(AsyncContext.class);
+        when(asyncContext.getResponse()).thenReturn(response);
+        metrics = new SseClientMetrics();
+        connection = SseClientConnection.open(asyncContext, metrics).orElseThrow();
+    }
+
+    @Test
+    void shouldRegisterAsWriteListener() {
+        assertSame(connection, out.writeListener);
+        verify(asyncContext).addListener(connection);
+        assertEquals(1, metrics.snapshot().getOpenConnections());
+    }
+
+    @Test
+    void shouldWriteEventsInOrder_whenReady() {
+        assertTrue(connection.offer("a"));
+        assertTrue(connection.offer("b"));
+
+        assertEquals("data: a\n\ndata: b\n\n", out.written());
+        assertEquals(2L, metrics.snapshot().getWrittenEvents());
+        assertEquals(0, metrics.snapshot().getQueuedEvents());
+    }
+
+    @Test
+    void shouldCoalesceOldestEvents_whenClientIsSlow() throws Exception {
+        out.ready = false;
+        int offered = SseClientConnection.MAX_QUEUED_EVENTS + 3;
+        IntStream.range(0, offered)
+            .forEach(i->assertTrue(connection.offer("" + i)));
+
+        assertEquals("", out.written());
+        assertEquals(SseClientConnection.MAX_QUEUED_EVENTS, metrics.snapshot().getQueuedEvents());
+        assertEquals(3L, metrics.snapshot().getCoalescedEvents());
+
+        // the container signals, that the client accepts data again
+        out.ready = true;
+        connection.onWritePossible();
+
+        var expected = IntStream.range(3, offered)
+                .mapToObj(i->"data: " + i + "\n\n")
+                .collect(Collectors.joining());
+        assertEquals(expected, out.written());
+        assertEquals(0, metrics.snapshot().getQueuedEvents());
+    }
+
+    @Test
+    void shouldCompleteAndRunClosedCallbackOnce_whenClosed() {
+        var callbackCount = new AtomicInteger();
+        connection.onClosed(callbackCount::incrementAndGet);
+
+        connection.close();
+        connection.close();
+
+        verify(asyncContext, times(1)).complete();
+        assertEquals(1, callbackCount.get());
+        assertFalse(connection.offer("a"));
+        assertEquals(0, metrics.snapshot().getOpenConnections());
+    }
+
+    @Test
+    void shouldRunClosedCallback_whenWriteFails() {
+        var callbackCount = new AtomicInteger();
+        connection.onClosed(callbackCount::incrementAndGet);
+
+        connection.onError(new IOException("client went away"));
+
+        assertEquals(1, callbackCount.get());
+        assertFalse(connection.offer("a"));
+    }
+
+    @Test
+    void shouldRunClosedCallbackImmediately_whenAlreadyClosed() {
+        connection.close();
+
+        var callbackCount = new AtomicInteger();
+        connection.onClosed(callbackCount::incrementAndGet);
+
+        assertEquals(1, callbackCount.get());
+    }
+
+    // -- HELPER
+
+    private static class FakeOutputStream extends ServletOutputStream {
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        boolean ready = true;
+        WriteListener writeListener;
+
+        @Override public boolean isReady() { return ready; }
+        @Override public void setWriteListener(final WriteListener writeListener) { this.writeListener = writeListener; }
+        @Override public void write(final int b) { bytes.write(b); }
+
+        String written() {
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+}
@@ -19,11 +19,9 @@
  */
 package org.apache.causeway.persistence.commons.integration.changetracking;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -67,6 +65,8 @@
 import org.apache.causeway.applib.services.metrics.MetricsService;
 import org.apache.causeway.applib.services.publishing.spi.EntityChanges;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCacheSharedTier;
 import org.apache.causeway.applib.services.xactn.TransactionId;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Lazy;
@@ -153,74 +153,81 @@ public int getOrder() {
     private final PreAndPostValueEvaluatorService preAndPostValueEvaluatorService;
 
     /**
-     * Contains a record for every objectId/propertyId that was changed.
-     * @implNote access to this {@link Map} must be thread-safe and the map also should preserve insertion order. We
-     *           cannot use <code>newConcurrentHashMap</code> as this doesn't preserve insertion order; instead we
-     *           make sure that it is only ever accessed within a <code>synchronized</code> block.
+     * Contains a record for every objectId/propertyId that was changed, in insertion order.
+     * @implNote concurrent and lock-free, see {@link _EnlistedPropertyChangeRecords}
      */
-    private final Map<PropertyChangeRecordId, PropertyChangeRecord> enlistedPropertyChangeRecordsById = _Maps.newLinkedHashMap();
+    private final _EnlistedPropertyChangeRecords enlistedPropertyChangeRecords = new _EnlistedPropertyChangeRecords();
+
+    /**
+     * Bookmarks of the entities having property change records enlisted, de-duplicated incrementally as they are
+     * enlisted; only populated if detailed metrics are enabled.
+     */
+    private final Set<Bookmark> loadedBookmarks = _Sets.newConcurrentHashSet();
 
     /**
      * As used when {@link #enlistCreated(ManagedObject)} or {@link #enlistUpdating(ManagedObject, Function)}
      */
-    private void addPropertyChangeRecordIfAbsent(PropertyChangeRecordId pcrId, PropertyChangeRecord pcr) {
-        enlistedPropertyChangeRecordsById.computeIfAbsent(pcrId, id -> pcr);
+    private void addPropertyChangeRecordIfAbsent(final PropertyChangeRecordId pcrId, final PropertyChangeRecord pcr) {
+        addPropertyChangeRecordIfAbsent(pcrId, id -> pcr);
     }
     /**
-     * As used when {@link #enlistDeleting(ManagedObject)}.
+     * As used when {@link #enlistUpdating(ManagedObject, Function)} or {@link #enlistDeleting(ManagedObject)};
+     * the given {@code func} is only called if not already enlisted.
      */
-    private void addPropertyChangeRecordIfAbsent(PropertyChangeRecordId pcrId, Function<PropertyChangeRecordId, PropertyChangeRecord> func) {
-        enlistedPropertyChangeRecordsById.computeIfAbsent(pcrId, func);
+    private void addPropertyChangeRecordIfAbsent(final PropertyChangeRecordId pcrId, final Function<PropertyChangeRecordId, PropertyChangeRecord> func) {
+        if(enlistedPropertyChangeRecords.addIfAbsent(pcrId, func)
+                && isCountersAndDetail.get()) {
+            loadedBookmarks.add(pcrId.getBookmark());
+        }
     }
 
+    private final _Lazy<Boolean> isCountersAndDetail = _Lazy.threadSafe(()->
+        this.causewayConfiguration.getApplib().getService().getMetricsService().getLevel().isCountersAndDetail());
+
     private Changes evaluateChanges() {
-        var changedProperties = evaluateChangedProperties();
+        final boolean isCountersAndDetail = this.isCountersAndDetail.get();
 
-        var isCountersAndDetail = causewayConfiguration.getApplib().getService().getMetricsService().getLevel().isCountersAndDetail();
-        Set<Bookmark> loadedBookmarks =
-                isCountersAndDetail
-                        ? enlistedPropertyChangeRecordsById.keySet()
-                                .stream()
-                                .map(PropertyChangeRecordId::getBookmark)
-                                .collect(Collectors.<Bookmark>toSet())
-                        : Collections.emptySet();
+        // single pass over the enlisted records, in insertion order, including any enlisted while evaluating
+        var changedProperties = enlistedPropertyChangeRecords.drain()
+                .filter(this::evaluatePostValueAndCheckChanged)
+                .collect(Collectors.toUnmodifiableList());
 
-        Set<Bookmark> dirtiedBookmarks =
+        return new Changes(
+                changedProperties,
                 isCountersAndDetail
-                        ? changedProperties
-                                .stream()
-                                .map(PropertyChangeRecord::getBookmark)
-                                .collect(Collectors.<Bookmark>toSet())
-                        :  Collections.emptySet();
-
-        enlistedPropertyChangeRecordsById.clear();
-
-        return new Changes(changedProperties, loadedBookmarks, dirtiedBookmarks);
-    }
-
-    private Set<PropertyChangeRecord> evaluateChangedProperties() {
-        Set<PropertyChangeRecord> dirtiedProperties;
-        try {
-            dirtiedProperties = changedRecords(enlistedPropertyChangeRecordsById.values());
-        } catch (ConcurrentModificationException ex) {
-            log.warn(
-                    "A concurrent modification exception, one of these properties seemed to change as we looked at it :\n" +
-                            enlistedPropertyChangeRecordsById.keySet()
-                                    .stream()
-                                    .map(PropertyChangeRecordId::toString)
-                                    .collect(Collectors.joining("\n"))
-            );
-            // instead, we take a copy
-            dirtiedProperties = changedRecords(new ArrayList<>(enlistedPropertyChangeRecordsById.values()));
-        }
-        return dirtiedProperties;
+                        ? Set.copyOf(loadedBookmarks)
+                        : Collections.emptySet(),
+                isCountersAndDetail);
     }
 
-    @RequiredArgsConstructor
     static class Changes {
-        @Getter private final Set<PropertyChangeRecord> dirtiedProperties;
+        /**
+         * De-duplicated by id (as enlisted), in insertion order.
+         */
+        @Getter private final List<PropertyChangeRecord> dirtiedProperties;
+        /**
+         * A snapshot, as of when the changes were evaluated.
+         */
         @Getter private final Set<Bookmark> loadedBookmarks;
-        @Getter private final Set<Bookmark> dirtiedBookmarks;
+        private final _Lazy<Set<Bookmark>> dirtiedBookmarks;
+
+        Changes(
+                final List<PropertyChangeRecord> dirtiedProperties,
+                final Set<Bookmark> loadedBookmarks,
+                final boolean isCountersAndDetail) {
+            this.dirtiedProperties = dirtiedProperties;
+            this.loadedBookmarks = loadedBookmarks;
+            // only built if asked for
+            this.dirtiedBookmarks = _Lazy.threadSafe(()->isCountersAndDetail
+                    ? dirtiedProperties.stream()
+                            .map(PropertyChangeRecord::getBookmark)
+                            .collect(Collectors.toUnmodifiableSet())
+                    : Collections.emptySet());
+        }
+
+        public Set<Bookmark> getDirtiedBookmarks() {
+            return dirtiedBookmarks.get();
+        }
     }
 
     /**
@@ -229,22 +236,18 @@ static class Changes {
     private final _Lazy<Changes> changes = _Lazy.of(this::evaluateChanges);
 
     /**
-     * when iterating over the original value set, if any of the properties causes the entity to change state as it is
-     * evaluated then a ConcurrentModificationException will be thrown because an enlist will occur.
+     * Sets the post value, which has been left empty up to now, then checks whether it differs from the pre value.
+     * <p>
+     * If evaluating a property causes an entity to change state (and hence to be enlisted again), this no longer
+     * results in a ConcurrentModificationException; any newly admitted record is drained and evaluated as well.
      */
-    private Set<PropertyChangeRecord> changedRecords(Collection<PropertyChangeRecord> propertyChangeRecords)
-            throws ConcurrentModificationException {
-        return propertyChangeRecords.stream()
-                // set post values, which have been left empty up to now
-                .peek(rec -> {
-                    if (MmEntityUtils.getEntityState(rec.getEntity()).isTransientOrRemoved()) {
-                        rec.withPostValueSetToDeleted();
-                    } else {
-                        rec.withPostValueSetToCurrentElseUnknown(deadlockRecognizer);
-                    }
-                })
-                .filter(managedProperty -> shouldPublish(managedProperty.getPreAndPostValue()))
-                .collect(_Sets.toUnmodifiable());
+    private boolean evaluatePostValueAndCheckChanged(final PropertyChangeRecord rec) {
+        if (MmEntityUtils.getEntityState(rec.getEntity()).isTransientOrRemoved()) {
+            rec.withPostValueSetToDeleted();
+        } else {
+            rec.withPostValueSetToCurrentElseUnknown(deadlockRecognizer);
+        }
+        return shouldPublish(rec.getPreAndPostValue());
     }
 
     private Changes memoizeChangesIfRequired() {
@@ -254,7 +257,14 @@ private Changes memoizeChangesIfRequired() {
     /**
      * @implNote access to this {@link Map} must be thread-safe (insertion order preservation is not required)
      */
-    private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newHashMap();
+    private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newConcurrentHashMap();
+
+    /**
+     * Logical type names of all entities created, updated or deleted within the transaction, irrespective of
+     * whether they are enabled for entity change publishing; used to invalidate the
+     * {@link QueryResultsCacheSharedTier} once committed.
+     */
+    private final Set<String> changedLogicalTypeNames = _Sets.newConcurrentHashSet();
 
     private final LongAdder numberEntitiesLoaded = new LongAdder();
     private final LongAdder entityChangeEventCount = new LongAdder();
@@ -272,10 +282,12 @@ public void destroy() {
     }
 
     private void clearAndReset() {
-        enlistedPropertyChangeRecordsById.clear();
+        enlistedPropertyChangeRecords.clear();
+        loadedBookmarks.clear();
         changes.clear();
 
         changeKindByEnlistedAdapter.clear();
+        changedLogicalTypeNames.clear();
         numberEntitiesLoaded.reset();
         entityChangeEventCount.reset();
 
@@ -348,6 +360,15 @@ public void afterCompletion(int status) {
             log.debug("EntityChangeTrackerDefault.afterCompletion(status={}) xactn={} interactionId={} thread={}", decodeStatus(status), transactionCounter.get(), interactionId, Thread.currentThread().getName());
         }
 
+        if(!changedLogicalTypeNames.isEmpty()) {
+            if(status == STATUS_COMMITTED) {
+                queryResultsCacheSharedTier.ifPresent(sharedTier->
+                    sharedTier.onEntityTypesChanged(_Sets.newHashSet(changedLogicalTypeNames)));
+            }
+            // committed or rolled back, results cached since the changes were enlisted must not survive
+            currentQueryResultsCache().ifPresent(QueryResultsCache::onTransactionEnded);
+        }
+
         clearAndReset();
     }
 
@@ -460,7 +481,7 @@ public Can<EntityPropertyChange> getPropertyChanges(
 
         // this code path has side-effects, it locks the result for this transaction,
         // such that cannot enlist on top of it
-        Set<PropertyChangeRecord> propertyChangeRecords = memoizeChangesIfRequired().getDirtiedProperties();
+        List<PropertyChangeRecord> propertyChangeRecords = memoizeChangesIfRequired().getDirtiedProperties();
 
         return propertyChangeRecords.stream()
                 .map(propertyChangeRecord -> propertyChangeRecord.toEntityPropertyChange(timestamp, userName, txId))
@@ -487,40 +508,44 @@ private boolean enlistForChangeKindPublishing(
 
         var bookmark = ManagedObjects.bookmarkElseFail(entity);
 
-        var previousChangeKind = changeKindByEnlistedAdapter.get(bookmark);
-        if(previousChangeKind == null) {
-            changeKindByEnlistedAdapter.put(bookmark, changeKind);
-            return true;
-        }
-        switch (previousChangeKind) {
-        case CREATE:
-            switch (changeKind) {
-            case DELETE:
-                changeKindByEnlistedAdapter.remove(bookmark);
-            case CREATE:
-            case UPDATE:
-                return false;
+        // atomic per bookmark
+        var enlisted = new AtomicBoolean();
+        changeKindByEnlistedAdapter.compute(bookmark, (bm, previousChangeKind) -> {
+            if(previousChangeKind == null) {
+                enlisted.set(true);
+                return changeKind;
             }
-            break;
-        case UPDATE:
-            switch (changeKind) {
-            case DELETE:
-                changeKindByEnlistedAdapter.put(bookmark, changeKind);
-                return true;
+            switch (previousChangeKind) {
             case CREATE:
+                switch (changeKind) {
+                case DELETE:
+                    return null; // removes
+                case CREATE:
+                case UPDATE:
+                    return previousChangeKind;
+                }
+                break;
             case UPDATE:
-                return false;
+                switch (changeKind) {
+                case DELETE:
+                    enlisted.set(true);
+                    return changeKind;
+                case CREATE:
+                case UPDATE:
+                    return previousChangeKind;
+                }
+                break;
+            case DELETE:
+                return previousChangeKind;
             }
-            break;
-        case DELETE:
-            return false;
-        }
-        return false;
+            return previousChangeKind;
+        });
+        return enlisted.get();
     }
 
     // side-effect free, used by XRay
     long countPotentialPropertyChangeRecords() {
-        return enlistedPropertyChangeRecordsById.size();
+        return enlistedPropertyChangeRecords.size();
     }
 
     // -- ENTITY CHANGE TRACKING
@@ -529,6 +554,7 @@ long countPotentialPropertyChangeRecords() {
     public void enlistCreated(final ManagedObject entity) {
 
         _Xray.enlistCreated(entity, interactionProviderProvider);
+        recordChangedLogicalType(entity);
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -550,6 +576,7 @@ public void enlistUpdating(
             final @Nullable Function<ManagedObject, Can<PropertyChangeRecord>> propertyChangeRecordSupplier) {
 
         _Xray.enlistUpdating(entity, interactionProviderProvider);
+        recordChangedLogicalType(entity);
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -577,7 +604,7 @@ public void enlistUpdating(
                 // home-grown approach
                 MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
                     .forEach(pcrId -> {
-                        addPropertyChangeRecordIfAbsent(pcrId, PropertyChangeRecord.ofCurrent(pcrId, deadlockRecognizer));
+                        addPropertyChangeRecordIfAbsent(pcrId, id -> PropertyChangeRecord.ofCurrent(id, deadlockRecognizer));
                     });
             }
         });
@@ -587,6 +614,7 @@ public void enlistUpdating(
     public void enlistDeleting(final ManagedObject entity) {
 
         _Xray.enlistDeleting(entity, interactionProviderProvider);
+        recordChangedLogicalType(entity);
 
         if (isEntityExcludedForChangePublishing(entity)) return;
 
@@ -615,6 +643,19 @@ public void incrementLoaded(final ManagedObject entity) {
         numberEntitiesLoaded.increment();
     }
 
+    private void recordChangedLogicalType(final ManagedObject entity) {
+        if(queryResultsCacheSharedTier.isEmpty()) return;
+        if(changedLogicalTypeNames.add(entity.getSpecification().getLogicalTypeName())) {
+            currentQueryResultsCache().ifPresent(QueryResultsCache::onEntityChangesEnlisted);
+        }
+    }
+
+    private Optional<QueryResultsCache> currentQueryResultsCache() {
+        return interactionProviderProvider.get().isInInteraction()
+                ? Optional.of(queryResultsCacheProvider.get())
+                : Optional.empty();
+    }
+
     // -- METRICS SERVICE
 
     @Override
@@ -637,6 +678,21 @@ public Set<Bookmark> entitiesDirtied() {
         return memoizeChangesIfRequired().getDirtiedBookmarks();
     }
 
+    @Override
+    public long queryResultsCacheSharedTierHitCount() {
+        return queryResultsCacheSharedTier.map(QueryResultsCacheSharedTier::hitCount).orElse(0L);
+    }
+
+    @Override
+    public long queryResultsCacheSharedTierMissCount() {
+        return queryResultsCacheSharedTier.map(QueryResultsCacheSharedTier::missCount).orElse(0L);
+    }
+
+    @Override
+    public long queryResultsCacheSharedTierEvictionCount() {
+        return queryResultsCacheSharedTier.map(QueryResultsCacheSharedTier::evictionCount).orElse(0L);
+    }
+
     // -- HELPER
 
     /**
@@ -670,5 +726,7 @@ public boolean isEnabled() {
     @Inject private Configuration configuration;
     @Inject private CausewayConfiguration causewayConfiguration;
     @Inject private DeadlockRecognizer deadlockRecognizer;
+    @Inject private Optional<QueryResultsCacheSharedTier> queryResultsCacheSharedTier = Optional.empty();
+    @Inject private Provider<QueryResultsCache> queryResultsCacheProvider;
 
 }
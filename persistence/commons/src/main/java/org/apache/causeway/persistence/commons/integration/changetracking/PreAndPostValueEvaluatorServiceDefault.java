@@ -28,6 +28,7 @@
 
 import org.apache.causeway.applib.annotation.InteractionScope;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.ResettableInteractionScoped;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
 import org.apache.causeway.persistence.commons.CausewayModulePersistenceCommons;
 
@@ -41,10 +42,16 @@
 @InteractionScope   // see note above regarding this
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
 @Log4j2
-public class PreAndPostValueEvaluatorServiceDefault implements PreAndPostValueEvaluatorService {
+public class PreAndPostValueEvaluatorServiceDefault implements PreAndPostValueEvaluatorService, ResettableInteractionScoped {
 
     @Override
     public boolean differ(PreAndPostValue preAndPostValue) {
         return preAndPostValue.shouldPublish();
     }
+
+    @Override
+    public void resetForNextInteraction() {
+        // stateless, nothing to reset
+    }
+
 }
@@ -0,0 +1,89 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+
+/**
+ * Holds a record for every objectId/propertyId enlisted within a transaction, de-duplicated by
+ * {@link PropertyChangeRecordId} and preserving insertion order, without any global lock.
+ *
+ * <p>
+ * De-duplication uses a {@link java.util.concurrent.ConcurrentHashMap} (internally lock-striped per bin),
+ * while insertion order is kept by appending each newly admitted record to a lock-free queue.
+ * Records are {@link #drain() drained} rather than iterated, so records enlisted while (say) post-values are
+ * being evaluated neither cause a {@link java.util.ConcurrentModificationException} nor get lost.
+ */
+final class _EnlistedPropertyChangeRecords {
+
+    private final Map<PropertyChangeRecordId, PropertyChangeRecord> recordsById = _Maps.newConcurrentHashMap();
+    private final Queue<PropertyChangeRecord> recordsInInsertionOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Adds the record created by given {@code factory}, unless there already is one for the given id.
+     * <p>
+     * The factory is called outside of any lock (it typically reads the pre-value of a property);
+     * should two threads race for the same id, only the first record is admitted.
+     *
+     * @return whether the record was admitted
+     */
+    boolean addIfAbsent(
+            final PropertyChangeRecordId pcrId,
+            final Function<PropertyChangeRecordId, PropertyChangeRecord> factory) {
+        if(recordsById.containsKey(pcrId)) {
+            return false;
+        }
+        var pcr = factory.apply(pcrId);
+        if(recordsById.putIfAbsent(pcrId, pcr) != null) {
+            return false;
+        }
+        recordsInInsertionOrder.add(pcr);
+        return true;
+    }
+
+    /**
+     * Removes and returns the records in insertion order, including those admitted while the returned
+     * {@link Stream} is being consumed.
+     * <p>
+     * Ids remain known, so a record drained already is not admitted again (until {@link #clear()}).
+     */
+    Stream<PropertyChangeRecord> drain() {
+        return Stream.generate(recordsInInsertionOrder::poll)
+                .takeWhile(Objects::nonNull);
+    }
+
+    int size() {
+        return recordsById.size();
+    }
+
+    void clear() {
+        recordsById.clear();
+        recordsInInsertionOrder.clear();
+    }
+
+}
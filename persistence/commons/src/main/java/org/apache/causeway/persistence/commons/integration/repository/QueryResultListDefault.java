@@ -0,0 +1,183 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.repository;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.applib.query.QueryResultList;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.object.MmUnwrapUtils;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Defers query execution until either the {@link List} contract is used,
+ * in which case all matching instances are fetched (once),
+ * or until a count or a page is requested,
+ * in which case the work is pushed down to the {@link EntityFacet},
+ * provided it can count the query on the database side.
+ * Otherwise counts and pages are served from all matching instances (fetched once).
+ *
+ * @see RepositoryServiceDefault#allMatchesPageable(Query)
+ */
+final class QueryResultListDefault<T>
+extends AbstractList<T>
+implements QueryResultList<T> {
+
+    private final @NonNull RepositoryServiceDefault repositoryService;
+    @Getter(onMethod_ = {@Override})
+    private final @NonNull Query<T> query;
+    private final _Lazy<List<T>> allMatches;
+    private final _Lazy<Optional<EntityFacet>> entityFacet;
+    private final _Lazy<Boolean> pageable;
+
+    QueryResultListDefault(
+            final @NonNull RepositoryServiceDefault repositoryService,
+            final @NonNull Query<T> query) {
+        this.repositoryService = repositoryService;
+        this.query = query;
+        this.allMatches = _Lazy.threadSafe(()->repositoryService.allMatches(query));
+        this.entityFacet = _Lazy.threadSafe(()->repositoryService.getSpecificationLoader()
+                .specForType(query.getResultType())
+                .flatMap(ObjectSpecification::entityFacet));
+        this.pageable = _Lazy.threadSafe(()->entityFacet.get()
+                .map(facet->facet.isCountable(query))
+                .orElse(false));
+    }
+
+    // -- LIST
+
+    @Override
+    public T get(final int index) {
+        return allMatches.get().get(index);
+    }
+
+    @Override
+    public int size() {
+        return allMatches.get().size();
+    }
+
+    // -- PAGEABLE
+
+    @Override
+    public boolean isPageable() {
+        return pageable.get();
+    }
+
+    @Override
+    public long count() {
+        if(!isPageable()) {
+            return size();
+        }
+        var range = query.getRange();
+        repositoryService.flushIfAutoFlushEnabled();
+        long count = Math.max(0L,
+                entityFacet.get().get().countByQuery(query) - range.getStart());
+        return range.hasLimit()
+                ? Math.min(count, range.getLimit())
+                : count;
+    }
+
+    /**
+     * A query that is already constrained to a range, can only be served
+     * in its natural order, as applying an ORDER BY would change
+     * the set of instances within that range.
+     */
+    @Override
+    public boolean isOrderableBy(final @Nullable String propertyId) {
+        return propertyId!=null
+                && isPageable()
+                && query.getRange().isUnconstrained()
+                && entityFacet.get()
+                    .map(facet->facet.isOrderableBy(query, propertyId))
+                    .orElse(false);
+    }
+
+    /**
+     * If {@link #isPageable()}, pages are always fetched from the database
+     * (even if all matches were fetched already), such that all pages are
+     * consistently ordered (including the primary key tie-breaker).
+     */
+    @Override
+    public List<T> fetch(
+            final @NonNull QueryRange range,
+            final @Nullable String orderByPropertyId,
+            final boolean ascending) {
+
+        if(!isPageable()) {
+            if(orderByPropertyId!=null) {
+                throw _Exceptions.unsupportedOperation(
+                        "ordering by property '%s' not supported for query %s",
+                        orderByPropertyId,
+                        query.getDescription());
+            }
+            var all = allMatches.get();
+            var from = (int)Math.min(range.getStart(), all.size());
+            var to = range.hasLimit()
+                    ? (int)Math.min(range.getStart() + range.getLimit(), all.size())
+                    : all.size();
+            return all.subList(from, to);
+        }
+
+        var queryRange = query.getRange();
+        if(queryRange.hasLimit()
+                && range.getStart()>=queryRange.getLimit()) {
+            return List.of(); // page is beyond the query's own range
+        }
+
+        var pageQuery = query.withRange(absolute(range));
+        repositoryService.flushIfAutoFlushEnabled();
+        var page = entityFacet.get().orElseThrow()
+                .fetchByQuery(pageQuery, orderByPropertyId, ascending);
+        return _Casts.uncheckedCast(MmUnwrapUtils.multipleAsList(page));
+    }
+
+    // -- HELPER
+
+    /**
+     * Translates given range (relative to this list) into a range relative to the
+     * underlying query's result, honoring the query's own range (if any).
+     * @implNote assumes the relative start lies within the query's range
+     */
+    private QueryRange absolute(final QueryRange relative) {
+        var queryRange = query.getRange();
+        var start = queryRange.getStart() + relative.getStart();
+        if(!queryRange.hasLimit()) {
+            return relative.hasLimit()
+                    ? QueryRange.of(start, relative.getLimit())
+                    : QueryRange.start(start);
+        }
+        var remaining = queryRange.getLimit() - relative.getStart();
+        return QueryRange.of(start, relative.hasLimit()
+                ? Math.min(relative.getLimit(), remaining)
+                : remaining);
+    }
+
+}
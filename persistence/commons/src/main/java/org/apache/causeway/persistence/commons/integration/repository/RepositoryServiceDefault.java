@@ -39,6 +39,7 @@
 import org.apache.causeway.applib.exceptions.unrecoverable.RepositoryException;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.applib.query.QueryResultList;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.applib.services.repository.RepositoryService;
@@ -201,10 +202,19 @@ public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T>
 
     @Override
     public <T> List<T> allMatches(final Query<T> query) {
+        flushIfAutoFlushEnabled();
+        return submitQuery(query);
+    }
+
+    @Override
+    public <T> QueryResultList<T> allMatchesPageable(final Query<T> query) {
+        return new QueryResultListDefault<>(this, query);
+    }
+
+    void flushIfAutoFlushEnabled() {
         if(autoFlush && !FlushMgmt.isAutoFlushSuppressed() && !suppressFlush.get()) {
             transactionService.flushTransaction();
         }
-        return submitQuery(query);
     }
 
     <T> List<T> submitQuery(final Query<T> query) {
@@ -0,0 +1,85 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class _EnlistedPropertyChangeRecordsTest {
+
+    _EnlistedPropertyChangeRecords records;
+    ManagedObject entity;
+
+    @BeforeEach
+    void setUp() {
+        records = new _EnlistedPropertyChangeRecords();
+        entity = Mockito.mock(ManagedObject.class);
+        Mockito.when(entity.getBookmark())
+            .thenReturn(Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("simple.Customer", "1")));
+    }
+
+    @Test
+    void admits_first_record_per_id_only() {
+        assertTrue(records.addIfAbsent(idFor("name"), PropertyChangeRecord::ofNew));
+        assertFalse(records.addIfAbsent(idFor("name"), PropertyChangeRecord::ofNew));
+
+        assertEquals(1, records.size());
+    }
+
+    @Test
+    void drain_includes_records_admitted_while_draining() {
+        records.addIfAbsent(idFor("name"), PropertyChangeRecord::ofNew);
+        records.addIfAbsent(idFor("email"), PropertyChangeRecord::ofNew);
+
+        var drained = records.drain()
+                .peek(rec->{
+                    // as if evaluating the post-value caused further changes
+                    if(rec.getPropertyId().equals("name")) {
+                        records.addIfAbsent(idFor("name"), PropertyChangeRecord::ofNew); // already drained
+                        records.addIfAbsent(idFor("version"), PropertyChangeRecord::ofNew);
+                    }
+                })
+                .map(PropertyChangeRecord::getPropertyId)
+                .collect(Collectors.joining(","));
+
+        assertEquals("name,email,version", drained);
+        assertEquals(0L, records.drain().count());
+    }
+
+    private PropertyChangeRecordId idFor(final String propertyId) {
+        var property = Mockito.mock(OneToOneAssociation.class);
+        Mockito.when(property.getId()).thenReturn(propertyId);
+        return PropertyChangeRecordId.of(entity, property);
+    }
+
+}
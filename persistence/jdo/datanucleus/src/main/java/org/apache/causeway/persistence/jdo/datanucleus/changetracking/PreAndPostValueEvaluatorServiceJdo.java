@@ -33,6 +33,7 @@
 
 import org.apache.causeway.applib.annotation.InteractionScope;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.ResettableInteractionScoped;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
 import org.apache.causeway.persistence.commons.integration.changetracking.PreAndPostValueEvaluatorService;
@@ -48,7 +49,7 @@
 @InteractionScope   // see note above regarding this
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
 @Log4j2
-public class PreAndPostValueEvaluatorServiceJdo implements PreAndPostValueEvaluatorService {
+public class PreAndPostValueEvaluatorServiceJdo implements PreAndPostValueEvaluatorService, ResettableInteractionScoped {
 
     @Override
     public boolean differ(PreAndPostValue papv) {
@@ -96,4 +97,9 @@ public boolean differ(PreAndPostValue papv) {
         return !Objects.equals(papv.getPre(), papv.getPost());
     }
 
+    @Override
+    public void resetForNextInteraction() {
+        // stateless, nothing to reset
+    }
+
 }
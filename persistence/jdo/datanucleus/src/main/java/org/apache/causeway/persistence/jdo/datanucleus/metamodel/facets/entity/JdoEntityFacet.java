@@ -19,6 +19,9 @@
 package org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,6 +35,7 @@
 
 import org.datanucleus.api.jdo.JDOQuery;
 import org.datanucleus.enhancement.Persistable;
+import org.datanucleus.metadata.AbstractClassMetaData;
 import org.datanucleus.store.rdbms.RDBMSPropertyNames;
 
 import org.springframework.lang.Nullable;
@@ -48,6 +52,7 @@
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.commons.internal.base._NullSafe;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.beans.PersistenceStack;
@@ -106,6 +111,16 @@
     private final EntityOrmMetadata ormMetadata =
             _MetadataUtil.ormMetadataFor(getPersistenceManager(), entityClass);
 
+    // lazily looks up DataNucleus' class metadata (needs a PersistenceManager)
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final AbstractClassMetaData classMetadata =
+            _MetadataUtil.classMetadataFor(getPersistenceManager(), entityClass);
+
+    // lazily derived from the class metadata
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final String primaryKeyOrdering =
+            _MetadataUtil.primaryKeyOrdering(getClassMetadata());
+
     public JdoEntityFacet(
             final FacetHolder holder, final Class<?> entityClass) {
         super(EntityFacet.class, holder);
@@ -215,6 +230,52 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Fetches all entities via a single {@link PersistenceManager#getObjectsById(java.util.Collection, boolean)},
+     * falling back to fetching one by one, if any of them cannot be found.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        if(bookmarks.size()<2) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        final Collection<?> entityPojos;
+        try {
+
+            var persistenceManager = getPersistenceManager();
+            var objectIds = bookmarks
+                    .map(bookmark->primaryKeyTypeForDecoding().destring(bookmark.getIdentifier()))
+                    .map(primaryKey->persistenceManager.newObjectIdInstance(entityClass, primaryKey));
+
+            var fetchPlan = persistenceManager.getFetchPlan();
+            fetchPlan.addGroup(FetchGroup.DEFAULT);
+            entityPojos = persistenceManager.getObjectsById(objectIds.toList(), true);
+
+        } catch (final RuntimeException e) {
+
+            var recognition = exceptionRecognizerService.recognize(e);
+            if(recognition.isPresent()) {
+                if(recognition.get().getCategory() == Category.NOT_FOUND) {
+                    return EntityFacet.super.fetchByBookmarks(bookmarks);
+                }
+            }
+
+            throw e;
+        }
+
+        var pojoByBookmark = new LinkedHashMap<Bookmark, Object>(bookmarks.size());
+        bookmarks.zip(entityPojos, (bookmark, pojo)->{
+            if(pojo!=null) {
+                pojoByBookmark.put(bookmark, pojo);
+            }
+        });
+        return pojoByBookmark;
+    }
+
     @Override
     public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
@@ -297,6 +358,139 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 query.getDescription());
     }
 
+    /**
+     * Both, {@link AllInstancesQuery}s and {@link NamedQuery}s are orderable,
+     * unless the latter come with their own result phrase (projection).
+     */
+    @Override
+    public boolean isOrderableBy(final Query<?> query, final @Nullable String memberId) {
+        return isPersistentMember(memberId)
+                && newOrderableOrCountableQuery(query).isPresent();
+    }
+
+    /**
+     * Unlike the default, also considers members inherited from persistent super classes,
+     * but only those, that map to a column of their own.
+     */
+    @Override
+    public boolean isPersistentMember(final @Nullable String memberId) {
+        return memberId!=null
+                && _MetadataUtil.isOrderableMember(getPersistenceManager(), getClassMetadata(), memberId);
+    }
+
+    @Override
+    public Can<ManagedObject> fetchByQuery(
+            final Query<?> query,
+            final @Nullable String orderByMemberId,
+            final boolean ascending) {
+
+        if(orderByMemberId!=null
+                && !isPersistentMember(orderByMemberId)) {
+            return EntityFacet.super.fetchByQuery(query, orderByMemberId, ascending);
+        }
+
+        var jdoQuery = newOrderableOrCountableQuery(query).orElse(null);
+        if(jdoQuery==null) {
+            return EntityFacet.super.fetchByQuery(query, orderByMemberId, ascending);
+        }
+
+        jdoQuery.setOrdering(ordering(jdoQuery, orderByMemberId, ascending));
+
+        var range = query.getRange();
+        if(!range.isUnconstrained()) {
+            jdoQuery.range(range.getStart(), range.getEnd());
+        }
+
+        return fetchWithinTransaction(jdoQuery::executeList);
+    }
+
+    @Override
+    public boolean isCountable(final Query<?> query) {
+        return newOrderableOrCountableQuery(query).isPresent();
+    }
+
+    @Override
+    public long countByQuery(final Query<?> query) {
+        var jdoQuery = newOrderableOrCountableQuery(query).orElse(null);
+        if(jdoQuery==null) {
+            return EntityFacet.super.countByQuery(query);
+        }
+        // a named query's own ordering is not allowed (nor required) along with an aggregate
+        jdoQuery.setOrdering(null);
+        jdoQuery.setResult("count(this)");
+        return getTransactionalProcessor().callWithinCurrentTransactionElseCreateNew(
+                ()->((Number)jdoQuery.executeResultUnique()).longValue())
+                .ifFailureFail()
+                .getValue().orElse(0L);
+    }
+
+    /**
+     * Given member (if any) else the named query's own ordering (if any),
+     * followed by the primary key as tie-breaker (if supported).
+     */
+    @Nullable
+    private String ordering(
+            final javax.jdo.Query<?> jdoQuery,
+            final @Nullable String orderByMemberId,
+            final boolean ascending) {
+        var orderings = new ArrayList<String>(2);
+        if(orderByMemberId!=null) {
+            orderings.add(orderByMemberId + (ascending ? " ascending" : " descending"));
+        } else if(jdoQuery instanceof JDOQuery) {
+            var ownOrdering = ((JDOQuery<?>) jdoQuery).getInternalQuery().getOrdering();
+            if(_Strings.isNotEmpty(ownOrdering)) {
+                orderings.add(ownOrdering);
+            }
+        }
+        if(_Strings.isNotEmpty(getPrimaryKeyOrdering())) {
+            orderings.add(getPrimaryKeyOrdering());
+        }
+        return orderings.isEmpty()
+                ? null
+                : String.join(", ", orderings);
+    }
+
+    /**
+     * Optionally a JDO query (without range) for given applib {@link Query},
+     * based on whether it can be ordered or counted,
+     * that is, whether it is not a named query with a result phrase.
+     */
+    private Optional<javax.jdo.Query<?>> newOrderableOrCountableQuery(final Query<?> query) {
+
+        if(query instanceof AllInstancesQuery) {
+
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(query.getResultType(), entityClass);
+
+            var jdoQuery = getPersistenceManager().newQuery(entityClass);
+            jdoQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+            return Optional.of(jdoQuery);
+
+        } else if(query instanceof NamedQuery) {
+
+            var applibNamedQuery = (NamedQuery<?>) query;
+
+            var namedParams = _Maps.<String, Object>newHashMap();
+            var namedQuery = getPersistenceManager()
+                    .newNamedQuery(applibNamedQuery.getResultType(), applibNamedQuery.getName())
+                    .setNamedParameters(namedParams);
+
+            if(hasResultPhrase(namedQuery)) {
+                return Optional.empty();
+            }
+
+            namedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+
+            applibNamedQuery
+                .getParametersByName()
+                .forEach(namedParams::put);
+
+            return Optional.of(namedQuery);
+        }
+
+        return Optional.empty();
+    }
+
     private static boolean hasResultPhrase(final javax.jdo.Query<?> namedQuery) {
         if (namedQuery instanceof JDOQuery) {
             JDOQuery<?> jdoQuery = (JDOQuery<?>) namedQuery;
@@ -19,13 +19,17 @@
 package org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.metadata.MemberMetadata;
 import javax.jdo.metadata.TypeMetadata;
 
+import org.datanucleus.ClassLoaderResolver;
 import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
 import org.datanucleus.identity.SCOID;
+import org.datanucleus.metadata.AbstractClassMetaData;
+import org.datanucleus.metadata.RelationType;
 
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._NullSafe;
@@ -58,8 +62,61 @@ EntityOrmMetadata ormMetadataFor(
                 typeMetadata);
     }
 
+    /**
+     * DataNucleus' own metadata for given entity class, which unlike {@link TypeMetadata}
+     * also covers the members (and primary key) inherited from persistent super classes.
+     */
+    AbstractClassMetaData classMetadataFor(
+            final @NonNull PersistenceManager persistenceManager,
+            final @NonNull Class<?> entityClass) {
+        var pmf = (JDOPersistenceManagerFactory) persistenceManager.getPersistenceManagerFactory();
+        return pmf.getNucleusContext().getMetaDataManager()
+                .getMetaDataForClass(entityClass, classLoaderResolver(pmf));
+    }
+
+    /**
+     * Whether given member is persisted to a column of its own (not a relation, nor a container),
+     * hence can be used within a JDOQL ordering.
+     */
+    boolean isOrderableMember(
+            final @NonNull PersistenceManager persistenceManager,
+            final @NonNull AbstractClassMetaData classMetadata,
+            final @NonNull String memberId) {
+        var memberMetadata = classMetadata.getMetaDataForMember(memberId);
+        if(memberMetadata==null
+                || !memberMetadata.isFieldToBePersisted()
+                || memberMetadata.hasContainer()) {
+            return false;
+        }
+        var pmf = (JDOPersistenceManagerFactory) persistenceManager.getPersistenceManagerFactory();
+        return memberMetadata.getRelationType(classLoaderResolver(pmf)) == RelationType.NONE;
+    }
+
+    /**
+     * JDOQL ordering by primary key (ascending), to break ties of any other ordering;
+     * empty if the identity type does not allow to order by.
+     */
+    String primaryKeyOrdering(final @NonNull AbstractClassMetaData classMetadata) {
+        switch (classMetadata.getIdentityType()) {
+            case APPLICATION:
+                return _NullSafe.stream(classMetadata.getPrimaryKeyMemberNames())
+                        .map(memberName->memberName + " ascending")
+                        .collect(Collectors.joining(", "));
+            case DATASTORE:
+                return "JDOHelper.getObjectId(this) ascending";
+            case NONDURABLE:
+            default:
+                return "";
+        }
+    }
+
     // -- HELPER
 
+    private ClassLoaderResolver classLoaderResolver(final @NonNull JDOPersistenceManagerFactory pmf) {
+        var contextLoader = Thread.currentThread().getContextClassLoader();
+        return pmf.getNucleusContext().getClassLoaderResolver(contextLoader);
+    }
+
     private Can<ColumnOrmMetadata> columns(final TypeMetadata typeMetadata) {
         return _NullSafe.stream(typeMetadata.getMembers())
                 .map(_MetadataUtil::column)
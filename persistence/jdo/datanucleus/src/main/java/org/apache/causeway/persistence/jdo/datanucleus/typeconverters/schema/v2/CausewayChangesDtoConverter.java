@@ -21,6 +21,8 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoStorageFormat;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.schema.chg.v2.ChangesDto;
 
 /**
@@ -32,12 +34,20 @@ public class CausewayChangesDtoConverter implements TypeConverter<ChangesDto, St
 
     @Override
     public String toDatastoreType(final ChangesDto memberValue) {
-        return ChangesDtoUtils.dtoMapper().toString(memberValue);
+        return storageFormat().encode(ChangesDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public ChangesDto toMemberType(final String datastoreValue) {
-        return ChangesDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageFormat.decode(ChangesDtoUtils.dtoMapper(), datastoreValue);
+    }
+
+    // -- HELPER
+
+    private static DtoStorageFormat storageFormat() {
+        return MetaModelContext.instance()
+                .map(mmc->mmc.getConfiguration().getPersistence().getCommons().getDtoStorage().getChangesDtoFormat())
+                .orElse(DtoStorageFormat.XML);
     }
 
 }
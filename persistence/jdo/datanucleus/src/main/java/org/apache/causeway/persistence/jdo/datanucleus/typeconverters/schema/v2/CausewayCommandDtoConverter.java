@@ -21,6 +21,8 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoStorageFormat;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
@@ -32,12 +34,20 @@ public class CausewayCommandDtoConverter implements TypeConverter<CommandDto, St
 
     @Override
     public String toDatastoreType(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        return storageFormat().encode(CommandDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public CommandDto toMemberType(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageFormat.decode(CommandDtoUtils.dtoMapper(), datastoreValue);
+    }
+
+    // -- HELPER
+
+    private static DtoStorageFormat storageFormat() {
+        return MetaModelContext.instance()
+                .map(mmc->mmc.getConfiguration().getPersistence().getCommons().getDtoStorage().getCommandDtoFormat())
+                .orElse(DtoStorageFormat.XML);
     }
 
 }
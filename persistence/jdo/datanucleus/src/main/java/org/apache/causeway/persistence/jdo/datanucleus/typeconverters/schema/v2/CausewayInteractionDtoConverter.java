@@ -21,6 +21,8 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoStorageFormat;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 /**
@@ -32,12 +34,20 @@ public class CausewayInteractionDtoConverter implements TypeConverter<Interactio
 
     @Override
     public String toDatastoreType(final InteractionDto memberValue) {
-        return InteractionDtoUtils.dtoMapper().toString(memberValue);
+        return storageFormat().encode(InteractionDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public InteractionDto toMemberType(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageFormat.decode(InteractionDtoUtils.dtoMapper(), datastoreValue);
+    }
+
+    // -- HELPER
+
+    private static DtoStorageFormat storageFormat() {
+        return MetaModelContext.instance()
+                .map(mmc->mmc.getConfiguration().getPersistence().getCommons().getDtoStorage().getInteractionDtoFormat())
+                .orElse(DtoStorageFormat.XML);
     }
 
 }
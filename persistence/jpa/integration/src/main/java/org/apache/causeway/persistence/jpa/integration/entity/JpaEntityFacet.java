@@ -19,11 +19,21 @@
 package org.apache.causeway.persistence.jpa.integration.entity;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.criteria.Order;
+import javax.persistence.metamodel.Attribute.PersistentAttributeType;
+import javax.persistence.metamodel.EntityType;
 
 import org.springframework.data.jpa.repository.JpaContext;
 import org.springframework.lang.Nullable;
@@ -31,6 +41,7 @@
 import org.apache.causeway.applib.query.AllInstancesQuery;
 import org.apache.causeway.applib.query.NamedQuery;
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.commons.collections.Can;
@@ -46,6 +57,7 @@
 import org.apache.causeway.core.metamodel.services.idstringifier.IdStringifierLookupService;
 import org.apache.causeway.persistence.jpa.applib.integration.HasVersion;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
@@ -55,6 +67,12 @@
         extends FacetAbstract
         implements EntityFacet {
 
+    /**
+     * Max number of primary keys per query issued by {@link #fetchByBookmarks(Can)};
+     * well below common limits, eg. Oracle's 1000 elements per IN list.
+     */
+    static final int FETCH_BY_BOOKMARKS_CHUNK_SIZE = 500;
+
     // self managed injections via constructor
     @Inject private JpaContext jpaContext;
     @Inject private IdStringifierLookupService idStringifierLookupService;
@@ -114,6 +132,60 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Fetches all entities with a single {@code SELECT ... WHERE id IN (...)} query,
+     * if the entity has a single id attribute, otherwise falls back to fetching one by one.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        if(bookmarks.size()<2) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        var entityManager = getEntityManager();
+        var entityType = entityManager.getMetamodel().entity(entityClass);
+        if(!entityType.hasSingleIdAttribute()) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        var idAttribute = entityType.getId(entityType.getIdType().getJavaType());
+
+        var primaryKeys = bookmarks
+                .map(bookmark->primaryKeyType.destring(bookmark.getIdentifier()))
+                .toList();
+
+        var cb = entityManager.getCriteriaBuilder();
+        var persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+        var pojoById = new HashMap<String, Object>(bookmarks.size());
+
+        // one query per chunk, to stay within the databases' limits of IN list elements (bind parameters)
+        for(int from = 0; from < primaryKeys.size(); from += FETCH_BY_BOOKMARKS_CHUNK_SIZE) {
+            var primaryKeysChunk = primaryKeys.subList(from,
+                    Math.min(from + FETCH_BY_BOOKMARKS_CHUNK_SIZE, primaryKeys.size()));
+            var cr = cb.createQuery(entityClass);
+            var root = cr.from(entityClass);
+            cr.select(_Casts.uncheckedCast(root))
+                .where(root.get(idAttribute.getName()).in(primaryKeysChunk));
+            entityManager.createQuery(cr)
+                .getResultStream()
+                .forEach(pojo->pojoById.put(
+                        primaryKeyType.enstringWithCast(persistenceUnitUtil.getIdentifier(pojo)),
+                        pojo));
+        }
+
+        var pojoByBookmark = new LinkedHashMap<Bookmark, Object>(bookmarks.size());
+        bookmarks.forEach(bookmark->{
+            var pojo = pojoById.get(bookmark.getIdentifier());
+            if(pojo!=null) {
+                pojoByBookmark.put(bookmark, pojo);
+            }
+        });
+        return pojoByBookmark;
+    }
+
     private Class<?> getPrimaryKeyType() {
         return getOrmMetadata().primaryKeyClass();
     }
@@ -186,6 +258,161 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 "Support for Query of type %s not implemented.", query.getClass());
     }
 
+    /**
+     * {@link AllInstancesQuery}s are orderable, and so are {@link NamedQuery}s
+     * of form {@code SELECT e FROM <ThisEntity> e ...} (see {@link _NamedQueryJpql}).
+     */
+    @Override
+    public boolean isOrderableBy(final Query<?> query, final @Nullable String memberId) {
+        return isPersistentMember(memberId)
+                && (query instanceof AllInstancesQuery
+                    || lookupNamedQueryJpql(query)
+                        .filter(jpql->jpql.isSelectingRootEntity(getEntityType().getName()))
+                        .isPresent());
+    }
+
+    /**
+     * Based on the JPA metamodel (as the {@link EntityOrmMetadata} provides no columns for JPA);
+     * only basic (non-relational) attributes qualify, including inherited ones.
+     */
+    @Override
+    public boolean isPersistentMember(final @Nullable String memberId) {
+        return memberId!=null
+                && getEntityType().getSingularAttributes().stream()
+                    .anyMatch(attribute->memberId.equals(attribute.getName())
+                            && attribute.getPersistentAttributeType() == PersistentAttributeType.BASIC);
+    }
+
+    @Override
+    public Can<ManagedObject> fetchByQuery(
+            final Query<?> query,
+            final @Nullable String orderByMemberId,
+            final boolean ascending) {
+
+        if(orderByMemberId!=null
+                && !isOrderableBy(query, orderByMemberId)) {
+            return EntityFacet.super.fetchByQuery(query, orderByMemberId, ascending);
+        }
+
+        var entityManager = getEntityManager();
+
+        if (query instanceof AllInstancesQuery) {
+
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(query.getResultType(), entityClass);
+
+            var cb = entityManager.getCriteriaBuilder();
+            var cr = cb.createQuery(entityClass);
+            var root = cr.from(entityClass);
+
+            var orders = new ArrayList<Order>();
+            if(orderByMemberId!=null) {
+                orders.add(ascending
+                        ? cb.asc(root.get(orderByMemberId))
+                        : cb.desc(root.get(orderByMemberId)));
+            }
+            getPrimaryKeyAttributeNames()
+                .forEach(attributeName->orders.add(cb.asc(root.get(attributeName))));
+
+            cr.select(_Casts.uncheckedCast(root));
+            cr.orderBy(orders);
+
+            return fetchPage(entityManager.createQuery(cr), query.getRange());
+        }
+
+        var namedQueryJpql = lookupNamedQueryJpql(query).orElse(null);
+        if(namedQueryJpql==null) {
+            return fetchByQuery(query); // in its natural order, as we cannot add a tie-breaker
+        }
+
+        var alias = namedQueryJpql.getAlias();
+        var orderByItems = new ArrayList<String>();
+        if(orderByMemberId!=null) {
+            orderByItems.add(alias + "." + orderByMemberId + (ascending ? " ASC" : " DESC"));
+        } else {
+            namedQueryJpql.getOrderByItems().ifPresent(orderByItems::add);
+        }
+        if(namedQueryJpql.isSelectingRootEntity(getEntityType().getName())) {
+            getPrimaryKeyAttributeNames()
+                .forEach(attributeName->orderByItems.add(alias + "." + attributeName + " ASC"));
+        }
+
+        // untyped, as named queries are not required to select the exact result type
+        var jpaQuery = entityManager.createQuery(namedQueryJpql.toOrderedJpql(orderByItems));
+        bindParameters(jpaQuery, (NamedQuery<?>) query);
+
+        return fetchPage(jpaQuery, query.getRange());
+    }
+
+    /**
+     * {@link AllInstancesQuery}s are countable, and so are {@link NamedQuery}s
+     * of form {@code SELECT e FROM ...} (see {@link _NamedQueryJpql}).
+     */
+    @Override
+    public boolean isCountable(final Query<?> query) {
+        return query instanceof AllInstancesQuery
+                || lookupNamedQueryJpql(query).isPresent();
+    }
+
+    @Override
+    public long countByQuery(final Query<?> query) {
+
+        var entityManager = getEntityManager();
+
+        if (query instanceof AllInstancesQuery) {
+
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(query.getResultType(), entityClass);
+
+            var cb = entityManager.getCriteriaBuilder();
+            var cr = cb.createQuery(Long.class);
+            cr.select(cb.count(cr.from(entityClass)));
+
+            return entityManager.createQuery(cr).getSingleResult();
+        }
+
+        var namedQueryJpql = lookupNamedQueryJpql(query).orElse(null);
+        if(namedQueryJpql==null) {
+            return EntityFacet.super.countByQuery(query);
+        }
+
+        var countQuery = entityManager.createQuery(namedQueryJpql.toCountJpql(), Long.class);
+        bindParameters(countQuery, (NamedQuery<?>) query);
+        return countQuery.getSingleResult();
+    }
+
+    /**
+     * Optionally the parsed JPQL of given query, if it is a {@link NamedQuery},
+     * declared by annotation and of supported form.
+     */
+    private Optional<_NamedQueryJpql> lookupNamedQueryJpql(final Query<?> query) {
+        if(!(query instanceof NamedQuery)) {
+            return Optional.empty();
+        }
+        return namedQueryJpqlByName.computeIfAbsent(((NamedQuery<?>) query).getName(), queryName->
+                _NamedQueryJpql.lookupJpql(getEntityManager(), queryName)
+                    .flatMap(_NamedQueryJpql::parse));
+    }
+
+    private void bindParameters(final javax.persistence.Query jpaQuery, final NamedQuery<?> applibNamedQuery) {
+        applibNamedQuery
+            .getParametersByName()
+            .forEach(jpaQuery::setParameter);
+    }
+
+    private Can<ManagedObject> fetchPage(final javax.persistence.Query jpaQuery, final QueryRange range) {
+        if (range.hasOffset()) {
+            jpaQuery.setFirstResult(range.getStartAsInt());
+        }
+        if (range.hasLimit()) {
+            jpaQuery.setMaxResults(range.getLimitAsInt());
+        }
+        var entitySpec = getEntitySpecification();
+        return Can.ofStream(
+                ((Stream<?>) jpaQuery.getResultStream())
+                        .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+    }
+
     @Override
     public void persist(final Object pojo) {
         if (pojo == null) {
@@ -270,6 +497,20 @@ public <T> T detach(final T pojo) {
     private final EntityOrmMetadata ormMetadata =
             _MetadataUtil.ormMetadataFor(getEntityManager(), entityClass);
 
+    // lazily looks up the JPA metamodel (needs an EntityManager)
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final EntityType<?> entityType =
+            getEntityManager().getMetamodel().entity(entityClass);
+
+    /**
+     * Names of the id attributes, as used to break ties when ordering;
+     * empty for an embedded id, which JPA does not allow to order by.
+     */
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final List<String> primaryKeyAttributeNames = _MetadataUtil.primaryKeyAttributeNames(getEntityType());
+
+    private final Map<String, Optional<_NamedQueryJpql>> namedQueryJpqlByName = new ConcurrentHashMap<>();
+
     // -- DEPENDENCIES
 
     protected EntityManager getEntityManager() {
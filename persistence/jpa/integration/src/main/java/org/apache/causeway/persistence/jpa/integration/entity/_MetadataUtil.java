@@ -18,10 +18,14 @@
  */
 package org.apache.causeway.persistence.jpa.integration.entity;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
+import javax.persistence.metamodel.Attribute;
 import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Type.PersistenceType;
 import javax.persistence.metamodel.SingularAttribute;
 
 import org.apache.causeway.commons.collections.Can;
@@ -54,6 +58,23 @@ EntityOrmMetadata ormMetadataFor(
                 typeMetadata);
     }
 
+    /**
+     * Names of the id attributes (sorted), if these can be ordered by,
+     * that is, empty for an embedded id.
+     */
+    List<String> primaryKeyAttributeNames(final @NonNull EntityType<?> typeMetadata) {
+        if(!typeMetadata.hasSingleIdAttribute()) {
+            return typeMetadata.getIdClassAttributes().stream()
+                    .map(Attribute::getName)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        var idAttribute = typeMetadata.getId(typeMetadata.getIdType().getJavaType());
+        return idAttribute.getType().getPersistenceType() == PersistenceType.BASIC
+                ? List.of(idAttribute.getName())
+                : List.of();
+    }
+
     // -- HELPER
 
     private Can<ColumnOrmMetadata> columns(final EntityType<?> typeMetadata) {
@@ -0,0 +1,169 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.integration.entity;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.NamedQuery;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._NullSafe;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The JPQL of a (statically declared) JPA named query, split into its parts, such that
+ * count and ordered variants of the query can be derived. JPA itself does not provide
+ * any portable means to do so for a named query.
+ * <p>
+ * Only queries of form {@code SELECT <alias> FROM ... [WHERE ...] [ORDER BY ...]} are supported,
+ * that is, neither projections, nor {@code DISTINCT}, nor aggregates. Also, as the query is split by
+ * pattern matching rather than parsed, queries having fetch joins (which cannot be counted),
+ * string literals or sub-queries (either of which might contain keywords, that confuse the split)
+ * are not supported either.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class _NamedQueryJpql {
+
+    private static final Pattern SELECT_ALIAS = Pattern.compile(
+            "^\\s*SELECT\\s+(\\w+)\\s+(FROM\\s.*)$",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern UNSUPPORTED = Pattern.compile(
+            "\\b(GROUP\\s+BY|HAVING|FETCH|SELECT)\\b|'",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern ORDER_BY = Pattern.compile(
+            "\\bORDER\\s+BY\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    /** the selected identification variable */
+    @Getter private final @NonNull String alias;
+    /** FROM clause and WHERE clause (if any) */
+    private final @NonNull String fromAndWhere;
+    /** the query's own ORDER BY items (if any) */
+    private final @Nullable String orderByItems;
+
+    /**
+     * Optionally the parts of given JPQL, based on whether it is of supported form.
+     */
+    static Optional<_NamedQueryJpql> parse(final @Nullable String jpql) {
+        if(jpql==null) {
+            return Optional.empty();
+        }
+        var selectMatcher = SELECT_ALIAS.matcher(jpql.trim());
+        if(!selectMatcher.matches()) {
+            return Optional.empty(); // eg. SELECT DISTINCT .. or a projection
+        }
+        var fromClause = selectMatcher.group(2);
+        if(UNSUPPORTED.matcher(fromClause).find()) {
+            return Optional.empty(); // eg. aggregates, fetch joins, string literals or sub-queries
+        }
+        var orderByStart = lastMatchStart(ORDER_BY.matcher(fromClause));
+        return Optional.of(orderByStart<0
+                ? new _NamedQueryJpql(selectMatcher.group(1), fromClause.trim(), null)
+                : new _NamedQueryJpql(selectMatcher.group(1),
+                        fromClause.substring(0, orderByStart).trim(),
+                        ORDER_BY.matcher(fromClause.substring(orderByStart)).replaceFirst("").trim()));
+    }
+
+    /**
+     * Optionally the JPQL of the named query, as declared via {@link NamedQuery} annotation
+     * on any of the entities known to given {@link EntityManager}.
+     */
+    static Optional<String> lookupJpql(
+            final @NonNull EntityManager entityManager,
+            final @NonNull String queryName) {
+        return entityManager.getMetamodel().getEntities().stream()
+                .map(entityType->entityType.getJavaType())
+                .flatMap(_NamedQueryJpql::streamNamedQueries)
+                .filter(namedQuery->queryName.equals(namedQuery.name()))
+                .map(NamedQuery::query)
+                .findFirst();
+    }
+
+    /**
+     * Whether the selected {@link #getAlias() alias} ranges over given entity,
+     * that is, whether the FROM clause starts with {@code FROM <entityName> [AS] <alias>}.
+     */
+    boolean isSelectingRootEntity(final @NonNull String entityName) {
+        return Pattern.compile(
+                "^FROM\\s+" + Pattern.quote(entityName) + "\\s+(AS\\s+)?" + Pattern.quote(alias) + "\\b",
+                Pattern.CASE_INSENSITIVE)
+                .matcher(fromAndWhere)
+                .find();
+    }
+
+    /**
+     * JPQL counting all instances this query would return.
+     */
+    String toCountJpql() {
+        return "SELECT COUNT(" + alias + ") " + fromAndWhere;
+    }
+
+    /**
+     * JPQL ordered by given items, or (if none) in the query's own order.
+     * @param orderByItems - JPQL ORDER BY items (already qualified with the {@link #getAlias() alias})
+     */
+    String toOrderedJpql(final @NonNull List<String> orderByItems) {
+        return orderByItems.isEmpty()
+                ? toJpql()
+                : "SELECT " + alias + " " + fromAndWhere + " ORDER BY " + String.join(", ", orderByItems);
+    }
+
+    /**
+     * The query's own ORDER BY items (if any).
+     */
+    Optional<String> getOrderByItems() {
+        return Optional.ofNullable(orderByItems);
+    }
+
+    String toJpql() {
+        return "SELECT " + alias + " " + fromAndWhere
+                + (orderByItems!=null
+                    ? " ORDER BY " + orderByItems
+                    : "");
+    }
+
+    // -- HELPER
+
+    /**
+     * {@link Class#getAnnotationsByType(Class)} also looks into the {@link javax.persistence.NamedQueries}
+     * container annotation.
+     */
+    private static Stream<NamedQuery> streamNamedQueries(final Class<?> entityClass) {
+        return _NullSafe.stream(entityClass.getAnnotationsByType(NamedQuery.class));
+    }
+
+    private static int lastMatchStart(final Matcher matcher) {
+        int start = -1;
+        while(matcher.find()) {
+            start = matcher.start();
+        }
+        return start;
+    }
+
+}
@@ -22,6 +22,8 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoStorageFormat;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.schema.chg.v2.ChangesDto;
 
 /**
@@ -33,12 +35,20 @@
 
     @Override
     public String convertToDatabaseColumn(final ChangesDto memberValue) {
-        return ChangesDtoUtils.dtoMapper().toString(memberValue);
+        return storageFormat().encode(ChangesDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public ChangesDto convertToEntityAttribute(final String datastoreValue) {
-        return ChangesDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageFormat.decode(ChangesDtoUtils.dtoMapper(), datastoreValue);
+    }
+
+    // -- HELPER
+
+    private static DtoStorageFormat storageFormat() {
+        return MetaModelContext.instance()
+                .map(mmc->mmc.getConfiguration().getPersistence().getCommons().getDtoStorage().getChangesDtoFormat())
+                .orElse(DtoStorageFormat.XML);
     }
 
 }
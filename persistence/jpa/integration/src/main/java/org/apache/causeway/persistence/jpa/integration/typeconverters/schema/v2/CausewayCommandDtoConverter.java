@@ -22,6 +22,8 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoStorageFormat;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
@@ -33,12 +35,20 @@
 
     @Override
     public String convertToDatabaseColumn(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        return storageFormat().encode(CommandDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public CommandDto convertToEntityAttribute(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageFormat.decode(CommandDtoUtils.dtoMapper(), datastoreValue);
+    }
+
+    // -- HELPER
+
+    private static DtoStorageFormat storageFormat() {
+        return MetaModelContext.instance()
+                .map(mmc->mmc.getConfiguration().getPersistence().getCommons().getDtoStorage().getCommandDtoFormat())
+                .orElse(DtoStorageFormat.XML);
     }
 
 }
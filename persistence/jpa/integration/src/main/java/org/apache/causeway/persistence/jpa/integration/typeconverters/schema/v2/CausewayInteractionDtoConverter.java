@@ -22,6 +22,8 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoStorageFormat;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 /**
@@ -33,12 +35,20 @@
 
     @Override
     public String convertToDatabaseColumn(final InteractionDto memberValue) {
-        return InteractionDtoUtils.dtoMapper().toString(memberValue);
+        return storageFormat().encode(InteractionDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public InteractionDto convertToEntityAttribute(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageFormat.decode(InteractionDtoUtils.dtoMapper(), datastoreValue);
+    }
+
+    // -- HELPER
+
+    private static DtoStorageFormat storageFormat() {
+        return MetaModelContext.instance()
+                .map(mmc->mmc.getConfiguration().getPersistence().getCommons().getDtoStorage().getInteractionDtoFormat())
+                .orElse(DtoStorageFormat.XML);
     }
 
 }
@@ -0,0 +1,97 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.integration.entity;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class _NamedQueryJpql_Test {
+
+    @Test
+    void simpleQuery_isCountableAndOrderable() {
+        var jpql = _NamedQueryJpql.parse(
+                "SELECT b FROM Book b WHERE b.price <= :priceUpperBound ORDER BY b.name").orElseThrow();
+
+        assertEquals("b", jpql.getAlias());
+        assertTrue(jpql.isSelectingRootEntity("Book"));
+        assertFalse(jpql.isSelectingRootEntity("Product"));
+        assertEquals("b.name", jpql.getOrderByItems().orElseThrow());
+        assertEquals(
+                "SELECT COUNT(b) FROM Book b WHERE b.price <= :priceUpperBound",
+                jpql.toCountJpql());
+        assertEquals(
+                "SELECT b FROM Book b WHERE b.price <= :priceUpperBound ORDER BY b.isbn DESC, b.id ASC",
+                jpql.toOrderedJpql(List.of("b.isbn DESC", "b.id ASC")));
+        assertEquals(
+                "SELECT b FROM Book b WHERE b.price <= :priceUpperBound ORDER BY b.name",
+                jpql.toOrderedJpql(List.of()));
+    }
+
+    @Test
+    void aliasDeclaredWithAs_isSelectingRootEntity() {
+        var jpql = _NamedQueryJpql.parse("select b from Book as b").orElseThrow();
+        assertTrue(jpql.isSelectingRootEntity("Book"));
+        assertTrue(jpql.getOrderByItems().isEmpty());
+    }
+
+    @Test
+    void joinedAlias_isNotSelectingRootEntity() {
+        var jpql = _NamedQueryJpql.parse(
+                "SELECT p FROM Inventory i, IN(i.products) p WHERE p.price <= :priceUpperBound").orElseThrow();
+        assertFalse(jpql.isSelectingRootEntity("Inventory"));
+        assertEquals(
+                "SELECT COUNT(p) FROM Inventory i, IN(i.products) p WHERE p.price <= :priceUpperBound",
+                jpql.toCountJpql());
+    }
+
+    @Test
+    void projectionsAndAggregates_areNotSupported() {
+        assertTrue(_NamedQueryJpql.parse("SELECT DISTINCT b FROM Book b").isEmpty());
+        assertTrue(_NamedQueryJpql.parse("SELECT b.name FROM Book b").isEmpty());
+        assertTrue(_NamedQueryJpql.parse("SELECT COUNT(b) FROM Book b").isEmpty());
+        assertTrue(_NamedQueryJpql.parse("SELECT b FROM Book b GROUP BY b.publisher").isEmpty());
+        assertTrue(_NamedQueryJpql.parse(null).isEmpty());
+    }
+
+    @Test
+    void fetchJoins_areNotSupported() {
+        assertTrue(_NamedQueryJpql.parse("SELECT b FROM Book b JOIN FETCH b.author").isEmpty());
+        assertTrue(_NamedQueryJpql.parse("SELECT b FROM Book b left join fetch b.author a").isEmpty());
+    }
+
+    @Test
+    void stringLiterals_areNotSupported() {
+        assertTrue(_NamedQueryJpql.parse("SELECT b FROM Book b WHERE b.name = 'Order by Me'").isEmpty());
+        assertTrue(_NamedQueryJpql.parse("SELECT b FROM Book b WHERE b.name <> ''").isEmpty());
+    }
+
+    @Test
+    void subQueries_areNotSupported() {
+        assertTrue(_NamedQueryJpql.parse(
+                "SELECT b FROM Book b WHERE b.price > (SELECT AVG(o.price) FROM Book o)").isEmpty());
+        assertTrue(_NamedQueryJpql.parse(
+                "SELECT b FROM Book b WHERE EXISTS (select r from Review r WHERE r.book = b)").isEmpty());
+    }
+
+}
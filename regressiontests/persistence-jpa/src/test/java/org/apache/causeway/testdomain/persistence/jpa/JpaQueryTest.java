@@ -19,6 +19,10 @@
 package org.apache.causeway.testdomain.persistence.jpa;
 
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 
@@ -38,8 +42,11 @@
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.core.config.presets.CausewayPresets;
 import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
@@ -163,10 +170,56 @@ void sampleInventory_shouldSupportJpaCriteria() {
         testFixtures.assertInventoryHasBooks(affordableBooks, 1, 2);
     }
 
+    @Test @Order(6)
+    void sampleInventory_shouldSupportPagingAndCountingOnTheDatabaseSide() {
+
+        var books = repositoryService.allMatchesPageable(Query.allInstances(JpaBook.class));
+
+        assertTrue(books.isPageable());
+        assertEquals(3L, books.count());
+        assertTrue(books.isOrderableBy("isbn"));
+        assertFalse(books.isOrderableBy("comments")); // not mapped to a column of its own
+
+        // ordered pages
+        assertEquals(List.of("ISBN-C", "ISBN-B"), isbns(books.fetch(QueryRange.of(0, 2), "isbn", false)));
+        assertEquals(List.of("ISBN-A"), isbns(books.fetch(QueryRange.of(2, 2), "isbn", false)));
+
+        // unordered pages neither overlap nor miss any (primary key as tie-breaker)
+        var firstPage = isbns(books.fetch(QueryRange.of(0, 2), null, true));
+        var secondPage = isbns(books.fetch(QueryRange.of(2, 2), null, true));
+        assertEquals(2, firstPage.size());
+        assertEquals(
+                Set.of("ISBN-A", "ISBN-B", "ISBN-C"),
+                Stream.concat(firstPage.stream(), secondPage.stream()).collect(Collectors.toSet()));
+    }
+
+    @Test @Order(7)
+    void sampleInventory_shouldSupportCountingNamedQueriesOnTheDatabaseSide() {
+
+        var affordableBooks = repositoryService.allMatchesPageable(
+                Query.named(JpaBook.class, "JpaInventory.findAffordableProducts")
+                    .withParameter("priceUpperBound", 60.));
+
+        assertTrue(affordableBooks.isPageable());
+        assertEquals(2L, affordableBooks.count());
+        // the query's alias does not range over the root entity (JpaInventory i, IN(i.products) p)
+        assertFalse(affordableBooks.isOrderableBy("isbn"));
+
+        testFixtures.assertInventoryHasBooks(affordableBooks.fetch(QueryRange.of(0, 10), null, true), 1, 2);
+    }
+
     @Test @Order(99) @Disabled("broken won't fix")
     void previousTest_shouldHaveRolledBack() {
         assertEquals(0, repositoryService.allInstances(JpaInventory.class).size());
         assertEquals(0, repositoryService.allInstances(JpaProduct.class).size());
     }
 
+    // -- HELPER
+
+    private static List<String> isbns(final List<? extends JpaBook> books) {
+        return books.stream()
+                .map(JpaBook::getIsbn)
+                .collect(Collectors.toList());
+    }
+
 }
@@ -48,6 +48,7 @@
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.html._HtmlRenderCache;
 import org.apache.causeway.core.config.CausewayConfiguration;
 
 import lombok.NonNull;
@@ -92,8 +93,12 @@ public static AdocToHtmlConverter instance() {
 
         private static AdocToHtmlConverter instance;
 
+        private static final int HTML_CACHE_MAX_ENTRIES = 512;
+
         private final @NonNull Asciidoctor asciidoctor;
         private final @NonNull Options options;
+        private final _HtmlRenderCache htmlCache =
+                _HtmlRenderCache.bounded(HTML_CACHE_MAX_ENTRIES, adoc->asciidoctor.convert(adoc, options));
 
         public AdocToHtmlConverter(@NonNull final Asciidoctor asciidoctor, @NonNull final Options options) {
             super();
@@ -107,6 +112,8 @@ public AdocToHtmlConverter(@NonNull final Asciidoctor asciidoctor, @NonNull fina
          * Javascript and CSS.
          * The framework supports this out of the box with its various viewers,
          * using <i>Prism</i> web-jars.
+         * <p>
+         * Rendered HTML is shared via a bounded cache, keyed by a hash of the adoc source.
          *
          * @param adoc - formated input to be converted to HTML
          *
@@ -115,7 +122,7 @@ public AdocToHtmlConverter(@NonNull final Asciidoctor asciidoctor, @NonNull fina
         public String adocToHtml(final @Nullable String adoc) {
             return _Strings.isEmpty(adoc)
                     ? ""
-                    : asciidoctor.convert(adoc, options);
+                    : htmlCache.render(adoc);
         }
 
     }
@@ -26,6 +26,8 @@
 import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.util.data.MutableDataSet;
 
+import org.apache.causeway.commons.internal.html._HtmlRenderCache;
+
 /**
  * @since 2.0 {@index}
  */
@@ -36,20 +38,30 @@ public final class Converter {
      * Javascript and CSS.
      * The framework supports this out of the box with its various viewers,
      * using <i>Prism</i> web-jars.
+     * <p>
+     * Rendered HTML is shared via a bounded cache, keyed by a hash of the markdown source.
      *
      * @param markdown - formated input to be converted to HTML
      *
      * @see <a href="https://prismjs.com/">prismjs.com</a>
      */
     public static String mdToHtml(final String markdown) {
+        return htmlCache.render(markdown);
+    }
+
+    // -- HELPER
+
+    private static final int HTML_CACHE_MAX_ENTRIES = 512;
+
+    private static final _HtmlRenderCache htmlCache = _HtmlRenderCache.bounded(HTML_CACHE_MAX_ENTRIES, Converter::render);
+
+    private static String render(final String markdown) {
         if(markdownSupport==null) {
             markdownSupport = new MarkdownSupport();
         }
         return markdownSupport.toHtml(markdown);
     }
 
-    // -- HELPER
-
     private static MarkdownSupport markdownSupport;
 
     private static class MarkdownSupport {
@@ -34,7 +34,8 @@
 import lombok.experimental.Accessors;
 
 /**
- * Immutable value type holding pre-rendered HTML.
+ * Immutable value type holding markup source, that is rendered to HTML lazily,
+ * on first call to {@link #asHtml()}.
  *
  * @since 2.0 {@index}
  */
@@ -57,7 +57,10 @@ public RichAssociationGet(
     protected Object fetchData(final DataFetchingEnvironment environment) {
 
         // TODO: introduce evaluator
-        var sourcePojo = BookmarkedPojo.sourceFrom(environment);
+        return BookmarkedPojo.applyToSourceBatched(environment, context, this::fetchDataFor);
+    }
+
+    private Object fetchDataFor(final Object sourcePojo) {
 
         var sourcePojoClass = sourcePojo.getClass();
         var objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
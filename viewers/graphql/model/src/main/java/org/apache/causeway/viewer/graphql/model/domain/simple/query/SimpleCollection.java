@@ -64,7 +64,10 @@ public String getId() {
     @Override
     protected Object fetchData(final DataFetchingEnvironment environment) {
 
-        var sourcePojo = BookmarkedPojo.sourceFrom(environment);
+        return BookmarkedPojo.applyToSourceBatched(environment, context, this::fetchDataFor);
+    }
+
+    private Object fetchDataFor(final Object sourcePojo) {
 
         var sourcePojoClass = sourcePojo.getClass();
         var objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
@@ -156,23 +156,26 @@ protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment
         if(isBlobOrClob(getObjectMember())) {
             return BookmarkedPojo.sourceFrom(dataFetchingEnvironment, context);
         } else {
-            var sourcePojo = BookmarkedPojo.sourceFrom(dataFetchingEnvironment);
-
-            var sourcePojoClass = sourcePojo.getClass();
-            var objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
-            if (objectSpecification == null) {
-                // not expected
-                return null;
-            }
+            return BookmarkedPojo.applyToSourceBatched(dataFetchingEnvironment, context, this::fetchDataFor);
+        }
+    }
 
-            var association = getObjectMember();
-            var managedObject = ManagedObject.adaptSingular(objectSpecification, sourcePojo);
-            var resultManagedObject = association.get(managedObject);
+    private Object fetchDataFor(final Object sourcePojo) {
 
-            return resultManagedObject != null
-                    ? resultManagedObject.getPojo()
-                    : null;
+        var sourcePojoClass = sourcePojo.getClass();
+        var objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
+        if (objectSpecification == null) {
+            // not expected
+            return null;
         }
+
+        var association = getObjectMember();
+        var managedObject = ManagedObject.adaptSingular(objectSpecification, sourcePojo);
+        var resultManagedObject = association.get(managedObject);
+
+        return resultManagedObject != null
+                ? resultManagedObject.getPojo()
+                : null;
     }
 
     private static boolean isBlobOrClob(OneToOneAssociation otota) {
@@ -51,7 +51,11 @@ public SimplePropertyLobAbstract(
     }
 
     protected Object fetchDataFromBlob(DataFetchingEnvironment environment, Function<Blob, ?> mapper) {
-        var sourcePojo = BookmarkedPojo.sourceFrom(environment);
+        return BookmarkedPojo.applyToSourceBatched(environment, context,
+                sourcePojo -> fetchBlobDataFor(sourcePojo, mapper));
+    }
+
+    private Object fetchBlobDataFor(Object sourcePojo, Function<Blob, ?> mapper) {
 
         var sourcePojoClass = sourcePojo.getClass();
         var objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
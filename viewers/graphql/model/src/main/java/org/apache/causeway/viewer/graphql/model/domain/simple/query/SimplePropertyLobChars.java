@@ -40,9 +40,7 @@ public SimplePropertyLobChars(
 
     @Override
     protected Object fetchData(DataFetchingEnvironment environment) {
-        var sourcePojo = BookmarkedPojo.sourceFrom(environment);
-
-        var bookmarkIfAny = context.bookmarkService.bookmarkFor(sourcePojo);
+        var bookmarkIfAny = BookmarkedPojo.bookmarkFrom(environment, context);
         return bookmarkIfAny.map(x -> {
             final ObjectFeature objectFeature = memberInteractor.getObjectMember();
             return String.format(
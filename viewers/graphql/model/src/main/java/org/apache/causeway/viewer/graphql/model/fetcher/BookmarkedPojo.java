@@ -18,10 +18,16 @@
  */
 package org.apache.causeway.viewer.graphql.model.fetcher;
 
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
 import graphql.schema.DataFetchingEnvironment;
 
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.viewer.graphql.model.context.Context;
 
 public class BookmarkedPojo {
@@ -44,14 +50,72 @@ public static Object sourceFrom(DataFetchingEnvironment dataFetchingEnvironment)
                 : source;
     }
 
+    /**
+     * Applies given function to the source pojo, where (if the source is a {@link BookmarkedPojo})
+     * resolving the bookmark is deferred to the {@link BookmarkedPojoBatchLoader}, so that all bookmarks of the
+     * same execution level are resolved in batches.
+     * <p>
+     * The function is applied to the batch loaded pojo only, if still within the very interaction
+     * that requested (and hence loaded) it. Otherwise (eg. the batch was dispatched after the requesting
+     * interaction has closed) the bookmark is resolved synchronously within an interaction on behalf of
+     * the same user, as also when there is no enclosing interaction to begin with.
+     */
+    public static <R> CompletableFuture<R> applyToSourceBatched(
+            final DataFetchingEnvironment dataFetchingEnvironment,
+            final Context context,
+            final Function<Object, R> function) {
+        var source = dataFetchingEnvironment.getSource();
+        if (!(source instanceof BookmarkedPojo)) {
+            return CompletableFuture.completedFuture(function.apply(source));
+        }
+        var dataLoader = dataFetchingEnvironment.<Bookmark, Object>getDataLoader(BookmarkedPojoBatchLoader.NAME);
+        var interactionService = context.serviceRegistry.lookupServiceElseFail(InteractionService.class);
+        var interaction = interactionService.currentInteraction().orElse(null);
+        if (dataLoader == null
+                || interaction == null) {
+            return CompletableFuture.completedFuture(function.apply(sourceFrom(dataFetchingEnvironment)));
+        }
+        var bookmarkedPojo = (BookmarkedPojo) source;
+        var interactionContext = interactionService.currentInteractionContext().orElseThrow();
+        return dataLoader.load(bookmarkedPojo.bookmark)
+                .thenApply(pojo -> interactionService.currentInteraction().orElse(null) == interaction
+                        ? function.apply(bookmarkedPojo.requireFound(pojo))
+                        : interactionService.call(interactionContext,
+                                () -> function.apply(bookmarkedPojo.getTargetPojo())));
+    }
+
+    /**
+     * The bookmark of the source pojo, not requiring the pojo to be resolved, if the source
+     * is a {@link BookmarkedPojo}.
+     */
+    public static Optional<Bookmark> bookmarkFrom(
+            final DataFetchingEnvironment dataFetchingEnvironment,
+            final Context context) {
+        var source = dataFetchingEnvironment.getSource();
+        return source instanceof BookmarkedPojo
+                ? Optional.of(((BookmarkedPojo) source).bookmark)
+                : context.bookmarkService.bookmarkFor(source);
+    }
+
     public static BookmarkedPojo sourceFrom(DataFetchingEnvironment dataFetchingEnvironment, Context context) {
-        var sourcePojo = sourceFrom(dataFetchingEnvironment);
-        return context.bookmarkService.bookmarkFor(sourcePojo)
+        var source = dataFetchingEnvironment.getSource();
+        if (source instanceof BookmarkedPojo) {
+            // already bookmarked, no need to resolve the pojo just to bookmark it again
+            return (BookmarkedPojo) source;
+        }
+        return context.bookmarkService.bookmarkFor(source)
                 .map(bookmark -> new BookmarkedPojo(bookmark, context.bookmarkService))
                 .orElseThrow();
     }
 
     public Object getTargetPojo() {
-        return bookmarkService.lookup(bookmark).orElseThrow();
+        return requireFound(bookmarkService.lookup(bookmark).orElse(null));
+    }
+
+    private Object requireFound(final Object pojo) {
+        if (pojo == null) {
+            throw new NoSuchElementException(String.format("no object found for bookmark %s", bookmark));
+        }
+        return pojo;
     }
 }
@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.fetcher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+
+import org.dataloader.BatchLoaderEnvironment;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+import lombok.RequiredArgsConstructor;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Registers a (per request) {@link org.dataloader.DataLoader} with graphql-java's data loader registry,
+ * that resolves {@link BookmarkedPojo}s in batches.
+ * <p>
+ * All bookmarks requested within one execution level are collected, grouped by logical type, and then
+ * fetched with one round trip per entity type (see
+ * {@link org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet#fetchByBookmarks(Can)}).
+ * Bookmarks of non-entities (eg. view models) are resolved one by one, as these don't involve the database.
+ * <p>
+ * Batches are only loaded within an enclosing interaction, as entities loaded within an interaction of
+ * their own would be detached by the time the requesting data fetchers use them.
+ * If dispatched outside of an interaction (as might be the case with
+ * {@link org.apache.causeway.core.config.CausewayConfiguration.Viewer.Graphql.InteractionMode#PER_FIELD}),
+ * nothing is loaded, and the data fetchers resolve their bookmarks synchronously instead.
+ *
+ * @see BookmarkedPojo#applyToSourceBatched(graphql.schema.DataFetchingEnvironment, org.apache.causeway.viewer.graphql.model.context.Context, java.util.function.Function)
+ */
+@Component
+@RequiredArgsConstructor
+public class BookmarkedPojoBatchLoader {
+
+    public static final String NAME = "causeway.viewer.graphql.BookmarkedPojoBatchLoader";
+
+    private final BatchLoaderRegistry batchLoaderRegistry;
+    private final BookmarkService bookmarkService;
+    private final SpecificationLoader specificationLoader;
+    private final InteractionService interactionService;
+
+    @PostConstruct
+    public void init() {
+        batchLoaderRegistry.forTypePair(Bookmark.class, Object.class)
+            .withName(NAME)
+            .registerMappedBatchLoader(this::load);
+    }
+
+    Mono<Map<Bookmark, Object>> load(
+            final Set<Bookmark> bookmarks,
+            final BatchLoaderEnvironment batchLoaderEnvironment) {
+        return Mono.fromCallable(() -> interactionService.isInInteraction()
+                ? loadAll(bookmarks)
+                : Map.<Bookmark, Object>of());
+    }
+
+    Map<Bookmark, Object> loadAll(final Set<Bookmark> bookmarks) {
+        var pojoByBookmark = new LinkedHashMap<Bookmark, Object>(bookmarks.size());
+        bookmarks.stream()
+            .collect(Collectors.groupingBy(Bookmark::getLogicalTypeName, LinkedHashMap::new, Collectors.toList()))
+            .forEach((logicalTypeName, bookmarksOfType) -> {
+                var entityFacet = specificationLoader.specForLogicalTypeName(logicalTypeName)
+                        .flatMap(spec -> spec.entityFacet());
+                if (entityFacet.isPresent()) {
+                    pojoByBookmark.putAll(entityFacet.get().fetchByBookmarks(Can.ofCollection(bookmarksOfType)));
+                } else {
+                    bookmarksOfType.forEach(bookmark ->
+                        bookmarkService.lookup(bookmark)
+                            .ifPresent(pojo -> pojoByBookmark.put(bookmark, pojo)));
+                }
+            });
+        return pojoByBookmark;
+    }
+
+}
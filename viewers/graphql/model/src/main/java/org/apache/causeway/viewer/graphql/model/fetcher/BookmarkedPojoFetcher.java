@@ -33,9 +33,13 @@ public BookmarkedPojoFetcher(BookmarkService bookmarkService) {
     @Override
     public Object get(DataFetchingEnvironment dataFetchingEnvironment) {
 
-        var sourcePojo = BookmarkedPojo.sourceFrom(dataFetchingEnvironment);
+        var source = dataFetchingEnvironment.getSource();
+        if (source instanceof BookmarkedPojo) {
+            // already bookmarked, no need to resolve the pojo just to bookmark it again
+            return source;
+        }
 
-        return bookmarkService.bookmarkFor(sourcePojo)
+        return bookmarkService.bookmarkFor(source)
                 .map(bookmark -> new BookmarkedPojo(bookmark, bookmarkService))
                 .orElseThrow();
     }
@@ -0,0 +1,91 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.fetcher;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dataloader.BatchLoaderEnvironment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookmarkedPojoBatchLoaderTest {
+
+    private final Bookmark bookmark = Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "1");
+
+    private InteractionService interactionService;
+    private BatchLoaderEnvironment batchLoaderEnvironment;
+    private AtomicInteger loadAllCount;
+    private BookmarkedPojoBatchLoader batchLoader;
+
+    @BeforeEach
+    void setUp() {
+        interactionService = mock(InteractionService.class);
+        batchLoaderEnvironment = mock(BatchLoaderEnvironment.class);
+        loadAllCount = new AtomicInteger();
+
+        batchLoader = new BookmarkedPojoBatchLoader(null, null, null, interactionService) {
+            @Override
+            Map<Bookmark, Object> loadAll(final Set<Bookmark> bookmarks) {
+                loadAllCount.incrementAndGet();
+                return Map.of(bookmark, "pojo");
+            }
+        };
+    }
+
+    @Test
+    void outsideOfInteraction_loadsNothing() {
+        when(interactionService.isInInteraction()).thenReturn(false);
+
+        var result = batchLoader.load(Set.of(bookmark), batchLoaderEnvironment)
+                .block();
+
+        // entities loaded within an interaction of their own would be detached when used
+        assertTrue(result.isEmpty());
+        assertEquals(0, loadAllCount.get());
+        verify(interactionService, never()).call(any(InteractionContext.class), any());
+        verify(interactionService, never()).callAnonymous(any());
+    }
+
+    @Test
+    void withinInteraction_participates() {
+        when(interactionService.isInInteraction()).thenReturn(true);
+
+        var result = batchLoader.load(Set.of(bookmark), batchLoaderEnvironment)
+                .block();
+
+        assertEquals("pojo", result.get(bookmark));
+        assertEquals(1, loadAllCount.get());
+        verify(interactionService, never()).call(any(InteractionContext.class), any());
+    }
+
+}
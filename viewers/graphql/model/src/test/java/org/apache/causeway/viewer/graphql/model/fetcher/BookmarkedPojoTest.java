@@ -0,0 +1,137 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.fetcher;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.dataloader.DataLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.DataFetchingEnvironment;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.iactn.Interaction;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.registry.ServiceRegistry;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.viewer.graphql.model.context.Context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookmarkedPojoTest {
+
+    private final Bookmark bookmark = Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "1");
+    private final InteractionContext callerContext = InteractionContext.builder()
+            .user(UserMemento.ofName("caller"))
+            .build();
+
+    private InteractionService interactionService;
+    private BookmarkService bookmarkService;
+    private Interaction interaction;
+    private CompletableFuture<Object> batch;
+    private DataFetchingEnvironment environment;
+    private Context context;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        interactionService = mock(InteractionService.class);
+        bookmarkService = mock(BookmarkService.class);
+        interaction = mock(Interaction.class);
+        batch = new CompletableFuture<>();
+
+        var serviceRegistry = mock(ServiceRegistry.class);
+        when(serviceRegistry.lookupServiceElseFail(InteractionService.class)).thenReturn(interactionService);
+        context = new Context(bookmarkService, null, null, serviceRegistry, null, null, null, null);
+
+        DataLoader<Bookmark, Object> dataLoader = mock(DataLoader.class);
+        when(dataLoader.load(bookmark)).thenReturn(batch);
+        environment = mock(DataFetchingEnvironment.class);
+        when(environment.getSource()).thenReturn(new BookmarkedPojo(bookmark, bookmarkService));
+        when(environment.<Bookmark, Object>getDataLoader(BookmarkedPojoBatchLoader.NAME)).thenReturn(dataLoader);
+
+        when(interactionService.currentInteraction()).thenReturn(Optional.of(interaction));
+        when(interactionService.currentInteractionContext()).thenReturn(Optional.of(callerContext));
+        doAnswer(invocation->invocation.<Callable<?>>getArgument(1).call())
+            .when(interactionService).call(any(InteractionContext.class), any());
+    }
+
+    @Test
+    void withinRequestingInteraction_appliesToBatchLoadedPojo() throws Exception {
+        var result = BookmarkedPojo.applyToSourceBatched(environment, context, pojo -> "applied to " + pojo);
+
+        batch.complete("pojo");
+
+        assertEquals("applied to pojo", result.get());
+        verify(interactionService, never()).call(any(InteractionContext.class), any());
+    }
+
+    @Test
+    void withinRequestingInteraction_whenNotFound_fails() {
+        var result = BookmarkedPojo.applyToSourceBatched(environment, context, pojo -> "applied to " + pojo);
+
+        batch.complete(null);
+
+        var ex = assertThrows(ExecutionException.class, result::get);
+        assertTrue(ex.getCause() instanceof NoSuchElementException);
+    }
+
+    @Test
+    void afterRequestingInteractionClosed_resolvesSynchronouslyOnBehalfOfCaller() throws Exception {
+        var result = BookmarkedPojo.applyToSourceBatched(environment, context, pojo -> "applied to " + pojo);
+
+        // batch dispatched once the requesting interaction is gone
+        when(interactionService.currentInteraction()).thenReturn(Optional.empty());
+        when(bookmarkService.lookup(bookmark)).thenReturn(Optional.<Object>of("attached pojo"));
+        batch.complete(null);
+
+        assertEquals("applied to attached pojo", result.get());
+        verify(interactionService).call(eq(callerContext), any());
+    }
+
+    @Test
+    void outsideOfInteraction_resolvesSynchronously() throws Exception {
+        when(interactionService.currentInteraction()).thenReturn(Optional.empty());
+        when(bookmarkService.lookup(bookmark)).thenReturn(Optional.<Object>of("pojo"));
+
+        var result = BookmarkedPojo.applyToSourceBatched(environment, context, pojo -> "applied to " + pojo);
+
+        assertTrue(result.isDone());
+        assertEquals("applied to pojo", result.get());
+        assertFalse(batch.isDone());
+    }
+
+}
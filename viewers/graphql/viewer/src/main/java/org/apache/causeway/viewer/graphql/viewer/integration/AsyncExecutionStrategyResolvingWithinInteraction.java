@@ -18,19 +18,28 @@
  */
 package org.apache.causeway.viewer.graphql.viewer.integration;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 
+import graphql.ExecutionResult;
 import graphql.execution.AsyncExecutionStrategy;
 import graphql.execution.ExecutionContext;
 import graphql.execution.ExecutionStrategyParameters;
 import graphql.execution.FieldValueInfo;
+import graphql.execution.NonNullableFieldWasNullException;
 
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Viewer.Graphql.InteractionMode;
 import org.apache.causeway.viewer.graphql.applib.auth.UserMementoProvider;
 
+/**
+ * Resolves fields within an interaction, either opening one per field
+ * or a single one for the entire operation, as per {@link InteractionMode}.
+ */
 @Service
 public class AsyncExecutionStrategyResolvingWithinInteraction extends AsyncExecutionStrategy {
 
@@ -38,30 +47,75 @@ public class AsyncExecutionStrategyResolvingWithinInteraction extends AsyncExecu
 
     private final UserMementoProvider userMementoProvider;
 
+    private final InteractionMode interactionMode;
+
     public AsyncExecutionStrategyResolvingWithinInteraction(
             final InteractionService interactionService,
-            final UserMementoProvider userMementoProvider) {
+            final UserMementoProvider userMementoProvider,
+            final CausewayConfiguration causewayConfiguration) {
 
         this.interactionService = interactionService;
         this.userMementoProvider = userMementoProvider;
+        this.interactionMode = causewayConfiguration.getViewer().getGraphql().getInteractionMode();
     }
 
+    /**
+     * Called for the operation's top-level fields, but also (recursively) for any nested object fields.
+     * <p>
+     * With {@link InteractionMode#PER_OPERATION}, the top-level call opens the interaction on behalf of the caller,
+     * which all fields resolved synchronously (on this thread) participate in.
+     * The resulting future is not awaited, hence fields that complete later (on other threads)
+     * resolve within an interaction of their own, still on behalf of the caller.
+     */
+    @Override
+    public CompletableFuture<ExecutionResult> execute(
+            final ExecutionContext executionContext,
+            final ExecutionStrategyParameters parameters) throws NonNullableFieldWasNullException {
+
+        if(interactionMode != InteractionMode.PER_OPERATION) {
+            return super.execute(executionContext, parameters);
+        }
+
+        return callWithinInteraction(executionContext, parameters,
+                () -> super.execute(executionContext, parameters));
+    }
+
+    /**
+     * Reuses the current interaction, if it was opened on behalf of the caller
+     * (eg. by {@link #execute(ExecutionContext, ExecutionStrategyParameters)}),
+     * otherwise opens one just for this field.
+     */
     @Override
     protected CompletableFuture<FieldValueInfo> resolveFieldWithInfo(
             final ExecutionContext executionContext,
             final ExecutionStrategyParameters parameters) {
 
+        return callWithinInteraction(executionContext, parameters,
+                () -> super.resolveFieldWithInfo(executionContext, parameters));
+    }
+
+    // -- HELPER
+
+    /**
+     * Runs given callable within an interaction on behalf of the caller;
+     * {@link InteractionService#call(InteractionContext, Callable)} reuses the current interaction,
+     * if its context equals the caller's, and otherwise opens a new one (even if already in an interaction),
+     * such that fields never resolve as a different user.
+     */
+    private <T> T callWithinInteraction(
+            final ExecutionContext executionContext,
+            final ExecutionStrategyParameters parameters,
+            final Callable<T> callable) {
+
         var userMemento = userMementoProvider.userMemento(executionContext, parameters);
 
         if (userMemento != null) {
             return interactionService.call(
                     InteractionContext.builder().user(userMemento).build(),
-                    () -> super.resolveFieldWithInfo(executionContext, parameters)
+                    callable
             );
         } else {
-            return interactionService.callAnonymous(
-                    () -> super.resolveFieldWithInfo(executionContext, parameters)
-            );
+            return interactionService.callAnonymous(callable);
         }
     }
 }
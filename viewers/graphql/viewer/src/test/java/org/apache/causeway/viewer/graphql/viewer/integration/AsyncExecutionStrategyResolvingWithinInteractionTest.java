@@ -0,0 +1,239 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.integration;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.GraphQL;
+import graphql.schema.DataFetcher;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+
+import org.apache.causeway.applib.services.iactn.Interaction;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayer;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.commons.functional.ThrowingRunnable;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Viewer.Graphql.InteractionMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+
+class AsyncExecutionStrategyResolvingWithinInteractionTest {
+
+    private static final UserMemento CALLER = UserMemento.ofName("caller");
+
+    private final InteractionServiceForTesting interactionService = new InteractionServiceForTesting();
+
+    @Test
+    void perOperation_sharesOneInteractionOnBehalfOfCaller() {
+        var graphQL = graphQL(InteractionMode.PER_OPERATION, Map.of(
+                "a", env->interactionService.currentUserName(),
+                "b", env->interactionService.currentUserName()));
+
+        var result = graphQL.execute("{ a b }");
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.<Map<String, Object>>getData())
+            .containsEntry("a", "caller")
+            .containsEntry("b", "caller");
+        assertThat(interactionService.openedCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void perOperation_doesNotResolveAsTheUserOfAnEnclosingInteraction() {
+        var graphQL = graphQL(InteractionMode.PER_OPERATION, Map.of(
+                "a", env->interactionService.currentUserName(),
+                "b", env->interactionService.currentUserName()));
+
+        var result = interactionService.call(
+                InteractionContext.builder().user(UserMemento.ofName("someone-else")).build(),
+                ()->graphQL.execute("{ a b }"));
+
+        assertThat(result.<Map<String, Object>>getData())
+            .containsEntry("a", "caller")
+            .containsEntry("b", "caller");
+    }
+
+    @Test
+    @SneakyThrows
+    void perOperation_doesNotBlockOnFieldsResolvedAsynchronously() {
+        var pending = new CompletableFuture<String>();
+        var graphQL = graphQL(InteractionMode.PER_OPERATION, Map.of(
+                "a", env->interactionService.currentUserName(),
+                "b", env->pending));
+
+        var resultFuture = graphQL.executeAsync("{ a b }");
+        assertThat(resultFuture).isNotDone();
+
+        pending.complete("later");
+
+        var result = resultFuture.get(10, TimeUnit.SECONDS);
+        assertThat(result.<Map<String, Object>>getData())
+            .containsEntry("a", "caller")
+            .containsEntry("b", "later");
+    }
+
+    @Test
+    void perField_opensOneInteractionPerTopLevelField() {
+        var graphQL = graphQL(InteractionMode.PER_FIELD, Map.of(
+                "a", env->interactionService.currentUserName(),
+                "b", env->interactionService.currentUserName()));
+
+        var result = graphQL.execute("{ a b }");
+
+        assertThat(result.<Map<String, Object>>getData())
+            .containsEntry("a", "caller")
+            .containsEntry("b", "caller");
+        assertThat(interactionService.openedCount.get()).isEqualTo(2);
+    }
+
+    // -- HELPER
+
+    private GraphQL graphQL(
+            final InteractionMode interactionMode,
+            final Map<String, DataFetcher<?>> dataFetchers) {
+        var configuration = new CausewayConfiguration(null, Optional.empty());
+        configuration.getViewer().getGraphql().setInteractionMode(interactionMode);
+
+        var strategy = new AsyncExecutionStrategyResolvingWithinInteraction(
+                interactionService, (executionContext, parameters)->CALLER, configuration);
+
+        var typeRegistry = new SchemaParser().parse("type Query { a: String b: String }");
+        var wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", builder->{
+                    dataFetchers.forEach(builder::dataFetcher);
+                    return builder;
+                })
+                .build();
+        var schema = new SchemaGenerator().makeExecutableSchema(typeRegistry, wiring);
+        return GraphQL.newGraphQL(schema)
+                .queryExecutionStrategy(strategy)
+                .build();
+    }
+
+    /**
+     * Tracks a stack of interaction contexts per thread,
+     * reusing the current one if equal, as does the framework's implementation.
+     */
+    private static class InteractionServiceForTesting implements InteractionService {
+
+        final AtomicInteger openedCount = new AtomicInteger();
+        private final ThreadLocal<Deque<InteractionContext>> stack = ThreadLocal.withInitial(ArrayDeque::new);
+
+        String currentUserName() {
+            return currentInteractionContext()
+                    .map(ctx->ctx.getUser().getName())
+                    .orElse(null);
+        }
+
+        @Override
+        @SneakyThrows
+        public <R> R call(final @NonNull InteractionContext interactionContext, final @NonNull Callable<R> callable) {
+            var contexts = stack.get();
+            if(interactionContext.equals(contexts.peek())) {
+                return callable.call();
+            }
+            openedCount.incrementAndGet();
+            contexts.push(interactionContext);
+            try {
+                return callable.call();
+            } finally {
+                contexts.pop();
+            }
+        }
+
+        @Override
+        public void run(final @NonNull InteractionContext interactionContext, final @NonNull ThrowingRunnable runnable) {
+            call(interactionContext, ()->{ runnable.run(); return null; });
+        }
+
+        @Override
+        public <R> R callAnonymous(final @NonNull Callable<R> callable) {
+            return call(InteractionContext.builder().user(UserMemento.ofName("anonymous")).build(), callable);
+        }
+
+        @Override
+        public void runAnonymous(final @NonNull ThrowingRunnable runnable) {
+            callAnonymous(()->{ runnable.run(); return null; });
+        }
+
+        @Override
+        public boolean isInInteraction() {
+            return !stack.get().isEmpty();
+        }
+
+        @Override
+        public Optional<InteractionContext> currentInteractionContext() {
+            return Optional.ofNullable(stack.get().peek());
+        }
+
+        @Override
+        public int getInteractionLayerCount() {
+            return stack.get().size();
+        }
+
+        @Override
+        public Optional<InteractionLayer> currentInteractionLayer() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Interaction> currentInteraction() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<UUID> getInteractionId() {
+            return Optional.empty();
+        }
+
+        @Override
+        public InteractionLayer openInteraction() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InteractionLayer openInteraction(final @NonNull InteractionContext interactionContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void closeInteractionLayers() {
+            stack.remove();
+        }
+
+    }
+
+}
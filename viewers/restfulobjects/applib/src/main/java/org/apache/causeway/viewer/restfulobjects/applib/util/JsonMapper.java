@@ -19,6 +19,7 @@
 package org.apache.causeway.viewer.restfulobjects.applib.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -150,4 +151,15 @@ public String write(final Object object) throws JsonGenerationException, JsonMap
         return objectMapper.writeValueAsString(object);
     }
 
+    /**
+     * Writes the object directly to the provided stream (which is flushed but not closed), rather than first
+     * building up the entire JSON string in memory.
+     */
+    public void write(final Object object, final OutputStream outputStream) throws JsonGenerationException, JsonMappingException, IOException {
+        objectMapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .writeValue(outputStream, object);
+        outputStream.flush();
+    }
+
 }
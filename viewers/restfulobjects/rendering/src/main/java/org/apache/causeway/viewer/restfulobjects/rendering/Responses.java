@@ -79,11 +79,25 @@ public static Response.ResponseBuilder ofOk(
                 .header("Date", dateFormat.format(now))
                 .type(mediaType)
                 .cacheControl(caching.getCacheControl())
-                .entity(JsonWriterUtil.jsonFor(entityRepresentation, inferPrettyPrinting(renderer)));
+                .entity(entityFor(renderer, entityRepresentation));
 
         return response;
     }
 
+    private static Object entityFor(
+            final ReprRenderer<?> renderer,
+            final JsonRepresentation entityRepresentation) {
+        final JsonMapper.PrettyPrinting prettyPrinting = inferPrettyPrinting(renderer);
+        return isStreamCollections(renderer)
+                ? JsonWriterUtil.streamingJsonFor(entityRepresentation, prettyPrinting)
+                : JsonWriterUtil.jsonFor(entityRepresentation, prettyPrinting);
+    }
+
+    private static boolean isStreamCollections(final ReprRenderer<?> renderer) {
+        return renderer instanceof ReprRendererAbstract
+                && ((ReprRendererAbstract<?>) renderer).getResourceContext().config().isStreamCollections();
+    }
+
     private static Date now(final ReprRenderer<?> renderer) {
         if(renderer instanceof ReprRendererAbstract) {
             ((ReprRendererAbstract<?>)renderer).getResourceContext().getMetaModelContext().getServiceRegistry()
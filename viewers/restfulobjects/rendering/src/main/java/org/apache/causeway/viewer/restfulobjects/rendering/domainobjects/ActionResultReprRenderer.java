@@ -146,6 +146,7 @@ private ReprRendererAbstract<?> buildResultRenderer(
             final ListReprRenderer listReprRenderer =
                     new ListReprRenderer(resourceContext, null, representation).withElementRel(Rel.ELEMENT);
             listReprRenderer.with(collectionAdapters)
+            .withStreaming(resourceContext.config().isStreamCollections())
             .withReturnType(action.getReturnType())
             .withElementType(returnedAdapter.getElementSpecification().orElse(null));
 
@@ -18,8 +18,6 @@
  */
 package org.apache.causeway.viewer.restfulobjects.rendering.domainobjects;
 
-import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.causeway.core.metamodel.object.ManagedObject;
@@ -30,15 +28,17 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
 import org.apache.causeway.viewer.restfulobjects.rendering.ReprRendererAbstract;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.JsonStreamingArray;
 
 public class ListReprRenderer
 extends ReprRendererAbstract<Stream<ManagedObject>> {
 
     private ObjectAdapterLinkTo linkTo;
-    private List<ManagedObject> objectAdapters;
+    private Stream<ManagedObject> objectAdapters;
     private ObjectSpecification elementType;
     private ObjectSpecification returnType;
     private Rel elementRel;
+    private boolean streaming;
 
     public ListReprRenderer(
             final IResourceContext resourceContext,
@@ -58,11 +58,20 @@ public ListReprRenderer with(final Stream<ManagedObject> objectAdapters) {
         this.objectAdapters = objectAdapters!=null
                 ? objectAdapters
                         .filter(adapter->!adapter.getSpecification().isHidden())
-                        .collect(Collectors.toList())
                         : null;
                         return this;
     }
 
+    /**
+     * If set, then the elements are only rendered (one at a time) while the response is being written.
+     *
+     * @see JsonStreamingArray
+     */
+    public ListReprRenderer withStreaming(final boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
     public ListReprRenderer withElementRel(final Rel elementRel) {
         this.elementRel = elementRel;
         return this;
@@ -100,28 +109,38 @@ private void addValue() {
             return;
         }
 
+        final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
+
+        if(streaming) {
+            representation.mapPutJsonNode("value",
+                    JsonStreamingArray.of(objectAdapters.map(adapter->linkToElement(adapter, linkFollower)))
+                    .asJsonNode());
+            return;
+        }
+
         final JsonRepresentation values = JsonRepresentation.newArray();
 
         objectAdapters
-        .forEach(adapter->{
-            final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
-            values.arrayAdd(linkToObject);
-
-            final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
-            if (linkFollower.matches(linkToObject)) {
-                final DomainObjectReprRenderer renderer =
-                        new DomainObjectReprRenderer(
-                                getResourceContext(),
-                                linkFollower,
-                                JsonRepresentation.newMap());
-                final JsonRepresentation domainObject = renderer.with(adapter).render();
-                linkToObject.mapPutJsonRepresentation("value", domainObject);
-            }
-        });
+        .forEach(adapter->values.arrayAdd(linkToElement(adapter, linkFollower)));
 
         representation.mapPutJsonRepresentation("value", values);
     }
 
+    private JsonRepresentation linkToElement(final ManagedObject adapter, final LinkFollowSpecs linkFollower) {
+        final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
+
+        if (linkFollower.matches(linkToObject)) {
+            final DomainObjectReprRenderer renderer =
+                    new DomainObjectReprRenderer(
+                            getResourceContext(),
+                            linkFollower,
+                            JsonRepresentation.newMap());
+            final JsonRepresentation domainObject = renderer.with(adapter).render();
+            linkToObject.mapPutJsonRepresentation("value", domainObject);
+        }
+        return linkToObject;
+    }
+
     protected void addLinkToReturnType() {
         addLink(Rel.RETURN_TYPE, returnType);
     }
@@ -37,6 +37,7 @@
 import org.apache.causeway.applib.annotation.InteractionScope;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.acceptheader.AcceptHeaderService;
+import org.apache.causeway.applib.services.iactnlayer.ResettableInteractionScoped;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.viewer.restfulobjects.applib.CausewayModuleViewerRestfulObjectsApplib;
 
@@ -50,7 +51,7 @@
 @javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("ForRest")
 @InteractionScope
-public class AcceptHeaderServiceForRest implements AcceptHeaderService {
+public class AcceptHeaderServiceForRest implements AcceptHeaderService, ResettableInteractionScoped {
 
     public static final String LOGICAL_TYPE_NAME =
             CausewayModuleViewerRestfulObjectsApplib.NAMESPACE + ".AcceptHeaderServiceForRest";
@@ -102,4 +103,9 @@ public void filter(
         }
     }
 
+    @Override
+    public void resetForNextInteraction() {
+        // stateless, nothing to reset
+    }
+
 }
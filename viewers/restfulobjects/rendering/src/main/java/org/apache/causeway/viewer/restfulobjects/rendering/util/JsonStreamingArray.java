@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.POJONode;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A JSON array whose elements are only rendered (pulled from the underlying stream, one at a time) while
+ * the enclosing representation is being written out.
+ *
+ * <p>
+ * Placed into a {@link JsonRepresentation} using {@link #asJsonNode()}, so that the rest of the representation
+ * can be built up as usual.  Can only be written once.
+ * </p>
+ *
+ * @see JsonWriterUtil#streamingJsonFor(Object, org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper.PrettyPrinting)
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class JsonStreamingArray extends JsonSerializable.Base {
+
+    private final @NonNull Stream<JsonRepresentation> elements;
+
+    public JsonNode asJsonNode() {
+        return new POJONode(this);
+    }
+
+    @Override
+    public void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+        gen.writeStartArray();
+        try(var stream = elements) {
+            var iterator = stream.iterator();
+            while(iterator.hasNext()) {
+                gen.writeTree(iterator.next().asJsonNode());
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(
+            final JsonGenerator gen,
+            final SerializerProvider serializers,
+            final TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+}
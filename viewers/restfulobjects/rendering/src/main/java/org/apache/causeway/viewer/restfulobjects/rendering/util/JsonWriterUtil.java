@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.viewer.restfulobjects.rendering.util;
 
+import javax.ws.rs.core.StreamingOutput;
+
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
@@ -35,6 +37,16 @@ public String jsonFor(final Object object, final JsonMapper.PrettyPrinting prett
         return JsonMapper.instance(prettyPrinting).write(object);
     }
 
+    /**
+     * As {@link #jsonFor(Object, JsonMapper.PrettyPrinting)}, but deferring the serialization until the response
+     * is written, and then writing straight to the response's output stream.
+     *
+     * @see JsonStreamingArray
+     */
+    public StreamingOutput streamingJsonFor(final Object object, final JsonMapper.PrettyPrinting prettyPrinting) {
+        return outputStream -> JsonMapper.instance(prettyPrinting).write(object, outputStream);
+    }
+
     public String jsonFor(final Object object, @Nullable final CausewaySystemEnvironment systemEnvironment) {
         var prettyPrinting = (systemEnvironment!=null && systemEnvironment.isPrototyping())
                 ? JsonMapper.PrettyPrinting.ENABLE
@@ -0,0 +1,83 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper;
+
+class JsonStreamingArrayTest {
+
+    @Test
+    void renders_same_as_materialized_array() throws Exception {
+
+        final JsonRepresentation materialized = JsonRepresentation.newMap();
+        final JsonRepresentation values = JsonRepresentation.newArray();
+        IntStream.range(0, 3).forEach(i->values.arrayAdd(element(i)));
+        materialized.mapPutJsonRepresentation("value", values);
+
+        final JsonRepresentation streamed = JsonRepresentation.newMap();
+        streamed.mapPutJsonNode("value",
+                JsonStreamingArray.of(IntStream.range(0, 3).mapToObj(JsonStreamingArrayTest::element)).asJsonNode());
+
+        assertThat(write(streamed), is(JsonMapper.instance(JsonMapper.PrettyPrinting.DISABLE).write(materialized)));
+    }
+
+    @Test
+    void elements_are_only_rendered_when_written() throws Exception {
+
+        final AtomicInteger rendered = new AtomicInteger();
+
+        final JsonRepresentation streamed = JsonRepresentation.newMap();
+        streamed.mapPutJsonNode("value",
+                JsonStreamingArray.of(IntStream.range(0, 3)
+                        .peek(i->rendered.incrementAndGet())
+                        .mapToObj(JsonStreamingArrayTest::element)).asJsonNode());
+
+        assertThat(rendered.get(), is(0));
+
+        write(streamed);
+
+        assertThat(rendered.get(), is(3));
+    }
+
+    // -- HELPER
+
+    private static JsonRepresentation element(final int i) {
+        final JsonRepresentation element = JsonRepresentation.newMap();
+        element.mapPutInt("i", i);
+        return element;
+    }
+
+    private static String write(final JsonRepresentation representation) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonWriterUtil.streamingJsonFor(representation, JsonMapper.PrettyPrinting.DISABLE).write(out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+}
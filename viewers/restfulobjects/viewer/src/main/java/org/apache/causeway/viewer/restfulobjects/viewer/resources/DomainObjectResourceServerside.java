@@ -173,7 +173,8 @@ public Response object(
         var domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "GET /objects/{}/{}", domainType, instanceId,
-                domainResourceHelper.objectRepresentation());
+                _EntityTags.conditionally(this, objectAdapter,
+                        domainResourceHelper::objectRepresentation));
     }
 
     @Override
@@ -413,9 +414,10 @@ public Response propertyDetails(
                 roEx->_EndpointLogging.error(log, "GET /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
 
         return _EndpointLogging.response(log, "GET /objects/{}/{}/properties/{}", domainType, instanceId, propertyId,
-                _DomainResourceHelper
-                .ofObjectResource(resourceContext, objectAdapter)
-                .propertyDetails(propertyId, ManagedMember.RepresentationMode.READ));
+                _EntityTags.conditionally(this, objectAdapter,
+                        ()->_DomainResourceHelper
+                            .ofObjectResource(resourceContext, objectAdapter)
+                            .propertyDetails(propertyId, ManagedMember.RepresentationMode.READ)));
     }
 
     @Override
@@ -0,0 +1,160 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.commons.io.HashUtils;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.viewer.restfulobjects.rendering.Caching;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Supports conditional GETs, using strong entity tags (<code>ETag</code>/<code>If-None-Match</code>).
+ * <p>
+ * The tag is derived from the entity's version and the {@link RequestVariant} (never from the rendered
+ * representation), so that a <code>304</code> can be returned without rendering anything.
+ *
+ * @see org.apache.causeway.core.config.CausewayConfiguration.Viewer.Restfulobjects#isEmitEntityTags()
+ */
+@UtilityClass
+class _EntityTags {
+
+    /**
+     * Everything of the request, other than the requested entity's state, that the representation depends upon.
+     */
+    @Value
+    static class RequestVariant {
+        @NonNull String username;
+        /** the user's language, number and time format locales */
+        @NonNull String locale;
+        @NonNull String timeZone;
+        @NonNull String requestUri;
+        /** includes the <code>x-ro-follow-links</code> and <code>x-ro-domain-model</code> parameters, if any */
+        @NonNull String queryString;
+        @NonNull String accept;
+        @NonNull String acceptLanguage;
+
+        static RequestVariant of(final ResourceAbstract resource) {
+            var interactionContextIfAny = resource.getInteractionService().currentInteractionContext();
+            return new RequestVariant(
+                    interactionContextIfAny
+                        .map(InteractionContext::getUser)
+                        .map(user->user.getName())
+                        .orElse(""),
+                    interactionContextIfAny
+                        .map(InteractionContext::getLocale)
+                        .map(userLocale->String.join(",",
+                                userLocale.getLanguageLocale().toLanguageTag(),
+                                userLocale.getNumberFormatLocale().toLanguageTag(),
+                                userLocale.getTimeFormatLocale().toLanguageTag()))
+                        .orElse(""),
+                    interactionContextIfAny
+                        .map(InteractionContext::getTimeZone)
+                        .map(Object::toString)
+                        .orElse(""),
+                    String.valueOf(resource.httpServletRequest.getRequestURI()),
+                    String.valueOf(resource.httpServletRequest.getQueryString()),
+                    String.valueOf(resource.httpHeaders.getHeaderString(HttpHeaders.ACCEPT)),
+                    String.valueOf(resource.httpHeaders.getHeaderString(HttpHeaders.ACCEPT_LANGUAGE)));
+        }
+    }
+
+    /**
+     * Returns a <code>304 Not Modified</code> if the request's <code>If-None-Match</code> header matches the
+     * entity tag of the requested resource, otherwise the response as provided, with its entity tag added.
+     * <p>
+     * Objects that are not versioned entities are never tagged.
+     */
+    Response conditionally(
+            final ResourceAbstract resource,
+            final ManagedObject objectAdapter,
+            final Supplier<Response> responseSupplier) {
+
+        if(!resource.getConfiguration().getViewer().getRestfulobjects().isEmitEntityTags()) {
+            return responseSupplier.get();
+        }
+
+        return versionOf(objectAdapter)
+                .flatMap(version->objectAdapter.getBookmark()
+                        .map(bookmark->entityTagFor(bookmark, version, RequestVariant.of(resource))))
+                .map(entityTag->conditionally(resource.request, entityTag, responseSupplier))
+                .orElseGet(responseSupplier);
+    }
+
+    Response conditionally(
+            final Request request,
+            final EntityTag entityTag,
+            final Supplier<Response> responseSupplier) {
+        return Optional.ofNullable(request.evaluatePreconditions(entityTag))
+                .map(builder->builder
+                        .tag(entityTag)
+                        .cacheControl(Caching.NONE.getCacheControl())
+                        .build())
+                .orElseGet(()->withTag(responseSupplier.get(), entityTag));
+    }
+
+    EntityTag entityTagFor(final Bookmark bookmark, final Object version, final RequestVariant variant) {
+        var input = String.join("|",
+                bookmark.stringify(),
+                version.toString(),
+                variant.getUsername(),
+                variant.getLocale(),
+                variant.getTimeZone(),
+                variant.getRequestUri(),
+                variant.getQueryString(),
+                variant.getAccept(),
+                variant.getAcceptLanguage());
+        return new EntityTag(
+                HashUtils.tryDigest(HashAlgorithm.SHA256, input.getBytes(StandardCharsets.UTF_8), 4096)
+                    .valueAsNonNullElseFail()
+                    .asHexString());
+    }
+
+    // -- HELPER
+
+    private Response withTag(final Response response, final EntityTag entityTag) {
+        return response.getStatus() == Response.Status.OK.getStatusCode()
+                ? Response.fromResponse(response).tag(entityTag).build()
+                : response;
+    }
+
+    private Optional<Object> versionOf(final ManagedObject objectAdapter) {
+        var spec = objectAdapter.getSpecification();
+        if(!spec.isEntity()) {
+            return Optional.empty();
+        }
+        return spec.entityFacet()
+                .map(entityFacet->entityFacet.versionOf(objectAdapter.getPojo()));
+    }
+
+}
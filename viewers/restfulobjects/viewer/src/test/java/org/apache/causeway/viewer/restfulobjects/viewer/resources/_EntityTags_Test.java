@@ -0,0 +1,108 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+
+class _EntityTags_Test {
+
+    private final Bookmark bookmark = Bookmark.forLogicalTypeNameAndIdentifier("customers.Customer", "123");
+    private final _EntityTags.RequestVariant variant = new _EntityTags.RequestVariant(
+            "sven", "en-GB,en-GB,en-GB", "Europe/London", "/restful/objects/customers.Customer/123",
+            "x-ro-follow-links=members", "application/json", "en-GB");
+
+    @Test
+    void not_modified_if_the_tag_matches_without_rendering() {
+        var entityTag = _EntityTags.entityTagFor(bookmark, 1L, variant);
+        var request = mock(Request.class);
+        when(request.evaluatePreconditions(entityTag)).thenReturn(Response.notModified());
+        var rendered = new AtomicInteger();
+
+        var response = _EntityTags.conditionally(request, entityTag, ()->{
+            rendered.incrementAndGet();
+            return Response.ok("{}").build();
+        });
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+        assertEquals(entityTag, response.getEntityTag());
+        assertEquals(0, rendered.get());
+    }
+
+    @Test
+    void ok_and_tagged_if_the_tag_does_not_match() {
+        var entityTag = _EntityTags.entityTagFor(bookmark, 1L, variant);
+        var request = mock(Request.class);
+        when(request.evaluatePreconditions(entityTag)).thenReturn(null);
+
+        var response = _EntityTags.conditionally(request, entityTag, ()->Response.ok("{}").build());
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(entityTag, response.getEntityTag());
+        assertEquals("{}", response.getEntity());
+    }
+
+    @Test
+    void error_responses_are_not_tagged() {
+        var entityTag = _EntityTags.entityTagFor(bookmark, 1L, variant);
+        var request = mock(Request.class);
+
+        var response = _EntityTags.conditionally(request, entityTag, ()->Response.status(Response.Status.FORBIDDEN).build());
+
+        assertEquals(Response.Status.FORBIDDEN.getStatusCode(), response.getStatus());
+        assertEquals(null, response.getEntityTag());
+    }
+
+    @Test
+    void tag_is_strong_and_depends_on_version_and_request_variant() {
+        var entityTag = _EntityTags.entityTagFor(bookmark, 1L, variant);
+
+        assertEquals(false, entityTag.isWeak());
+        assertEquals(entityTag, _EntityTags.entityTagFor(bookmark, 1L, variant));
+
+        assertNotEquals(entityTag, _EntityTags.entityTagFor(bookmark, 2L, variant));
+        assertNotEquals(entityTag, _EntityTags.entityTagFor(
+                Bookmark.forLogicalTypeNameAndIdentifier("customers.Customer", "124"), 1L, variant));
+        assertNotEquals(entityTag, _EntityTags.entityTagFor(bookmark, 1L, new _EntityTags.RequestVariant(
+                "sven", "de-DE,de-DE,de-DE", "Europe/London", "/restful/objects/customers.Customer/123",
+                "x-ro-follow-links=members", "application/json", "en-GB")));
+        assertNotEquals(entityTag, _EntityTags.entityTagFor(bookmark, 1L, new _EntityTags.RequestVariant(
+                "sven", "en-GB,en-GB,en-GB", "Europe/London", "/restful/objects/customers.Customer/123",
+                "", "application/json", "en-GB")));
+        assertNotEquals(entityTag, _EntityTags.entityTagFor(bookmark, 1L, new _EntityTags.RequestVariant(
+                "sven", "en-GB,en-GB,en-GB", "Europe/London", "/restful/objects/customers.Customer/123",
+                "x-ro-follow-links=members", "application/xml", "en-GB")));
+        assertNotEquals(entityTag, _EntityTags.entityTagFor(bookmark, 1L, new _EntityTags.RequestVariant(
+                "dick", "en-GB,en-GB,en-GB", "Europe/London", "/restful/objects/customers.Customer/123",
+                "x-ro-follow-links=members", "application/json", "en-GB")));
+    }
+
+}
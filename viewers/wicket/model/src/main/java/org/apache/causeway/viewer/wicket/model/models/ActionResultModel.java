@@ -20,6 +20,7 @@
 
 import org.apache.wicket.ajax.AjaxRequestTarget;
 
+import org.apache.causeway.applib.query.QueryResultList;
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.applib.value.Clob;
 import org.apache.causeway.applib.value.LocalResourcePath;
@@ -101,17 +102,17 @@ public static ActionResultModel determineFor(
             // non-scalar ...
 
             var packedAdapter = (PackedManagedObject) resultAdapter;
-            var unpacked = packedAdapter.unpack();
 
-            final int cardinality = unpacked.size();
-            switch (cardinality) {
-            case 1:
-                var firstElement = unpacked.getFirstElseFail();
+            // pageable results are counted on the database side, rather than unpacked
+            final long cardinality = packedAdapter.getPageableSource()
+                    .map(QueryResultList::count)
+                    .orElseGet(()->(long)packedAdapter.unpack().size());
+            if(cardinality==1L) {
+                var firstElement = packedAdapter.unpack().getFirstElseFail();
                 // recursively unwrap
                 return determineFor(actionModel, firstElement, targetIfAny);
-            default:
-                return new ActionResultModel(ActionResultResponseType.COLLECTION, resultAdapter);
             }
+            return new ActionResultModel(ActionResultResponseType.COLLECTION, resultAdapter);
         }
     }
 
@@ -79,9 +79,9 @@ public long size() {
 
     @Override
     public Iterator<DataRow> iterator(final long skip, final long limit) {
-        var dataTable = getDataTableModel();
-        return dataTable.getDataRowsFilteredAndSorted().getValue()
-                .iterator(Math.toIntExact(skip), Math.toIntExact(limit));
+        // may fetch only the requested page, if backed by a pageable query
+        return getDataTableModel()
+                .iterateDataRowsFilteredAndSorted(Math.toIntExact(skip), Math.toIntExact(limit));
     }
 
     // -- HELPER